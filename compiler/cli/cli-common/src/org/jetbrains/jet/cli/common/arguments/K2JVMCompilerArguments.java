@@ -69,6 +69,10 @@ public class K2JVMCompilerArguments extends CommonCompilerArguments {
     @Argument(value = "Xno-optimize", description = "Disable optimizations")
     public boolean noOptimize;
 
+    @Argument(value = "Xheader-cache", description = "Directory to keep headers of Kotlin classes from library jars between compilations")
+    @ValueDescription("<path>")
+    public String headerCache;
+
     @Override
     @NotNull
     public String executableScriptFileName() {
@@ -44,6 +44,17 @@ public class JVMConfigurationKeys {
     public static final CompilerConfigurationKey<IncrementalCacheProvider> INCREMENTAL_CACHE_PROVIDER =
             CompilerConfigurationKey.create("incremental cache provider");
 
+    // Declarations read from class files have no PSI, so this is only enabled when nothing needs to navigate to them
+    public static final CompilerConfigurationKey<Boolean> READ_JAVA_CLASS_FILES =
+            CompilerConfigurationKey.create("read Java classes from class files");
+
+    public static final CompilerConfigurationKey<File> CLASS_HEADER_CACHE_DIR =
+            CompilerConfigurationKey.create("class header cache directory");
+
+    // Not exposed as a command line option: the names only save parsing of files which declare nothing that is used
+    public static final CompilerConfigurationKey<File> DECLARATION_NAMES_CACHE_DIR =
+            CompilerConfigurationKey.create("declaration names cache directory");
+
     public static final CompilerConfigurationKey<List<String>> MODULE_IDS =
             CompilerConfigurationKey.create("module id strings");
 }
@@ -173,6 +173,10 @@ public class K2JVMCompiler extends CLICompiler<K2JVMCompilerArguments> {
         configuration.put(JVMConfigurationKeys.DISABLE_PARAM_ASSERTIONS, arguments.noParamAssertions);
         configuration.put(JVMConfigurationKeys.DISABLE_INLINE, arguments.noInline);
         configuration.put(JVMConfigurationKeys.DISABLE_OPTIMIZATION, arguments.noOptimize);
+        configuration.put(JVMConfigurationKeys.READ_JAVA_CLASS_FILES, true);
+        if (arguments.headerCache != null) {
+            configuration.put(JVMConfigurationKeys.CLASS_HEADER_CACHE_DIR, new File(arguments.headerCache));
+        }
     }
 
     /**
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.cli.jvm.compiler;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.jet.lang.resolve.name.FqName;
+
+import java.util.*;
+
+/**
+ * Index of packages on the classpath, built once by walking all the roots: for each package, directories of the roots containing it
+ * and names of class and source files in these directories. Lookups don't depend on the number of roots, and lookups of classes
+ * which are not on the classpath at all don't touch the file system.
+ */
+public final class ClassPathIndex {
+    private static final String CLASS_FILE_EXTENSION = ".class";
+    private static final String SOURCE_FILE_EXTENSION = ".java";
+
+    private static class PackageEntry {
+        // In the order of roots on the classpath
+        private final List<VirtualFile> directories = new ArrayList<VirtualFile>(1);
+        // File names without extensions, e.g. "Map$Entry"
+        private final Set<String> classFileNames = new HashSet<String>();
+        private final Set<String> sourceFileNames = new HashSet<String>();
+    }
+
+    // Package FQ name, "" for the root package -> entry
+    private final Map<String, PackageEntry> packages = new HashMap<String, PackageEntry>();
+
+    public ClassPathIndex(@NotNull ClassPath classPath) {
+        for (VirtualFile root : classPath) {
+            indexDirectory(root, "");
+        }
+    }
+
+    private void indexDirectory(@NotNull VirtualFile directory, @NotNull String packageName) {
+        PackageEntry entry = packages.get(packageName);
+        if (entry == null) {
+            entry = new PackageEntry();
+            packages.put(packageName, entry);
+        }
+        entry.directories.add(directory);
+
+        for (VirtualFile child : directory.getChildren()) {
+            String name = child.getName();
+            if (child.isDirectory()) {
+                if (name.indexOf('.') < 0) {
+                    indexDirectory(child, packageName.isEmpty() ? name : packageName + "." + name);
+                }
+            }
+            else if (name.endsWith(CLASS_FILE_EXTENSION)) {
+                entry.classFileNames.add(name.substring(0, name.length() - CLASS_FILE_EXTENSION.length()));
+            }
+            else if (name.endsWith(SOURCE_FILE_EXTENSION)) {
+                entry.sourceFileNames.add(name.substring(0, name.length() - SOURCE_FILE_EXTENSION.length()));
+            }
+        }
+    }
+
+    public boolean hasPackage(@NotNull FqName packageFqName) {
+        return packages.containsKey(packageFqName.asString());
+    }
+
+    /**
+     * Same as CoreJavaFileManager, prefers the longest package: for a.b.C.D, the package "a.b.C" is tried first, then "a.b" and so on.
+     *
+     * @return the package which contains the class file or the source file of the top level class, null if there are none
+     */
+    @Nullable
+    public FqName findPackageOfClass(@NotNull FqName classFqName) {
+        String qualifiedName = classFqName.asString();
+        int dot = qualifiedName.length();
+        while (dot >= 0) {
+            dot = qualifiedName.lastIndexOf('.', dot - 1);
+            String packageName = dot < 0 ? "" : qualifiedName.substring(0, dot);
+            PackageEntry entry = packages.get(packageName);
+            if (entry != null && containsClass(entry, qualifiedName.substring(dot + 1))) {
+                return new FqName(packageName);
+            }
+        }
+        return null;
+    }
+
+    private static boolean containsClass(@NotNull PackageEntry entry, @NotNull String relativeClassName) {
+        if (entry.classFileNames.contains(relativeClassName.replace('.', '$'))) return true;
+
+        int dot = relativeClassName.indexOf('.');
+        return entry.sourceFileNames.contains(dot < 0 ? relativeClassName : relativeClassName.substring(0, dot));
+    }
+
+    /**
+     * @return class files of the class in the order of roots on the classpath
+     */
+    @NotNull
+    public List<VirtualFile> findClassFiles(@NotNull FqName classFqName) {
+        FqName packageFqName = findPackageOfClass(classFqName);
+        if (packageFqName == null) return Collections.emptyList();
+
+        PackageEntry entry = packages.get(packageFqName.asString());
+        String classFileName = getRelativeClassName(packageFqName, classFqName).replace('.', '$');
+        if (!entry.classFileNames.contains(classFileName)) return Collections.emptyList();
+
+        List<VirtualFile> result = new ArrayList<VirtualFile>(1);
+        for (VirtualFile directory : entry.directories) {
+            VirtualFile file = directory.findChild(classFileName + CLASS_FILE_EXTENSION);
+            if (file != null && file.isValid()) {
+                result.add(file);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param internalName JVM internal name of the class, e.g. "java/util/Map$Entry"
+     */
+    @Nullable
+    public VirtualFile findClassFileByInternalName(@NotNull String internalName) {
+        int slash = internalName.lastIndexOf('/');
+        PackageEntry entry = packages.get(slash < 0 ? "" : internalName.substring(0, slash).replace('/', '.'));
+        if (entry == null) return null;
+
+        String classFileName = internalName.substring(slash + 1);
+        if (!entry.classFileNames.contains(classFileName)) return null;
+
+        for (VirtualFile directory : entry.directories) {
+            VirtualFile file = directory.findChild(classFileName + CLASS_FILE_EXTENSION);
+            if (file != null && file.isValid()) return file;
+        }
+        return null;
+    }
+
+    /**
+     * @return the file which declares the class in the first root containing it: the class file or the source file of
+     * its top level class
+     */
+    @Nullable
+    public VirtualFile findClassOrSourceFile(@NotNull FqName packageFqName, @NotNull FqName classFqName) {
+        PackageEntry entry = packages.get(packageFqName.asString());
+        if (entry == null) return null;
+
+        String relativeClassName = getRelativeClassName(packageFqName, classFqName);
+        if (!containsClass(entry, relativeClassName)) return null;
+
+        int dot = relativeClassName.indexOf('.');
+        String sourceFileName = (dot < 0 ? relativeClassName : relativeClassName.substring(0, dot)) + SOURCE_FILE_EXTENSION;
+        String classFileName = relativeClassName.replace('.', '$') + CLASS_FILE_EXTENSION;
+        for (VirtualFile directory : entry.directories) {
+            VirtualFile sourceFile = directory.findChild(sourceFileName);
+            if (sourceFile != null) return sourceFile;
+
+            VirtualFile classFile = directory.findChild(classFileName);
+            if (classFile != null && classFile.isValid()) return classFile;
+        }
+        return null;
+    }
+
+    @NotNull
+    private static String getRelativeClassName(@NotNull FqName packageFqName, @NotNull FqName classFqName) {
+        return packageFqName.isRoot() ? classFqName.asString() : classFqName.asString().substring(packageFqName.asString().length() + 1);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.cli.jvm.compiler;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiAnnotation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.jet.lang.resolve.java.structure.JavaAnnotation;
+import org.jetbrains.jet.lang.resolve.java.structure.impl.JavaElementCollectionFromPsiArrayUtil;
+import org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles.BinaryJavaClassFinder;
+import org.jetbrains.jet.lang.resolve.name.FqName;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Finds class files on the compilation classpath. Classes declared in Java sources on the classpath are left to PSI.
+ * External annotations of binary classes are looked up in {@link CoreExternalAnnotationsManager} by external names.
+ */
+public class CliBinaryJavaClassFinder extends BinaryJavaClassFinder {
+    @NotNull
+    private final ClassPathIndex classPathIndex;
+    @NotNull
+    private final CoreExternalAnnotationsManager annotationsManager;
+
+    public CliBinaryJavaClassFinder(
+            @NotNull Project project,
+            @NotNull ClassPathIndex classPathIndex,
+            @NotNull CoreExternalAnnotationsManager annotationsManager
+    ) {
+        super(project);
+        this.classPathIndex = classPathIndex;
+        this.annotationsManager = annotationsManager;
+    }
+
+    @Override
+    public boolean mayContainClass(@NotNull FqName fqName) {
+        return classPathIndex.findPackageOfClass(fqName) != null;
+    }
+
+    @Nullable
+    @Override
+    protected VirtualFile findClassFile(@NotNull FqName fqName) {
+        FqName packageFqName = classPathIndex.findPackageOfClass(fqName);
+        if (packageFqName == null) return null;
+
+        VirtualFile file = classPathIndex.findClassOrSourceFile(packageFqName, fqName);
+        return file != null && "class".equals(file.getExtension()) ? file : null;
+    }
+
+    @NotNull
+    @Override
+    public Collection<JavaAnnotation> findExternalAnnotations(@NotNull String packagePath, @NotNull String externalName) {
+        if (!annotationsManager.hasAnnotationsForPackage(packagePath)) return Collections.emptyList();
+
+        PsiAnnotation[] annotations = annotationsManager.findExternalAnnotations(packagePath, externalName);
+        return annotations.length == 0
+               ? Collections.<JavaAnnotation>emptyList()
+               : JavaElementCollectionFromPsiArrayUtil.annotations(annotations);
+    }
+}
@@ -20,6 +20,8 @@ import com.intellij.openapi.vfs.VirtualFile;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.jet.lang.resolve.kotlin.KotlinBinaryClassCache;
+import org.jetbrains.jet.lang.resolve.kotlin.KotlinClassHeaderDiskCache;
+import org.jetbrains.jet.lang.resolve.kotlin.KotlinJvmBinaryClass;
 import org.jetbrains.jet.lang.resolve.kotlin.VirtualFileFinder;
 import org.jetbrains.jet.lang.resolve.kotlin.VirtualFileKotlinClassFinder;
 import org.jetbrains.jet.lang.resolve.name.FqName;
@@ -27,64 +29,35 @@ import org.jetbrains.jet.lang.resolve.name.FqName;
 public class CliVirtualFileFinder extends VirtualFileKotlinClassFinder implements VirtualFileFinder {
 
     @NotNull
-    private final ClassPath classPath;
+    private final ClassPathIndex classPathIndex;
+    @Nullable
+    private final KotlinClassHeaderDiskCache headerDiskCache;
 
-    public CliVirtualFileFinder(@NotNull ClassPath path) {
-        classPath = path;
+    public CliVirtualFileFinder(@NotNull ClassPathIndex index, @Nullable KotlinClassHeaderDiskCache headerDiskCache) {
+        classPathIndex = index;
+        this.headerDiskCache = headerDiskCache;
     }
 
     @Nullable
     @Override
     public VirtualFile findVirtualFileWithHeader(@NotNull FqName className) {
-        for (VirtualFile root : classPath) {
-            VirtualFile fileInRoot = findFileInRoot(className.asString(), root, '.');
+        for (VirtualFile file : classPathIndex.findClassFiles(className)) {
             //NOTE: currently we use VirtualFileFinder to find Kotlin binaries only
-            if (fileInRoot != null && KotlinBinaryClassCache.getKotlinBinaryClass(fileInRoot) != null) {
-                return fileInRoot;
+            if (getKotlinBinaryClass(file) != null) {
+                return file;
             }
         }
         return null;
     }
 
+    @Nullable
     @Override
-    public VirtualFile findVirtualFile(@NotNull String internalName) {
-        for (VirtualFile root : classPath) {
-            VirtualFile fileInRoot = findFileInRoot(internalName, root, '/');
-            if (fileInRoot != null) {
-                return fileInRoot;
-            }
-        }
-        return null;
+    protected KotlinJvmBinaryClass getKotlinBinaryClass(@NotNull VirtualFile file) {
+        return KotlinBinaryClassCache.getKotlinBinaryClass(file, headerDiskCache);
     }
 
-    //NOTE: copied with some changes from CoreJavaFileManager
-    @Nullable
-    private static VirtualFile findFileInRoot(@NotNull String qName, @NotNull VirtualFile root, char separator) {
-        String pathRest = qName;
-        VirtualFile cur = root;
-
-        while (true) {
-            int dot = pathRest.indexOf(separator);
-            if (dot < 0) break;
-
-            String pathComponent = pathRest.substring(0, dot);
-            VirtualFile child = cur.findChild(pathComponent);
-
-            if (child == null) break;
-            pathRest = pathRest.substring(dot + 1);
-            cur = child;
-        }
-
-        String className = pathRest.replace('.', '$');
-        VirtualFile vFile = cur.findChild(className + ".class");
-        if (vFile != null) {
-            if (!vFile.isValid()) {
-                //TODO: log
-                return null;
-            }
-            return vFile;
-        }
-        return null;
+    @Override
+    public VirtualFile findVirtualFile(@NotNull String internalName) {
+        return classPathIndex.findClassFileByInternalName(internalName);
     }
-
 }
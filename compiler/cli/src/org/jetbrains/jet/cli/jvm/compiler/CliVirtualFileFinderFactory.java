@@ -18,20 +18,25 @@ package org.jetbrains.jet.cli.jvm.compiler;
 
 import com.intellij.psi.search.GlobalSearchScope;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.jet.lang.resolve.kotlin.KotlinClassHeaderDiskCache;
 import org.jetbrains.jet.lang.resolve.kotlin.VirtualFileFinder;
 import org.jetbrains.jet.lang.resolve.kotlin.VirtualFileFinderFactory;
 
 public final class CliVirtualFileFinderFactory implements VirtualFileFinderFactory {
     @NotNull
-    private final ClassPath classPath;
+    private final ClassPathIndex classPathIndex;
+    @Nullable
+    private final KotlinClassHeaderDiskCache headerDiskCache;
 
-    public CliVirtualFileFinderFactory(@NotNull ClassPath path) {
-        classPath = path;
+    public CliVirtualFileFinderFactory(@NotNull ClassPathIndex index, @Nullable KotlinClassHeaderDiskCache headerDiskCache) {
+        classPathIndex = index;
+        this.headerDiskCache = headerDiskCache;
     }
 
     @NotNull
     @Override
     public VirtualFileFinder create(@NotNull GlobalSearchScope scope) {
-        return new CliVirtualFileFinder(classPath);
+        return new CliVirtualFileFinder(classPathIndex, headerDiskCache);
     }
 }
@@ -19,6 +19,7 @@ package org.jetbrains.jet.cli.jvm.compiler;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Disposer;
 import com.intellij.openapi.util.io.FileUtil;
@@ -29,6 +30,7 @@ import com.intellij.openapi.vfs.VirtualFileManager;
 import com.intellij.openapi.vfs.VirtualFileSystem;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
+import com.intellij.psi.impl.source.tree.TreeUtil;
 import kotlin.Function1;
 import kotlin.Unit;
 import kotlin.io.IoPackage;
@@ -66,6 +68,10 @@ import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.jar.*;
 
 import static org.jetbrains.jet.cli.common.messages.CompilerMessageLocation.NO_LOCATION;
@@ -314,6 +320,55 @@ public class CompileEnvironmentUtil {
         return result;
     }
 
+    /**
+     * Builds the full syntax trees of the files, including lazily parsed bodies of functions, on a pool of at most {@code threads}
+     * threads. Files are parsed independently of each other and are used (and their syntax errors are reported) later in the order
+     * of the list, exactly as if they were parsed on demand. With one thread nothing is done: files are parsed on demand
+     */
+    public static void parseFiles(@NotNull List<JetFile> files, int threads) {
+        int poolSize = Math.min(threads, files.size());
+        if (poolSize <= 1) return;
+
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+        try {
+            List<Future<?>> results = new ArrayList<Future<?>>(files.size());
+            for (final JetFile file : files) {
+                results.add(executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        parseFile(file);
+                    }
+                }));
+            }
+
+            for (Future<?> result : results) {
+                result.get();
+            }
+        }
+        catch (InterruptedException e) {
+            throw UtilsPackage.rethrow(e);
+        }
+        catch (ExecutionException e) {
+            throw UtilsPackage.rethrow(e.getCause());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Builds the full syntax tree of the file in a read action. The compiler resolves all bodies anyway,
+     * so lazily parsed bodies are expanded here rather than on the thread which resolves them
+     */
+    public static void parseFile(@NotNull final JetFile file) {
+        ApplicationManager.getApplication().runReadAction(new Runnable() {
+            @Override
+            public void run() {
+                TreeUtil.ensureParsed(file.getNode());
+            }
+        });
+    }
+
     public static void addSourceFilesCheckingForDuplicates(@NotNull CompilerConfiguration configuration, @NotNull List<String> sourceRoots) {
         MessageCollector messageCollector = configuration.get(CLIConfigurationKeys.MESSAGE_COLLECTOR_KEY);
         assert messageCollector != null : "messageCollector should be set: " + configuration;
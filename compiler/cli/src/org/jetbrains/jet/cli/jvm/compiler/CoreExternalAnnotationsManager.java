@@ -17,13 +17,23 @@
 package org.jetbrains.jet.cli.jvm.compiler;
 
 import com.intellij.codeInsight.BaseExternalAnnotationsManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.*;
+import com.intellij.util.ArrayUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class CoreExternalAnnotationsManager extends BaseExternalAnnotationsManager {
     static {
@@ -31,19 +41,202 @@ public class CoreExternalAnnotationsManager extends BaseExternalAnnotationsManag
         System.setProperty("javax.xml.parsers.SAXParserFactory", "com.sun.org.apache.xerces.internal.jaxp.SAXParserFactoryImpl");
     }
 
+    private static final Logger LOG = Logger.getInstance(CoreExternalAnnotationsManager.class);
+
     private final List<VirtualFile> externalAnnotationsRoots = new ArrayList<VirtualFile>();
+    private final List<ExternalAnnotationsIndex> externalAnnotationsIndices = new ArrayList<ExternalAnnotationsIndex>();
+    private final ConcurrentMap<String, Boolean> packagesWithAnnotations = new ConcurrentHashMap<String, Boolean>();
+    // External name -> annotations from indices, empty if there are none
+    private final ConcurrentMap<String, PsiAnnotation[]> indexedAnnotations = new ConcurrentHashMap<String, PsiAnnotation[]>();
+    // Package path -> external name -> annotations from XML files of all roots, for elements without PSI
+    private final ConcurrentMap<String, Map<String, List<ExternalAnnotationsIndex.Annotation>>> xmlPackages =
+            new ConcurrentHashMap<String, Map<String, List<ExternalAnnotationsIndex.Annotation>>>();
+    // External name -> annotations from indices and XML files, for elements without PSI
+    private final ConcurrentMap<String, PsiAnnotation[]> annotationsByExternalName = new ConcurrentHashMap<String, PsiAnnotation[]>();
+
+    @NotNull
+    private final PsiManager psiManager;
 
     public CoreExternalAnnotationsManager(@NotNull PsiManager psiManager) {
         super(psiManager);
+        this.psiManager = psiManager;
     }
 
+    /**
+     * If the root contains a compiled index ({@link ExternalAnnotationsIndex#FILE_NAME_IN_ROOT}), the index is used instead of XML files
+     */
     public void addExternalAnnotationsRoot(VirtualFile externalAnnotationsRoot) {
+        VirtualFile indexFile = externalAnnotationsRoot.findChild(ExternalAnnotationsIndex.FILE_NAME_IN_ROOT);
+        if (indexFile != null) {
+            try {
+                addExternalAnnotationsIndex(indexFile.isInLocalFileSystem()
+                                            ? ExternalAnnotationsIndex.load(VfsUtilCore.virtualToIoFile(indexFile))
+                                            : ExternalAnnotationsIndex.load(indexFile.contentsToByteArray()));
+                return;
+            }
+            catch (IOException e) {
+                LOG.warn("Could not load external annotations index " + indexFile + ", XML files will be used instead", e);
+            }
+        }
+
         externalAnnotationsRoots.add(externalAnnotationsRoot);
+        packagesWithAnnotations.clear();
+        xmlPackages.clear();
+        annotationsByExternalName.clear();
+    }
+
+    public void addExternalAnnotationsIndex(@NotNull ExternalAnnotationsIndex index) {
+        externalAnnotationsIndices.add(index);
+        packagesWithAnnotations.clear();
+        indexedAnnotations.clear();
+        annotationsByExternalName.clear();
+    }
+
+    /**
+     * @param packagePath path of the package relative to a root, e.g. "java/util"
+     */
+    public boolean hasAnnotationsForPackage(@NotNull String packagePath) {
+        Boolean result = packagesWithAnnotations.get(packagePath);
+        if (result == null) {
+            result = false;
+            for (ExternalAnnotationsIndex index : externalAnnotationsIndices) {
+                if (index.hasPackage(packagePath)) {
+                    result = true;
+                    break;
+                }
+            }
+            String annotationsFilePath = packagePath.isEmpty() ? ANNOTATIONS_XML : packagePath + "/" + ANNOTATIONS_XML;
+            for (int i = 0; !result && i < externalAnnotationsRoots.size(); i++) {
+                if (externalAnnotationsRoots.get(i).findFileByRelativePath(annotationsFilePath) != null) {
+                    result = true;
+                    break;
+                }
+            }
+            packagesWithAnnotations.put(packagePath, result);
+        }
+        return result;
+    }
+
+    /**
+     * Finds annotations of an element which has no PSI, e.g. of a member of a class read from a class file
+     *
+     * @param packagePath path of the package relative to a root, e.g. "java/util"
+     * @param externalName e.g. "java.util.Map V put(K, V) 1", as returned by {@link #getExternalName} for PSI
+     */
+    @NotNull
+    public PsiAnnotation[] findExternalAnnotations(@NotNull String packagePath, @NotNull String externalName) {
+        PsiAnnotation[] result = annotationsByExternalName.get(externalName);
+        if (result == null) {
+            List<PsiAnnotation> annotations = new ArrayList<PsiAnnotation>(0);
+            PsiElementFactory factory = JavaPsiFacade.getElementFactory(psiManager.getProject());
+            for (ExternalAnnotationsIndex index : externalAnnotationsIndices) {
+                addAnnotations(factory, index.findAnnotations(packagePath, externalName), annotations);
+            }
+            if (!externalAnnotationsRoots.isEmpty()) {
+                addAnnotations(factory, getXmlAnnotations(packagePath).get(externalName), annotations);
+            }
+            result = annotations.isEmpty() ? PsiAnnotation.EMPTY_ARRAY : annotations.toArray(new PsiAnnotation[annotations.size()]);
+            annotationsByExternalName.putIfAbsent(externalName, result);
+        }
+        return result;
+    }
+
+    private static void addAnnotations(
+            @NotNull PsiElementFactory factory,
+            @Nullable List<ExternalAnnotationsIndex.Annotation> found,
+            @NotNull List<PsiAnnotation> result
+    ) {
+        if (found == null) return;
+        for (ExternalAnnotationsIndex.Annotation annotation : found) {
+            result.add(factory.createAnnotationFromText(annotation.getText(), null));
+        }
+    }
+
+    @NotNull
+    private Map<String, List<ExternalAnnotationsIndex.Annotation>> getXmlAnnotations(@NotNull String packagePath) {
+        Map<String, List<ExternalAnnotationsIndex.Annotation>> result = xmlPackages.get(packagePath);
+        if (result != null) return result;
+
+        result = new HashMap<String, List<ExternalAnnotationsIndex.Annotation>>();
+        String annotationsFilePath = packagePath.isEmpty() ? ANNOTATIONS_XML : packagePath + "/" + ANNOTATIONS_XML;
+        for (VirtualFile root : externalAnnotationsRoots) {
+            VirtualFile file = root.findFileByRelativePath(annotationsFilePath);
+            if (file == null) continue;
+
+            try {
+                InputStream input = file.getInputStream();
+                try {
+                    ExternalAnnotationsIndexCompiler.readAnnotationsFile(input, packagePath, result);
+                }
+                finally {
+                    input.close();
+                }
+            }
+            catch (IOException e) {
+                LOG.warn("Could not read external annotations from " + file, e);
+            }
+        }
+        if (result.isEmpty()) {
+            result = Collections.emptyMap();
+        }
+        Map<String, List<ExternalAnnotationsIndex.Annotation>> previous = xmlPackages.putIfAbsent(packagePath, result);
+        return previous != null ? previous : result;
+    }
+
+    @Nullable
+    @Override
+    public PsiAnnotation findExternalAnnotation(@NotNull PsiModifierListOwner listOwner, @NotNull String annotationFQN) {
+        for (PsiAnnotation annotation : findIndexedAnnotations(listOwner)) {
+            if (annotationFQN.equals(annotation.getQualifiedName())) {
+                return annotation;
+            }
+        }
+        return externalAnnotationsRoots.isEmpty() ? null : super.findExternalAnnotation(listOwner, annotationFQN);
+    }
+
+    @Nullable
+    @Override
+    public PsiAnnotation[] findExternalAnnotations(@NotNull PsiModifierListOwner listOwner) {
+        PsiAnnotation[] indexed = findIndexedAnnotations(listOwner);
+        PsiAnnotation[] fromXml = externalAnnotationsRoots.isEmpty() ? null : super.findExternalAnnotations(listOwner);
+        if (fromXml == null || fromXml.length == 0) {
+            return indexed.length == 0 ? fromXml : indexed;
+        }
+        return indexed.length == 0 ? fromXml : ArrayUtil.mergeArrays(indexed, fromXml);
+    }
+
+    @NotNull
+    private PsiAnnotation[] findIndexedAnnotations(@NotNull PsiModifierListOwner listOwner) {
+        if (externalAnnotationsIndices.isEmpty()) return PsiAnnotation.EMPTY_ARRAY;
+
+        PsiFile file = listOwner.getContainingFile();
+        if (!(file instanceof PsiJavaFile)) return PsiAnnotation.EMPTY_ARRAY;
+
+        String externalName = getExternalName(listOwner, false);
+        if (externalName == null) return PsiAnnotation.EMPTY_ARRAY;
+
+        PsiAnnotation[] result = indexedAnnotations.get(externalName);
+        if (result == null) {
+            String packagePath = ((PsiJavaFile) file).getPackageName().replace('.', '/');
+            List<PsiAnnotation> annotations = new ArrayList<PsiAnnotation>(0);
+            PsiElementFactory factory = JavaPsiFacade.getElementFactory(listOwner.getProject());
+            for (ExternalAnnotationsIndex index : externalAnnotationsIndices) {
+                List<ExternalAnnotationsIndex.Annotation> found = index.findAnnotations(packagePath, externalName);
+                if (found == null) continue;
+
+                for (ExternalAnnotationsIndex.Annotation annotation : found) {
+                    annotations.add(factory.createAnnotationFromText(annotation.getText(), listOwner));
+                }
+            }
+            result = annotations.isEmpty() ? PsiAnnotation.EMPTY_ARRAY : annotations.toArray(new PsiAnnotation[annotations.size()]);
+            indexedAnnotations.putIfAbsent(externalName, result);
+        }
+        return result;
     }
 
     @Override
     protected boolean hasAnyAnnotationsRoots() {
-        return true;
+        return !externalAnnotationsRoots.isEmpty();
     }
 
     @NotNull
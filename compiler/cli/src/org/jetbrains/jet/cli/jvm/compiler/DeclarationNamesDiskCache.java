@@ -0,0 +1,194 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.cli.jvm.compiler;
+
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.CharsetToolkit;
+import com.intellij.openapi.vfs.VirtualFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.lang.parsing.JetScriptDefinition;
+import org.jetbrains.jet.lang.psi.JetFile;
+import org.jetbrains.jet.lang.resolve.AnalyzerScriptParameter;
+import org.jetbrains.jet.lang.resolve.lazy.declarations.FileDeclarationNames;
+
+import java.io.*;
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Packages and names of top-level declarations of source files (see {@link FileDeclarationNames}), stored on disk between
+ * compiler runs so that a source file which hasn't changed is not parsed to find out what it declares.
+ *
+ * Entries are keyed by a hash of the name and the text of a file, so an entry is only reused for exactly the same source.
+ * Entries of files which are not compiled this time are kept, so one directory may be shared by several modules;
+ * an entry is dropped when the file it was computed for is compiled with another text.
+ * Script definitions decide which files are scripts, so all entries are dropped when they change.
+ */
+public final class DeclarationNamesDiskCache {
+    private static final Logger LOG = Logger.getInstance(DeclarationNamesDiskCache.class);
+
+    private static final int FORMAT_VERSION = 3;
+    private static final String CACHE_FILE_NAME = "declarations.names";
+
+    private final File cacheFile;
+    private final String scriptDefinitionsKey;
+    // Content hash -> entry
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+    // Path -> content hash, for files compiled this time
+    private final ConcurrentMap<String, String> compiledFiles = new ConcurrentHashMap<String, String>();
+    private volatile boolean changed = false;
+
+    public DeclarationNamesDiskCache(@NotNull File directory, @NotNull List<JetScriptDefinition> scriptDefinitions) {
+        this.cacheFile = new File(directory, CACHE_FILE_NAME);
+        this.scriptDefinitionsKey = getScriptDefinitionsKey(scriptDefinitions);
+        load();
+    }
+
+    @NotNull
+    private static String getScriptDefinitionsKey(@NotNull List<JetScriptDefinition> scriptDefinitions) {
+        StringBuilder key = new StringBuilder();
+        for (JetScriptDefinition definition : scriptDefinitions) {
+            key.append(definition.getExtension()).append("(");
+            for (AnalyzerScriptParameter parameter : definition.getScriptParameters()) {
+                key.append(parameter.getName()).append(":").append(parameter.getType()).append(",");
+            }
+            key.append(");");
+        }
+        return key.toString();
+    }
+
+    @NotNull
+    public FileDeclarationNames getDeclarationNames(@NotNull JetFile file) {
+        VirtualFile virtualFile = file.getVirtualFile();
+        String path = virtualFile != null ? virtualFile.getPath() : file.getName();
+        String hash = getContentHash(file);
+        compiledFiles.put(path, hash);
+
+        Entry entry = entries.get(hash);
+        if (entry != null) {
+            return entry.names;
+        }
+
+        FileDeclarationNames names = FileDeclarationNames.build(file);
+        entries.put(hash, new Entry(path, names));
+        changed = true;
+        return names;
+    }
+
+    // The name is hashed as well, because its extension decides whether the file is a script
+    @NotNull
+    private static String getContentHash(@NotNull JetFile file) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(file.getName().getBytes(CharsetToolkit.UTF8_CHARSET));
+        digest.update((byte) 0);
+        digest.update(file.getViewProvider().getContents().toString().getBytes(CharsetToolkit.UTF8_CHARSET));
+        return new BigInteger(1, digest.digest()).toString(16);
+    }
+
+    private void load() {
+        if (!cacheFile.isFile()) return;
+
+        try {
+            DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)));
+            try {
+                if (input.readInt() != FORMAT_VERSION) return;
+                if (!input.readUTF().equals(scriptDefinitionsKey)) return;
+
+                int count = input.readInt();
+                for (int i = 0; i < count; i++) {
+                    String hash = input.readUTF();
+                    String path = input.readUTF();
+                    entries.put(hash, new Entry(path, FileDeclarationNames.read(input)));
+                }
+            }
+            finally {
+                input.close();
+            }
+        }
+        catch (IOException e) {
+            // The file is corrupted, it will be rewritten on save
+            LOG.warn("Could not load declaration names from " + cacheFile, e);
+            entries.clear();
+        }
+    }
+
+    /**
+     * Writes entries computed during this compilation to disk. Failures are logged and don't affect the compilation
+     */
+    public void save() {
+        if (!changed) return;
+
+        Map<String, Entry> entriesToSave = new HashMap<String, Entry>();
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            // Older texts of files compiled this time are not needed anymore
+            String compiledHash = compiledFiles.get(entry.getValue().path);
+            if (compiledHash == null || compiledHash.equals(entry.getKey())) {
+                entriesToSave.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        try {
+            File tmpFile = new File(cacheFile.getPath() + ".tmp");
+            FileUtil.createParentDirs(tmpFile);
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)));
+            try {
+                output.writeInt(FORMAT_VERSION);
+                output.writeUTF(scriptDefinitionsKey);
+                output.writeInt(entriesToSave.size());
+                for (Map.Entry<String, Entry> entry : entriesToSave.entrySet()) {
+                    output.writeUTF(entry.getKey());
+                    output.writeUTF(entry.getValue().path);
+                    entry.getValue().names.write(output);
+                }
+            }
+            finally {
+                output.close();
+            }
+
+            // Another compiler process may be saving the same file, whichever is the last to rename wins
+            FileUtil.rename(tmpFile, cacheFile);
+        }
+        catch (IOException e) {
+            LOG.warn("Could not save declaration names to " + cacheFile, e);
+        }
+    }
+
+    private static class Entry {
+        // Path of the file the names were computed for
+        private final String path;
+        private final FileDeclarationNames names;
+
+        private Entry(@NotNull String path, @NotNull FileDeclarationNames names) {
+            this.path = path;
+            this.names = names;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.cli.jvm.compiler;
+
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.CharsetToolkit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.*;
+
+/**
+ * External annotations compiled from annotations.xml files of an annotations root, see {@link ExternalAnnotationsIndexCompiler}.
+ *
+ * Items are keyed by their external names, exactly as they are written in the XML ("java.util.Map V put(K, V) 0"),
+ * and grouped by package. Only the table of packages is read when the index is loaded, items of a package are read when
+ * the package is first looked up.
+ */
+public final class ExternalAnnotationsIndex {
+    public static final String FILE_EXTENSION = ".index";
+    // Name of the index inside an annotations root, next to the XML files it was compiled from
+    public static final String FILE_NAME_IN_ROOT = "annotations" + FILE_EXTENSION;
+
+    private static final int FORMAT_VERSION = 1;
+
+    public static final class Annotation {
+        private final String fqName;
+        private final String parameters;
+
+        public Annotation(@NotNull String fqName, @NotNull String parameters) {
+            this.fqName = fqName;
+            this.parameters = parameters;
+        }
+
+        @NotNull
+        public String getFqName() {
+            return fqName;
+        }
+
+        /**
+         * @return text of the parameters without parentheses, e.g. "value=\"fun foo(): String\"", empty if there are none
+         */
+        @NotNull
+        public String getParameters() {
+            return parameters;
+        }
+
+        @NotNull
+        public String getText() {
+            return "@" + fqName + (parameters.isEmpty() ? "" : "(" + parameters + ")");
+        }
+    }
+
+    private final ByteBuffer data;
+
+    // Package path ("java/util") -> offset of its items
+    private final Map<String, Integer> packageOffsets = new HashMap<String, Integer>();
+    // Package path -> external name -> annotations, filled lazily
+    private final Map<String, Map<String, List<Annotation>>> loadedPackages = new HashMap<String, Map<String, List<Annotation>>>();
+
+    private ExternalAnnotationsIndex(@NotNull ByteBuffer data) throws IOException {
+        this.data = data;
+        if (data.getInt() != FORMAT_VERSION) {
+            throw new IOException("Unsupported version of external annotations index");
+        }
+        int packageCount = data.getInt();
+        for (int i = 0; i < packageCount; i++) {
+            String packagePath = readString(data);
+            packageOffsets.put(packagePath, data.getInt());
+        }
+    }
+
+    /**
+     * Maps the file into memory
+     */
+    @NotNull
+    public static ExternalAnnotationsIndex load(@NotNull File file) throws IOException {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try {
+            // The mapping stays valid after the channel is closed
+            return new ExternalAnnotationsIndex(randomAccessFile.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, randomAccessFile.length()));
+        }
+        finally {
+            randomAccessFile.close();
+        }
+    }
+
+    @NotNull
+    public static ExternalAnnotationsIndex load(@NotNull byte[] bytes) throws IOException {
+        return new ExternalAnnotationsIndex(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * @param packagePath path of the package relative to a root, e.g. "java/util"
+     */
+    public boolean hasPackage(@NotNull String packagePath) {
+        return packageOffsets.containsKey(packagePath);
+    }
+
+    /**
+     * @return annotations of the item, null if there are none
+     */
+    @Nullable
+    public synchronized List<Annotation> findAnnotations(@NotNull String packagePath, @NotNull String externalName) {
+        Map<String, List<Annotation>> items = loadedPackages.get(packagePath);
+        if (items == null) {
+            Integer offset = packageOffsets.get(packagePath);
+            if (offset == null) return null;
+
+            items = readPackage(offset);
+            loadedPackages.put(packagePath, items);
+        }
+        return items.get(externalName);
+    }
+
+    @NotNull
+    private Map<String, List<Annotation>> readPackage(int offset) {
+        ByteBuffer buffer = data.duplicate();
+        buffer.position(offset);
+
+        int itemCount = buffer.getInt();
+        Map<String, List<Annotation>> items = new HashMap<String, List<Annotation>>(itemCount * 4 / 3 + 1);
+        for (int i = 0; i < itemCount; i++) {
+            String externalName = readString(buffer);
+            int annotationCount = buffer.getInt();
+            List<Annotation> annotations = new ArrayList<Annotation>(annotationCount);
+            for (int j = 0; j < annotationCount; j++) {
+                String fqName = readString(buffer);
+                annotations.add(new Annotation(fqName, readString(buffer)));
+            }
+            items.put(externalName, annotations);
+        }
+        return items;
+    }
+
+    /**
+     * @param packages package path -> external name -> annotations
+     */
+    public static void write(@NotNull Map<String, Map<String, List<Annotation>>> packages, @NotNull File file) throws IOException {
+        List<String> packagePaths = new ArrayList<String>(packages.keySet());
+        Collections.sort(packagePaths);
+
+        // Items of packages are written after the table of packages, so the table is written last, at the start of the file
+        ByteArrayOutputStream items = new ByteArrayOutputStream();
+        DataOutputStream itemsOutput = new DataOutputStream(items);
+        int[] offsets = new int[packagePaths.size()];
+        for (int i = 0; i < packagePaths.size(); i++) {
+            offsets[i] = itemsOutput.size();
+            Map<String, List<Annotation>> packageItems = packages.get(packagePaths.get(i));
+            itemsOutput.writeInt(packageItems.size());
+            for (Map.Entry<String, List<Annotation>> item : new TreeMap<String, List<Annotation>>(packageItems).entrySet()) {
+                writeString(itemsOutput, item.getKey());
+                itemsOutput.writeInt(item.getValue().size());
+                for (Annotation annotation : item.getValue()) {
+                    writeString(itemsOutput, annotation.fqName);
+                    writeString(itemsOutput, annotation.parameters);
+                }
+            }
+        }
+        itemsOutput.close();
+
+        ByteArrayOutputStream table = new ByteArrayOutputStream();
+        DataOutputStream tableOutput = new DataOutputStream(table);
+        tableOutput.writeInt(FORMAT_VERSION);
+        tableOutput.writeInt(packagePaths.size());
+        int tableSize = 8;
+        for (String packagePath : packagePaths) {
+            tableSize += 4 + packagePath.getBytes(CharsetToolkit.UTF8_CHARSET).length + 4;
+        }
+        for (int i = 0; i < packagePaths.size(); i++) {
+            writeString(tableOutput, packagePaths.get(i));
+            tableOutput.writeInt(tableSize + offsets[i]);
+        }
+        tableOutput.close();
+
+        FileUtil.createParentDirs(file);
+        OutputStream output = new BufferedOutputStream(new FileOutputStream(file));
+        try {
+            table.writeTo(output);
+            items.writeTo(output);
+        }
+        finally {
+            output.close();
+        }
+    }
+
+    // Strings are stored as UTF-8 bytes prefixed with their number
+
+    private static void writeString(@NotNull DataOutput output, @NotNull String string) throws IOException {
+        byte[] bytes = string.getBytes(CharsetToolkit.UTF8_CHARSET);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    @NotNull
+    private static String readString(@NotNull ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, CharsetToolkit.UTF8_CHARSET);
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.cli.jvm.compiler;
+
+import org.jetbrains.annotations.NotNull;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static com.intellij.codeInsight.ExternalAnnotationsManager.ANNOTATIONS_XML;
+
+/**
+ * Compiles annotations.xml files of an external annotations root (a directory or a jar) into an {@link ExternalAnnotationsIndex}.
+ *
+ * Usage: ExternalAnnotationsIndexCompiler &lt;annotations root&gt; &lt;index file&gt;
+ * The index may be passed to the compiler instead of the root, or put into the root as {@link ExternalAnnotationsIndex#FILE_NAME_IN_ROOT}.
+ */
+public class ExternalAnnotationsIndexCompiler {
+    // Package path -> external name -> annotations
+    private final Map<String, Map<String, List<ExternalAnnotationsIndex.Annotation>>> packages =
+            new HashMap<String, Map<String, List<ExternalAnnotationsIndex.Annotation>>>();
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            System.err.println("Usage: " + ExternalAnnotationsIndexCompiler.class.getName() + " <annotations root> <index file>");
+            System.exit(1);
+        }
+        compile(new File(args[0]), new File(args[1]));
+    }
+
+    public static void compile(@NotNull File root, @NotNull File indexFile) throws IOException {
+        ExternalAnnotationsIndexCompiler compiler = new ExternalAnnotationsIndexCompiler();
+        if (root.isDirectory()) {
+            compiler.addDirectory(root, "");
+        }
+        else {
+            compiler.addJar(root);
+        }
+        ExternalAnnotationsIndex.write(compiler.packages, indexFile);
+    }
+
+    private void addDirectory(@NotNull File directory, @NotNull String packagePath) throws IOException {
+        File[] children = directory.listFiles();
+        if (children == null) return;
+
+        for (File child : children) {
+            if (child.isDirectory()) {
+                addDirectory(child, packagePath.isEmpty() ? child.getName() : packagePath + "/" + child.getName());
+            }
+            else if (child.getName().equals(ANNOTATIONS_XML)) {
+                InputStream input = new java.io.FileInputStream(child);
+                try {
+                    addAnnotationsFile(input, packagePath);
+                }
+                finally {
+                    input.close();
+                }
+            }
+        }
+    }
+
+    private void addJar(@NotNull File jar) throws IOException {
+        ZipFile zipFile = new ZipFile(jar);
+        try {
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                String name = entry.getName();
+                if (entry.isDirectory() || !(name.equals(ANNOTATIONS_XML) || name.endsWith("/" + ANNOTATIONS_XML))) continue;
+
+                InputStream input = zipFile.getInputStream(entry);
+                try {
+                    addAnnotationsFile(input, name.substring(0, Math.max(name.length() - ANNOTATIONS_XML.length() - 1, 0)));
+                }
+                finally {
+                    input.close();
+                }
+            }
+        }
+        finally {
+            zipFile.close();
+        }
+    }
+
+    private void addAnnotationsFile(@NotNull InputStream input, @NotNull String packagePath) throws IOException {
+        Map<String, List<ExternalAnnotationsIndex.Annotation>> items = packages.get(packagePath);
+        if (items == null) {
+            items = new HashMap<String, List<ExternalAnnotationsIndex.Annotation>>();
+            packages.put(packagePath, items);
+        }
+        readAnnotationsFile(input, packagePath, items);
+    }
+
+    /**
+     * Adds annotations of each item of an annotations.xml file to the map from external names to annotations
+     */
+    /* package */ static void readAnnotationsFile(
+            @NotNull InputStream input,
+            @NotNull String packagePath,
+            @NotNull Map<String, List<ExternalAnnotationsIndex.Annotation>> items
+    ) throws IOException {
+        try {
+            SAXParserFactory.newInstance().newSAXParser().parse(input, new AnnotationsXmlHandler(items));
+        }
+        catch (SAXException e) {
+            throw new IOException("Could not parse annotations for package " + packagePath + ": " + e.getMessage());
+        }
+        catch (ParserConfigurationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // <item name="..."><annotation name="..."><val name="..." val="..."/></annotation></item>,
+    // the text of parameters is built in the same way as in BaseExternalAnnotationsManager
+    private static class AnnotationsXmlHandler extends DefaultHandler {
+        private final Map<String, List<ExternalAnnotationsIndex.Annotation>> items;
+
+        private List<ExternalAnnotationsIndex.Annotation> currentItem = null;
+        private String currentAnnotation = null;
+        private final StringBuilder currentParameters = new StringBuilder();
+
+        public AnnotationsXmlHandler(@NotNull Map<String, List<ExternalAnnotationsIndex.Annotation>> items) {
+            this.items = items;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            if ("item".equals(qName)) {
+                String externalName = attributes.getValue("name");
+                if (externalName == null) return;
+
+                currentItem = items.get(externalName);
+                if (currentItem == null) {
+                    currentItem = new ArrayList<ExternalAnnotationsIndex.Annotation>(1);
+                    items.put(externalName, currentItem);
+                }
+            }
+            else if ("annotation".equals(qName) && currentItem != null) {
+                currentAnnotation = attributes.getValue("name");
+                currentParameters.setLength(0);
+            }
+            else if ("val".equals(qName) && currentAnnotation != null) {
+                if (currentParameters.length() > 0) {
+                    currentParameters.append(",");
+                }
+                String name = attributes.getValue("name");
+                if (name != null) {
+                    currentParameters.append(name).append("=");
+                }
+                currentParameters.append(attributes.getValue("val"));
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            if ("item".equals(qName)) {
+                currentItem = null;
+            }
+            else if ("annotation".equals(qName) && currentAnnotation != null) {
+                currentItem.add(new ExternalAnnotationsIndex.Annotation(currentAnnotation, currentParameters.toString()));
+                currentAnnotation = null;
+            }
+        }
+    }
+}
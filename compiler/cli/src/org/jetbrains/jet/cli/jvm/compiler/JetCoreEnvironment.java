@@ -37,6 +37,7 @@ import com.intellij.psi.impl.file.impl.JavaFileManager;
 import kotlin.Function1;
 import kotlin.Unit;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.jetbrains.jet.CompilerModeProvider;
 import org.jetbrains.jet.OperationModeProvider;
@@ -53,14 +54,18 @@ import org.jetbrains.jet.config.CompilerConfiguration;
 import org.jetbrains.jet.lang.parsing.JetParserDefinition;
 import org.jetbrains.jet.lang.parsing.JetScriptDefinitionProvider;
 import org.jetbrains.jet.lang.psi.JetFile;
+import org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles.BinaryJavaClassFinder;
 import org.jetbrains.jet.lang.resolve.kotlin.KotlinBinaryClassCache;
+import org.jetbrains.jet.lang.resolve.kotlin.KotlinClassHeaderDiskCache;
 import org.jetbrains.jet.lang.resolve.kotlin.VirtualFileFinderFactory;
 import org.jetbrains.jet.lang.resolve.lazy.declarations.CliDeclarationProviderFactoryService;
 import org.jetbrains.jet.lang.resolve.lazy.declarations.DeclarationProviderFactoryService;
+import org.jetbrains.jet.lang.resolve.lazy.declarations.FileDeclarationNames;
 import org.jetbrains.jet.plugin.JetFileType;
 import org.jetbrains.jet.utils.PathUtil;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -70,6 +75,11 @@ import static org.jetbrains.jet.cli.common.messages.CompilerMessageSeverity.WARN
 @SuppressWarnings("AssignmentToStaticFieldFromInstanceMethod")
 public class JetCoreEnvironment {
 
+    // Source files are parsed on a pool of threads before analysis, -Dparse.threads=1 makes them parsed on demand instead
+    private static final int MAX_DEFAULT_PARSE_THREADS = 4;
+    private static final int PARSE_THREADS = Integer.getInteger(
+            "parse.threads", Math.min(Runtime.getRuntime().availableProcessors(), MAX_DEFAULT_PARSE_THREADS));
+
     private static final Object APPLICATION_LOCK = new Object();
     private static JavaCoreApplicationEnvironment ourApplicationEnvironment;
     private static int ourProjectCount = 0;
@@ -183,7 +193,8 @@ public class JetCoreEnvironment {
         MockProject project = projectEnvironment.getProject();
         annotationsManager = new CoreExternalAnnotationsManager(project.getComponent(PsiManager.class));
         project.registerService(ExternalAnnotationsManager.class, annotationsManager);
-        project.registerService(DeclarationProviderFactoryService.class, new CliDeclarationProviderFactoryService(sourceFiles));
+        project.registerService(DeclarationProviderFactoryService.class,
+                                new CliDeclarationProviderFactoryService(sourceFiles, createDeclarationNames(parentDisposable)));
 
         registerProjectServicesForCLI(projectEnvironment);
         registerProjectServices(projectEnvironment);
@@ -206,8 +217,51 @@ public class JetCoreEnvironment {
                                      }));
         JetScriptDefinitionProvider.getInstance(project).addScriptDefinitions(
                 configuration.getList(CommonConfigurationKeys.SCRIPT_DEFINITIONS_KEY));
+        // Script definitions affect parsing, so the files are only parsed after they are registered
+        CompileEnvironmentUtil.parseFiles(sourceFiles, PARSE_THREADS);
+
+        ClassPathIndex classPathIndex = new ClassPathIndex(classPath);
+        KotlinClassHeaderDiskCache headerDiskCache = createHeaderDiskCache(parentDisposable);
+        project.registerService(VirtualFileFinderFactory.class, new CliVirtualFileFinderFactory(classPathIndex, headerDiskCache));
+        if (configuration.get(JVMConfigurationKeys.READ_JAVA_CLASS_FILES, false)) {
+            project.registerService(BinaryJavaClassFinder.class, new CliBinaryJavaClassFinder(project, classPathIndex, annotationsManager));
+        }
+    }
 
-        project.registerService(VirtualFileFinderFactory.class, new CliVirtualFileFinderFactory(classPath));
+    @Nullable
+    private Function1<JetFile, FileDeclarationNames> createDeclarationNames(@NotNull Disposable parentDisposable) {
+        File directory = configuration.get(JVMConfigurationKeys.DECLARATION_NAMES_CACHE_DIR);
+        if (directory == null) return null;
+
+        final DeclarationNamesDiskCache cache =
+                new DeclarationNamesDiskCache(directory, configuration.getList(CommonConfigurationKeys.SCRIPT_DEFINITIONS_KEY));
+        Disposer.register(parentDisposable, new Disposable() {
+            @Override
+            public void dispose() {
+                cache.save();
+            }
+        });
+        return new Function1<JetFile, FileDeclarationNames>() {
+            @Override
+            public FileDeclarationNames invoke(JetFile file) {
+                return cache.getDeclarationNames(file);
+            }
+        };
+    }
+
+    @Nullable
+    private KotlinClassHeaderDiskCache createHeaderDiskCache(@NotNull Disposable parentDisposable) {
+        File directory = configuration.get(JVMConfigurationKeys.CLASS_HEADER_CACHE_DIR);
+        if (directory == null) return null;
+
+        final KotlinClassHeaderDiskCache cache = new KotlinClassHeaderDiskCache(directory);
+        Disposer.register(parentDisposable, new Disposable() {
+            @Override
+            public void dispose() {
+                cache.save();
+            }
+        });
+        return cache;
     }
 
     // made public for Upsource
@@ -254,6 +308,15 @@ public class JetCoreEnvironment {
             report(WARNING, "Annotations path entry points to a non-existent location: " + path);
             return;
         }
+        if (path.isFile() && path.getName().endsWith(ExternalAnnotationsIndex.FILE_EXTENSION)) {
+            try {
+                annotationsManager.addExternalAnnotationsIndex(ExternalAnnotationsIndex.load(path));
+            }
+            catch (IOException e) {
+                report(WARNING, "Could not load external annotations index " + path + ": " + e.getMessage());
+            }
+            return;
+        }
         annotationsManager.addExternalAnnotationsRoot(PathUtil.jarFileOrDirectoryToVirtualFile(path));
     }
 
@@ -28,6 +28,7 @@ import org.jetbrains.jet.lang.resolve.java.structure.JavaClass;
 import org.jetbrains.jet.lang.resolve.java.structure.JavaPackage;
 import org.jetbrains.jet.lang.resolve.java.structure.impl.JavaClassImpl;
 import org.jetbrains.jet.lang.resolve.java.structure.impl.JavaPackageImpl;
+import org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles.BinaryJavaClassFinder;
 import org.jetbrains.jet.lang.resolve.name.FqName;
 import org.jetbrains.jet.plugin.JetFileType;
 
@@ -42,6 +43,8 @@ public class JavaClassFinderImpl implements JavaClassFinder {
 
     private GlobalSearchScope javaSearchScope;
     private JavaPsiFacadeKotlinHacks javaFacade;
+    @Nullable
+    private BinaryJavaClassFinder binaryClassFinder;
 
     @Inject
     public void setProject(@NotNull Project project) {
@@ -69,11 +72,19 @@ public class JavaClassFinderImpl implements JavaClassFinder {
             }
         };
         javaFacade = new JavaPsiFacadeKotlinHacks(project);
+        binaryClassFinder = BinaryJavaClassFinder.getInstance(project);
     }
 
     @Nullable
     @Override
     public JavaClass findClass(@NotNull FqName fqName) {
+        if (binaryClassFinder != null) {
+            if (!binaryClassFinder.mayContainClass(fqName)) return null;
+
+            JavaClass binaryClass = binaryClassFinder.findBinaryClass(fqName);
+            if (binaryClass != null) return binaryClass;
+        }
+
         PsiClass psiClass = javaFacade.findClass(fqName.asString(), javaSearchScope);
         if (psiClass == null) return null;
 
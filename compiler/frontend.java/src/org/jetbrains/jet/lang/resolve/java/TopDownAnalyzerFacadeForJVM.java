@@ -18,6 +18,7 @@ package org.jetbrains.jet.lang.resolve.java;
 
 import com.google.common.base.Predicate;
 import com.google.common.collect.ImmutableList;
+import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiFile;
 import org.jetbrains.annotations.NotNull;
@@ -53,6 +54,8 @@ public enum TopDownAnalyzerFacadeForJVM {
             new ImportPath("kotlin.io.*")
     );
 
+    private static final Logger LOG = Logger.getInstance(TopDownAnalyzerFacadeForJVM.class);
+
     private TopDownAnalyzerFacadeForJVM() {
     }
 
@@ -97,6 +100,7 @@ public enum TopDownAnalyzerFacadeForJVM {
             return AnalyzeExhaust.success(trace.getBindingContext(), module);
         }
         finally {
+            LOG.debug(injector.getSubtypeCache().toString());
             injector.destroy();
         }
     }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.lang.resolve.java.kotlinSignature;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.lang.descriptors.FunctionDescriptor;
+import org.jetbrains.jet.lang.resolve.java.jvmSignature.JvmMethodSignature;
+import org.jetbrains.jet.lang.resolve.java.jvmSignature.KotlinToJvmSignatureMapper;
+
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Data about super functions which {@link SignaturesPropagationData} needs for every overrider, computed once per module.
+ *
+ * Members of a supertype without type arguments (Object, Throwable, JComponent...) are the same descriptors for all its subclasses,
+ * so their JVM signatures are only mapped once. Only original descriptors are cached: they live as long as the module anyway,
+ * while substituted copies of members of generic supertypes are created for each subclass and would be retained by the cache.
+ */
+public class SignaturesPropagationCache {
+    private static final KotlinToJvmSignatureMapper SIGNATURE_MAPPER = ServiceLoader.load(
+            KotlinToJvmSignatureMapper.class,
+            KotlinToJvmSignatureMapper.class.getClassLoader()
+    ).iterator().next();
+
+    private final ConcurrentMap<FunctionDescriptor, JvmMethodSignature> superFunctionSignatures =
+            new ConcurrentHashMap<FunctionDescriptor, JvmMethodSignature>();
+
+    @NotNull
+    public JvmMethodSignature getSuperFunctionSignature(@NotNull FunctionDescriptor superFunction) {
+        if (superFunction.getOriginal() != superFunction) {
+            return SIGNATURE_MAPPER.mapToJvmMethodSignature(superFunction);
+        }
+
+        JvmMethodSignature signature = superFunctionSignatures.get(superFunction);
+        if (signature == null) {
+            signature = SIGNATURE_MAPPER.mapToJvmMethodSignature(superFunction);
+            superFunctionSignatures.put(superFunction, signature);
+        }
+        return signature;
+    }
+
+    @NotNull
+    /* package */ static JvmMethodSignature mapToJvmMethodSignature(@NotNull FunctionDescriptor function) {
+        return SIGNATURE_MAPPER.mapToJvmMethodSignature(function);
+    }
+}
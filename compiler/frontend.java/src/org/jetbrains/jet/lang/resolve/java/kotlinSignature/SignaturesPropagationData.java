@@ -33,7 +33,6 @@ import org.jetbrains.jet.lang.resolve.DescriptorUtils;
 import org.jetbrains.jet.lang.resolve.java.descriptor.JavaMethodDescriptor;
 import org.jetbrains.jet.lang.resolve.java.jvmSignature.JvmMethodSignature;
 import org.jetbrains.jet.lang.resolve.java.jvmSignature.JvmSignaturePackage;
-import org.jetbrains.jet.lang.resolve.java.jvmSignature.KotlinToJvmSignatureMapper;
 import org.jetbrains.jet.lang.resolve.java.resolver.DescriptorResolverUtils;
 import org.jetbrains.jet.lang.resolve.java.resolver.TypeUsage;
 import org.jetbrains.jet.lang.resolve.java.structure.JavaMethod;
@@ -52,11 +51,6 @@ import static org.jetbrains.jet.lang.types.Variance.INVARIANT;
 
 public class SignaturesPropagationData {
 
-    private static final KotlinToJvmSignatureMapper SIGNATURE_MAPPER = ServiceLoader.load(
-            KotlinToJvmSignatureMapper.class,
-            KotlinToJvmSignatureMapper.class.getClassLoader()
-    ).iterator().next();
-
     private final List<TypeParameterDescriptor> modifiedTypeParameters;
     private final ValueParameters modifiedValueParameters;
     private final JetType modifiedReturnType;
@@ -72,14 +66,15 @@ public class SignaturesPropagationData {
             @Nullable JetType receiverType,
             @NotNull List<ValueParameterDescriptor> autoValueParameters, // descriptors built by parameters resolver
             @NotNull List<TypeParameterDescriptor> autoTypeParameters, // descriptors built by signature resolver
-            @NotNull JavaMethod method
+            @NotNull JavaMethod method,
+            @NotNull SignaturesPropagationCache cache
     ) {
         this.containingClass = containingClass;
 
         JavaMethodDescriptor autoMethodDescriptor =
                 createAutoMethodDescriptor(containingClass, method, autoReturnType, receiverType, autoValueParameters, autoTypeParameters);
 
-        superFunctions = getSuperFunctionsForMethod(method, autoMethodDescriptor, containingClass);
+        superFunctions = getSuperFunctionsForMethod(method, autoMethodDescriptor, containingClass, cache);
 
         autoTypeParameterToModified = DescriptorResolverUtils.recreateTypeParametersAndReturnMapping(autoTypeParameters, null);
 
@@ -284,17 +279,25 @@ public class SignaturesPropagationData {
     private static List<FunctionDescriptor> getSuperFunctionsForMethod(
             @NotNull JavaMethod method,
             @NotNull JavaMethodDescriptor autoMethodDescriptor,
-            @NotNull ClassDescriptor containingClass
+            @NotNull ClassDescriptor containingClass,
+            @NotNull SignaturesPropagationCache cache
     ) {
         List<FunctionDescriptor> superFunctions = Lists.newArrayList();
 
         // TODO: Add propagation for other kotlin descriptors (KT-3621)
         Name name = method.getName();
-        JvmMethodSignature autoSignature = SIGNATURE_MAPPER.mapToJvmMethodSignature(autoMethodDescriptor);
+        int parameterCount = getJvmParameterCount(autoMethodDescriptor);
+        JvmMethodSignature autoSignature = null;
         for (JetType supertype : containingClass.getTypeConstructor().getSupertypes()) {
             Collection<FunctionDescriptor> superFunctionCandidates = supertype.getMemberScope().getFunctions(name);
             for (FunctionDescriptor candidate : superFunctionCandidates) {
-                JvmMethodSignature candidateSignature = SIGNATURE_MAPPER.mapToJvmMethodSignature(candidate);
+                // Signatures with different number of parameters can't be equal, there's no need to map them
+                if (getJvmParameterCount(candidate) != parameterCount) continue;
+
+                if (autoSignature == null) {
+                    autoSignature = SignaturesPropagationCache.mapToJvmMethodSignature(autoMethodDescriptor);
+                }
+                JvmMethodSignature candidateSignature = cache.getSuperFunctionSignature(candidate);
                 if (JvmSignaturePackage.erasedSignaturesEqualIgnoringReturnTypes(autoSignature, candidateSignature)) {
                     superFunctions.add(candidate);
                 }
@@ -313,6 +316,10 @@ public class SignaturesPropagationData {
         return superFunctions;
     }
 
+    private static int getJvmParameterCount(@NotNull FunctionDescriptor function) {
+        return function.getValueParameters().size() + (function.getReceiverParameter() != null ? 1 : 0);
+    }
+
     private boolean checkIfShouldBeExtension() {
         boolean someSupersExtension = false;
         boolean someSupersNotExtension = false;
@@ -26,6 +26,7 @@ import org.jetbrains.jet.lang.resolve.java.structure.JavaAnnotationOwner;
 import org.jetbrains.jet.lang.resolve.java.structure.impl.JavaAnnotationImpl;
 import org.jetbrains.jet.lang.resolve.java.structure.impl.JavaAnnotationOwnerImpl;
 import org.jetbrains.jet.lang.resolve.java.structure.impl.JavaElementCollectionFromPsiArrayUtil;
+import org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles.BinaryExternalAnnotations;
 import org.jetbrains.jet.lang.resolve.name.FqName;
 
 import java.util.Collection;
@@ -35,6 +36,16 @@ public class PsiBasedExternalAnnotationResolver implements ExternalAnnotationRes
     @Nullable
     @Override
     public JavaAnnotation findExternalAnnotation(@NotNull JavaAnnotationOwner owner, @NotNull FqName fqName) {
+        if (!(owner instanceof JavaAnnotationOwnerImpl)) {
+            Collection<JavaAnnotation> annotations = BinaryExternalAnnotations.findExternalAnnotations(owner);
+            if (annotations == null) return null;
+            for (JavaAnnotation annotation : annotations) {
+                if (fqName.equals(annotation.getFqName())) {
+                    return annotation;
+                }
+            }
+            return null;
+        }
         PsiAnnotation psiAnnotation = findExternalAnnotation(((JavaAnnotationOwnerImpl) owner).getPsi(), fqName);
         return psiAnnotation == null ? null : new JavaAnnotationImpl(psiAnnotation);
     }
@@ -42,6 +53,10 @@ public class PsiBasedExternalAnnotationResolver implements ExternalAnnotationRes
     @NotNull
     @Override
     public Collection<JavaAnnotation> findExternalAnnotations(@NotNull JavaAnnotationOwner owner) {
+        if (!(owner instanceof JavaAnnotationOwnerImpl)) {
+            Collection<JavaAnnotation> annotations = BinaryExternalAnnotations.findExternalAnnotations(owner);
+            return annotations == null ? Collections.<JavaAnnotation>emptyList() : annotations;
+        }
         PsiModifierListOwner psiOwner = ((JavaAnnotationOwnerImpl) owner).getPsi();
         PsiAnnotation[] annotations = ExternalAnnotationsManager.getInstance(psiOwner.getProject()).findExternalAnnotations(psiOwner);
         return annotations == null
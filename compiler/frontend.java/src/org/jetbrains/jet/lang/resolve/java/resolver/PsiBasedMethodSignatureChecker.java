@@ -23,22 +23,24 @@ import com.intellij.psi.util.MethodSignatureUtil;
 import com.intellij.psi.util.PsiUtil;
 import com.intellij.psi.util.TypeConversionUtil;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.jet.lang.descriptors.ClassDescriptor;
 import org.jetbrains.jet.lang.descriptors.FunctionDescriptor;
 import org.jetbrains.jet.lang.descriptors.SimpleFunctionDescriptor;
+import org.jetbrains.jet.lang.descriptors.Visibilities;
 import org.jetbrains.jet.lang.resolve.OverrideResolver;
 import org.jetbrains.jet.lang.resolve.OverridingUtil;
 import org.jetbrains.jet.lang.resolve.java.kotlinSignature.SignaturesUtil;
 import org.jetbrains.jet.lang.resolve.java.structure.*;
 import org.jetbrains.jet.lang.resolve.java.structure.impl.JavaMethodImpl;
+import org.jetbrains.jet.lang.resolve.name.FqName;
 import org.jetbrains.jet.lang.types.ErrorUtils;
 import org.jetbrains.jet.lang.types.SubstitutionUtils;
 import org.jetbrains.jet.lang.types.TypeSubstitution;
 import org.jetbrains.jet.lang.types.TypeSubstitutor;
 
 import javax.inject.Inject;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 public class PsiBasedMethodSignatureChecker implements MethodSignatureChecker {
     private static final Logger LOG = Logger.getInstance(PsiBasedMethodSignatureChecker.class);
@@ -171,10 +173,7 @@ public class PsiBasedMethodSignatureChecker implements MethodSignatureChecker {
         // This optimization speed things up because hasRawTypesInHierarchicalSignature() is very expensive
         if (superFunctions.isEmpty() && (signatureErrors.isEmpty() || !reportSignatureErrors)) return;
 
-        JavaMethodImpl methodWithPsi = (JavaMethodImpl) method;
-        if (!RawTypesCheck.hasRawTypesInHierarchicalSignature(methodWithPsi) &&
-            isMethodReturnTypeCompatible(methodWithPsi) &&
-            !containsErrorType(superFunctions, descriptor)) {
+        if (!hasRawTypesOrIncompatibleReturnType(method) && !containsErrorType(superFunctions, descriptor)) {
             if (signatureErrors.isEmpty()) {
                 for (FunctionDescriptor superFunction : superFunctions) {
                     checkFunctionOverridesCorrectly(method, descriptor, superFunction);
@@ -186,6 +185,179 @@ public class PsiBasedMethodSignatureChecker implements MethodSignatureChecker {
         }
     }
 
+    /* package */ static boolean hasRawTypesOrIncompatibleReturnType(@NotNull JavaMethod method) {
+        if (method instanceof JavaMethodImpl) {
+            JavaMethodImpl methodWithPsi = (JavaMethodImpl) method;
+            return RawTypesCheck.hasRawTypesInHierarchicalSignature(methodWithPsi) || !isMethodReturnTypeCompatible(methodWithPsi);
+        }
+
+        // Methods read from class files have no PSI, so their super signatures are collected from the supertypes of the class
+        if (method.isStatic()) return false;
+
+        if (RawTypesCheck.hasRawTypesInSignature(method)) return true;
+
+        for (SuperMethodSignature superSignature : BinaryHierarchy.getSuperSignatures(method)) {
+            JavaMethod superMethod = superSignature.method;
+            if (superSignature.isRaw ||
+                RawTypesCheck.typeParameterIsErased(method, superMethod) ||
+                RawTypesCheck.hasRawTypesInSignature(superMethod)) {
+                return true;
+            }
+
+            JavaType returnType = method.getReturnType();
+            JavaType superReturnType = superMethod.getReturnType();
+            if (returnType != null && superReturnType != null &&
+                !BinaryHierarchy.isReturnTypeCompatible(returnType, superSignature.substitutor.substitute(superReturnType))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static class SuperMethodSignature {
+        private final JavaMethod method;
+        // Substitutes type parameters of the super class with types in terms of the class of the overriding method
+        private final JavaTypeSubstitutor substitutor;
+        private final boolean isRaw;
+
+        private SuperMethodSignature(@NotNull JavaMethod method, @NotNull JavaTypeSubstitutor substitutor, boolean isRaw) {
+            this.method = method;
+            this.substitutor = substitutor;
+            this.isRaw = isRaw;
+        }
+    }
+
+    // Counterpart of PsiMethod.getHierarchicalMethodSignature() and TypeConversionUtil for classes without PSI,
+    // methods are matched by erasures of their parameter types
+    private static class BinaryHierarchy {
+        private static final String JAVA_LANG_OBJECT = "java.lang.Object";
+
+        @NotNull
+        public static List<SuperMethodSignature> getSuperSignatures(@NotNull JavaMethod method) {
+            List<SuperMethodSignature> result = new ArrayList<SuperMethodSignature>();
+            Set<FqName> visited = new HashSet<FqName>();
+            for (JavaClassifierType supertype : method.getContainingClass().getSupertypes()) {
+                collectSuperSignatures(method, supertype, false, visited, result);
+            }
+            return result;
+        }
+
+        private static void collectSuperSignatures(
+                @NotNull JavaMethod method,
+                @NotNull JavaClassifierType supertype,
+                boolean isRaw,
+                @NotNull Set<FqName> visited,
+                @NotNull List<SuperMethodSignature> result
+        ) {
+            JavaClassifier classifier = supertype.getClassifier();
+            if (!(classifier instanceof JavaClass)) return;
+
+            JavaClass superClass = (JavaClass) classifier;
+            FqName fqName = superClass.getFqName();
+            if (fqName == null || !visited.add(fqName)) return;
+
+            boolean isRawSupertype = isRaw || supertype.isRaw();
+            JavaTypeSubstitutor substitutor = supertype.getSubstitutor();
+            for (JavaMethod superMethod : superClass.getMethods()) {
+                if (isOverriddenBy(superMethod, method, substitutor)) {
+                    result.add(new SuperMethodSignature(superMethod, substitutor, isRawSupertype));
+                }
+            }
+
+            for (JavaClassifierType superSupertype : supertype.getSupertypes()) {
+                collectSuperSignatures(method, superSupertype, isRawSupertype, visited, result);
+            }
+        }
+
+        private static boolean isOverriddenBy(
+                @NotNull JavaMethod superMethod,
+                @NotNull JavaMethod method,
+                @NotNull JavaTypeSubstitutor substitutor
+        ) {
+            if (superMethod.isStatic() || superMethod.getVisibility() == Visibilities.PRIVATE) return false;
+            if (!superMethod.getName().equals(method.getName())) return false;
+
+            List<JavaValueParameter> superParameters = superMethod.getValueParameters();
+            List<JavaValueParameter> parameters = method.getValueParameters();
+            if (superParameters.size() != parameters.size()) return false;
+
+            for (int i = 0; i < parameters.size(); i++) {
+                String erasure = erasure(parameters.get(i).getType());
+                String superErasure = erasure(substitutor.substitute(superParameters.get(i).getType()));
+                if (erasure == null || !erasure.equals(superErasure)) return false;
+            }
+
+            return true;
+        }
+
+        // Originally from HighlightMethodUtil.checkMethodIncompatibleReturnType, with types compared by their erasures
+        public static boolean isReturnTypeCompatible(@NotNull JavaType returnType, @NotNull JavaType superReturnType) {
+            String erasure = erasure(returnType);
+            String superErasure = erasure(superReturnType);
+            // Unresolved types are reported elsewhere
+            if (erasure == null || superErasure == null || erasure.equals(superErasure)) return true;
+
+            if (returnType instanceof JavaPrimitiveType || superReturnType instanceof JavaPrimitiveType) return false;
+            if (JAVA_LANG_OBJECT.equals(superErasure)) return true;
+
+            if (returnType instanceof JavaArrayType) {
+                return superReturnType instanceof JavaArrayType &&
+                       isReturnTypeCompatible(((JavaArrayType) returnType).getComponentType(),
+                                              ((JavaArrayType) superReturnType).getComponentType());
+            }
+
+            return returnType instanceof JavaClassifierType &&
+                   isSubclassOf(((JavaClassifierType) returnType).getClassifier(), new FqName(superErasure), new HashSet<FqName>());
+        }
+
+        private static boolean isSubclassOf(@Nullable JavaClassifier classifier, @NotNull FqName superFqName, @NotNull Set<FqName> visited) {
+            if (classifier instanceof JavaTypeParameter) {
+                for (JavaClassifierType upperBound : ((JavaTypeParameter) classifier).getUpperBounds()) {
+                    if (isSubclassOf(upperBound.getClassifier(), superFqName, visited)) return true;
+                }
+                return false;
+            }
+            if (!(classifier instanceof JavaClass)) return false;
+
+            JavaClass javaClass = (JavaClass) classifier;
+            FqName fqName = javaClass.getFqName();
+            if (superFqName.equals(fqName)) return true;
+            if (fqName == null || !visited.add(fqName)) return false;
+
+            for (JavaClassifierType supertype : javaClass.getSupertypes()) {
+                if (isSubclassOf(supertype.getClassifier(), superFqName, visited)) return true;
+            }
+            return false;
+        }
+
+        @Nullable
+        private static String erasure(@NotNull JavaType type) {
+            if (type instanceof JavaPrimitiveType) {
+                return ((JavaPrimitiveType) type).getCanonicalText();
+            }
+            else if (type instanceof JavaArrayType) {
+                String componentErasure = erasure(((JavaArrayType) type).getComponentType());
+                return componentErasure != null ? componentErasure + "[]" : null;
+            }
+            else if (type instanceof JavaClassifierType) {
+                JavaClassifier classifier = ((JavaClassifierType) type).getClassifier();
+                if (classifier instanceof JavaClass) {
+                    FqName fqName = ((JavaClass) classifier).getFqName();
+                    return fqName != null ? fqName.asString() : null;
+                }
+                else if (classifier instanceof JavaTypeParameter) {
+                    Collection<JavaClassifierType> upperBounds = ((JavaTypeParameter) classifier).getUpperBounds();
+                    return upperBounds.isEmpty() ? JAVA_LANG_OBJECT : erasure(upperBounds.iterator().next());
+                }
+            }
+            return null;
+        }
+
+        private BinaryHierarchy() {
+        }
+    }
+
     private static class RawTypesCheck {
         private static boolean isPartiallyRawType(@NotNull JavaType type) {
             if (type instanceof JavaPrimitiveType) {
@@ -218,7 +390,7 @@ public class PsiBasedMethodSignatureChecker implements MethodSignatureChecker {
             }
         }
 
-        private static boolean hasRawTypesInSignature(@NotNull JavaMethod method) {
+        public static boolean hasRawTypesInSignature(@NotNull JavaMethod method) {
             JavaType returnType = method.getReturnType();
             if (returnType != null && isPartiallyRawType(returnType)) {
                 return true;
@@ -260,7 +432,7 @@ public class PsiBasedMethodSignatureChecker implements MethodSignatureChecker {
             return false;
         }
 
-        private static boolean typeParameterIsErased(@NotNull JavaMethod method, @NotNull JavaMethod superMethod) {
+        public static boolean typeParameterIsErased(@NotNull JavaMethod method, @NotNull JavaMethod superMethod) {
             // Java allows you to write
             //   <T extends Foo> T foo(), in the superclass and then
             //   Foo foo(), in the subclass
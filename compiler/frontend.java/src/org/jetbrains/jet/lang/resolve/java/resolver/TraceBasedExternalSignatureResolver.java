@@ -27,6 +27,7 @@ import org.jetbrains.jet.lang.resolve.BindingTrace;
 import org.jetbrains.jet.lang.resolve.java.JavaBindingContext;
 import org.jetbrains.jet.lang.resolve.java.kotlinSignature.AlternativeFieldSignatureData;
 import org.jetbrains.jet.lang.resolve.java.kotlinSignature.AlternativeMethodSignatureData;
+import org.jetbrains.jet.lang.resolve.java.kotlinSignature.SignaturesPropagationCache;
 import org.jetbrains.jet.lang.resolve.java.kotlinSignature.SignaturesPropagationData;
 import org.jetbrains.jet.lang.resolve.java.structure.JavaField;
 import org.jetbrains.jet.lang.resolve.java.structure.JavaMethod;
@@ -40,6 +41,8 @@ public class TraceBasedExternalSignatureResolver implements ExternalSignatureRes
     private BindingTrace trace;
     private ExternalAnnotationResolver externalAnnotationResolver;
     private Project project;
+    // The resolver is created for each module, so is the cache
+    private final SignaturesPropagationCache signaturesPropagationCache = new SignaturesPropagationCache();
 
     @Inject
     public void setTrace(BindingTrace trace) {
@@ -67,7 +70,8 @@ public class TraceBasedExternalSignatureResolver implements ExternalSignatureRes
             @NotNull List<TypeParameterDescriptor> typeParameters
     ) {
         SignaturesPropagationData data =
-                new SignaturesPropagationData(owner, returnType, receiverType, valueParameters, typeParameters, method);
+                new SignaturesPropagationData(owner, returnType, receiverType, valueParameters, typeParameters, method,
+                                              signaturesPropagationCache);
         return new PropagatedMethodSignature(data.getModifiedReturnType(), data.getModifiedReceiverType(),
                                              data.getModifiedValueParameters(), data.getModifiedTypeParameters(), data.getSignatureErrors(),
                                              data.getModifiedHasStableParameterNames(), data.getSuperFunctions());
@@ -39,6 +39,13 @@ import javax.inject.Inject;
 
 import static org.jetbrains.jet.lang.resolve.BindingContext.*;
 
+/**
+ * Records descriptors of Java declarations in the trace, keyed by their PSI, so that they can be found by PSI elements later.
+ *
+ * Classes read from class files (see BinaryJavaClassFinder, which is only used by the command line compiler) have no PSI, so nothing
+ * is recorded for them and their members. Nothing can be looked up for them either: references resolved to such declarations don't
+ * have PSI to navigate to, and their descriptors are only reachable through the scopes of the lazy Java resolver.
+ */
 public class TraceBasedJavaResolverCache implements JavaResolverCache {
     private BindingTrace trace;
 
@@ -55,22 +62,26 @@ public class TraceBasedJavaResolverCache implements JavaResolverCache {
 
     @Override
     public void recordMethod(@NotNull JavaMethod method, @NotNull SimpleFunctionDescriptor descriptor) {
+        if (!(method instanceof JavaMethodImpl)) return;
         BindingContextUtils.recordFunctionDeclarationToDescriptor(trace, ((JavaMethodImpl) method).getPsi(), descriptor);
     }
 
     @Override
     public void recordConstructor(@NotNull JavaElement element, @NotNull ConstructorDescriptor descriptor) {
+        if (!(element instanceof JavaElementImpl)) return;
         trace.record(CONSTRUCTOR, ((JavaElementImpl) element).getPsi(), descriptor);
     }
 
     @Override
     public void recordField(@NotNull JavaField field, @NotNull PropertyDescriptor descriptor) {
+        if (!(field instanceof JavaFieldImpl)) return;
         PsiField psiField = ((JavaFieldImpl) field).getPsi();
         trace.record(VARIABLE, psiField, descriptor);
     }
 
     @Override
     public void recordClass(@NotNull JavaClass javaClass, @NotNull ClassDescriptor descriptor) {
+        if (!(javaClass instanceof JavaClassImpl)) return;
         trace.record(CLASS, ((JavaClassImpl) javaClass).getPsi(), descriptor);
     }
 }
@@ -20,6 +20,9 @@ import com.intellij.psi.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.jet.lang.resolve.java.structure.*;
+import org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles.BinaryJavaClass;
+import org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles.BinaryJavaClassFinder;
+import org.jetbrains.jet.lang.resolve.name.FqName;
 
 import java.util.*;
 
@@ -61,13 +64,57 @@ public class JavaClassifierTypeImpl extends JavaTypeImpl<PsiClassType> implement
             PsiClassType.ClassResolveResult result = getPsi().resolveGenerics();
             PsiClass psiClass = result.getElement();
             PsiSubstitutor substitutor = result.getSubstitutor();
-            resolutionResult = new ResolutionResult(
-                    psiClass == null ? null : JavaClassifierImpl.create(psiClass),
-                    new JavaTypeSubstitutorImpl(convertSubstitutionMap(substitutor.getSubstitutionMap()))
-            );
+            JavaClassifier classifier = psiClass == null ? null : JavaClassifierImpl.create(psiClass);
+            Map<JavaTypeParameter, JavaType> substitutionMap = convertSubstitutionMap(substitutor.getSubstitutionMap());
+
+            // Compiled classes may be read from class files, the same JavaClass object should be used for them everywhere
+            BinaryJavaClass binaryClass = psiClass instanceof PsiCompiledElement ? findBinaryClass(psiClass) : null;
+            if (binaryClass != null) {
+                classifier = binaryClass;
+                substitutionMap = replaceTypeParameters(psiClass, binaryClass, substitutionMap);
+            }
+
+            resolutionResult = new ResolutionResult(classifier, new JavaTypeSubstitutorImpl(substitutionMap));
         }
     }
 
+    @Nullable
+    private static BinaryJavaClass findBinaryClass(@NotNull PsiClass psiClass) {
+        String qualifiedName = psiClass.getQualifiedName();
+        if (qualifiedName == null) return null;
+
+        BinaryJavaClassFinder finder = BinaryJavaClassFinder.getInstance(psiClass.getProject());
+        return finder == null ? null : finder.findBinaryClass(new FqName(qualifiedName));
+    }
+
+    @NotNull
+    private static Map<JavaTypeParameter, JavaType> replaceTypeParameters(
+            @NotNull PsiClass psiClass,
+            @NotNull JavaClass javaClass,
+            @NotNull Map<JavaTypeParameter, JavaType> substitutionMap
+    ) {
+        Map<JavaTypeParameter, JavaType> result = new HashMap<JavaTypeParameter, JavaType>();
+        PsiClass currentPsiClass = psiClass;
+        JavaClass currentClass = javaClass;
+        while (currentPsiClass != null && currentClass != null) {
+            PsiTypeParameter[] psiParameters = currentPsiClass.getTypeParameters();
+            List<JavaTypeParameter> parameters = currentClass.getTypeParameters();
+            if (psiParameters.length != parameters.size()) break;
+
+            for (int i = 0; i < psiParameters.length; i++) {
+                JavaTypeParameterImpl psiParameter = new JavaTypeParameterImpl(psiParameters[i]);
+                if (substitutionMap.containsKey(psiParameter)) {
+                    result.put(parameters.get(i), substitutionMap.get(psiParameter));
+                }
+            }
+
+            if (currentClass.isStatic()) break;
+            currentPsiClass = currentPsiClass.getContainingClass();
+            currentClass = currentClass.getOuterClass();
+        }
+        return result;
+    }
+
     @NotNull
     private Map<JavaTypeParameter, JavaType> convertSubstitutionMap(@NotNull Map<PsiTypeParameter, PsiType> psiMap) {
         Map<JavaTypeParameter, JavaType> substitutionMap = new HashMap<JavaTypeParameter, JavaType>();
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.jet.lang.resolve.java.structure.*;
+import org.jetbrains.jet.lang.resolve.name.Name;
+
+import java.text.CharacterIterator;
+import java.text.StringCharacterIterator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Parses generic signatures (JVMS 4.7.9.1) and plain descriptors of classes, methods and fields into Java types.
+ */
+/* package */ class BinaryClassSignatureParser {
+    private static final String JAVA_LANG_OBJECT = "java/lang/Object";
+
+    private BinaryClassSignatureParser() {
+    }
+
+    /* package */ static class ClassSignature {
+        public final List<JavaTypeParameter> typeParameters;
+        @Nullable
+        public final JavaClassifierType superclass;
+        public final List<JavaClassifierType> interfaces;
+
+        private ClassSignature(
+                @NotNull List<JavaTypeParameter> typeParameters,
+                @Nullable JavaClassifierType superclass,
+                @NotNull List<JavaClassifierType> interfaces
+        ) {
+            this.typeParameters = typeParameters;
+            this.superclass = superclass;
+            this.interfaces = interfaces;
+        }
+    }
+
+    /* package */ static class MethodSignature {
+        public final List<JavaTypeParameter> typeParameters;
+        public final List<JavaType> parameterTypes;
+        @NotNull
+        public final JavaType returnType;
+
+        private MethodSignature(
+                @NotNull List<JavaTypeParameter> typeParameters,
+                @NotNull List<JavaType> parameterTypes,
+                @NotNull JavaType returnType
+        ) {
+            this.typeParameters = typeParameters;
+            this.parameterTypes = parameterTypes;
+            this.returnType = returnType;
+        }
+    }
+
+    @NotNull
+    public static ClassSignature parseClassSignature(
+            @NotNull String signature,
+            @NotNull ClassifierResolutionContext context,
+            @NotNull JavaTypeParameterListOwner owner
+    ) {
+        CharacterIterator it = new StringCharacterIterator(signature);
+        List<JavaTypeParameter> typeParameters = parseTypeParametersDeclaration(it, context, owner);
+        context.addTypeParameters(typeParameters);
+
+        JavaClassifierType superclass = (JavaClassifierType) parseTypeString(it, context);
+        List<JavaClassifierType> interfaces = new ArrayList<JavaClassifierType>(1);
+        while (it.current() != CharacterIterator.DONE) {
+            interfaces.add((JavaClassifierType) parseTypeString(it, context));
+        }
+
+        return new ClassSignature(typeParameters, superclass, interfaces);
+    }
+
+    /**
+     * Type parameters of the method are added to the given context, which should be created for this method only
+     */
+    @NotNull
+    public static MethodSignature parseMethodSignature(
+            @NotNull String signature,
+            @NotNull ClassifierResolutionContext context,
+            @NotNull JavaTypeParameterListOwner owner
+    ) {
+        CharacterIterator it = new StringCharacterIterator(signature);
+        List<JavaTypeParameter> typeParameters = parseTypeParametersDeclaration(it, context, owner);
+        context.addTypeParameters(typeParameters);
+
+        expect(it, '(');
+        List<JavaType> parameterTypes = new ArrayList<JavaType>();
+        while (it.current() != ')') {
+            parameterTypes.add(parseTypeString(it, context));
+        }
+        it.next();
+
+        JavaType returnType = parseTypeString(it, context);
+        // Thrown exceptions ('^' followed by a type) are of no interest
+
+        return new MethodSignature(typeParameters, parameterTypes, returnType);
+    }
+
+    @NotNull
+    public static JavaType parseFieldType(@NotNull String signatureOrDescriptor, @NotNull ClassifierResolutionContext context) {
+        return parseTypeString(new StringCharacterIterator(signatureOrDescriptor), context);
+    }
+
+    @NotNull
+    private static List<JavaTypeParameter> parseTypeParametersDeclaration(
+            @NotNull CharacterIterator it,
+            @NotNull ClassifierResolutionContext context,
+            @NotNull JavaTypeParameterListOwner owner
+    ) {
+        if (it.current() != '<') return Collections.emptyList();
+        it.next();
+
+        JavaTypeProvider typeProvider = context.getFinder().getTypeProvider();
+        List<JavaTypeParameter> result = new ArrayList<JavaTypeParameter>(1);
+        while (it.current() != '>') {
+            String name = parseIdentifier(it);
+
+            List<JavaClassifierType> bounds = new ArrayList<JavaClassifierType>(1);
+            // The class bound may be empty ("T::Ljava/lang/Comparable;"), interface bounds follow it
+            while (it.current() == ':') {
+                it.next();
+                if (it.current() == ':') continue;
+
+                JavaClassifierType bound = (JavaClassifierType) parseTypeString(it, context);
+                // PSI doesn't report java.lang.Object as a bound
+                if (!isJavaLangObject(bound)) {
+                    bounds.add(bound);
+                }
+            }
+
+            result.add(new BinaryJavaTypeParameter(Name.identifier(name), result.size(), bounds, owner, typeProvider));
+        }
+        it.next();
+
+        return result;
+    }
+
+    private static boolean isJavaLangObject(@NotNull JavaClassifierType type) {
+        return type.getTypeArguments().isEmpty() && type.getPresentableText().equals(JAVA_LANG_OBJECT.replace('/', '.'));
+    }
+
+    @NotNull
+    private static JavaType parseTypeString(@NotNull CharacterIterator it, @NotNull ClassifierResolutionContext context) {
+        char c = it.current();
+        switch (c) {
+            case 'L':
+                return parseClassType(it, context);
+            case 'T':
+                it.next();
+                String name = parseIdentifier(it);
+                expect(it, ';');
+                return PlainJavaClassifierType.typeVariable(context, name);
+            case '[':
+                it.next();
+                return new PlainJavaArrayType(parseTypeString(it, context));
+            default:
+                it.next();
+                return new PlainJavaPrimitiveType(getPrimitiveTypeName(c));
+        }
+    }
+
+    @NotNull
+    private static String getPrimitiveTypeName(char descriptor) {
+        switch (descriptor) {
+            case 'B': return "byte";
+            case 'C': return "char";
+            case 'D': return "double";
+            case 'F': return "float";
+            case 'I': return "int";
+            case 'J': return "long";
+            case 'S': return "short";
+            case 'Z': return "boolean";
+            case 'V': return "void";
+            default:
+                throw new IllegalStateException("Unknown type descriptor: " + descriptor);
+        }
+    }
+
+    @NotNull
+    private static PlainJavaClassifierType parseClassType(@NotNull CharacterIterator it, @NotNull ClassifierResolutionContext context) {
+        expect(it, 'L');
+
+        StringBuilder internalName = new StringBuilder();
+        PlainJavaClassifierType type = null;
+        while (true) {
+            char c = it.current();
+            if (c == '<' || c == '.' || c == ';') {
+                List<JavaType> arguments = Collections.emptyList();
+                if (c == '<') {
+                    arguments = parseTypeArguments(it, context);
+                    c = it.current();
+                }
+                type = PlainJavaClassifierType.classType(context, internalName.toString(), arguments, type);
+                it.next();
+                if (c == ';') return type;
+
+                // Outer<String>.Inner: the outer type with its arguments is kept, the name of the inner class is Outer$Inner
+                internalName.append('$');
+                continue;
+            }
+            internalName.append(c);
+            it.next();
+        }
+    }
+
+    @NotNull
+    private static List<JavaType> parseTypeArguments(@NotNull CharacterIterator it, @NotNull ClassifierResolutionContext context) {
+        expect(it, '<');
+
+        JavaTypeProvider typeProvider = context.getFinder().getTypeProvider();
+        List<JavaType> result = new ArrayList<JavaType>(1);
+        while (it.current() != '>') {
+            switch (it.current()) {
+                case '*':
+                    it.next();
+                    result.add(typeProvider.createUnboundedWildcard());
+                    break;
+                case '+':
+                    it.next();
+                    result.add(typeProvider.createUpperBoundWildcard(parseTypeString(it, context)));
+                    break;
+                case '-':
+                    it.next();
+                    result.add(typeProvider.createLowerBoundWildcard(parseTypeString(it, context)));
+                    break;
+                default:
+                    result.add(parseTypeString(it, context));
+            }
+        }
+        it.next();
+
+        return result;
+    }
+
+    @NotNull
+    private static String parseIdentifier(@NotNull CharacterIterator it) {
+        StringBuilder result = new StringBuilder();
+        char c = it.current();
+        while (c != ':' && c != ';' && c != '<' && c != '>' && c != '.' && c != '/' && c != CharacterIterator.DONE) {
+            result.append(c);
+            c = it.next();
+        }
+        return result.toString();
+    }
+
+    private static void expect(@NotNull CharacterIterator it, char expected) {
+        char c = it.current();
+        if (c != expected) {
+            throw new IllegalStateException("'" + expected + "' expected at " + it.getIndex() + ", '" + c + "' found");
+        }
+        it.next();
+    }
+}
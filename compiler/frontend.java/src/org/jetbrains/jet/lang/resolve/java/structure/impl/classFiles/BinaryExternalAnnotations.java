@@ -0,0 +1,109 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.jet.lang.resolve.java.structure.*;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * External annotations of elements read from class files. They are looked up by the same external names as IDEA uses for PSI
+ * (see PsiFormatUtil.getExternalName()), so that annotations.xml files and their indices work for binary classes as well.
+ */
+public class BinaryExternalAnnotations {
+    private BinaryExternalAnnotations() {
+    }
+
+    /**
+     * @return null if the owner was not read from a class file
+     */
+    @Nullable
+    public static Collection<JavaAnnotation> findExternalAnnotations(@NotNull JavaAnnotationOwner owner) {
+        BinaryJavaClass javaClass = getContainingClass(owner);
+        String externalName = getExternalName(owner);
+        if (javaClass == null || externalName == null) return null;
+
+        return javaClass.getFinder().findExternalAnnotations(javaClass.getPackagePath(), externalName);
+    }
+
+    /**
+     * E.g. "java.util.Map", "java.util.Map V put(K, V)", "java.util.Map V put(K, V) 1", "java.io.File separator"
+     */
+    @Nullable
+    public static String getExternalName(@NotNull JavaAnnotationOwner owner) {
+        if (owner instanceof BinaryJavaClass) {
+            return ((BinaryJavaClass) owner).getFqName().asString();
+        }
+        if (owner instanceof BinaryJavaField) {
+            BinaryJavaField field = (BinaryJavaField) owner;
+            return field.getContainingClass().getFqName().asString() + " " + field.getName().asString();
+        }
+        if (owner instanceof BinaryJavaMethod) {
+            return getMethodExternalName((BinaryJavaMethod) owner);
+        }
+        if (owner instanceof BinaryJavaValueParameter) {
+            BinaryJavaValueParameter parameter = (BinaryJavaValueParameter) owner;
+            return getMethodExternalName(parameter.getMethod()) + " " + parameter.getIndex();
+        }
+        return null;
+    }
+
+    @Nullable
+    private static BinaryJavaClass getContainingClass(@NotNull JavaAnnotationOwner owner) {
+        if (owner instanceof BinaryJavaClass) {
+            return (BinaryJavaClass) owner;
+        }
+        if (owner instanceof BinaryJavaField) {
+            return ((BinaryJavaField) owner).getContainingClass();
+        }
+        if (owner instanceof BinaryJavaMethod) {
+            return ((BinaryJavaMethod) owner).getContainingClass();
+        }
+        if (owner instanceof BinaryJavaValueParameter) {
+            return ((BinaryJavaValueParameter) owner).getMethod().getContainingClass();
+        }
+        return null;
+    }
+
+    @NotNull
+    private static String getMethodExternalName(@NotNull BinaryJavaMethod method) {
+        StringBuilder builder = new StringBuilder(method.getContainingClass().getFqName().asString()).append(' ');
+        JavaType returnType = method.getReturnType();
+        if (returnType != null) {
+            builder.append(PlainJavaClassifierType.renderType(returnType)).append(' ');
+        }
+        builder.append(method.getName().asString()).append('(');
+
+        List<JavaValueParameter> parameters = method.getValueParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) builder.append(", ");
+            JavaValueParameter parameter = parameters.get(i);
+            JavaType type = parameter.getType();
+            if (parameter.isVararg() && type instanceof JavaArrayType) {
+                builder.append(PlainJavaClassifierType.renderType(((JavaArrayType) type).getComponentType())).append("...");
+            }
+            else {
+                builder.append(PlainJavaClassifierType.renderType(type));
+            }
+        }
+        return builder.append(')').toString();
+    }
+}
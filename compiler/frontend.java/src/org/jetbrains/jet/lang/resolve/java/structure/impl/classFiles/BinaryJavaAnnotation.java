@@ -0,0 +1,105 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.jet.lang.resolve.java.structure.JavaAnnotation;
+import org.jetbrains.jet.lang.resolve.java.structure.JavaAnnotationArgument;
+import org.jetbrains.jet.lang.resolve.java.structure.JavaClass;
+import org.jetbrains.jet.lang.resolve.name.FqName;
+import org.jetbrains.jet.lang.resolve.name.Name;
+import org.jetbrains.org.objectweb.asm.AnnotationVisitor;
+import org.jetbrains.org.objectweb.asm.Type;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/* package */ class BinaryJavaAnnotation implements JavaAnnotation {
+    @NotNull
+    private final String desc;
+    @NotNull
+    private final ClassifierResolutionContext context;
+    @NotNull
+    private final List<JavaAnnotationArgument> arguments = new ArrayList<JavaAnnotationArgument>(1);
+
+    // Computed lazily, because InnerClasses attribute is visited after annotations of the class
+    private volatile FqName fqName;
+
+    /* package */ BinaryJavaAnnotation(@NotNull String desc, @NotNull ClassifierResolutionContext context) {
+        this.desc = desc;
+        this.context = context;
+    }
+
+    /**
+     * Creates an annotation, adds it to the given collection and returns a visitor filling its arguments
+     */
+    @NotNull
+    /* package */ static AnnotationVisitor addAnnotation(
+            @NotNull Collection<JavaAnnotation> annotations,
+            @NotNull String desc,
+            @NotNull ClassifierResolutionContext context
+    ) {
+        BinaryJavaAnnotation annotation = new BinaryJavaAnnotation(desc, context);
+        annotations.add(annotation);
+        return annotation.createArgumentsVisitor();
+    }
+
+    @NotNull
+    /* package */ AnnotationVisitor createArgumentsVisitor() {
+        return new BinaryJavaAnnotationVisitor(context, arguments);
+    }
+
+    @Nullable
+    @Override
+    public JavaAnnotationArgument findArgument(@NotNull Name name) {
+        for (JavaAnnotationArgument argument : arguments) {
+            if (name.equals(argument.getName())) {
+                return argument;
+            }
+        }
+        return null;
+    }
+
+    @NotNull
+    @Override
+    public Collection<JavaAnnotationArgument> getArguments() {
+        return arguments;
+    }
+
+    @NotNull
+    @Override
+    public FqName getFqName() {
+        if (fqName == null) {
+            fqName = context.mapInternalNameToFqName(Type.getType(desc).getInternalName());
+        }
+        return fqName;
+    }
+
+    @Nullable
+    @Override
+    public JavaClass resolve() {
+        return context.getFinder().findClass(getFqName());
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ": " + desc;
+    }
+}
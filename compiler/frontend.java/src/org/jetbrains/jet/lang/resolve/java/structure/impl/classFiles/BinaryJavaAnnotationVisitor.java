@@ -0,0 +1,191 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.jet.lang.resolve.java.structure.*;
+import org.jetbrains.jet.lang.resolve.java.structure.impl.JavaLiteralAnnotationArgumentImpl;
+import org.jetbrains.jet.lang.resolve.name.Name;
+import org.jetbrains.org.objectweb.asm.AnnotationVisitor;
+import org.jetbrains.org.objectweb.asm.Opcodes;
+import org.jetbrains.org.objectweb.asm.Type;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects arguments of an annotation or elements of an array argument
+ */
+/* package */ class BinaryJavaAnnotationVisitor extends AnnotationVisitor {
+    @NotNull
+    private final ClassifierResolutionContext context;
+    @NotNull
+    private final List<JavaAnnotationArgument> arguments;
+
+    /* package */ BinaryJavaAnnotationVisitor(@NotNull ClassifierResolutionContext context, @NotNull List<JavaAnnotationArgument> arguments) {
+        super(Opcodes.ASM5);
+        this.context = context;
+        this.arguments = arguments;
+    }
+
+    @Nullable
+    private static Name argumentName(@Nullable String name) {
+        return name == null ? null : Name.identifier(name);
+    }
+
+    @Override
+    public void visit(String name, Object value) {
+        arguments.add(createArgument(argumentName(name), value));
+    }
+
+    @NotNull
+    private JavaAnnotationArgument createArgument(@Nullable Name name, @NotNull Object value) {
+        if (value instanceof Type) {
+            return new ClassObjectArgument(name, BinaryClassSignatureParser.parseFieldType(((Type) value).getDescriptor(), context));
+        }
+        if (value.getClass().isArray()) {
+            // Arrays of primitives are reported as a whole
+            int length = Array.getLength(value);
+            List<JavaAnnotationArgument> elements = new ArrayList<JavaAnnotationArgument>(length);
+            for (int i = 0; i < length; i++) {
+                elements.add(new JavaLiteralAnnotationArgumentImpl(null, Array.get(value, i)));
+            }
+            return new ArrayArgument(name, elements);
+        }
+        return new JavaLiteralAnnotationArgumentImpl(name, value);
+    }
+
+    @Override
+    public void visitEnum(String name, String desc, String value) {
+        arguments.add(new EnumEntryArgument(argumentName(name), context, Type.getType(desc).getInternalName(), Name.identifier(value)));
+    }
+
+    @Override
+    public AnnotationVisitor visitAnnotation(String name, String desc) {
+        BinaryJavaAnnotation annotation = new BinaryJavaAnnotation(desc, context);
+        arguments.add(new AnnotationArgument(argumentName(name), annotation));
+        return annotation.createArgumentsVisitor();
+    }
+
+    @Override
+    public AnnotationVisitor visitArray(String name) {
+        List<JavaAnnotationArgument> elements = new ArrayList<JavaAnnotationArgument>();
+        arguments.add(new ArrayArgument(argumentName(name), elements));
+        return new BinaryJavaAnnotationVisitor(context, elements);
+    }
+
+    private static abstract class Argument implements JavaAnnotationArgument {
+        @Nullable
+        private final Name name;
+
+        protected Argument(@Nullable Name name) {
+            this.name = name;
+        }
+
+        @Nullable
+        @Override
+        public Name getName() {
+            return name;
+        }
+    }
+
+    private static class ArrayArgument extends Argument implements JavaArrayAnnotationArgument {
+        @NotNull
+        private final List<JavaAnnotationArgument> elements;
+
+        private ArrayArgument(@Nullable Name name, @NotNull List<JavaAnnotationArgument> elements) {
+            super(name);
+            this.elements = elements;
+        }
+
+        @NotNull
+        @Override
+        public List<JavaAnnotationArgument> getElements() {
+            return elements;
+        }
+    }
+
+    private static class EnumEntryArgument extends Argument implements JavaReferenceAnnotationArgument {
+        @NotNull
+        private final ClassifierResolutionContext context;
+        @NotNull
+        private final String enumInternalName;
+        @NotNull
+        private final Name entryName;
+
+        private EnumEntryArgument(
+                @Nullable Name name,
+                @NotNull ClassifierResolutionContext context,
+                @NotNull String enumInternalName,
+                @NotNull Name entryName
+        ) {
+            super(name);
+            this.context = context;
+            this.enumInternalName = enumInternalName;
+            this.entryName = entryName;
+        }
+
+        @Nullable
+        @Override
+        public JavaElement resolve() {
+            JavaClass enumClass = context.resolveClass(enumInternalName);
+            if (enumClass == null) return null;
+
+            for (JavaField field : enumClass.getFields()) {
+                if (field.getName().equals(entryName)) {
+                    return field;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static class ClassObjectArgument extends Argument implements JavaClassObjectAnnotationArgument {
+        @NotNull
+        private final JavaType type;
+
+        private ClassObjectArgument(@Nullable Name name, @NotNull JavaType type) {
+            super(name);
+            this.type = type;
+        }
+
+        @NotNull
+        @Override
+        public JavaType getReferencedType() {
+            return type;
+        }
+    }
+
+    private static class AnnotationArgument extends Argument implements JavaAnnotationAsAnnotationArgument {
+        @NotNull
+        private final JavaAnnotation annotation;
+
+        private AnnotationArgument(@Nullable Name name, @NotNull JavaAnnotation annotation) {
+            super(name);
+            this.annotation = annotation;
+        }
+
+        @NotNull
+        @Override
+        public JavaAnnotation getAnnotation() {
+            return annotation;
+        }
+    }
+}
@@ -0,0 +1,431 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.jet.lang.descriptors.Visibility;
+import org.jetbrains.jet.lang.resolve.java.structure.*;
+import org.jetbrains.jet.lang.resolve.name.FqName;
+import org.jetbrains.jet.lang.resolve.name.Name;
+import org.jetbrains.org.objectweb.asm.*;
+
+import java.io.IOException;
+import java.util.*;
+
+import static org.jetbrains.org.objectweb.asm.ClassReader.*;
+import static org.jetbrains.org.objectweb.asm.Opcodes.*;
+
+/**
+ * Java class read directly from a class file, without building PSI stubs for it.
+ * Only the information available to PSI of compiled classes is reported: e.g. synthetic members are skipped.
+ */
+public class BinaryJavaClass implements JavaClass {
+    private static final String JAVA_LANG_OBJECT = "java/lang/Object";
+    private static final String JAVA_LANG_ANNOTATION_ANNOTATION = "java/lang/annotation/Annotation";
+
+    @NotNull
+    private final VirtualFile virtualFile;
+    @NotNull
+    private final FqName fqName;
+    @NotNull
+    private final ClassifierResolutionContext context;
+
+    private String internalName;
+    // Flags of a nested class are taken from the InnerClasses attribute, class files have no place for 'static' or 'private'
+    private int access;
+    @Nullable
+    private String outerInternalName;
+    private boolean isLocalOrAnonymous;
+
+    @NotNull
+    private List<JavaTypeParameter> typeParameters = Collections.emptyList();
+    @NotNull
+    private final List<JavaClassifierType> supertypes = new ArrayList<JavaClassifierType>(1);
+    @NotNull
+    private final List<JavaMethod> methods = new ArrayList<JavaMethod>();
+    @NotNull
+    private final List<JavaMethod> constructors = new ArrayList<JavaMethod>(1);
+    @NotNull
+    private final List<JavaField> fields = new ArrayList<JavaField>();
+    @NotNull
+    private final List<JavaAnnotation> annotations = new ArrayList<JavaAnnotation>(0);
+    @NotNull
+    private final List<Name> innerClassNames = new ArrayList<Name>(0);
+
+    private BinaryJavaClass(@NotNull VirtualFile virtualFile, @NotNull FqName fqName, @NotNull BinaryJavaClassFinder finder) {
+        this.virtualFile = virtualFile;
+        this.fqName = fqName;
+        this.context = new ClassifierResolutionContext(finder);
+    }
+
+    /**
+     * @return null if the class file contains a local or an anonymous class, or a class with another name
+     */
+    @Nullable
+    public static BinaryJavaClass create(
+            @NotNull VirtualFile virtualFile,
+            @NotNull FqName fqName,
+            @NotNull BinaryJavaClassFinder finder
+    ) throws IOException {
+        BinaryJavaClass javaClass = new BinaryJavaClass(virtualFile, fqName, finder);
+        new ClassReader(virtualFile.contentsToByteArray()).accept(javaClass.new Reader(), SKIP_CODE | SKIP_DEBUG | SKIP_FRAMES);
+
+        if (javaClass.isLocalOrAnonymous) return null;
+        if (!fqName.equals(javaClass.context.mapInternalNameToFqName(javaClass.internalName))) return null;
+
+        return javaClass;
+    }
+
+    private class Reader extends ClassVisitor {
+        private Reader() {
+            super(ASM5);
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            BinaryJavaClass.this.access = access;
+            internalName = name;
+            context.setOwnerClass(BinaryJavaClass.this);
+
+            if (signature != null) {
+                BinaryClassSignatureParser.ClassSignature parsed =
+                        BinaryClassSignatureParser.parseClassSignature(signature, context, BinaryJavaClass.this);
+                typeParameters = parsed.typeParameters;
+                addSupertype(parsed.superclass, superName);
+                for (int i = 0; i < parsed.interfaces.size(); i++) {
+                    addSupertype(parsed.interfaces.get(i), interfaces[i]);
+                }
+            }
+            else {
+                if (superName != null) {
+                    addSupertype(PlainJavaClassifierType.classType(context, superName, Collections.<JavaType>emptyList(), null), superName);
+                }
+                for (String anInterface : interfaces) {
+                    addSupertype(PlainJavaClassifierType.classType(context, anInterface, Collections.<JavaType>emptyList(), null), anInterface);
+                }
+            }
+        }
+
+        // Same as for PSI: Object is not reported as a superclass, Annotation is not reported as a supertype of annotation types
+        private void addSupertype(@Nullable JavaClassifierType supertype, @Nullable String internalName) {
+            if (supertype == null || internalName == null) return;
+            if (JAVA_LANG_OBJECT.equals(internalName)) return;
+            if ((access & ACC_ANNOTATION) != 0 && JAVA_LANG_ANNOTATION_ANNOTATION.equals(internalName)) return;
+            supertypes.add(supertype);
+        }
+
+        @Override
+        public void visitOuterClass(String owner, String name, String desc) {
+            // EnclosingMethod attribute is written only for local and anonymous classes
+            isLocalOrAnonymous = true;
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+            return BinaryJavaAnnotation.addAnnotation(annotations, desc, context);
+        }
+
+        @Override
+        public void visitInnerClass(String name, String outerName, String innerName, int access) {
+            if (outerName != null && innerName != null) {
+                context.addInnerClass(name, outerName, innerName);
+            }
+
+            if (name.equals(internalName)) {
+                if (outerName == null || innerName == null) {
+                    isLocalOrAnonymous = true;
+                }
+                else {
+                    BinaryJavaClass.this.access = access;
+                    outerInternalName = outerName;
+                }
+            }
+            else if (internalName.equals(outerName) && innerName != null && !BinaryJavaElementUtil.isSynthetic(access) &&
+                     Name.isValidIdentifier(innerName)) {
+                innerClassNames.add(Name.identifier(innerName));
+            }
+        }
+
+        @Override
+        public FieldVisitor visitField(int access, String name, String desc, String signature, Object value) {
+            if (BinaryJavaElementUtil.isSynthetic(access) || !Name.isValidIdentifier(name)) return null;
+
+            BinaryJavaField field = new BinaryJavaField(BinaryJavaClass.this, access, Name.identifier(name), desc, signature, value, context);
+            fields.add(field);
+            return field.createVisitor(context);
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String desc, String signature, String[] exceptions) {
+            BinaryJavaMethod method = BinaryJavaMethod.create(BinaryJavaClass.this, access, name, desc, signature, context);
+            if (method == null) return null;
+
+            if (method.isConstructor()) {
+                constructors.add(method);
+            }
+            else {
+                methods.add(method);
+            }
+            return method.createVisitor(context);
+        }
+    }
+
+    @NotNull
+    /* package */ String getInternalName() {
+        return internalName;
+    }
+
+    /**
+     * @return path of the package relative to a class path root, e.g. "java/util"
+     */
+    @NotNull
+    /* package */ String getPackagePath() {
+        int lastSlash = internalName.lastIndexOf('/');
+        return lastSlash < 0 ? "" : internalName.substring(0, lastSlash);
+    }
+
+    @NotNull
+    /* package */ BinaryJavaClassFinder getFinder() {
+        return context.getFinder();
+    }
+
+    /**
+     * @return true for non-static nested classes, which have an outer instance
+     */
+    /* package */ boolean isInner() {
+        return outerInternalName != null && !isStatic();
+    }
+
+    @NotNull
+    public VirtualFile getVirtualFile() {
+        return virtualFile;
+    }
+
+    @NotNull
+    @Override
+    public Collection<JavaClass> getInnerClasses() {
+        List<JavaClass> result = new ArrayList<JavaClass>(innerClassNames.size());
+        for (Name name : innerClassNames) {
+            JavaClass innerClass = context.getFinder().findClass(fqName.child(name));
+            if (innerClass != null) {
+                result.add(innerClass);
+            }
+        }
+        return result;
+    }
+
+    @NotNull
+    @Override
+    public FqName getFqName() {
+        return fqName;
+    }
+
+    @NotNull
+    @Override
+    public Name getName() {
+        return fqName.shortName();
+    }
+
+    @Override
+    public boolean isInterface() {
+        return (access & ACC_INTERFACE) != 0;
+    }
+
+    @Override
+    public boolean isAnnotationType() {
+        return (access & ACC_ANNOTATION) != 0;
+    }
+
+    @Override
+    public boolean isEnum() {
+        return (access & ACC_ENUM) != 0;
+    }
+
+    @Nullable
+    @Override
+    public JavaClass getOuterClass() {
+        return outerInternalName != null ? context.getFinder().findClass(fqName.parent()) : null;
+    }
+
+    @NotNull
+    @Override
+    public List<JavaTypeParameter> getTypeParameters() {
+        return typeParameters;
+    }
+
+    @NotNull
+    @Override
+    public Collection<JavaClassifierType> getSupertypes() {
+        return supertypes;
+    }
+
+    @NotNull
+    @Override
+    public Collection<JavaMethod> getMethods() {
+        return methods;
+    }
+
+    @NotNull
+    @Override
+    public Collection<JavaMethod> getAllMethods() {
+        List<JavaMethod> result = new ArrayList<JavaMethod>();
+        for (JavaClass javaClass : getAllSuperClasses()) {
+            result.addAll(javaClass.getMethods());
+        }
+        return result;
+    }
+
+    @NotNull
+    @Override
+    public Collection<JavaField> getFields() {
+        return fields;
+    }
+
+    @NotNull
+    @Override
+    public Collection<JavaField> getAllFields() {
+        List<JavaField> result = new ArrayList<JavaField>();
+        for (JavaClass javaClass : getAllSuperClasses()) {
+            result.addAll(javaClass.getFields());
+        }
+        return result;
+    }
+
+    // This class, all its superclasses and superinterfaces, and java.lang.Object
+    @NotNull
+    private Collection<JavaClass> getAllSuperClasses() {
+        Set<JavaClass> result = new LinkedHashSet<JavaClass>();
+        Deque<JavaClass> queue = new ArrayDeque<JavaClass>();
+        queue.add(this);
+        while (!queue.isEmpty()) {
+            JavaClass javaClass = queue.poll();
+            if (!result.add(javaClass)) continue;
+
+            for (JavaClassifierType supertype : javaClass.getSupertypes()) {
+                JavaClassifier classifier = supertype.getClassifier();
+                if (classifier instanceof JavaClass) {
+                    queue.add((JavaClass) classifier);
+                }
+            }
+        }
+
+        JavaClass javaLangObject = context.getFinder().findClass(new FqName(JAVA_LANG_OBJECT.replace('/', '.')));
+        if (javaLangObject != null) {
+            result.add(javaLangObject);
+        }
+        return result;
+    }
+
+    @NotNull
+    @Override
+    public Collection<JavaMethod> getConstructors() {
+        return constructors;
+    }
+
+    @NotNull
+    @Override
+    public JavaClassifierType getDefaultType() {
+        List<JavaType> arguments = new ArrayList<JavaType>(typeParameters.size());
+        for (JavaTypeParameter typeParameter : typeParameters) {
+            arguments.add(typeParameter.getType());
+        }
+
+        PlainJavaClassifierType outerType = null;
+        JavaClass outerClass = isInner() ? getOuterClass() : null;
+        if (outerClass != null) {
+            JavaClassifierType outerDefaultType = outerClass.getDefaultType();
+            if (outerDefaultType instanceof PlainJavaClassifierType) {
+                outerType = (PlainJavaClassifierType) outerDefaultType;
+            }
+        }
+
+        return new PlainJavaClassifierType(this, arguments, outerType);
+    }
+
+    @NotNull
+    @Override
+    public OriginKind getOriginKind() {
+        return OriginKind.COMPILED;
+    }
+
+    @NotNull
+    @Override
+    public JavaType createImmediateType(@NotNull JavaTypeSubstitutor substitutor) {
+        List<JavaType> arguments = new ArrayList<JavaType>(typeParameters.size());
+        for (JavaTypeParameter typeParameter : typeParameters) {
+            JavaType argument = substitutor.substitute(typeParameter);
+            if (argument == null) {
+                // Raw type
+                arguments = Collections.emptyList();
+                break;
+            }
+            arguments.add(argument);
+        }
+
+        PlainJavaClassifierType outerType = null;
+        JavaClass outerClass = isInner() ? getOuterClass() : null;
+        if (outerClass != null) {
+            JavaType outerImmediateType = outerClass.createImmediateType(substitutor);
+            if (outerImmediateType instanceof PlainJavaClassifierType) {
+                outerType = (PlainJavaClassifierType) outerImmediateType;
+            }
+        }
+
+        return new PlainJavaClassifierType(this, arguments, outerType);
+    }
+
+    @Override
+    public boolean isAbstract() {
+        return BinaryJavaElementUtil.isAbstract(access);
+    }
+
+    @Override
+    public boolean isStatic() {
+        return BinaryJavaElementUtil.isStatic(access);
+    }
+
+    @Override
+    public boolean isFinal() {
+        return BinaryJavaElementUtil.isFinal(access);
+    }
+
+    @NotNull
+    @Override
+    public Visibility getVisibility() {
+        return BinaryJavaElementUtil.getVisibility(access);
+    }
+
+    @NotNull
+    @Override
+    public Collection<JavaAnnotation> getAnnotations() {
+        return annotations;
+    }
+
+    @Nullable
+    @Override
+    public JavaAnnotation findAnnotation(@NotNull FqName fqName) {
+        return BinaryJavaElementUtil.findAnnotation(annotations, fqName);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ": " + fqName;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.search.GlobalSearchScope;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.jet.lang.resolve.java.JavaPsiFacadeKotlinHacks;
+import org.jetbrains.jet.lang.resolve.java.structure.JavaAnnotation;
+import org.jetbrains.jet.lang.resolve.java.structure.JavaClass;
+import org.jetbrains.jet.lang.resolve.java.structure.JavaTypeProvider;
+import org.jetbrains.jet.lang.resolve.java.structure.impl.JavaClassImpl;
+import org.jetbrains.jet.lang.resolve.name.FqName;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Finds Java classes in class files of the project and reads them with {@link BinaryJavaClass}, which is much cheaper than building
+ * PSI stubs for them. Classes which should not be read from binaries (e.g. classes declared in Java sources) are looked up
+ * with {@link JavaPsiFacadeKotlinHacks}. External annotations of binary classes are found by {@link BinaryExternalAnnotations}.
+ *
+ * Found classes are cached for the whole project: the same {@link JavaClass} object is returned for each request of a class.
+ */
+public abstract class BinaryJavaClassFinder {
+    private static final Logger LOG = Logger.getInstance(BinaryJavaClassFinder.class);
+
+    private static final Object NOT_FOUND = new Object() {
+        @Override
+        public String toString() {
+            return "NOT_FOUND";
+        }
+    };
+
+    @Nullable
+    public static BinaryJavaClassFinder getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, BinaryJavaClassFinder.class);
+    }
+
+    @NotNull
+    private final Project project;
+    @NotNull
+    private final JavaTypeProvider typeProvider = new BinaryJavaTypeProvider(this);
+    // Values are classes or NOT_FOUND
+    private final ConcurrentMap<FqName, Object> binaryClasses = new ConcurrentHashMap<FqName, Object>();
+    private final ConcurrentMap<FqName, Object> psiClasses = new ConcurrentHashMap<FqName, Object>();
+    private volatile JavaPsiFacadeKotlinHacks javaFacade;
+
+    protected BinaryJavaClassFinder(@NotNull Project project) {
+        this.project = project;
+    }
+
+    /**
+     * @return the class file of the class which should be read from binaries, or null if the class should be looked up in PSI
+     */
+    @Nullable
+    protected abstract VirtualFile findClassFile(@NotNull FqName fqName);
+
+    /**
+     * @return false if the class is known to be absent both in class files and in sources, so that its lookup in PSI can be skipped
+     */
+    public boolean mayContainClass(@NotNull FqName fqName) {
+        return true;
+    }
+
+    /**
+     * @param packagePath path of the package relative to a class path root, e.g. "java/util"
+     * @param externalName external name of a class, a member or a parameter, see {@link BinaryExternalAnnotations#getExternalName}
+     */
+    @NotNull
+    public Collection<JavaAnnotation> findExternalAnnotations(@NotNull String packagePath, @NotNull String externalName) {
+        return Collections.emptyList();
+    }
+
+    @NotNull
+    public JavaTypeProvider getTypeProvider() {
+        return typeProvider;
+    }
+
+    @Nullable
+    public BinaryJavaClass findBinaryClass(@NotNull FqName fqName) {
+        Object cached = binaryClasses.get(fqName);
+        if (cached == null) {
+            BinaryJavaClass javaClass = readClass(fqName);
+            Object value = javaClass != null ? javaClass : NOT_FOUND;
+            cached = binaryClasses.putIfAbsent(fqName, value);
+            if (cached == null) {
+                cached = value;
+            }
+        }
+        return cached == NOT_FOUND ? null : (BinaryJavaClass) cached;
+    }
+
+    @Nullable
+    private BinaryJavaClass readClass(@NotNull FqName fqName) {
+        VirtualFile file = findClassFile(fqName);
+        if (file == null) return null;
+
+        try {
+            return BinaryJavaClass.create(file, fqName, this);
+        }
+        catch (Throwable e) {
+            LOG.warn("Could not read class " + fqName + " from " + file.getPath() + ", falling back to PSI", e);
+            return null;
+        }
+    }
+
+    /**
+     * @return the class read from binaries if possible, the PSI-based class otherwise
+     */
+    @Nullable
+    public JavaClass findClass(@NotNull FqName fqName) {
+        BinaryJavaClass binaryClass = findBinaryClass(fqName);
+        if (binaryClass != null) return binaryClass;
+
+        Object cached = psiClasses.get(fqName);
+        if (cached == null) {
+            PsiClass psiClass = getJavaFacade().findClass(fqName.asString(), GlobalSearchScope.allScope(project));
+            Object value = psiClass != null ? new JavaClassImpl(psiClass) : NOT_FOUND;
+            cached = psiClasses.putIfAbsent(fqName, value);
+            if (cached == null) {
+                cached = value;
+            }
+        }
+        return cached == NOT_FOUND ? null : (JavaClass) cached;
+    }
+
+    @NotNull
+    private JavaPsiFacadeKotlinHacks getJavaFacade() {
+        if (javaFacade == null) {
+            javaFacade = new JavaPsiFacadeKotlinHacks(project);
+        }
+        return javaFacade;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.jet.lang.descriptors.Visibility;
+import org.jetbrains.jet.lang.resolve.java.structure.JavaAnnotation;
+import org.jetbrains.jet.lang.resolve.java.structure.JavaClass;
+import org.jetbrains.jet.lang.resolve.java.structure.JavaField;
+import org.jetbrains.jet.lang.resolve.java.structure.JavaType;
+import org.jetbrains.jet.lang.resolve.name.FqName;
+import org.jetbrains.jet.lang.resolve.name.Name;
+import org.jetbrains.org.objectweb.asm.AnnotationVisitor;
+import org.jetbrains.org.objectweb.asm.FieldVisitor;
+import org.jetbrains.org.objectweb.asm.Opcodes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class BinaryJavaField implements JavaField {
+    @NotNull
+    private final BinaryJavaClass containingClass;
+    private final int access;
+    @NotNull
+    private final Name name;
+    @NotNull
+    private final String desc;
+    @NotNull
+    private final JavaType type;
+    // Value of the ConstantValue attribute: ints are used for all the types with fewer bits
+    @Nullable
+    private final Object rawConstantValue;
+    @NotNull
+    private final List<JavaAnnotation> annotations = new ArrayList<JavaAnnotation>(0);
+
+    /* package */ BinaryJavaField(
+            @NotNull BinaryJavaClass containingClass,
+            int access,
+            @NotNull Name name,
+            @NotNull String desc,
+            @Nullable String signature,
+            @Nullable Object rawConstantValue,
+            @NotNull ClassifierResolutionContext context
+    ) {
+        this.containingClass = containingClass;
+        this.access = access;
+        this.name = name;
+        this.desc = desc;
+        this.type = BinaryClassSignatureParser.parseFieldType(signature != null ? signature : desc, context);
+        this.rawConstantValue = rawConstantValue;
+    }
+
+    @NotNull
+    /* package */ FieldVisitor createVisitor(@NotNull final ClassifierResolutionContext context) {
+        return new FieldVisitor(Opcodes.ASM5) {
+            @Override
+            public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+                return BinaryJavaAnnotation.addAnnotation(annotations, desc, context);
+            }
+        };
+    }
+
+    /**
+     * @return value of the compile-time constant this field is initialized with, converted to the type of the field
+     */
+    @Nullable
+    public Object getConstantValue() {
+        if (!(rawConstantValue instanceof Integer)) return rawConstantValue;
+
+        int value = (Integer) rawConstantValue;
+        switch (desc.charAt(0)) {
+            case 'Z': return value != 0;
+            case 'C': return (char) value;
+            case 'B': return (byte) value;
+            case 'S': return (short) value;
+            default: return value;
+        }
+    }
+
+    @Override
+    public boolean isEnumEntry() {
+        return (access & Opcodes.ACC_ENUM) != 0;
+    }
+
+    @NotNull
+    @Override
+    public JavaType getType() {
+        return type;
+    }
+
+    @NotNull
+    @Override
+    public Name getName() {
+        return name;
+    }
+
+    @NotNull
+    @Override
+    public BinaryJavaClass getContainingClass() {
+        return containingClass;
+    }
+
+    @Override
+    public boolean isAbstract() {
+        return BinaryJavaElementUtil.isAbstract(access);
+    }
+
+    @Override
+    public boolean isStatic() {
+        return BinaryJavaElementUtil.isStatic(access);
+    }
+
+    @Override
+    public boolean isFinal() {
+        return BinaryJavaElementUtil.isFinal(access);
+    }
+
+    @NotNull
+    @Override
+    public Visibility getVisibility() {
+        return BinaryJavaElementUtil.getVisibility(access);
+    }
+
+    @NotNull
+    @Override
+    public Collection<JavaAnnotation> getAnnotations() {
+        return annotations;
+    }
+
+    @Nullable
+    @Override
+    public JavaAnnotation findAnnotation(@NotNull FqName fqName) {
+        return BinaryJavaElementUtil.findAnnotation(annotations, fqName);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ": " + containingClass.getName() + "." + name;
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.jet.lang.descriptors.Visibility;
+import org.jetbrains.jet.lang.resolve.java.structure.*;
+import org.jetbrains.jet.lang.resolve.name.FqName;
+import org.jetbrains.jet.lang.resolve.name.Name;
+import org.jetbrains.org.objectweb.asm.AnnotationVisitor;
+import org.jetbrains.org.objectweb.asm.MethodVisitor;
+import org.jetbrains.org.objectweb.asm.Opcodes;
+import org.jetbrains.org.objectweb.asm.Type;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.jetbrains.org.objectweb.asm.Opcodes.*;
+
+/* package */ class BinaryJavaMethod implements JavaMethod {
+    private static final String CONSTRUCTOR_NAME = "<init>";
+    // ASM reports fake annotations of parameters absent in RuntimeVisibleParameterAnnotations with this descriptor
+    private static final String SYNTHETIC_PARAMETER_ANNOTATION = "Ljava/lang/Synthetic;";
+
+    @NotNull
+    private final BinaryJavaClass containingClass;
+    private final int access;
+    @NotNull
+    private final Name name;
+    private final boolean isConstructor;
+    @NotNull
+    private final List<JavaTypeParameter> typeParameters;
+    @NotNull
+    private final List<JavaValueParameter> valueParameters;
+    @Nullable
+    private final JavaType returnType;
+    @NotNull
+    private final List<JavaAnnotation> annotations = new ArrayList<JavaAnnotation>(0);
+    // Parameters of the descriptor which are absent in the source, e.g. the outer instance passed to constructors of inner classes
+    private final int syntheticParameterCount;
+    private boolean hasAnnotationParameterDefaultValue;
+
+    private BinaryJavaMethod(
+            @NotNull BinaryJavaClass containingClass,
+            int access,
+            @NotNull String name,
+            @NotNull String desc,
+            @Nullable String signature,
+            @NotNull ClassifierResolutionContext classContext
+    ) {
+        this.containingClass = containingClass;
+        this.access = access;
+        this.isConstructor = CONSTRUCTOR_NAME.equals(name);
+        this.name = isConstructor ? containingClass.getName() : Name.identifier(name);
+
+        ClassifierResolutionContext context = classContext.copyForMember();
+        BinaryClassSignatureParser.MethodSignature parsed =
+                BinaryClassSignatureParser.parseMethodSignature(signature != null ? signature : desc, context, this);
+        this.typeParameters = parsed.typeParameters;
+        this.returnType = isConstructor ? null : parsed.returnType;
+
+        List<JavaType> parameterTypes = parsed.parameterTypes;
+        if (signature == null && isConstructor) {
+            // Generic signatures of constructors don't mention synthetic parameters, descriptors do
+            int toDrop = 0;
+            if (containingClass.isEnum()) {
+                toDrop = 2;
+            }
+            else if (containingClass.isInner()) {
+                toDrop = 1;
+            }
+            parameterTypes = parameterTypes.subList(Math.min(toDrop, parameterTypes.size()), parameterTypes.size());
+        }
+
+        boolean isVararg = (access & ACC_VARARGS) != 0;
+        List<JavaValueParameter> valueParameters = new ArrayList<JavaValueParameter>(parameterTypes.size());
+        for (int i = 0; i < parameterTypes.size(); i++) {
+            valueParameters.add(new BinaryJavaValueParameter(this, i, parameterTypes.get(i), isVararg && i == parameterTypes.size() - 1));
+        }
+        this.valueParameters = valueParameters;
+        this.syntheticParameterCount = Type.getArgumentTypes(desc).length - valueParameters.size();
+    }
+
+    /**
+     * @return null if the method is not visible from Java sources: synthetic and bridge methods, static initializers,
+     * methods of enum classes generated by the compiler
+     */
+    @Nullable
+    /* package */ static BinaryJavaMethod create(
+            @NotNull BinaryJavaClass containingClass,
+            int access,
+            @NotNull String name,
+            @NotNull String desc,
+            @Nullable String signature,
+            @NotNull ClassifierResolutionContext classContext
+    ) {
+        if ((access & (ACC_SYNTHETIC | ACC_BRIDGE)) != 0) return null;
+        if (!CONSTRUCTOR_NAME.equals(name) && !Name.isValidIdentifier(name)) return null;
+        if (containingClass.isEnum() && isEnumMethodGeneratedByCompiler(name, desc, containingClass)) return null;
+
+        return new BinaryJavaMethod(containingClass, access, name, desc, signature, classContext);
+    }
+
+    private static boolean isEnumMethodGeneratedByCompiler(@NotNull String name, @NotNull String desc, @NotNull BinaryJavaClass enumClass) {
+        String enumDesc = "L" + enumClass.getInternalName() + ";";
+        return ("values".equals(name) && desc.equals("()[" + enumDesc)) ||
+               ("valueOf".equals(name) && desc.equals("(Ljava/lang/String;)" + enumDesc));
+    }
+
+    @NotNull
+    /* package */ MethodVisitor createVisitor(@NotNull final ClassifierResolutionContext context) {
+        return new MethodVisitor(Opcodes.ASM5) {
+            @Override
+            public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+                return BinaryJavaAnnotation.addAnnotation(annotations, desc, context);
+            }
+
+            @Override
+            public AnnotationVisitor visitParameterAnnotation(int parameter, String desc, boolean visible) {
+                int index = parameter - syntheticParameterCount;
+                if (SYNTHETIC_PARAMETER_ANNOTATION.equals(desc) || index < 0 || index >= valueParameters.size()) return null;
+
+                BinaryJavaValueParameter valueParameter = (BinaryJavaValueParameter) valueParameters.get(index);
+                return BinaryJavaAnnotation.addAnnotation(valueParameter.getMutableAnnotations(), desc, context);
+            }
+
+            @Override
+            public AnnotationVisitor visitAnnotationDefault() {
+                hasAnnotationParameterDefaultValue = true;
+                return null;
+            }
+        };
+    }
+
+    @NotNull
+    @Override
+    public Name getName() {
+        return name;
+    }
+
+    @NotNull
+    @Override
+    public BinaryJavaClass getContainingClass() {
+        return containingClass;
+    }
+
+    @NotNull
+    @Override
+    public List<JavaTypeParameter> getTypeParameters() {
+        return typeParameters;
+    }
+
+    @NotNull
+    @Override
+    public List<JavaValueParameter> getValueParameters() {
+        return valueParameters;
+    }
+
+    @Override
+    public boolean hasAnnotationParameterDefaultValue() {
+        return hasAnnotationParameterDefaultValue;
+    }
+
+    @Nullable
+    @Override
+    public JavaType getReturnType() {
+        return returnType;
+    }
+
+    @Override
+    public boolean isVararg() {
+        return (access & ACC_VARARGS) != 0;
+    }
+
+    @Override
+    public boolean isConstructor() {
+        return isConstructor;
+    }
+
+    @Override
+    public boolean isAbstract() {
+        return BinaryJavaElementUtil.isAbstract(access);
+    }
+
+    @Override
+    public boolean isStatic() {
+        return BinaryJavaElementUtil.isStatic(access);
+    }
+
+    @Override
+    public boolean isFinal() {
+        return BinaryJavaElementUtil.isFinal(access);
+    }
+
+    @NotNull
+    @Override
+    public Visibility getVisibility() {
+        return BinaryJavaElementUtil.getVisibility(access);
+    }
+
+    @NotNull
+    @Override
+    public Collection<JavaAnnotation> getAnnotations() {
+        return annotations;
+    }
+
+    @Nullable
+    @Override
+    public JavaAnnotation findAnnotation(@NotNull FqName fqName) {
+        return BinaryJavaElementUtil.findAnnotation(annotations, fqName);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ": " + containingClass.getName() + "." + name;
+    }
+}
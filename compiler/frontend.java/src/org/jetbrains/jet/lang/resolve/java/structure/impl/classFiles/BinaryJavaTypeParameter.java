@@ -0,0 +1,88 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.jet.lang.resolve.java.structure.*;
+import org.jetbrains.jet.lang.resolve.name.Name;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/* package */ class BinaryJavaTypeParameter implements JavaTypeParameter {
+    private final Name name;
+    private final int index;
+    private final Collection<JavaClassifierType> upperBounds;
+    private final JavaTypeParameterListOwner owner;
+    private final JavaTypeProvider typeProvider;
+
+    /* package */ BinaryJavaTypeParameter(
+            @NotNull Name name,
+            int index,
+            @NotNull Collection<JavaClassifierType> upperBounds,
+            @NotNull JavaTypeParameterListOwner owner,
+            @NotNull JavaTypeProvider typeProvider
+    ) {
+        this.name = name;
+        this.index = index;
+        this.upperBounds = upperBounds;
+        this.owner = owner;
+        this.typeProvider = typeProvider;
+    }
+
+    @NotNull
+    @Override
+    public Name getName() {
+        return name;
+    }
+
+    @Override
+    public int getIndex() {
+        return index;
+    }
+
+    @NotNull
+    @Override
+    public Collection<JavaClassifierType> getUpperBounds() {
+        return upperBounds;
+    }
+
+    @Nullable
+    @Override
+    public JavaTypeParameterListOwner getOwner() {
+        return owner;
+    }
+
+    @NotNull
+    @Override
+    public JavaType getType() {
+        return new PlainJavaClassifierType(this, Collections.<JavaType>emptyList(), null);
+    }
+
+    @NotNull
+    @Override
+    public JavaTypeProvider getTypeProvider() {
+        return typeProvider;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ": " + name;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.lang.resolve.java.structure.JavaType;
+import org.jetbrains.jet.lang.resolve.java.structure.JavaTypeProvider;
+import org.jetbrains.jet.lang.resolve.java.structure.JavaWildcardType;
+
+import java.util.Collections;
+
+/* package */ class BinaryJavaTypeProvider implements JavaTypeProvider {
+    private final JavaType javaLangObjectType;
+
+    /* package */ BinaryJavaTypeProvider(@NotNull BinaryJavaClassFinder finder) {
+        this.javaLangObjectType = PlainJavaClassifierType.classType(
+                new ClassifierResolutionContext(finder), "java/lang/Object", Collections.<JavaType>emptyList(), null);
+    }
+
+    @NotNull
+    @Override
+    public JavaType createJavaLangObjectType() {
+        return javaLangObjectType;
+    }
+
+    @NotNull
+    @Override
+    public JavaWildcardType createUpperBoundWildcard(@NotNull JavaType bound) {
+        return new PlainJavaWildcardType(bound, true, this);
+    }
+
+    @NotNull
+    @Override
+    public JavaWildcardType createLowerBoundWildcard(@NotNull JavaType bound) {
+        return new PlainJavaWildcardType(bound, false, this);
+    }
+
+    @NotNull
+    @Override
+    public JavaWildcardType createUnboundedWildcard() {
+        return new PlainJavaWildcardType(null, false, this);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles;
+
+import com.intellij.openapi.util.Pair;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.jet.lang.resolve.java.structure.JavaClass;
+import org.jetbrains.jet.lang.resolve.java.structure.JavaTypeParameter;
+import org.jetbrains.jet.lang.resolve.name.FqName;
+import org.jetbrains.jet.lang.resolve.name.Name;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves references to classes and type variables found in a class file.
+ *
+ * Internal names of nested classes are mapped to FQ names with the help of the InnerClasses attribute, which lists every nested class
+ * mentioned in the class file, so '$' in names of top level classes is not mistaken for a nesting separator.
+ */
+/* package */ class ClassifierResolutionContext {
+    @NotNull
+    private final BinaryJavaClassFinder finder;
+    // internal name of a nested class -> internal name of its outer class and its simple name
+    @NotNull
+    private final Map<String, Pair<String, String>> innerClasses;
+    @Nullable
+    private final ClassifierResolutionContext parent;
+
+    @NotNull
+    private final List<JavaTypeParameter> typeParameters = new ArrayList<JavaTypeParameter>(0);
+    // Type parameters of outer classes are looked up in the outer class itself
+    @Nullable
+    private JavaClass ownerClass;
+
+    /* package */ ClassifierResolutionContext(@NotNull BinaryJavaClassFinder finder) {
+        this(finder, new HashMap<String, Pair<String, String>>(), null);
+    }
+
+    private ClassifierResolutionContext(
+            @NotNull BinaryJavaClassFinder finder,
+            @NotNull Map<String, Pair<String, String>> innerClasses,
+            @Nullable ClassifierResolutionContext parent
+    ) {
+        this.finder = finder;
+        this.innerClasses = innerClasses;
+        this.parent = parent;
+    }
+
+    @NotNull
+    public ClassifierResolutionContext copyForMember() {
+        return new ClassifierResolutionContext(finder, innerClasses, this);
+    }
+
+    @NotNull
+    public BinaryJavaClassFinder getFinder() {
+        return finder;
+    }
+
+    public void addInnerClass(@NotNull String internalName, @NotNull String outerInternalName, @NotNull String simpleName) {
+        innerClasses.put(internalName, Pair.create(outerInternalName, simpleName));
+    }
+
+    public void addTypeParameters(@NotNull List<JavaTypeParameter> parameters) {
+        typeParameters.addAll(parameters);
+    }
+
+    public void setOwnerClass(@NotNull JavaClass ownerClass) {
+        this.ownerClass = ownerClass;
+    }
+
+    @NotNull
+    public FqName mapInternalNameToFqName(@NotNull String internalName) {
+        Pair<String, String> outerAndName = innerClasses.get(internalName);
+        if (outerAndName != null && !outerAndName.first.equals(internalName) && Name.isValidIdentifier(outerAndName.second)) {
+            return mapInternalNameToFqName(outerAndName.first).child(Name.identifier(outerAndName.second));
+        }
+        return new FqName(internalName.replace('/', '.'));
+    }
+
+    @Nullable
+    public JavaClass resolveClass(@NotNull String internalName) {
+        return finder.findClass(mapInternalNameToFqName(internalName));
+    }
+
+    @Nullable
+    public JavaTypeParameter resolveTypeParameter(@NotNull String name) {
+        JavaTypeParameter parameter = findTypeParameter(typeParameters, name);
+        if (parameter != null) return parameter;
+
+        if (parent != null) return parent.resolveTypeParameter(name);
+
+        JavaClass outerClass = ownerClass != null ? ownerClass.getOuterClass() : null;
+        while (outerClass != null) {
+            parameter = findTypeParameter(outerClass.getTypeParameters(), name);
+            if (parameter != null) return parameter;
+            outerClass = outerClass.getOuterClass();
+        }
+
+        return null;
+    }
+
+    @Nullable
+    private static JavaTypeParameter findTypeParameter(@NotNull List<JavaTypeParameter> parameters, @NotNull String name) {
+        for (JavaTypeParameter parameter : parameters) {
+            if (parameter.getName().asString().equals(name)) {
+                return parameter;
+            }
+        }
+        return null;
+    }
+}
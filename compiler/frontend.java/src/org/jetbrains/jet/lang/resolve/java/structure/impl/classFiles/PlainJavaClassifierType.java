@@ -0,0 +1,278 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles;
+
+import com.intellij.openapi.util.Comparing;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.jet.lang.resolve.java.structure.*;
+import org.jetbrains.jet.lang.resolve.java.structure.impl.JavaTypeSubstitutorImpl;
+
+import java.util.*;
+
+/**
+ * A class type or a type variable read from a class file signature. The classifier is resolved lazily, on the first request.
+ */
+/* package */ class PlainJavaClassifierType implements JavaClassifierType {
+    // Used to resolve the classifier by its name, null if the classifier is known from the start
+    @Nullable
+    private final ClassifierResolutionContext context;
+    // Internal name of a class or a name of a type variable
+    @NotNull
+    private final String classifierName;
+    private final boolean isTypeVariable;
+    @NotNull
+    private final List<JavaType> typeArguments;
+    // Type of the outer class with its own arguments for inner classes of generic classes, e.g. Outer<String> in Outer<String>.Inner
+    @Nullable
+    private final PlainJavaClassifierType outerType;
+
+    private volatile boolean classifierResolved;
+    private volatile JavaClassifier classifier;
+    private volatile String canonicalName;
+
+    private PlainJavaClassifierType(
+            @Nullable ClassifierResolutionContext context,
+            @NotNull String classifierName,
+            boolean isTypeVariable,
+            @NotNull List<JavaType> typeArguments,
+            @Nullable PlainJavaClassifierType outerType
+    ) {
+        this.context = context;
+        this.classifierName = classifierName;
+        this.isTypeVariable = isTypeVariable;
+        this.typeArguments = typeArguments;
+        this.outerType = outerType;
+    }
+
+    /* package */ PlainJavaClassifierType(
+            @NotNull JavaClassifier classifier,
+            @NotNull List<JavaType> typeArguments,
+            @Nullable PlainJavaClassifierType outerType
+    ) {
+        this(null, getClassifierName(classifier), classifier instanceof JavaTypeParameter, typeArguments, outerType);
+        this.classifier = classifier;
+        this.classifierResolved = true;
+    }
+
+    @NotNull
+    /* package */ static PlainJavaClassifierType classType(
+            @NotNull ClassifierResolutionContext context,
+            @NotNull String internalName,
+            @NotNull List<JavaType> typeArguments,
+            @Nullable PlainJavaClassifierType outerType
+    ) {
+        return new PlainJavaClassifierType(context, internalName, false, typeArguments, outerType);
+    }
+
+    @NotNull
+    /* package */ static PlainJavaClassifierType typeVariable(@NotNull ClassifierResolutionContext context, @NotNull String name) {
+        return new PlainJavaClassifierType(context, name, true, Collections.<JavaType>emptyList(), null);
+    }
+
+    @NotNull
+    private static String getClassifierName(@NotNull JavaClassifier classifier) {
+        if (classifier instanceof JavaClass) {
+            JavaClass javaClass = (JavaClass) classifier;
+            return javaClass.getFqName() != null ? javaClass.getFqName().asString() : javaClass.getName().asString();
+        }
+        return classifier.getName().asString();
+    }
+
+    @Nullable
+    @Override
+    public JavaClassifier getClassifier() {
+        if (!classifierResolved) {
+            assert context != null : "Classifier should either be known or be resolvable: " + classifierName;
+            classifier = isTypeVariable ? context.resolveTypeParameter(classifierName) : context.resolveClass(classifierName);
+            classifierResolved = true;
+        }
+        return classifier;
+    }
+
+    @NotNull
+    @Override
+    public JavaTypeSubstitutor getSubstitutor() {
+        JavaClassifier classifier = getClassifier();
+        if (!(classifier instanceof JavaClass)) return JavaTypeSubstitutor.EMPTY;
+
+        Map<JavaTypeParameter, JavaType> substitutionMap = new HashMap<JavaTypeParameter, JavaType>();
+        fillSubstitutionMap((JavaClass) classifier, this, substitutionMap);
+        return new JavaTypeSubstitutorImpl(substitutionMap);
+    }
+
+    private static void fillSubstitutionMap(
+            @NotNull JavaClass javaClass,
+            @Nullable PlainJavaClassifierType type,
+            @NotNull Map<JavaTypeParameter, JavaType> substitutionMap
+    ) {
+        List<JavaTypeParameter> parameters = javaClass.getTypeParameters();
+        List<JavaType> arguments = type != null ? type.typeArguments : Collections.<JavaType>emptyList();
+        // Raw types are substituted with nulls, as PsiSubstitutor does
+        boolean isRaw = arguments.size() != parameters.size();
+        for (int i = 0; i < parameters.size(); i++) {
+            substitutionMap.put(parameters.get(i), isRaw ? null : arguments.get(i));
+        }
+
+        if (javaClass.isStatic()) return;
+
+        JavaClass outerClass = javaClass.getOuterClass();
+        if (outerClass != null) {
+            fillSubstitutionMap(outerClass, type != null ? type.outerType : null, substitutionMap);
+        }
+    }
+
+    @NotNull
+    @Override
+    public Collection<JavaClassifierType> getSupertypes() {
+        JavaClassifier classifier = getClassifier();
+        if (classifier instanceof JavaTypeParameter) {
+            return ((JavaTypeParameter) classifier).getUpperBounds();
+        }
+        if (!(classifier instanceof JavaClass)) return Collections.emptyList();
+
+        Collection<JavaClassifierType> supertypes = ((JavaClass) classifier).getSupertypes();
+        List<JavaClassifierType> result = new ArrayList<JavaClassifierType>(supertypes.size());
+        if (isRaw()) {
+            // Supertypes of a raw type are raw
+            for (JavaClassifierType supertype : supertypes) {
+                JavaClassifier superClassifier = supertype.getClassifier();
+                result.add(superClassifier instanceof JavaClass
+                           ? new PlainJavaClassifierType(superClassifier, Collections.<JavaType>emptyList(), null)
+                           : supertype);
+            }
+        }
+        else {
+            JavaTypeSubstitutor substitutor = getSubstitutor();
+            for (JavaClassifierType supertype : supertypes) {
+                JavaType substituted = substitutor.substitute(supertype);
+                result.add(substituted instanceof JavaClassifierType ? (JavaClassifierType) substituted : supertype);
+            }
+        }
+        return result;
+    }
+
+    @NotNull
+    @Override
+    public String getPresentableText() {
+        return getCanonicalText();
+    }
+
+    @NotNull
+    private String getCanonicalName() {
+        if (canonicalName == null) {
+            canonicalName = context != null && !isTypeVariable
+                            ? context.mapInternalNameToFqName(classifierName).asString()
+                            : classifierName;
+        }
+        return canonicalName;
+    }
+
+    // Same as PsiType.getCanonicalText(), e.g. "java.util.Map.Entry<K,V>" or "Outer<java.lang.String>.Inner"
+    @NotNull
+    private String getCanonicalText() {
+        StringBuilder builder = new StringBuilder();
+        String canonicalName = getCanonicalName();
+        if (outerType != null && outerType.hasTypeArguments()) {
+            builder.append(outerType.getCanonicalText()).append(canonicalName.substring(canonicalName.lastIndexOf('.')));
+        }
+        else {
+            builder.append(canonicalName);
+        }
+        if (typeArguments.isEmpty()) return builder.toString();
+
+        builder.append('<');
+        for (int i = 0; i < typeArguments.size(); i++) {
+            if (i > 0) builder.append(',');
+            builder.append(renderType(typeArguments.get(i)));
+        }
+        return builder.append('>').toString();
+    }
+
+    private boolean hasTypeArguments() {
+        return !typeArguments.isEmpty() || (outerType != null && outerType.hasTypeArguments());
+    }
+
+    @NotNull
+    /* package */ static String renderType(@NotNull JavaType type) {
+        if (type instanceof PlainJavaClassifierType) {
+            return ((PlainJavaClassifierType) type).getCanonicalText();
+        }
+        else if (type instanceof JavaClassifierType) {
+            return ((JavaClassifierType) type).getPresentableText();
+        }
+        else if (type instanceof JavaPrimitiveType) {
+            return ((JavaPrimitiveType) type).getCanonicalText();
+        }
+        else if (type instanceof JavaArrayType) {
+            return renderType(((JavaArrayType) type).getComponentType()) + "[]";
+        }
+        else if (type instanceof JavaWildcardType) {
+            JavaWildcardType wildcardType = (JavaWildcardType) type;
+            JavaType bound = wildcardType.getBound();
+            if (bound == null) return "?";
+            return (wildcardType.isExtends() ? "? extends " : "? super ") + renderType(bound);
+        }
+        return type.toString();
+    }
+
+    @Override
+    public boolean isRaw() {
+        JavaClassifier classifier = getClassifier();
+        return typeArguments.isEmpty() && classifier instanceof JavaClass && !((JavaClass) classifier).getTypeParameters().isEmpty();
+    }
+
+    @NotNull
+    @Override
+    public List<JavaType> getTypeArguments() {
+        return typeArguments;
+    }
+
+    @NotNull
+    @Override
+    public JavaArrayType createArrayType() {
+        return new PlainJavaArrayType(this);
+    }
+
+    @Override
+    public int hashCode() {
+        return getCanonicalName().hashCode() * 31 + typeArguments.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof PlainJavaClassifierType)) return false;
+
+        PlainJavaClassifierType other = (PlainJavaClassifierType) obj;
+        if (isTypeVariable != other.isTypeVariable ||
+            !getCanonicalName().equals(other.getCanonicalName()) ||
+            !typeArguments.equals(other.typeArguments) ||
+            !Comparing.equal(outerType, other.outerType)) {
+            return false;
+        }
+
+        // Type variables with the same name can belong to different declarations
+        return !isTypeVariable || Comparing.equal(getClassifier(), other.getClassifier());
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ": " + getCanonicalText();
+    }
+}
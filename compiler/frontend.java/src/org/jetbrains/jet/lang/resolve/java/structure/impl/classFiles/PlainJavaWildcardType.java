@@ -0,0 +1,78 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles;
+
+import com.intellij.openapi.util.Comparing;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.jet.lang.resolve.java.structure.JavaArrayType;
+import org.jetbrains.jet.lang.resolve.java.structure.JavaType;
+import org.jetbrains.jet.lang.resolve.java.structure.JavaTypeProvider;
+import org.jetbrains.jet.lang.resolve.java.structure.JavaWildcardType;
+
+/* package */ class PlainJavaWildcardType implements JavaWildcardType {
+    private final JavaType bound;
+    private final boolean isExtends;
+    private final JavaTypeProvider typeProvider;
+
+    /* package */ PlainJavaWildcardType(@Nullable JavaType bound, boolean isExtends, @NotNull JavaTypeProvider typeProvider) {
+        this.bound = bound;
+        this.isExtends = bound != null && isExtends;
+        this.typeProvider = typeProvider;
+    }
+
+    @Nullable
+    @Override
+    public JavaType getBound() {
+        return bound;
+    }
+
+    @Override
+    public boolean isExtends() {
+        return isExtends;
+    }
+
+    @NotNull
+    @Override
+    public JavaTypeProvider getTypeProvider() {
+        return typeProvider;
+    }
+
+    @NotNull
+    @Override
+    public JavaArrayType createArrayType() {
+        return new PlainJavaArrayType(this);
+    }
+
+    @Override
+    public int hashCode() {
+        return (bound != null ? bound.hashCode() : 0) * 31 + (isExtends ? 1 : 0);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof PlainJavaWildcardType)) return false;
+        PlainJavaWildcardType other = (PlainJavaWildcardType) obj;
+        return isExtends == other.isExtends && Comparing.equal(bound, other.bound);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ": " + (bound == null ? "?" : (isExtends ? "? extends " : "? super ") + bound);
+    }
+}
@@ -19,44 +19,82 @@ package org.jetbrains.jet.lang.resolve.kotlin;
 import com.intellij.ide.highlighter.JavaClassFileType;
 import com.intellij.openapi.Disposable;
 import com.intellij.openapi.components.ServiceManager;
-import com.intellij.openapi.util.Ref;
 import com.intellij.openapi.vfs.VirtualFile;
-import com.intellij.util.containers.SLRUCache;
+import com.intellij.util.containers.SLRUMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+/**
+ * Results of reading class files, shared by all threads. Entries are keyed by the file and are valid while its time stamp doesn't change.
+ * The cache is split into segments by the hash of the file, each of them is a bounded SLRU map with its own lock;
+ * files are read outside of the locks, so a slow read never blocks lookups of other files.
+ */
 public final class KotlinBinaryClassCache implements Disposable {
+    private static final int SEGMENT_COUNT = 16;
+    private static final int SEGMENT_PROTECTED_SIZE = 128;
+    private static final int SEGMENT_PROBATIONAL_SIZE = 128;
+
+    private static class Entry {
+        private final long timeStamp;
+        @Nullable
+        private final VirtualFileKotlinClass kotlinClass;
+
+        private Entry(long timeStamp, @Nullable VirtualFileKotlinClass kotlinClass) {
+            this.timeStamp = timeStamp;
+            this.kotlinClass = kotlinClass;
+        }
+    }
 
-    // This cache must be small: we only query the same file a few times in a row (from different places)
-    // It's local to each thread: we don't want a single instance to synchronize access on, because VirtualFileKotlinClass.create involves
-    // reading files from disk and may take some time
-    private final ThreadLocal<SLRUCache<VirtualFile, Ref<VirtualFileKotlinClass>>> cache =
-            new ThreadLocal<SLRUCache<VirtualFile, Ref<VirtualFileKotlinClass>>>() {
-                @Override
-                protected SLRUCache<VirtualFile, Ref<VirtualFileKotlinClass>> initialValue() {
-                    return new SLRUCache<VirtualFile, Ref<VirtualFileKotlinClass>>(2, 2) {
-                        @NotNull
-                        @Override
-                        public Ref<VirtualFileKotlinClass> createValue(VirtualFile virtualFile) {
-                            return Ref.create(VirtualFileKotlinClass.create(virtualFile));
-                        }
-                    };
-                }
-            };
+    @SuppressWarnings("unchecked")
+    private final SLRUMap<VirtualFile, Entry>[] segments = new SLRUMap[SEGMENT_COUNT];
+
+    public KotlinBinaryClassCache() {
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new SLRUMap<VirtualFile, Entry>(SEGMENT_PROTECTED_SIZE, SEGMENT_PROBATIONAL_SIZE);
+        }
+    }
 
     @Nullable
     public static KotlinJvmBinaryClass getKotlinBinaryClass(@NotNull VirtualFile file) {
+        return getKotlinBinaryClass(file, null);
+    }
+
+    /**
+     * @param diskCache headers of classes from jars saved by previous compilations, used if the class is not cached in memory
+     */
+    @Nullable
+    public static KotlinJvmBinaryClass getKotlinBinaryClass(@NotNull VirtualFile file, @Nullable KotlinClassHeaderDiskCache diskCache) {
         if (file.getFileType() != JavaClassFileType.INSTANCE) return null;
 
         KotlinBinaryClassCache service = ServiceManager.getService(KotlinBinaryClassCache.class);
-        return service.cache.get().get(file).get();
+        return service.get(file, diskCache);
+    }
+
+    @Nullable
+    private VirtualFileKotlinClass get(@NotNull VirtualFile file, @Nullable KotlinClassHeaderDiskCache diskCache) {
+        SLRUMap<VirtualFile, Entry> segment = segments[(file.hashCode() & 0x7fffffff) % SEGMENT_COUNT];
+        long timeStamp = file.getTimeStamp();
+
+        Entry entry;
+        synchronized (segment) {
+            entry = segment.get(file);
+        }
+        if (entry != null && entry.timeStamp == timeStamp) return entry.kotlinClass;
+
+        // Two threads may read the same file at once, which is harmless: one of the equal results stays in the cache
+        VirtualFileKotlinClass kotlinClass = diskCache != null ? diskCache.createKotlinClass(file) : VirtualFileKotlinClass.create(file);
+        synchronized (segment) {
+            segment.put(file, new Entry(timeStamp, kotlinClass));
+        }
+        return kotlinClass;
     }
 
     @Override
     public void dispose() {
-        // This is only relevant for tests. We create a new instance of Application for each test, and so a new instance of this service is
-        // also created for each test. However all tests share the same event dispatch thread, which would collect all instances of this
-        // thread-local if they're not removed properly. Each instance would transitively retain VFS resulting in OutOfMemoryError
-        cache.remove();
+        for (SLRUMap<VirtualFile, Entry> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
     }
 }
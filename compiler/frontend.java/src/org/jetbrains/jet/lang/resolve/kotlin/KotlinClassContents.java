@@ -0,0 +1,727 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.lang.resolve.kotlin;
+
+import com.intellij.openapi.vfs.CharsetToolkit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.jet.lang.resolve.java.JvmClassName;
+import org.jetbrains.jet.lang.resolve.kotlin.KotlinJvmBinaryClass.*;
+import org.jetbrains.jet.lang.resolve.kotlin.header.KotlinClassHeader;
+import org.jetbrains.jet.lang.resolve.kotlin.header.ReadKotlinClassHeaderAnnotationVisitor;
+import org.jetbrains.jet.lang.resolve.name.Name;
+import org.jetbrains.org.objectweb.asm.ClassReader;
+import org.jetbrains.org.objectweb.asm.ClassVisitor;
+import org.jetbrains.org.objectweb.asm.FieldVisitor;
+import org.jetbrains.org.objectweb.asm.MethodVisitor;
+import org.jetbrains.org.objectweb.asm.Type;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.jetbrains.org.objectweb.asm.ClassReader.*;
+import static org.jetbrains.org.objectweb.asm.Opcodes.ASM5;
+
+/**
+ * Everything the deserializer needs from a class file, read in one pass: the name, the Kotlin header, class annotations and,
+ * for Kotlin classes, member signatures with their annotations and constant initializers.
+ * The recorded data is replayed into {@link KotlinJvmBinaryClass} visitors in the order ASM reported it.
+ *
+ * The contents can be written to and read from a stream, see {@link KotlinClassHeaderDiskCache}.
+ */
+/* package */ final class KotlinClassContents {
+    private final JvmClassName className;
+    private final KotlinClassHeader classHeader;
+    private final List<RecordedAnnotation> classAnnotations;
+    private final List<RecordedMember> members;
+
+    private KotlinClassContents(
+            @NotNull JvmClassName className,
+            @Nullable KotlinClassHeader classHeader,
+            @NotNull List<RecordedAnnotation> classAnnotations,
+            @NotNull List<RecordedMember> members
+    ) {
+        this.className = className;
+        this.classHeader = classHeader;
+        this.classAnnotations = classAnnotations;
+        this.members = members;
+    }
+
+    /**
+     * @param readMembers whether members of Kotlin classes should be recorded, members of other classes are never recorded
+     * @return null if the contents are not a valid class file
+     */
+    @Nullable
+    public static KotlinClassContents read(@NotNull byte[] fileContents, boolean readMembers) {
+        ContentsRecorder recorder = new ContentsRecorder(readMembers);
+        new ClassReader(fileContents).accept(recorder, SKIP_CODE | SKIP_DEBUG | SKIP_FRAMES);
+        if (recorder.className == null) return null;
+
+        return new KotlinClassContents(recorder.className, recorder.getHeader(), recorder.classAnnotations,
+                                       recorder.members == null ? Collections.<RecordedMember>emptyList() : recorder.members);
+    }
+
+    /**
+     * Writes the class name, class annotations and members. The header is not written, it's computed from the annotations on reading
+     *
+     * @throws IllegalArgumentException if a constant or an annotation argument has a type which is not supported by the format
+     */
+    public void write(@NotNull DataOutput output) throws IOException {
+        writeString(output, className.getInternalName());
+        writeAnnotations(output, classAnnotations);
+        output.writeInt(members.size());
+        for (RecordedMember member : members) {
+            member.write(output);
+        }
+    }
+
+    @NotNull
+    public static KotlinClassContents read(@NotNull DataInput input) throws IOException {
+        JvmClassName className = JvmClassName.byInternalName(readString(input));
+        List<RecordedAnnotation> classAnnotations = readAnnotations(input);
+        int memberCount = input.readInt();
+        List<RecordedMember> members = new ArrayList<RecordedMember>(memberCount);
+        for (int i = 0; i < memberCount; i++) {
+            members.add(RecordedMember.read(input));
+        }
+        return new KotlinClassContents(className, computeHeader(classAnnotations), classAnnotations, members);
+    }
+
+    @Nullable
+    private static KotlinClassHeader computeHeader(@NotNull List<RecordedAnnotation> classAnnotations) {
+        ReadKotlinClassHeaderAnnotationVisitor headerVisitor = new ReadKotlinClassHeaderAnnotationVisitor();
+        for (RecordedAnnotation annotation : classAnnotations) {
+            annotation.accept(headerVisitor);
+        }
+        headerVisitor.visitEnd();
+        return headerVisitor.createHeader();
+    }
+
+    @NotNull
+    public JvmClassName getClassName() {
+        return className;
+    }
+
+    @Nullable
+    public KotlinClassHeader getClassHeader() {
+        return classHeader;
+    }
+
+    public void loadClassAnnotations(@NotNull AnnotationVisitor visitor) {
+        for (RecordedAnnotation annotation : classAnnotations) {
+            annotation.accept(visitor);
+        }
+        visitor.visitEnd();
+    }
+
+    public void visitMembers(@NotNull MemberVisitor visitor) {
+        for (RecordedMember member : members) {
+            member.accept(visitor);
+        }
+    }
+
+    private static class ContentsRecorder extends ClassVisitor {
+        private final boolean readMembers;
+
+        private JvmClassName className;
+        private final List<RecordedAnnotation> classAnnotations = new ArrayList<RecordedAnnotation>(1);
+        private List<RecordedMember> members;
+
+        private boolean headerComputed = false;
+        private KotlinClassHeader header;
+
+        public ContentsRecorder(boolean readMembers) {
+            super(ASM5);
+            this.readMembers = readMembers;
+        }
+
+        // ASM visits all class annotations before any members, so the header is known by the time the first member is visited
+        @Nullable
+        private KotlinClassHeader getHeader() {
+            if (!headerComputed) {
+                header = computeHeader(classAnnotations);
+                headerComputed = true;
+            }
+            return header;
+        }
+
+        private boolean shouldRecordMembers() {
+            if (!readMembers || getHeader() == null) return false;
+            if (members == null) {
+                members = new ArrayList<RecordedMember>();
+            }
+            return true;
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            className = JvmClassName.byInternalName(name);
+        }
+
+        @Override
+        public org.jetbrains.org.objectweb.asm.AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+            RecordedAnnotation annotation = new RecordedAnnotation(desc);
+            classAnnotations.add(annotation);
+            return annotation.createRecorder();
+        }
+
+        @Override
+        public FieldVisitor visitField(int access, String name, String desc, String signature, Object value) {
+            if (!shouldRecordMembers()) return null;
+
+            final RecordedMember field = new RecordedMember(false, name, desc, value);
+            members.add(field);
+            return new FieldVisitor(ASM5) {
+                @Override
+                public org.jetbrains.org.objectweb.asm.AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+                    return field.addAnnotation(-1, desc).createRecorder();
+                }
+            };
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String desc, String signature, String[] exceptions) {
+            if (!shouldRecordMembers()) return null;
+
+            final RecordedMember method = new RecordedMember(true, name, desc, null);
+            members.add(method);
+            return new MethodVisitor(ASM5) {
+                @Override
+                public org.jetbrains.org.objectweb.asm.AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+                    return method.addAnnotation(-1, desc).createRecorder();
+                }
+
+                @Override
+                public org.jetbrains.org.objectweb.asm.AnnotationVisitor visitParameterAnnotation(int parameter, String desc, boolean visible) {
+                    return method.addAnnotation(parameter, desc).createRecorder();
+                }
+            };
+        }
+    }
+
+    private static class RecordedMember {
+        private final boolean isMethod;
+        private final String name;
+        private final String desc;
+        private final Object initializer;
+        // Parameter index or -1 for annotations on the member itself, in the order they were visited
+        private int[] annotationTargets = null;
+        private List<RecordedAnnotation> annotations = null;
+
+        public RecordedMember(boolean isMethod, @NotNull String name, @NotNull String desc, @Nullable Object initializer) {
+            this.isMethod = isMethod;
+            this.name = name;
+            this.desc = desc;
+            this.initializer = initializer;
+        }
+
+        @NotNull
+        public RecordedAnnotation addAnnotation(int target, @NotNull String desc) {
+            if (annotations == null) {
+                annotations = new ArrayList<RecordedAnnotation>(2);
+                annotationTargets = new int[2];
+            }
+            else if (annotations.size() == annotationTargets.length) {
+                int[] newTargets = new int[annotationTargets.length * 2];
+                System.arraycopy(annotationTargets, 0, newTargets, 0, annotationTargets.length);
+                annotationTargets = newTargets;
+            }
+            annotationTargets[annotations.size()] = target;
+            RecordedAnnotation annotation = new RecordedAnnotation(desc);
+            annotations.add(annotation);
+            return annotation;
+        }
+
+        public void write(@NotNull DataOutput output) throws IOException {
+            output.writeBoolean(isMethod);
+            writeString(output, name);
+            writeString(output, desc);
+            writeValue(output, initializer);
+            int annotationCount = annotations == null ? 0 : annotations.size();
+            output.writeInt(annotationCount);
+            for (int i = 0; i < annotationCount; i++) {
+                output.writeInt(annotationTargets[i]);
+                annotations.get(i).write(output);
+            }
+        }
+
+        @NotNull
+        public static RecordedMember read(@NotNull DataInput input) throws IOException {
+            RecordedMember member = new RecordedMember(input.readBoolean(), readString(input), readString(input), readValue(input));
+            int annotationCount = input.readInt();
+            for (int i = 0; i < annotationCount; i++) {
+                int target = input.readInt();
+                member.addAnnotation(target, readString(input)).readArguments(input);
+            }
+            return member;
+        }
+
+        public void accept(@NotNull MemberVisitor visitor) {
+            if (isMethod) {
+                MethodAnnotationVisitor v = visitor.visitMethod(Name.guess(name), desc);
+                if (v == null) return;
+
+                if (annotations != null) {
+                    for (int i = 0; i < annotations.size(); i++) {
+                        RecordedAnnotation annotation = annotations.get(i);
+                        if (annotationTargets[i] < 0) {
+                            annotation.accept(v);
+                        }
+                        else {
+                            AnnotationArgumentVisitor av = v.visitParameterAnnotation(annotationTargets[i], annotation.getClassName());
+                            if (av != null) {
+                                annotation.acceptArguments(av);
+                            }
+                        }
+                    }
+                }
+                v.visitEnd();
+            }
+            else {
+                AnnotationVisitor v = visitor.visitField(Name.guess(name), desc, initializer);
+                if (v == null) return;
+
+                if (annotations != null) {
+                    for (RecordedAnnotation annotation : annotations) {
+                        annotation.accept(v);
+                    }
+                }
+                v.visitEnd();
+            }
+        }
+    }
+
+    private static class RecordedAnnotation {
+        private final String desc;
+        private final List<RecordedArgument> arguments = new ArrayList<RecordedArgument>(1);
+
+        public RecordedAnnotation(@NotNull String desc) {
+            this.desc = desc;
+        }
+
+        @NotNull
+        public JvmClassName getClassName() {
+            return classNameFromAsmDesc(desc);
+        }
+
+        public void write(@NotNull DataOutput output) throws IOException {
+            writeString(output, desc);
+            writeArguments(output, arguments);
+        }
+
+        public void readArguments(@NotNull DataInput input) throws IOException {
+            arguments.addAll(RecordedArgument.readList(input));
+        }
+
+        public void accept(@NotNull AnnotationVisitor visitor) {
+            AnnotationArgumentVisitor v = visitor.visitAnnotation(getClassName());
+            if (v != null) {
+                acceptArguments(v);
+            }
+        }
+
+        public void acceptArguments(@NotNull AnnotationArgumentVisitor visitor) {
+            for (RecordedArgument argument : arguments) {
+                argument.accept(visitor);
+            }
+            visitor.visitEnd();
+        }
+
+        // Nested annotations are not supported by KotlinJvmBinaryClass visitors and are skipped
+        @NotNull
+        public org.jetbrains.org.objectweb.asm.AnnotationVisitor createRecorder() {
+            return new org.jetbrains.org.objectweb.asm.AnnotationVisitor(ASM5) {
+                @Override
+                public void visit(String name, Object value) {
+                    arguments.add(new RecordedArgument(name, value, null, null));
+                }
+
+                @Override
+                public void visitEnum(String name, String desc, String value) {
+                    arguments.add(new RecordedArgument(name, value, desc, null));
+                }
+
+                @Override
+                public org.jetbrains.org.objectweb.asm.AnnotationVisitor visitArray(String name) {
+                    final List<RecordedArgument> elements = new ArrayList<RecordedArgument>();
+                    arguments.add(new RecordedArgument(name, null, null, elements));
+                    return new org.jetbrains.org.objectweb.asm.AnnotationVisitor(ASM5) {
+                        @Override
+                        public void visit(String name, Object value) {
+                            elements.add(new RecordedArgument(null, value, null, null));
+                        }
+
+                        @Override
+                        public void visitEnum(String name, String desc, String value) {
+                            elements.add(new RecordedArgument(null, value, desc, null));
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    private static final byte VALUE_ARGUMENT = 0;
+    private static final byte ENUM_ARGUMENT = 1;
+    private static final byte ARRAY_ARGUMENT = 2;
+
+    // A plain value, an enum entry (enumDesc != null, value is the entry name) or an array (elements != null)
+    private static class RecordedArgument {
+        private final String name;
+        private final Object value;
+        private final String enumDesc;
+        private final List<RecordedArgument> elements;
+
+        public RecordedArgument(@Nullable String name, @Nullable Object value, @Nullable String enumDesc, @Nullable List<RecordedArgument> elements) {
+            this.name = name;
+            this.value = value;
+            this.enumDesc = enumDesc;
+            this.elements = elements;
+        }
+
+        public void write(@NotNull DataOutput output) throws IOException {
+            writeNullableString(output, name);
+            if (elements != null) {
+                output.writeByte(ARRAY_ARGUMENT);
+                writeArguments(output, elements);
+            }
+            else if (enumDesc != null) {
+                output.writeByte(ENUM_ARGUMENT);
+                writeString(output, enumDesc);
+                writeString(output, (String) value);
+            }
+            else {
+                output.writeByte(VALUE_ARGUMENT);
+                writeValue(output, value);
+            }
+        }
+
+        @NotNull
+        public static RecordedArgument read(@NotNull DataInput input) throws IOException {
+            String name = readNullableString(input);
+            byte kind = input.readByte();
+            switch (kind) {
+                case ARRAY_ARGUMENT:
+                    return new RecordedArgument(name, null, null, readList(input));
+                case ENUM_ARGUMENT:
+                    String enumDesc = readString(input);
+                    return new RecordedArgument(name, readString(input), enumDesc, null);
+                case VALUE_ARGUMENT:
+                    return new RecordedArgument(name, readValue(input), null, null);
+                default:
+                    throw new IOException("Unknown annotation argument kind: " + kind);
+            }
+        }
+
+        @NotNull
+        public static List<RecordedArgument> readList(@NotNull DataInput input) throws IOException {
+            int count = input.readInt();
+            List<RecordedArgument> result = new ArrayList<RecordedArgument>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(read(input));
+            }
+            return result;
+        }
+
+        public void accept(@NotNull AnnotationArgumentVisitor visitor) {
+            if (elements != null) {
+                AnnotationArrayArgumentVisitor v = visitor.visitArray(Name.guess(name));
+                if (v == null) return;
+
+                for (RecordedArgument element : elements) {
+                    if (element.enumDesc != null) {
+                        v.visitEnum(classNameFromAsmDesc(element.enumDesc), Name.identifier((String) element.value));
+                    }
+                    else {
+                        v.visit(element.value);
+                    }
+                }
+                v.visitEnd();
+            }
+            else if (enumDesc != null) {
+                visitor.visitEnum(Name.identifier(name), classNameFromAsmDesc(enumDesc), Name.identifier((String) value));
+            }
+            else {
+                visitor.visit(name == null ? null : Name.identifier(name), value);
+            }
+        }
+    }
+
+    private static void writeAnnotations(@NotNull DataOutput output, @NotNull List<RecordedAnnotation> annotations) throws IOException {
+        output.writeInt(annotations.size());
+        for (RecordedAnnotation annotation : annotations) {
+            annotation.write(output);
+        }
+    }
+
+    @NotNull
+    private static List<RecordedAnnotation> readAnnotations(@NotNull DataInput input) throws IOException {
+        int count = input.readInt();
+        List<RecordedAnnotation> result = new ArrayList<RecordedAnnotation>(count);
+        for (int i = 0; i < count; i++) {
+            RecordedAnnotation annotation = new RecordedAnnotation(readString(input));
+            annotation.readArguments(input);
+            result.add(annotation);
+        }
+        return result;
+    }
+
+    private static void writeArguments(@NotNull DataOutput output, @NotNull List<RecordedArgument> arguments) throws IOException {
+        output.writeInt(arguments.size());
+        for (RecordedArgument argument : arguments) {
+            argument.write(output);
+        }
+    }
+
+    // Values are constants of fields and annotation arguments as ASM reports them: boxed primitives, strings, types and,
+    // for annotation arguments, arrays of primitives
+
+    private static void writeValue(@NotNull DataOutput output, @Nullable Object value) throws IOException {
+        if (value == null) {
+            output.writeByte(0);
+        }
+        else if (value instanceof Boolean) {
+            output.writeByte(1);
+            output.writeBoolean((Boolean) value);
+        }
+        else if (value instanceof Byte) {
+            output.writeByte(2);
+            output.writeByte((Byte) value);
+        }
+        else if (value instanceof Character) {
+            output.writeByte(3);
+            output.writeChar((Character) value);
+        }
+        else if (value instanceof Short) {
+            output.writeByte(4);
+            output.writeShort((Short) value);
+        }
+        else if (value instanceof Integer) {
+            output.writeByte(5);
+            output.writeInt((Integer) value);
+        }
+        else if (value instanceof Long) {
+            output.writeByte(6);
+            output.writeLong((Long) value);
+        }
+        else if (value instanceof Float) {
+            output.writeByte(7);
+            output.writeFloat((Float) value);
+        }
+        else if (value instanceof Double) {
+            output.writeByte(8);
+            output.writeDouble((Double) value);
+        }
+        else if (value instanceof String) {
+            output.writeByte(9);
+            writeString(output, (String) value);
+        }
+        else if (value instanceof Type) {
+            output.writeByte(10);
+            writeString(output, ((Type) value).getDescriptor());
+        }
+        else if (value instanceof boolean[]) {
+            boolean[] array = (boolean[]) value;
+            output.writeByte(11);
+            output.writeInt(array.length);
+            for (boolean element : array) {
+                output.writeBoolean(element);
+            }
+        }
+        else if (value instanceof byte[]) {
+            byte[] array = (byte[]) value;
+            output.writeByte(12);
+            output.writeInt(array.length);
+            output.write(array);
+        }
+        else if (value instanceof char[]) {
+            char[] array = (char[]) value;
+            output.writeByte(13);
+            output.writeInt(array.length);
+            for (char element : array) {
+                output.writeChar(element);
+            }
+        }
+        else if (value instanceof short[]) {
+            short[] array = (short[]) value;
+            output.writeByte(14);
+            output.writeInt(array.length);
+            for (short element : array) {
+                output.writeShort(element);
+            }
+        }
+        else if (value instanceof int[]) {
+            int[] array = (int[]) value;
+            output.writeByte(15);
+            output.writeInt(array.length);
+            for (int element : array) {
+                output.writeInt(element);
+            }
+        }
+        else if (value instanceof long[]) {
+            long[] array = (long[]) value;
+            output.writeByte(16);
+            output.writeInt(array.length);
+            for (long element : array) {
+                output.writeLong(element);
+            }
+        }
+        else if (value instanceof float[]) {
+            float[] array = (float[]) value;
+            output.writeByte(17);
+            output.writeInt(array.length);
+            for (float element : array) {
+                output.writeFloat(element);
+            }
+        }
+        else if (value instanceof double[]) {
+            double[] array = (double[]) value;
+            output.writeByte(18);
+            output.writeInt(array.length);
+            for (double element : array) {
+                output.writeDouble(element);
+            }
+        }
+        else {
+            throw new IllegalArgumentException("Unsupported value: " + value + " (" + value.getClass() + ")");
+        }
+    }
+
+    @Nullable
+    private static Object readValue(@NotNull DataInput input) throws IOException {
+        byte tag = input.readByte();
+        switch (tag) {
+            case 0:
+                return null;
+            case 1:
+                return input.readBoolean();
+            case 2:
+                return input.readByte();
+            case 3:
+                return input.readChar();
+            case 4:
+                return input.readShort();
+            case 5:
+                return input.readInt();
+            case 6:
+                return input.readLong();
+            case 7:
+                return input.readFloat();
+            case 8:
+                return input.readDouble();
+            case 9:
+                return readString(input);
+            case 10:
+                return Type.getType(readString(input));
+            case 11: {
+                boolean[] array = new boolean[input.readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = input.readBoolean();
+                }
+                return array;
+            }
+            case 12: {
+                byte[] array = new byte[input.readInt()];
+                input.readFully(array);
+                return array;
+            }
+            case 13: {
+                char[] array = new char[input.readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = input.readChar();
+                }
+                return array;
+            }
+            case 14: {
+                short[] array = new short[input.readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = input.readShort();
+                }
+                return array;
+            }
+            case 15: {
+                int[] array = new int[input.readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = input.readInt();
+                }
+                return array;
+            }
+            case 16: {
+                long[] array = new long[input.readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = input.readLong();
+                }
+                return array;
+            }
+            case 17: {
+                float[] array = new float[input.readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = input.readFloat();
+                }
+                return array;
+            }
+            case 18: {
+                double[] array = new double[input.readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = input.readDouble();
+                }
+                return array;
+            }
+            default:
+                throw new IOException("Unknown value tag: " + tag);
+        }
+    }
+
+    // Strings are stored as UTF-8 bytes prefixed with their number: annotation data may be longer than DataOutput.writeUTF allows
+
+    /* package */ static void writeString(@NotNull DataOutput output, @NotNull String string) throws IOException {
+        byte[] bytes = string.getBytes(CharsetToolkit.UTF8_CHARSET);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    @NotNull
+    /* package */ static String readString(@NotNull DataInput input) throws IOException {
+        int length = input.readInt();
+        if (length < 0) throw new IOException("Negative string length: " + length);
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, CharsetToolkit.UTF8_CHARSET);
+    }
+
+    private static void writeNullableString(@NotNull DataOutput output, @Nullable String string) throws IOException {
+        output.writeBoolean(string != null);
+        if (string != null) {
+            writeString(output, string);
+        }
+    }
+
+    @Nullable
+    private static String readNullableString(@NotNull DataInput input) throws IOException {
+        return input.readBoolean() ? readString(input) : null;
+    }
+
+    @NotNull
+    private static JvmClassName classNameFromAsmDesc(@NotNull String desc) {
+        assert desc.startsWith("L") && desc.endsWith(";") : "Not a JVM descriptor: " + desc;
+        return JvmClassName.byInternalName(desc.substring(1, desc.length() - 1));
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.lang.resolve.kotlin;
+
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.CRC32;
+
+/**
+ * Contents of classes from library jars (see {@link KotlinClassContents}), stored on disk between compiler runs so that a class file
+ * in a jar which hasn't changed is not read at all: neither for its header, nor for its annotations and members.
+ *
+ * There's one file per jar in the cache directory. It's valid while the path, the size and the time stamp of the jar are the same,
+ * and is read into memory when the jar is first accessed: only the index of entries is decoded eagerly, the contents of a class
+ * are decoded on request. The file is not memory-mapped, so that it can be replaced on every platform, and ends with a checksum
+ * of its contents, so that a corrupted file is ignored.
+ * Classes read during the compilation are added to the files in {@link #save()}.
+ */
+public final class KotlinClassHeaderDiskCache {
+    private static final Logger LOG = Logger.getInstance(KotlinClassHeaderDiskCache.class);
+
+    private static final int FORMAT_VERSION = 2;
+    private static final String JAR_SEPARATOR = "!/";
+    private static final String CACHE_FILE_EXTENSION = ".headers";
+    private static final int CHECKSUM_LENGTH = 8;
+
+    // Stored for class files which are not Kotlin classes, or not valid class files at all
+    private static final byte[] NOT_KOTLIN = new byte[0];
+
+    private final File directory;
+    private final ConcurrentMap<String, JarContents> jars = new ConcurrentHashMap<String, JarContents>();
+
+    public KotlinClassHeaderDiskCache(@NotNull File directory) {
+        this.directory = directory;
+    }
+
+    @Nullable
+    /* package */ VirtualFileKotlinClass createKotlinClass(@NotNull VirtualFile file) {
+        String path = file.getPath();
+        int separator = path.indexOf(JAR_SEPARATOR);
+        if (separator < 0) return VirtualFileKotlinClass.create(file);
+
+        JarContents jar = getJarContents(path.substring(0, separator));
+        String entryName = path.substring(separator + JAR_SEPARATOR.length());
+
+        byte[] cached = jar.get(entryName);
+        if (cached == NOT_KOTLIN) return null;
+        if (cached != null) {
+            KotlinClassContents contents = decode(cached, jar, entryName);
+            VirtualFileKotlinClass kotlinClass = contents == null ? null : VirtualFileKotlinClass.create(file, contents, this);
+            if (kotlinClass != null) return kotlinClass;
+        }
+
+        KotlinClassContents contents;
+        try {
+            contents = KotlinClassContents.read(file.contentsToByteArray(), true);
+        }
+        catch (Throwable e) {
+            // Failures are not cached, the file will be read again next time
+            return VirtualFileKotlinClass.create(file);
+        }
+
+        VirtualFileKotlinClass kotlinClass = contents == null ? null : VirtualFileKotlinClass.create(file, contents, this);
+        byte[] encoded = kotlinClass == null ? NOT_KOTLIN : encode(contents, file);
+        if (encoded != null) {
+            jar.put(entryName, encoded);
+        }
+        return kotlinClass;
+    }
+
+    /**
+     * @return the contents of the class stored in the cache, or null if they're not there
+     */
+    @Nullable
+    /* package */ KotlinClassContents readContents(@NotNull VirtualFile file) {
+        String path = file.getPath();
+        int separator = path.indexOf(JAR_SEPARATOR);
+        if (separator < 0) return null;
+
+        JarContents jar = getJarContents(path.substring(0, separator));
+        String entryName = path.substring(separator + JAR_SEPARATOR.length());
+        byte[] cached = jar.get(entryName);
+        return cached == null || cached == NOT_KOTLIN ? null : decode(cached, jar, entryName);
+    }
+
+    @Nullable
+    private static KotlinClassContents decode(@NotNull byte[] data, @NotNull JarContents jar, @NotNull String entryName) {
+        try {
+            return KotlinClassContents.read(new DataInputStream(new ByteArrayInputStream(data)));
+        }
+        catch (Exception e) {
+            // The entry is corrupted, the class file will be read and the entry rewritten on save
+            LOG.warn("Could not decode cached contents of " + entryName + " from " + jar.cacheFile, e);
+            return null;
+        }
+    }
+
+    @Nullable
+    private static byte[] encode(@NotNull KotlinClassContents contents, @NotNull VirtualFile file) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream output = new DataOutputStream(bytes);
+            contents.write(output);
+            output.close();
+            return bytes.toByteArray();
+        }
+        catch (Exception e) {
+            // E.g. a constant of an unsupported type, the class will be read from the file every time
+            LOG.warn("Could not cache the contents of " + file.getPath(), e);
+            return null;
+        }
+    }
+
+    @NotNull
+    private JarContents getJarContents(@NotNull String jarPath) {
+        JarContents jar = jars.get(jarPath);
+        if (jar != null) return jar;
+
+        // The jar is loaded before it's published, so other threads never see it half-loaded
+        jar = new JarContents(jarPath, getCacheFile(jarPath));
+        jar.load();
+        JarContents oldJar = jars.putIfAbsent(jarPath, jar);
+        return oldJar != null ? oldJar : jar;
+    }
+
+    @NotNull
+    private File getCacheFile(@NotNull String jarPath) {
+        String jarName = jarPath.substring(jarPath.lastIndexOf('/') + 1);
+        return new File(directory, jarName + "-" + Integer.toHexString(jarPath.hashCode()) + CACHE_FILE_EXTENSION);
+    }
+
+    /**
+     * Writes classes read during this compilation to disk. Failures are logged and don't affect the compilation
+     */
+    public void save() {
+        for (JarContents jar : jars.values()) {
+            try {
+                jar.save();
+            }
+            catch (IOException e) {
+                LOG.warn("Could not save Kotlin classes of " + jar.jarPath + " to " + jar.cacheFile, e);
+            }
+        }
+    }
+
+    private static long checksum(@NotNull byte[] data, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, length);
+        return crc.getValue();
+    }
+
+    private static class JarContents {
+        private final String jarPath;
+        private final File cacheFile;
+        private final long jarLength;
+        private final long jarTimeStamp;
+
+        // Entry name -> offset of its encoded contents in storedData, the contents are prefixed with their length
+        private final Map<String, Integer> storedOffsets = new HashMap<String, Integer>();
+        private byte[] storedData = null;
+
+        // Entry name -> encoded contents or NOT_KOTLIN, for entries read during this compilation
+        private final Map<String, byte[]> added = new LinkedHashMap<String, byte[]>();
+
+        private JarContents(@NotNull String jarPath, @NotNull File cacheFile) {
+            File jarFile = new File(jarPath);
+            this.jarPath = jarPath;
+            this.cacheFile = cacheFile;
+            this.jarLength = jarFile.length();
+            this.jarTimeStamp = jarFile.lastModified();
+        }
+
+        public synchronized void load() {
+            if (!cacheFile.isFile()) return;
+
+            try {
+                byte[] data = FileUtil.loadFileBytes(cacheFile);
+                int length = data.length - CHECKSUM_LENGTH;
+                if (length < 0) throw new IOException("The file is too short: " + data.length);
+
+                long storedChecksum = new DataInputStream(new ByteArrayInputStream(data, length, CHECKSUM_LENGTH)).readLong();
+                if (storedChecksum != checksum(data, length)) throw new IOException("Checksum mismatch");
+
+                DataInputStream input = new DataInputStream(new ByteArrayInputStream(data, 0, length));
+                if (input.readInt() != FORMAT_VERSION ||
+                    !jarPath.equals(KotlinClassContents.readString(input)) ||
+                    input.readLong() != jarLength ||
+                    input.readLong() != jarTimeStamp) {
+                    return;
+                }
+
+                int count = input.readInt();
+                for (int i = 0; i < count; i++) {
+                    String entryName = KotlinClassContents.readString(input);
+                    int offset = length - input.available();
+                    int entryLength = input.readInt();
+                    if (entryLength < 0 || entryLength > input.available()) {
+                        throw new IOException("Invalid length of " + entryName + ": " + entryLength);
+                    }
+                    storedOffsets.put(entryName, offset);
+                    input.skipBytes(entryLength);
+                }
+                storedData = data;
+            }
+            catch (Exception e) {
+                // The file is corrupted, it will be rewritten on save
+                LOG.warn("Could not load Kotlin classes of " + jarPath + " from " + cacheFile, e);
+                storedOffsets.clear();
+                storedData = null;
+            }
+        }
+
+        @Nullable
+        public synchronized byte[] get(@NotNull String entryName) {
+            byte[] result = added.get(entryName);
+            if (result != null) return result;
+
+            Integer offset = storedOffsets.get(entryName);
+            return offset == null ? null : getStored(offset);
+        }
+
+        @NotNull
+        private byte[] getStored(int offset) {
+            int length = ((storedData[offset] & 0xFF) << 24) | ((storedData[offset + 1] & 0xFF) << 16) |
+                         ((storedData[offset + 2] & 0xFF) << 8) | (storedData[offset + 3] & 0xFF);
+            if (length == 0) return NOT_KOTLIN;
+
+            byte[] result = new byte[length];
+            System.arraycopy(storedData, offset + 4, result, 0, length);
+            return result;
+        }
+
+        public synchronized void put(@NotNull String entryName, @NotNull byte[] contents) {
+            added.put(entryName, contents);
+        }
+
+        public synchronized void save() throws IOException {
+            if (added.isEmpty()) return;
+
+            Map<String, byte[]> entries = new LinkedHashMap<String, byte[]>();
+            for (Map.Entry<String, Integer> entry : storedOffsets.entrySet()) {
+                entries.put(entry.getKey(), getStored(entry.getValue()));
+            }
+            entries.putAll(added);
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream output = new DataOutputStream(bytes);
+            output.writeInt(FORMAT_VERSION);
+            KotlinClassContents.writeString(output, jarPath);
+            output.writeLong(jarLength);
+            output.writeLong(jarTimeStamp);
+            output.writeInt(entries.size());
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                KotlinClassContents.writeString(output, entry.getKey());
+                output.writeInt(entry.getValue().length);
+                output.write(entry.getValue());
+            }
+            byte[] data = bytes.toByteArray();
+            output.writeLong(checksum(data, data.length));
+            output.close();
+
+            File tmpFile = new File(cacheFile.getPath() + ".tmp");
+            FileUtil.createParentDirs(tmpFile);
+            FileUtil.writeToFile(tmpFile, bytes.toByteArray());
+
+            // Another compiler process may be saving the same file, whichever is the last to rename wins
+            FileUtil.rename(tmpFile, cacheFile);
+        }
+    }
+}
@@ -19,22 +19,14 @@ package org.jetbrains.jet.lang.resolve.kotlin;
 import com.intellij.ide.highlighter.JavaClassFileType;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.util.Pair;
-import com.intellij.openapi.util.Ref;
 import com.intellij.openapi.vfs.VirtualFile;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.jet.lang.resolve.java.JvmClassName;
 import org.jetbrains.jet.lang.resolve.kotlin.header.KotlinClassHeader;
-import org.jetbrains.jet.lang.resolve.kotlin.header.ReadKotlinClassHeaderAnnotationVisitor;
-import org.jetbrains.jet.lang.resolve.name.Name;
 import org.jetbrains.jet.utils.UtilsPackage;
-import org.jetbrains.org.objectweb.asm.ClassReader;
-import org.jetbrains.org.objectweb.asm.ClassVisitor;
-import org.jetbrains.org.objectweb.asm.FieldVisitor;
-import org.jetbrains.org.objectweb.asm.MethodVisitor;
 
-import static org.jetbrains.org.objectweb.asm.ClassReader.*;
-import static org.jetbrains.org.objectweb.asm.Opcodes.ASM5;
+import java.lang.ref.SoftReference;
 
 public class VirtualFileKotlinClass implements KotlinJvmBinaryClass {
     private final static Logger LOG = Logger.getInstance(VirtualFileKotlinClass.class);
@@ -43,53 +35,45 @@ public class VirtualFileKotlinClass implements KotlinJvmBinaryClass {
     private final JvmClassName className;
     private final KotlinClassHeader classHeader;
 
-    private VirtualFileKotlinClass(@NotNull VirtualFile file, @NotNull JvmClassName className, @NotNull KotlinClassHeader classHeader) {
+    // Contents are read from here instead of the file if they're collected, for classes from jars with cached contents
+    @Nullable
+    private final KotlinClassHeaderDiskCache diskCache;
+
+    // Annotations and members recorded when the header was read. They are usually requested once, soon after the class is found,
+    // so they're kept softly and read again if they're requested after being collected (or weren't read at all)
+    private volatile SoftReference<KotlinClassContents> contents;
+
+    private VirtualFileKotlinClass(
+            @NotNull VirtualFile file,
+            @NotNull JvmClassName className,
+            @NotNull KotlinClassHeader classHeader,
+            @Nullable KotlinClassContents contents,
+            @Nullable KotlinClassHeaderDiskCache diskCache
+    ) {
         this.file = file;
         this.className = className;
         this.classHeader = classHeader;
+        this.diskCache = diskCache;
+        this.contents = new SoftReference<KotlinClassContents>(contents);
     }
 
     @Nullable
     public static Pair<JvmClassName, KotlinClassHeader> readClassNameAndHeader(@NotNull byte[] fileContents) {
-        final ReadKotlinClassHeaderAnnotationVisitor readHeaderVisitor = new ReadKotlinClassHeaderAnnotationVisitor();
-        final Ref<JvmClassName> classNameRef = Ref.create();
-        new ClassReader(fileContents).accept(new ClassVisitor(ASM5) {
-            @Override
-            public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
-                classNameRef.set(JvmClassName.byInternalName(name));
-            }
-
-            @Override
-            public org.jetbrains.org.objectweb.asm.AnnotationVisitor visitAnnotation(String desc, boolean visible) {
-                return convertAnnotationVisitor(readHeaderVisitor, desc);
-            }
-
-            @Override
-            public void visitEnd() {
-                readHeaderVisitor.visitEnd();
-            }
-        }, SKIP_CODE | SKIP_DEBUG | SKIP_FRAMES);
+        KotlinClassContents contents = KotlinClassContents.read(fileContents, false);
+        if (contents == null) return null;
 
-        JvmClassName className = classNameRef.get();
-        if (className == null) return null;
-
-        KotlinClassHeader header = readHeaderVisitor.createHeader();
+        KotlinClassHeader header = contents.getClassHeader();
         if (header == null) return null;
 
-        return Pair.create(className, header);
+        return Pair.create(contents.getClassName(), header);
     }
 
     @Nullable
     /* package */ static VirtualFileKotlinClass create(@NotNull VirtualFile file) {
         assert file.getFileType() == JavaClassFileType.INSTANCE : "Trying to read binary data from a non-class file " + file;
         try {
-            byte[] fileContents = file.contentsToByteArray();
-            Pair<JvmClassName, KotlinClassHeader> nameAndHeader = readClassNameAndHeader(fileContents);
-            if (nameAndHeader == null) {
-                return null;
-            }
-
-            return new VirtualFileKotlinClass(file, nameAndHeader.first, nameAndHeader.second);
+            KotlinClassContents contents = KotlinClassContents.read(file.contentsToByteArray(), true);
+            return contents == null ? null : create(file, contents);
         }
         catch (Throwable e) {
             LOG.warn(renderFileReadingErrorMessage(file));
@@ -97,6 +81,26 @@ public class VirtualFileKotlinClass implements KotlinJvmBinaryClass {
         }
     }
 
+    @Nullable
+    /* package */ static VirtualFileKotlinClass create(@NotNull VirtualFile file, @NotNull KotlinClassContents contents) {
+        return create(file, contents, null);
+    }
+
+    /**
+     * @param diskCache the cache to read the contents from if they're collected, instead of reading the file again
+     */
+    @Nullable
+    /* package */ static VirtualFileKotlinClass create(
+            @NotNull VirtualFile file,
+            @NotNull KotlinClassContents contents,
+            @Nullable KotlinClassHeaderDiskCache diskCache
+    ) {
+        KotlinClassHeader header = contents.getClassHeader();
+        if (header == null) return null;
+
+        return new VirtualFileKotlinClass(file, contents.getClassName(), header, contents, diskCache);
+    }
+
     @Nullable
     public static KotlinClassHeader readClassHeader(@NotNull byte[] fileContents) {
         Pair<JvmClassName, KotlinClassHeader> pair = readClassNameAndHeader(fileContents);
@@ -120,131 +124,39 @@ public class VirtualFileKotlinClass implements KotlinJvmBinaryClass {
         return classHeader;
     }
 
-    @Override
-    public void loadClassAnnotations(@NotNull final AnnotationVisitor annotationVisitor) {
-        try {
-            new ClassReader(file.contentsToByteArray()).accept(new ClassVisitor(ASM5) {
-                @Override
-                public org.jetbrains.org.objectweb.asm.AnnotationVisitor visitAnnotation(String desc, boolean visible) {
-                    return convertAnnotationVisitor(annotationVisitor, desc);
-                }
+    @NotNull
+    private KotlinClassContents getContents() {
+        KotlinClassContents result = contents.get();
+        if (result != null) return result;
+
+        result = diskCache != null ? diskCache.readContents(file) : null;
+        if (result != null) {
+            contents = new SoftReference<KotlinClassContents>(result);
+            return result;
+        }
 
-                @Override
-                public void visitEnd() {
-                    annotationVisitor.visitEnd();
-                }
-            }, SKIP_CODE | SKIP_DEBUG | SKIP_FRAMES);
+        try {
+            result = KotlinClassContents.read(file.contentsToByteArray(), true);
         }
         catch (Throwable e) {
             LOG.error(renderFileReadingErrorMessage(file), e);
             throw UtilsPackage.rethrow(e);
         }
-    }
-
-    @Nullable
-    private static org.jetbrains.org.objectweb.asm.AnnotationVisitor convertAnnotationVisitor(@NotNull AnnotationVisitor visitor, @NotNull String desc) {
-        AnnotationArgumentVisitor v = visitor.visitAnnotation(classNameFromAsmDesc(desc));
-        return v == null ? null : convertAnnotationVisitor(v);
-    }
-
-    @NotNull
-    private static org.jetbrains.org.objectweb.asm.AnnotationVisitor convertAnnotationVisitor(@NotNull final AnnotationArgumentVisitor v) {
-        return new org.jetbrains.org.objectweb.asm.AnnotationVisitor(ASM5) {
-            @Override
-            public void visit(String name, Object value) {
-                v.visit(name == null ? null : Name.identifier(name), value);
-            }
-
-            @Override
-            public org.jetbrains.org.objectweb.asm.AnnotationVisitor visitArray(String name) {
-                final AnnotationArrayArgumentVisitor arv = v.visitArray(Name.guess(name));
-                return arv == null ? null : new org.jetbrains.org.objectweb.asm.AnnotationVisitor(ASM5) {
-                    @Override
-                    public void visit(String name, Object value) {
-                        arv.visit(value);
-                    }
-
-                    @Override
-                    public void visitEnum(String name, String desc, String value) {
-                        arv.visitEnum(classNameFromAsmDesc(desc), Name.identifier(value));
-                    }
-
-                    @Override
-                    public void visitEnd() {
-                        arv.visitEnd();
-                    }
-                };
-            }
-
-            @Override
-            public void visitEnum(String name, String desc, String value) {
-                v.visitEnum(Name.identifier(name), classNameFromAsmDesc(desc), Name.identifier(value));
-            }
-
-            @Override
-            public void visitEnd() {
-                v.visitEnd();
-            }
-        };
+        if (result == null) {
+            throw new IllegalStateException(renderFileReadingErrorMessage(file));
+        }
+        contents = new SoftReference<KotlinClassContents>(result);
+        return result;
     }
 
     @Override
-    public void visitMembers(@NotNull final MemberVisitor memberVisitor) {
-        try {
-            new ClassReader(file.contentsToByteArray()).accept(new ClassVisitor(ASM5) {
-                @Override
-                public FieldVisitor visitField(int access, String name, String desc, String signature, Object value) {
-                    final AnnotationVisitor v = memberVisitor.visitField(Name.guess(name), desc, value);
-                    if (v == null) return null;
-
-                    return new FieldVisitor(ASM5) {
-                        @Override
-                        public org.jetbrains.org.objectweb.asm.AnnotationVisitor visitAnnotation(String desc, boolean visible) {
-                            return convertAnnotationVisitor(v, desc);
-                        }
-
-                        @Override
-                        public void visitEnd() {
-                            v.visitEnd();
-                        }
-                    };
-                }
-
-                @Override
-                public MethodVisitor visitMethod(int access, String name, String desc, String signature, String[] exceptions) {
-                    final MethodAnnotationVisitor v = memberVisitor.visitMethod(Name.guess(name), desc);
-                    if (v == null) return null;
-
-                    return new MethodVisitor(ASM5) {
-                        @Override
-                        public org.jetbrains.org.objectweb.asm.AnnotationVisitor visitAnnotation(String desc, boolean visible) {
-                            return convertAnnotationVisitor(v, desc);
-                        }
-
-                        @Override
-                        public org.jetbrains.org.objectweb.asm.AnnotationVisitor visitParameterAnnotation(int parameter, String desc, boolean visible) {
-                            AnnotationArgumentVisitor av = v.visitParameterAnnotation(parameter, classNameFromAsmDesc(desc));
-                            return av == null ? null : convertAnnotationVisitor(av);
-                        }
-
-                        @Override
-                        public void visitEnd() {
-                            v.visitEnd();
-                        }
-                    };
-                }
-            }, SKIP_CODE | SKIP_DEBUG | SKIP_FRAMES);
-        }
-        catch (Throwable e) {
-            LOG.error(renderFileReadingErrorMessage(file), e);
-            throw UtilsPackage.rethrow(e);
-        }
+    public void loadClassAnnotations(@NotNull AnnotationVisitor annotationVisitor) {
+        getContents().loadClassAnnotations(annotationVisitor);
     }
 
-    @NotNull
-    private static JvmClassName classNameFromAsmDesc(@NotNull String desc) {
-        assert desc.startsWith("L") && desc.endsWith(";") : "Not a JVM descriptor: " + desc;
-        return JvmClassName.byInternalName(desc.substring(1, desc.length() - 1));
+    @Override
+    public void visitMembers(@NotNull MemberVisitor memberVisitor) {
+        getContents().visitMembers(memberVisitor);
     }
 
     @NotNull
@@ -16,18 +16,28 @@
 
 package org.jetbrains.jet.lang.resolve.kotlin
 
+import com.intellij.openapi.vfs.VirtualFile
 import org.jetbrains.jet.lang.resolve.java.structure.JavaClass
 import org.jetbrains.jet.lang.resolve.java.structure.impl.JavaClassImpl
+import org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles.BinaryJavaClass
 import org.jetbrains.jet.lang.resolve.name.FqName
 import org.jetbrains.kotlin.util.sure
 
 public abstract class VirtualFileKotlinClassFinder() : VirtualFileFinder {
     override fun findKotlinClass(fqName: FqName): KotlinJvmBinaryClass? {
         val file = findVirtualFileWithHeader(fqName) ?: return null
+        return getKotlinBinaryClass(file)
+    }
+
+    protected open fun getKotlinBinaryClass(file: VirtualFile): KotlinJvmBinaryClass? {
         return KotlinBinaryClassCache.getKotlinBinaryClass(file)
     }
 
     override fun findKotlinClass(javaClass: JavaClass): KotlinJvmBinaryClass? {
+        if (javaClass is BinaryJavaClass) {
+            return getKotlinBinaryClass(javaClass.getVirtualFile())
+        }
+
         var file = (javaClass as JavaClassImpl).getPsi().getContainingFile()!!.getVirtualFile() ?: return null
         if (javaClass.getOuterClass() != null) {
             // For nested classes we get a file of the containing class, to get the actual class file for A.B.C,
@@ -35,7 +45,7 @@ public abstract class VirtualFileKotlinClassFinder() : VirtualFileFinder {
             file = file.getParent()!!.findChild(classFileName(javaClass) + ".class").sure("Virtual file not found for $javaClass")
         }
 
-        return KotlinBinaryClassCache.getKotlinBinaryClass(file)
+        return getKotlinBinaryClass(file)
     }
 
     private fun classFileName(jClass: JavaClass): String {
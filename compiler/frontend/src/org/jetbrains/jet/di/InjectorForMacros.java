@@ -38,6 +38,7 @@ import org.jetbrains.jet.lang.reflect.ReflectionTypes;
 import org.jetbrains.jet.lang.resolve.calls.ArgumentTypeResolver;
 import org.jetbrains.jet.lang.resolve.calls.CallCompleter;
 import org.jetbrains.jet.lang.resolve.calls.CandidateResolver;
+import org.jetbrains.jet.lang.types.checker.SubtypeCache;
 import org.jetbrains.annotations.NotNull;
 import javax.annotation.PreDestroy;
 
@@ -67,6 +68,7 @@ public class InjectorForMacros {
     private final ArgumentTypeResolver argumentTypeResolver;
     private final CallCompleter callCompleter;
     private final CandidateResolver candidateResolver;
+    private final SubtypeCache subtypeCache;
     
     public InjectorForMacros(
         @NotNull Project project,
@@ -93,6 +95,7 @@ public class InjectorForMacros {
         this.reflectionTypes = new ReflectionTypes(moduleDescriptor);
         this.argumentTypeResolver = new ArgumentTypeResolver();
         this.candidateResolver = new CandidateResolver();
+        this.subtypeCache = new SubtypeCache();
         this.callCompleter = new CallCompleter(argumentTypeResolver, candidateResolver);
 
         this.expressionTypingServices.setAnnotationResolver(annotationResolver);
@@ -145,6 +148,7 @@ public class InjectorForMacros {
         argumentTypeResolver.setTypeResolver(typeResolver);
 
         candidateResolver.setArgumentTypeResolver(argumentTypeResolver);
+        candidateResolver.setSubtypeCache(subtypeCache);
 
     }
     
@@ -16,14 +16,12 @@
 
 package org.jetbrains.jet.lang.cfg
 
-import org.jetbrains.jet.lang.cfg.pseudocode.instructions.Instruction
 import org.jetbrains.jet.lang.cfg.pseudocode.Pseudocode
 import org.jetbrains.jet.lang.descriptors.VariableDescriptor
 import org.jetbrains.jet.lang.resolve.BindingContext
 import org.jetbrains.jet.lang.cfg.pseudocodeTraverser.*
 import org.jetbrains.jet.lang.cfg.pseudocode.instructions.LexicalScope
 import org.jetbrains.jet.lang.cfg.pseudocode.instructions.special.VariableDeclarationInstruction
-import org.jetbrains.jet.utils.addToStdlib.*
 
 import java.util.*
 
@@ -33,42 +31,6 @@ public class PseudocodeVariableDataCollector(
 ) {
     val lexicalScopeVariableInfo = computeLexicalScopeVariableInfo(pseudocode)
 
-    suppress("UNCHECKED_CAST")
-    public fun <D> collectData(
-            traversalOrder: TraversalOrder,
-            mergeDataWithLocalDeclarations: Boolean,
-            instructionDataMergeStrategy: InstructionDataMergeStrategy<D>
-    ): MutableMap<Instruction, Edges<MutableMap<VariableDescriptor, D>>> {
-        val result = pseudocode.collectData(
-                traversalOrder, mergeDataWithLocalDeclarations,
-                //see KT-4605
-                instructionDataMergeStrategy as
-                    (Instruction, Collection<Map<VariableDescriptor, D>>) -> Edges<Map<VariableDescriptor, D>>,
-                { (from, to, data) -> filterOutVariablesOutOfScope(from, to, data)},
-                Collections.emptyMap<VariableDescriptor, D>())
-        //see KT-4605
-        return result as MutableMap<Instruction, Edges<MutableMap<VariableDescriptor, D>>>
-    }
-
-    private fun <D> filterOutVariablesOutOfScope(
-            from: Instruction,
-            to: Instruction,
-            data: Map<VariableDescriptor, D>
-    ): Map<VariableDescriptor, D> {
-        // If an edge goes from deeper lexical scope to a less deep one, this means that it points outside of the deeper scope.
-        val toDepth = to.lexicalScope.depth
-        if (toDepth >= from.lexicalScope.depth) return data
-
-        // Variables declared in an inner (deeper) scope can't be accessed from an outer scope.
-        // Thus they can be filtered out upon leaving the inner scope.
-        return data.filterKeys_tmp { variable ->
-            val lexicalScope = lexicalScopeVariableInfo.declaredIn[variable]
-            // '-1' for variables declared outside this pseudocode
-            val depth = lexicalScope?.depth ?: -1
-            depth <= toDepth
-        }
-    }
-
     fun computeLexicalScopeVariableInfo(pseudocode: Pseudocode): LexicalScopeVariableInfo {
         val lexicalScopeVariableInfo = LexicalScopeVariableInfoImpl()
         pseudocode.traverse(TraversalOrder.FORWARD, { instruction ->
@@ -88,10 +50,6 @@ public class PseudocodeVariableDataCollector(
     }
 }
 
-//todo may be a type alias
-trait InstructionDataMergeStrategy<D> :
-  (Instruction, Collection<MutableMap<VariableDescriptor, D>>) -> Edges<MutableMap<VariableDescriptor, D>>
-
 public trait LexicalScopeVariableInfo {
     val declaredIn : Map<VariableDescriptor, LexicalScope>
     val scopeVariables : Map<LexicalScope, Collection<VariableDescriptor>>
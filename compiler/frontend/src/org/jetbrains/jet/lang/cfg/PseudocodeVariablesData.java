@@ -1,5 +1,5 @@
 /*
- * Copyright 2010-2013 JetBrains s.r.o.
+ * Copyright 2010-2014 JetBrains s.r.o.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.jetbrains.jet.lang.cfg;
 
+import com.google.common.base.Function;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import kotlin.Function1;
@@ -38,10 +39,7 @@ import org.jetbrains.jet.lang.psi.JetDeclaration;
 import org.jetbrains.jet.lang.psi.JetProperty;
 import org.jetbrains.jet.lang.resolve.BindingContext;
 
-import java.util.Collection;
-import java.util.Collections;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 
 import static org.jetbrains.jet.lang.cfg.pseudocodeTraverser.TraversalOrder.BACKWARD;
 import static org.jetbrains.jet.lang.cfg.pseudocodeTraverser.TraversalOrder.FORWARD;
@@ -54,6 +52,7 @@ public class PseudocodeVariablesData {
     private final Map<Pseudocode, Set<VariableDescriptor>> declaredVariablesForDeclaration = Maps.newHashMap();
     private final Map<Pseudocode, Set<VariableDescriptor>> usedVariablesForDeclaration = Maps.newHashMap();
 
+    private VariableDataFlowSolver dataFlowSolver;
     private Map<Instruction, Edges<Map<VariableDescriptor, VariableInitState>>> variableInitializers;
 
     public PseudocodeVariablesData(@NotNull Pseudocode pseudocode, @NotNull BindingContext bindingContext) {
@@ -147,28 +146,25 @@ public class PseudocodeVariablesData {
     }
 
     @NotNull
-    private Map<Instruction, Edges<Map<VariableDescriptor, VariableInitState>>> computeVariableInitializers() {
+    private VariableDataFlowSolver getDataFlowSolver() {
+        if (dataFlowSolver == null) {
+            dataFlowSolver = new VariableDataFlowSolver(pseudocode, bindingContext, getLexicalScopeVariableInfo());
+        }
+        return dataFlowSolver;
+    }
 
-        final LexicalScopeVariableInfo lexicalScopeVariableInfo = pseudocodeVariableDataCollector.getLexicalScopeVariableInfo();
-
-        return pseudocodeVariableDataCollector.collectData(
-                FORWARD, /*mergeDataWithLocalDeclarations=*/ false,
-                new InstructionDataMergeStrategy<VariableInitState>() {
-                    @NotNull
-                    @Override
-                    public Edges<Map<VariableDescriptor, VariableInitState>> invoke(
-                            @NotNull Instruction instruction,
-                            @NotNull Collection<? extends Map<VariableDescriptor, VariableInitState>> incomingEdgesData
-                    ) {
-
-                        Map<VariableDescriptor, VariableInitState> enterInstructionData =
-                                mergeIncomingEdgesDataForInitializers(incomingEdgesData);
-                        Map<VariableDescriptor, VariableInitState> exitInstructionData = addVariableInitStateFromCurrentInstructionIfAny(
-                                instruction, enterInstructionData, lexicalScopeVariableInfo);
-                        return new Edges<Map<VariableDescriptor, VariableInitState>>(enterInstructionData, exitInstructionData);
-                    }
-                }
-        );
+    @NotNull
+    private Map<Instruction, Edges<Map<VariableDescriptor, VariableInitState>>> computeVariableInitializers() {
+        final VariableDataFlowSolver solver = getDataFlowSolver();
+        Map<Instruction, Edges<long[]>> data = solver.solve(
+                pseudocode, FORWARD, /*mergeDataWithLocalDeclarations=*/ false, new VariableInitializersAnalysis(solver));
+
+        return toVariableDataMaps(data, new Function<long[], Map<VariableDescriptor, VariableInitState>>() {
+            @Override
+            public Map<VariableDescriptor, VariableInitState> apply(long[] input) {
+                return new VariableInitStateMap(solver, input);
+            }
+        });
     }
 
     public static VariableInitState getDefaultValueForInitializers(
@@ -184,120 +180,303 @@ public class PseudocodeVariablesData {
         return VariableInitState.create(/*isInitialized=*/declaredOutsideThisDeclaration);
     }
 
-    @NotNull
-    private static Map<VariableDescriptor, VariableInitState> mergeIncomingEdgesDataForInitializers(
-            @NotNull Collection<? extends Map<VariableDescriptor, VariableInitState>> incomingEdgesData
-    ) {
-        Set<VariableDescriptor> variablesInScope = Sets.newHashSet();
-        for (Map<VariableDescriptor, VariableInitState> edgeData : incomingEdgesData) {
-            variablesInScope.addAll(edgeData.keySet());
-        }
-
-        Map<VariableDescriptor, VariableInitState> enterInstructionData = Maps.newHashMap();
-        for (VariableDescriptor variable : variablesInScope) {
-            boolean isInitialized = true;
-            boolean isDeclared = true;
-            for (Map<VariableDescriptor, VariableInitState> edgeData : incomingEdgesData) {
-                VariableInitState initState = edgeData.get(variable);
-                if (initState != null) {
-                    if (!initState.isInitialized) {
-                        isInitialized = false;
-                    }
-                    if (!initState.isDeclared) {
-                        isDeclared = false;
+    // Planes of the initializers data, a variable is mentioned in the data iff its INIT_PRESENT bit is set
+    private static final int INIT_PRESENT = 0;
+    private static final int INIT_INITIALIZED = 1;
+    private static final int INIT_DECLARED = 2;
+
+    private class VariableInitializersAnalysis extends VariableDataFlowSolver.Analysis {
+        private final VariableDataFlowSolver solver;
+
+        private VariableInitializersAnalysis(@NotNull VariableDataFlowSolver solver) {
+            super(3);
+            this.solver = solver;
+        }
+
+        @NotNull
+        @Override
+        protected long[] merge(@NotNull Collection<long[]> incomingEdgesData, int wordCount) {
+            // A variable is initialized (declared) if it is initialized (declared) on each incoming edge where it is mentioned
+            long[] enterInstructionData = new long[3 * wordCount];
+            for (int word = 0; word < wordCount; word++) {
+                long present = 0;
+                long notInitialized = 0;
+                long notDeclared = 0;
+                for (long[] edgeData : incomingEdgesData) {
+                    long edgePresent = edgeData[INIT_PRESENT * wordCount + word];
+                    present |= edgePresent;
+                    notInitialized |= edgePresent & ~edgeData[INIT_INITIALIZED * wordCount + word];
+                    notDeclared |= edgePresent & ~edgeData[INIT_DECLARED * wordCount + word];
+                }
+                enterInstructionData[INIT_PRESENT * wordCount + word] = present;
+                enterInstructionData[INIT_INITIALIZED * wordCount + word] = present & ~notInitialized;
+                enterInstructionData[INIT_DECLARED * wordCount + word] = present & ~notDeclared;
+            }
+            return enterInstructionData;
+        }
+
+        @NotNull
+        @Override
+        protected long[] transfer(@NotNull Instruction instruction, @NotNull long[] enterInstructionData, int wordCount) {
+            if (!(instruction instanceof WriteValueInstruction) && !(instruction instanceof VariableDeclarationInstruction)) {
+                return enterInstructionData;
+            }
+            int variable = solver.getVariableIndex(instruction, false);
+            if (variable < 0) {
+                return enterInstructionData;
+            }
+            boolean isPresent = VariableDataFlowSolver.isSet(enterInstructionData, INIT_PRESENT, variable, wordCount);
+            boolean isInitialized;
+            boolean isDeclared;
+            if (instruction instanceof WriteValueInstruction) {
+                isInitialized = true;
+                isDeclared = ((WriteValueInstruction) instruction).getElement() instanceof JetProperty
+                             || (isPresent && VariableDataFlowSolver.isSet(enterInstructionData, INIT_DECLARED, variable, wordCount));
+            }
+            else { // instruction instanceof VariableDeclarationInstruction
+                if (isPresent) {
+                    isInitialized = VariableDataFlowSolver.isSet(enterInstructionData, INIT_INITIALIZED, variable, wordCount);
+                    if (isInitialized && VariableDataFlowSolver.isSet(enterInstructionData, INIT_DECLARED, variable, wordCount)) {
+                        return enterInstructionData;
                     }
                 }
+                else {
+                    isInitialized = getDefaultValueForInitializers(
+                            solver.getVariable(variable), instruction, solver.getLexicalScopeVariableInfo()).isInitialized;
+                }
+                isDeclared = true;
             }
-            enterInstructionData.put(variable, VariableInitState.create(isInitialized, isDeclared));
+            long[] exitInstructionData = enterInstructionData.clone();
+            VariableDataFlowSolver.set(exitInstructionData, INIT_PRESENT, variable, wordCount, true);
+            VariableDataFlowSolver.set(exitInstructionData, INIT_INITIALIZED, variable, wordCount, isInitialized);
+            VariableDataFlowSolver.set(exitInstructionData, INIT_DECLARED, variable, wordCount, isDeclared);
+            return exitInstructionData;
         }
-        return enterInstructionData;
     }
 
+// variable use
+
     @NotNull
-    private Map<VariableDescriptor, VariableInitState> addVariableInitStateFromCurrentInstructionIfAny(
-            @NotNull Instruction instruction,
-            @NotNull Map<VariableDescriptor, VariableInitState> enterInstructionData,
-            @NotNull LexicalScopeVariableInfo lexicalScopeVariableInfo
-    ) {
-        if (!(instruction instanceof WriteValueInstruction) && !(instruction instanceof VariableDeclarationInstruction)) {
-            return enterInstructionData;
+    public Map<Instruction, Edges<Map<VariableDescriptor, VariableUseState>>> getVariableUseStatusData() {
+        final VariableDataFlowSolver solver = getDataFlowSolver();
+        Map<Instruction, Edges<long[]>> data = solver.solve(
+                pseudocode, BACKWARD, /*mergeDataWithLocalDeclarations=*/ true, new VariableUseStatusAnalysis(solver));
+
+        return toVariableDataMaps(data, new Function<long[], Map<VariableDescriptor, VariableUseState>>() {
+            @Override
+            public Map<VariableDescriptor, VariableUseState> apply(long[] input) {
+                return new VariableUseStateMap(solver, input);
+            }
+        });
+    }
+
+    // Planes of the use status data: a variable has a state iff its USE_WRITTEN bit is set (UNUSED is never stored),
+    // the other bits tell whether its state has at least the priority of WRITTEN_AFTER_READ and READ
+    private static final int USE_WRITTEN = 0;
+    private static final int USE_WRITTEN_AFTER_READ = 1;
+    private static final int USE_READ = 2;
+
+    private static class VariableUseStatusAnalysis extends VariableDataFlowSolver.Analysis {
+        private final VariableDataFlowSolver solver;
+
+        private VariableUseStatusAnalysis(@NotNull VariableDataFlowSolver solver) {
+            super(3);
+            this.solver = solver;
         }
-        VariableDescriptor variable = PseudocodeUtil.extractVariableDescriptorIfAny(instruction, false, bindingContext);
-        if (variable == null) {
-            return enterInstructionData;
+
+        @NotNull
+        @Override
+        protected long[] merge(@NotNull Collection<long[]> incomingEdgesData, int wordCount) {
+            // The state with the highest priority wins, which is a union of the planes
+            long[] enterResult = new long[3 * wordCount];
+            for (long[] edgeData : incomingEdgesData) {
+                for (int i = 0; i < enterResult.length; i++) {
+                    enterResult[i] |= edgeData[i];
+                }
+            }
+            return enterResult;
         }
-        Map<VariableDescriptor, VariableInitState> exitInstructionData = Maps.newHashMap(enterInstructionData);
-        if (instruction instanceof WriteValueInstruction) {
-            VariableInitState enterInitState = enterInstructionData.get(variable);
-            VariableInitState initializationAtThisElement =
-                    VariableInitState.create(((WriteValueInstruction) instruction).getElement() instanceof JetProperty, enterInitState);
-            exitInstructionData.put(variable, initializationAtThisElement);
-        }
-        else { // instruction instanceof VariableDeclarationInstruction
-            VariableInitState enterInitState = enterInstructionData.get(variable);
-            if (enterInitState == null) {
-                enterInitState = getDefaultValueForInitializers(variable, instruction, lexicalScopeVariableInfo);
+
+        @NotNull
+        @Override
+        protected long[] transfer(@NotNull Instruction instruction, @NotNull long[] enterResult, int wordCount) {
+            if (!(instruction instanceof ReadValueInstruction) && !(instruction instanceof WriteValueInstruction)) {
+                return enterResult;
+            }
+            int variable = solver.getVariableIndex(instruction, true);
+            if (variable < 0) {
+                return enterResult;
             }
-            if (enterInitState == null || !enterInitState.isInitialized || !enterInitState.isDeclared) {
-                boolean isInitialized = enterInitState != null && enterInitState.isInitialized;
-                VariableInitState variableDeclarationInfo = VariableInitState.create(isInitialized, true);
-                exitInstructionData.put(variable, variableDeclarationInfo);
+            long[] exitResult = enterResult.clone();
+            if (instruction instanceof ReadValueInstruction) {
+                VariableDataFlowSolver.set(exitResult, USE_WRITTEN, variable, wordCount, true);
+                VariableDataFlowSolver.set(exitResult, USE_WRITTEN_AFTER_READ, variable, wordCount, true);
+                VariableDataFlowSolver.set(exitResult, USE_READ, variable, wordCount, true);
             }
+            else { //instruction instanceof WriteValueInstruction
+                // UNUSED and ONLY_WRITTEN_NEVER_READ become ONLY_WRITTEN_NEVER_READ, WRITTEN_AFTER_READ and READ become WRITTEN_AFTER_READ
+                VariableDataFlowSolver.set(exitResult, USE_WRITTEN, variable, wordCount, true);
+                VariableDataFlowSolver.set(exitResult, USE_READ, variable, wordCount, false);
+            }
+            return exitResult;
         }
-        return exitInstructionData;
     }
 
-// variable use
+    @NotNull
+    private static <S> Map<Instruction, Edges<Map<VariableDescriptor, S>>> toVariableDataMaps(
+            @NotNull Map<Instruction, Edges<long[]>> data,
+            @NotNull Function<long[], Map<VariableDescriptor, S>> createMap
+    ) {
+        // Instructions which don't change the data share the same array, and thus the same map
+        Map<long[], Map<VariableDescriptor, S>> maps = new IdentityHashMap<long[], Map<VariableDescriptor, S>>();
+        Map<Instruction, Edges<Map<VariableDescriptor, S>>> result = new LinkedHashMap<Instruction, Edges<Map<VariableDescriptor, S>>>();
+        for (Map.Entry<Instruction, Edges<long[]>> entry : data.entrySet()) {
+            Edges<long[]> edges = entry.getValue();
+            result.put(entry.getKey(), new Edges<Map<VariableDescriptor, S>>(
+                    getOrCreateMap(maps, edges.getIncoming(), createMap), getOrCreateMap(maps, edges.getOutgoing(), createMap)));
+        }
+        return result;
+    }
 
     @NotNull
-    public Map<Instruction, Edges<Map<VariableDescriptor, VariableUseState>>> getVariableUseStatusData() {
-        return pseudocodeVariableDataCollector.collectData(
-                BACKWARD, /*mergeDataWithLocalDeclarations=*/ true,
-                new InstructionDataMergeStrategy<VariableUseState>() {
-                    @NotNull
-                    @Override
-                    public Edges<Map<VariableDescriptor, VariableUseState>> invoke(
-                            @NotNull Instruction instruction,
-                            @NotNull Collection<? extends Map<VariableDescriptor, VariableUseState>> incomingEdgesData
-                    ) {
-
-                        Map<VariableDescriptor, VariableUseState> enterResult = Maps.newHashMap();
-                        for (Map<VariableDescriptor, VariableUseState> edgeData : incomingEdgesData) {
-                            for (Map.Entry<VariableDescriptor, VariableUseState> entry : edgeData.entrySet()) {
-                                VariableDescriptor variableDescriptor = entry.getKey();
-                                VariableUseState variableUseState = entry.getValue();
-                                enterResult.put(variableDescriptor, variableUseState.merge(enterResult.get(variableDescriptor)));
-                            }
-                        }
-                        VariableDescriptor variableDescriptor = PseudocodeUtil.extractVariableDescriptorIfAny(
-                                instruction, true, bindingContext);
-                        if (variableDescriptor == null ||
-                            (!(instruction instanceof ReadValueInstruction) && !(instruction instanceof WriteValueInstruction))) {
-                            return new Edges<Map<VariableDescriptor, VariableUseState>>(enterResult, enterResult);
+    private static <S> Map<VariableDescriptor, S> getOrCreateMap(
+            @NotNull Map<long[], Map<VariableDescriptor, S>> maps,
+            @NotNull long[] data,
+            @NotNull Function<long[], Map<VariableDescriptor, S>> createMap
+    ) {
+        Map<VariableDescriptor, S> map = maps.get(data);
+        if (map == null) {
+            map = createMap.apply(data);
+            maps.put(data, map);
+        }
+        return map;
+    }
+
+    // Read-only view of the dataflow data of an edge: variables whose first plane bit is set are the keys
+    private static abstract class VariableDataMap<S> extends AbstractMap<VariableDescriptor, S> {
+        protected final VariableDataFlowSolver solver;
+        protected final long[] data;
+        protected final int wordCount;
+
+        protected VariableDataMap(@NotNull VariableDataFlowSolver solver, @NotNull long[] data) {
+            this.solver = solver;
+            this.data = data;
+            this.wordCount = solver.getWordCount();
+        }
+
+        @NotNull
+        protected abstract S getState(int variable);
+
+        @Override
+        public S get(Object key) {
+            int variable = key != null ? solver.getVariableIndex(key) : -1;
+            if (variable < 0 || !VariableDataFlowSolver.isSet(data, 0, variable, wordCount)) return null;
+            return getState(variable);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (int word = 0; word < wordCount; word++) {
+                size += Long.bitCount(data[word]);
+            }
+            return size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o instanceof VariableDataMap && ((VariableDataMap) o).solver == solver && o.getClass() == getClass()) {
+                return Arrays.equals(data, ((VariableDataMap) o).data);
+            }
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return super.hashCode();
+        }
+
+        @NotNull
+        @Override
+        public Set<Entry<VariableDescriptor, S>> entrySet() {
+            return new AbstractSet<Entry<VariableDescriptor, S>>() {
+                @NotNull
+                @Override
+                public Iterator<Entry<VariableDescriptor, S>> iterator() {
+                    return new Iterator<Entry<VariableDescriptor, S>>() {
+                        private int next = nextVariable(0);
+
+                        @Override
+                        public boolean hasNext() {
+                            return next >= 0;
                         }
-                        Map<VariableDescriptor, VariableUseState> exitResult = Maps.newHashMap(enterResult);
-                        if (instruction instanceof ReadValueInstruction) {
-                            exitResult.put(variableDescriptor, VariableUseState.READ);
+
+                        @Override
+                        public Entry<VariableDescriptor, S> next() {
+                            if (next < 0) throw new NoSuchElementException();
+                            int variable = next;
+                            next = nextVariable(variable + 1);
+                            return new SimpleImmutableEntry<VariableDescriptor, S>(solver.getVariable(variable), getState(variable));
                         }
-                        else { //instruction instanceof WriteValueInstruction
-                            VariableUseState variableUseState = enterResult.get(variableDescriptor);
-                            if (variableUseState == null) {
-                                variableUseState = VariableUseState.UNUSED;
-                            }
-                            switch (variableUseState) {
-                                case UNUSED:
-                                case ONLY_WRITTEN_NEVER_READ:
-                                    exitResult.put(variableDescriptor, VariableUseState.ONLY_WRITTEN_NEVER_READ);
-                                    break;
-                                case WRITTEN_AFTER_READ:
-                                case READ:
-                                    exitResult.put(variableDescriptor, VariableUseState.WRITTEN_AFTER_READ);
-                            }
+
+                        @Override
+                        public void remove() {
+                            throw new UnsupportedOperationException();
                         }
-                        return new Edges<Map<VariableDescriptor, VariableUseState>>(enterResult, exitResult);
-                    }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return VariableDataMap.this.size();
+                }
+            };
+        }
+
+        private int nextVariable(int from) {
+            for (int word = from >>> 6; word < wordCount; word++) {
+                long bits = data[word];
+                if (word == from >>> 6) {
+                    bits &= -1L << from;
+                }
+                if (bits != 0) {
+                    return (word << 6) + Long.numberOfTrailingZeros(bits);
                 }
-        );
+            }
+            return -1;
+        }
+    }
+
+    private static class VariableInitStateMap extends VariableDataMap<VariableInitState> {
+        private VariableInitStateMap(@NotNull VariableDataFlowSolver solver, @NotNull long[] data) {
+            super(solver, data);
+        }
+
+        @NotNull
+        @Override
+        protected VariableInitState getState(int variable) {
+            return VariableInitState.create(VariableDataFlowSolver.isSet(data, INIT_INITIALIZED, variable, wordCount),
+                                            VariableDataFlowSolver.isSet(data, INIT_DECLARED, variable, wordCount));
+        }
+    }
+
+    private static class VariableUseStateMap extends VariableDataMap<VariableUseState> {
+        private VariableUseStateMap(@NotNull VariableDataFlowSolver solver, @NotNull long[] data) {
+            super(solver, data);
+        }
+
+        @NotNull
+        @Override
+        protected VariableUseState getState(int variable) {
+            if (VariableDataFlowSolver.isSet(data, USE_READ, variable, wordCount)) return VariableUseState.READ;
+            if (VariableDataFlowSolver.isSet(data, USE_WRITTEN_AFTER_READ, variable, wordCount)) return VariableUseState.WRITTEN_AFTER_READ;
+            return VariableUseState.ONLY_WRITTEN_NEVER_READ;
+        }
     }
 
     public static class VariableInitState {
@@ -328,10 +507,6 @@ public class PseudocodeVariablesData {
             return create(isInitialized, false);
         }
 
-        private static VariableInitState create(boolean isDeclaredHere, @Nullable VariableInitState mergedEdgesData) {
-            return create(true, isDeclaredHere || (mergedEdgesData != null && mergedEdgesData.isDeclared));
-        }
-
         @Override
         public String toString() {
             if (!isInitialized && !isDeclared) return "-";
@@ -351,11 +526,6 @@ public class PseudocodeVariablesData {
             this.priority = priority;
         }
 
-        private VariableUseState merge(@Nullable VariableUseState variableUseState) {
-            if (variableUseState == null || priority > variableUseState.priority) return this;
-            return variableUseState;
-        }
-
         public static boolean isUsed(@Nullable VariableUseState variableUseState) {
             return variableUseState != null && variableUseState != UNUSED;
         }
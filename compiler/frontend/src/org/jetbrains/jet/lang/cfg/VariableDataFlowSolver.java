@@ -0,0 +1,360 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.lang.cfg;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import gnu.trove.TIntArrayList;
+import kotlin.Function1;
+import kotlin.Unit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.lang.cfg.pseudocode.Pseudocode;
+import org.jetbrains.jet.lang.cfg.pseudocode.PseudocodeUtil;
+import org.jetbrains.jet.lang.cfg.pseudocode.instructions.Instruction;
+import org.jetbrains.jet.lang.cfg.pseudocode.instructions.LexicalScope;
+import org.jetbrains.jet.lang.cfg.pseudocode.instructions.special.LocalFunctionDeclarationInstruction;
+import org.jetbrains.jet.lang.cfg.pseudocodeTraverser.Edges;
+import org.jetbrains.jet.lang.cfg.pseudocodeTraverser.PseudocodeTraverserPackage;
+import org.jetbrains.jet.lang.cfg.pseudocodeTraverser.TraversalOrder;
+import org.jetbrains.jet.lang.descriptors.VariableDescriptor;
+import org.jetbrains.jet.lang.resolve.BindingContext;
+
+import java.util.*;
+
+import static org.jetbrains.jet.lang.cfg.pseudocodeTraverser.TraversalOrder.FORWARD;
+
+/**
+ * Dataflow engine for the analyses of {@link PseudocodeVariablesData}.
+ *
+ * Variables of a pseudocode (including its local declarations) are numbered, and the data for an instruction edge
+ * is a {@code long[]} consisting of several bit planes over these numbers, a plane per boolean property of a variable.
+ * A variable which isn't mentioned in the data has all its bits cleared.
+ *
+ * Instructions are visited in the traversal order, but only those whose incoming data changed since the last visit,
+ * until nothing changes. The result is the same as of {@link PseudocodeTraverserPackage#collectData}.
+ */
+/*package*/ class VariableDataFlowSolver {
+    /*package*/ static abstract class Analysis {
+        private final int planeCount;
+
+        protected Analysis(int planeCount) {
+            this.planeCount = planeCount;
+        }
+
+        /*package*/ final int getPlaneCount() {
+            return planeCount;
+        }
+
+        // The result must be a new array, incoming data can't be modified
+        @NotNull
+        protected abstract long[] merge(@NotNull Collection<long[]> incomingEdgesData, int wordCount);
+
+        // Should return the same array if the instruction doesn't change the data, and a new one otherwise
+        @NotNull
+        protected abstract long[] transfer(@NotNull Instruction instruction, @NotNull long[] enterData, int wordCount);
+    }
+
+    private final LexicalScopeVariableInfo lexicalScopeVariableInfo;
+
+    private final List<VariableDescriptor> variables = Lists.newArrayList();
+    private final Map<VariableDescriptor, Integer> variableIndices = Maps.newHashMap();
+    private final Map<Instruction, Integer> declaredOrWrittenVariables = Maps.newHashMap();
+    private final Map<Instruction, Integer> referencedVariables = Maps.newHashMap();
+
+    private final int wordCount;
+    // Depth of the lexical scope each variable is declared in, -1 for variables declared outside the pseudocode
+    private final int[] declarationDepths;
+    private final Map<Integer, long[]> visibleVariablesMasks = Maps.newHashMap();
+
+    public VariableDataFlowSolver(
+            @NotNull Pseudocode pseudocode,
+            @NotNull final BindingContext bindingContext,
+            @NotNull LexicalScopeVariableInfo lexicalScopeVariableInfo
+    ) {
+        this.lexicalScopeVariableInfo = lexicalScopeVariableInfo;
+
+        for (VariableDescriptor variable : lexicalScopeVariableInfo.getDeclaredIn().keySet()) {
+            indexOf(variable);
+        }
+        PseudocodeTraverserPackage.traverse(pseudocode, FORWARD, new Function1<Instruction, Unit>() {
+            @Override
+            public Unit invoke(@NotNull Instruction instruction) {
+                VariableDescriptor declaredOrWritten = PseudocodeUtil.extractVariableDescriptorIfAny(instruction, false, bindingContext);
+                if (declaredOrWritten != null) {
+                    declaredOrWrittenVariables.put(instruction, indexOf(declaredOrWritten));
+                }
+                VariableDescriptor referenced = PseudocodeUtil.extractVariableDescriptorIfAny(instruction, true, bindingContext);
+                if (referenced != null) {
+                    referencedVariables.put(instruction, indexOf(referenced));
+                }
+                return Unit.INSTANCE$;
+            }
+        });
+
+        this.wordCount = (variables.size() + 63) / 64;
+        this.declarationDepths = new int[variables.size()];
+        for (int i = 0; i < variables.size(); i++) {
+            LexicalScope declaredIn = lexicalScopeVariableInfo.getDeclaredIn().get(variables.get(i));
+            declarationDepths[i] = declaredIn != null ? declaredIn.getDepth() : -1;
+        }
+    }
+
+    private int indexOf(@NotNull VariableDescriptor variable) {
+        Integer index = variableIndices.get(variable);
+        if (index == null) {
+            index = variables.size();
+            variables.add(variable);
+            variableIndices.put(variable, index);
+        }
+        return index;
+    }
+
+    @NotNull
+    public LexicalScopeVariableInfo getLexicalScopeVariableInfo() {
+        return lexicalScopeVariableInfo;
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    @NotNull
+    public VariableDescriptor getVariable(int index) {
+        return variables.get(index);
+    }
+
+    /**
+     * @return the number of the variable, or -1 if it isn't used in the pseudocode
+     */
+    public int getVariableIndex(@NotNull Object variable) {
+        Integer index = variableIndices.get(variable);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * @return the number of the variable read, written or declared by the instruction, or -1 if there is none
+     * @see PseudocodeUtil#extractVariableDescriptorIfAny
+     */
+    public int getVariableIndex(@NotNull Instruction instruction, boolean onlyReference) {
+        Integer index = (onlyReference ? referencedVariables : declaredOrWrittenVariables).get(instruction);
+        return index != null ? index : -1;
+    }
+
+    public static boolean isSet(@NotNull long[] data, int plane, int index, int wordCount) {
+        return (data[plane * wordCount + (index >>> 6)] & (1L << index)) != 0;
+    }
+
+    public static void set(@NotNull long[] data, int plane, int index, int wordCount, boolean value) {
+        int word = plane * wordCount + (index >>> 6);
+        if (value) {
+            data[word] |= 1L << index;
+        }
+        else {
+            data[word] &= ~(1L << index);
+        }
+    }
+
+    @NotNull
+    public Map<Instruction, Edges<long[]>> solve(
+            @NotNull Pseudocode pseudocode,
+            @NotNull TraversalOrder traversalOrder,
+            boolean mergeDataWithLocalDeclarations,
+            @NotNull Analysis analysis
+    ) {
+        List<Instruction> instructions = Lists.newArrayList();
+        Map<Instruction, Integer> instructionIndices = Maps.newHashMap();
+        collectInstructions(pseudocode, instructions, instructionIndices);
+
+        int instructionCount = instructions.size();
+        long[] initialData = new long[analysis.getPlaneCount() * wordCount];
+        Edges<long[]> initialEdges = new Edges<long[]>(initialData, initialData);
+        @SuppressWarnings("unchecked")
+        Edges<long[]>[] edges = new Edges[instructionCount];
+        Arrays.fill(edges, initialEdges);
+
+        // For a merge node, previous instructions; for a local declaration merged with its body, the last instruction of the body
+        int[][] dependencies = new int[instructionCount][];
+        boolean[] copiedFromLocalDeclaration = new boolean[instructionCount];
+        TIntArrayList visitOrder = new TIntArrayList(instructionCount);
+        buildNodes(pseudocode, traversalOrder, mergeDataWithLocalDeclarations, false, Collections.<Instruction>emptyList(),
+                   instructionIndices, dependencies, copiedFromLocalDeclaration, visitOrder);
+
+        TIntArrayList[] dependents = new TIntArrayList[instructionCount];
+        for (int node = 0; node < instructionCount; node++) {
+            if (dependencies[node] == null) continue;
+            for (int dependency : dependencies[node]) {
+                if (dependents[dependency] == null) {
+                    dependents[dependency] = new TIntArrayList(2);
+                }
+                dependents[dependency].add(node);
+            }
+        }
+
+        boolean[] dirty = new boolean[instructionCount];
+        Arrays.fill(dirty, true);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = 0; i < visitOrder.size(); i++) {
+                int node = visitOrder.get(i);
+                if (!dirty[node]) continue;
+                dirty[node] = false;
+
+                Instruction instruction = instructions.get(node);
+                Edges<long[]> newEdges;
+                if (copiedFromLocalDeclaration[node]) {
+                    int last = dependencies[node][0];
+                    Instruction lastInstruction = instructions.get(last);
+                    newEdges = new Edges<long[]>(filterOutVariablesOutOfScope(lastInstruction, instruction, edges[last].getIncoming()),
+                                                 filterOutVariablesOutOfScope(lastInstruction, instruction, edges[last].getOutgoing()));
+                }
+                else {
+                    List<long[]> incomingEdgesData = Lists.newArrayListWithCapacity(dependencies[node].length);
+                    for (int previous : dependencies[node]) {
+                        incomingEdgesData.add(filterOutVariablesOutOfScope(instructions.get(previous), instruction, edges[previous].getOutgoing()));
+                    }
+                    long[] enterData = analysis.merge(incomingEdgesData, wordCount);
+                    newEdges = new Edges<long[]>(enterData, analysis.transfer(instruction, enterData, wordCount));
+                }
+
+                if (!sameEdges(edges[node], newEdges)) {
+                    edges[node] = newEdges;
+                    changed = true;
+                    if (dependents[node] != null) {
+                        for (int j = 0; j < dependents[node].size(); j++) {
+                            dirty[dependents[node].get(j)] = true;
+                        }
+                    }
+                }
+            }
+        }
+
+        Map<Instruction, Edges<long[]>> result = new LinkedHashMap<Instruction, Edges<long[]>>();
+        for (int node = 0; node < instructionCount; node++) {
+            result.put(instructions.get(node), edges[node]);
+        }
+        return result;
+    }
+
+    private static void collectInstructions(
+            @NotNull Pseudocode pseudocode,
+            @NotNull List<Instruction> instructions,
+            @NotNull Map<Instruction, Integer> instructionIndices
+    ) {
+        for (Instruction instruction : pseudocode.getInstructions()) {
+            instructionIndices.put(instruction, instructions.size());
+            instructions.add(instruction);
+            if (instruction instanceof LocalFunctionDeclarationInstruction) {
+                collectInstructions(((LocalFunctionDeclarationInstruction) instruction).getBody(), instructions, instructionIndices);
+            }
+        }
+    }
+
+    private static void buildNodes(
+            @NotNull Pseudocode pseudocode,
+            @NotNull TraversalOrder traversalOrder,
+            boolean mergeDataWithLocalDeclarations,
+            boolean isLocal,
+            @NotNull Collection<Instruction> previousSubGraphInstructions,
+            @NotNull Map<Instruction, Integer> instructionIndices,
+            @NotNull int[][] dependencies,
+            @NotNull boolean[] copiedFromLocalDeclaration,
+            @NotNull TIntArrayList visitOrder
+    ) {
+        Instruction startInstruction = PseudocodeTraverserPackage.getStartInstruction(pseudocode, traversalOrder);
+        for (Instruction instruction : PseudocodeTraverserPackage.getInstructions(pseudocode, traversalOrder)) {
+            if (!isLocal && PseudocodeTraverserPackage.isStartInstruction(instruction, traversalOrder)) continue;
+
+            Integer node = instructionIndices.get(instruction);
+            if (node == null) continue;
+
+            Collection<Instruction> previousInstructions = PseudocodeTraverserPackage.getPreviousInstructions(instruction, traversalOrder);
+            if (instruction == startInstruction && !previousSubGraphInstructions.isEmpty()) {
+                previousInstructions = Lists.newArrayList(previousInstructions);
+                previousInstructions.addAll(previousSubGraphInstructions);
+            }
+
+            if (instruction instanceof LocalFunctionDeclarationInstruction) {
+                Pseudocode body = ((LocalFunctionDeclarationInstruction) instruction).getBody();
+                buildNodes(body, traversalOrder, mergeDataWithLocalDeclarations, true,
+                           mergeDataWithLocalDeclarations ? previousInstructions : Collections.<Instruction>emptyList(),
+                           instructionIndices, dependencies, copiedFromLocalDeclaration, visitOrder);
+                if (mergeDataWithLocalDeclarations) {
+                    Integer last = instructionIndices.get(PseudocodeTraverserPackage.getLastInstruction(body, traversalOrder));
+                    if (last == null) continue;
+
+                    dependencies[node] = new int[] {last};
+                    copiedFromLocalDeclaration[node] = true;
+                    visitOrder.add(node);
+                    continue;
+                }
+            }
+
+            TIntArrayList previousNodes = new TIntArrayList(previousInstructions.size());
+            for (Instruction previousInstruction : previousInstructions) {
+                Integer previous = instructionIndices.get(previousInstruction);
+                if (previous != null) {
+                    previousNodes.add(previous);
+                }
+            }
+            dependencies[node] = previousNodes.toNativeArray();
+            visitOrder.add(node);
+        }
+    }
+
+    @NotNull
+    private long[] filterOutVariablesOutOfScope(@NotNull Instruction from, @NotNull Instruction to, @NotNull long[] data) {
+        // If an edge goes from deeper lexical scope to a less deep one, this means that it points outside of the deeper scope.
+        int toDepth = to.getLexicalScope().getDepth();
+        if (toDepth >= from.getLexicalScope().getDepth()) return data;
+
+        // Variables declared in an inner (deeper) scope can't be accessed from an outer scope.
+        // Thus they can be filtered out upon leaving the inner scope.
+        long[] mask = getVisibleVariablesMask(toDepth);
+        long[] result = null;
+        for (int i = 0; i < data.length; i++) {
+            long word = data[i] & mask[i % wordCount];
+            if (word != data[i]) {
+                if (result == null) {
+                    result = data.clone();
+                }
+                result[i] = word;
+            }
+        }
+        return result != null ? result : data;
+    }
+
+    @NotNull
+    private long[] getVisibleVariablesMask(int depth) {
+        long[] mask = visibleVariablesMasks.get(depth);
+        if (mask == null) {
+            mask = new long[wordCount];
+            for (int i = 0; i < declarationDepths.length; i++) {
+                if (declarationDepths[i] <= depth) {
+                    mask[i >>> 6] |= 1L << i;
+                }
+            }
+            visibleVariablesMasks.put(depth, mask);
+        }
+        return mask;
+    }
+
+    private static boolean sameEdges(@NotNull Edges<long[]> edges, @NotNull Edges<long[]> other) {
+        return Arrays.equals(edges.getIncoming(), other.getIncoming())
+               && Arrays.equals(edges.getOutgoing(), other.getOutgoing());
+    }
+}
@@ -192,9 +192,9 @@ public class ConstantExpressionEvaluator private (val trace: BindingTrace) : Jet
         if (argumentsEntrySet.isEmpty()) {
             val result = evaluateUnaryAndCheck(argumentForReceiver, resultingDescriptorName.asString(), callExpression)
             if (result == null) return null
-            val isArgumentPure = isPureConstant(argumentForReceiver.expression)
-            val canBeUsedInAnnotation = canBeUsedInAnnotation(argumentForReceiver.expression)
-            val usesVariableAsConstant = usesVariableAsConstant(argumentForReceiver.expression)
+            val isArgumentPure = isPureConstant(argumentForReceiver.constant)
+            val canBeUsedInAnnotation = argumentForReceiver.constant.canBeUsedInAnnotations()
+            val usesVariableAsConstant = argumentForReceiver.constant.usesVariableAsConstant()
             val isNumberConversionMethod = resultingDescriptorName in OperatorConventions.NUMBER_CONVERSIONS
             return createCompileTimeConstant(result,
                                              expectedType,
@@ -214,9 +214,11 @@ public class ConstantExpressionEvaluator private (val trace: BindingTrace) : Jet
             val result = evaluateBinaryAndCheck(argumentForReceiver, argumentForParameter, resultingDescriptorName.asString(), callExpression)
             if (result == null) return null
 
-            val areArgumentsPure = isPureConstant(argumentForReceiver.expression) && isPureConstant(argumentForParameter.expression)
-            val canBeUsedInAnnotation = canBeUsedInAnnotation(argumentForReceiver.expression) && canBeUsedInAnnotation(argumentForParameter.expression)
-            val usesVariableAsConstant = usesVariableAsConstant(argumentForReceiver.expression) || usesVariableAsConstant(argumentForParameter.expression)
+            val areArgumentsPure = isPureConstant(argumentForReceiver.constant) && isPureConstant(argumentForParameter.constant)
+            val canBeUsedInAnnotation = argumentForReceiver.constant.canBeUsedInAnnotations() &&
+                                        argumentForParameter.constant.canBeUsedInAnnotations()
+            val usesVariableAsConstant = argumentForReceiver.constant.usesVariableAsConstant() ||
+                                         argumentForParameter.constant.usesVariableAsConstant()
             val c = EvaluatorContext(canBeUsedInAnnotation, areArgumentsPure, usesVariableAsConstant)
             return when(resultingDescriptorName) {
                 OperatorConventions.COMPARE_TO -> createCompileTimeConstantForCompareTo(result, callExpression, c)
@@ -230,12 +232,7 @@ public class ConstantExpressionEvaluator private (val trace: BindingTrace) : Jet
         return null
     }
 
-    private fun usesVariableAsConstant(expression: JetExpression) = trace.get(BindingContext.COMPILE_TIME_VALUE, expression)?.usesVariableAsConstant() ?: false
-
-    private fun canBeUsedInAnnotation(expression: JetExpression) = trace.get(BindingContext.COMPILE_TIME_VALUE, expression)?.canBeUsedInAnnotations() ?: false
-
-    private fun isPureConstant(expression: JetExpression): Boolean {
-        val compileTimeConstant = trace.get(BindingContext.COMPILE_TIME_VALUE, expression)
+    private fun isPureConstant(compileTimeConstant: CompileTimeConstant<*>): Boolean {
         if (compileTimeConstant is IntegerValueConstant) {
             return compileTimeConstant.isPure()
         }
@@ -255,12 +252,27 @@ public class ConstantExpressionEvaluator private (val trace: BindingTrace) : Jet
         assert (name == "minus", "Only negation should be checked for overflow")
 
         if (receiver.value == result) {
-            trace.report(Errors.INTEGER_OVERFLOW.on(PsiTreeUtil.getParentOfType(callExpression, javaClass<JetExpression>()) ?: callExpression))
+            reportIntegerOverflow(callExpression)
         }
         return result
     }
 
     private fun evaluateBinaryAndCheck(receiver: OperationArgument, parameter: OperationArgument, name: String, callExpression: JetExpression): Any? {
+        val receiverValue = receiver.value
+        val parameterValue = parameter.value
+        if (receiver.ctcType == INT && parameter.ctcType == INT && receiverValue is Int && parameterValue is Int) {
+            val result = evaluateIntBinaryAndCheck(receiverValue, parameterValue, name, callExpression)
+            if (result != null) return result
+        }
+        else if (receiver.ctcType == LONG && parameter.ctcType == LONG && receiverValue is Long && parameterValue is Long) {
+            val result = evaluateLongBinaryAndCheck(receiverValue, parameterValue, name, callExpression)
+            if (result != null) return result
+        }
+        else if (receiver.ctcType == LONG && parameter.ctcType == INT && receiverValue is Long && parameterValue is Int) {
+            val result = evaluateLongShift(receiverValue, parameterValue, name)
+            if (result != null) return result
+        }
+
         val functions = binaryOperations[BinaryOperationKey(receiver.ctcType, parameter.ctcType, name)]
         if (functions == null) return null
 
@@ -280,11 +292,74 @@ public class ConstantExpressionEvaluator private (val trace: BindingTrace) : Jet
         val resultInBigIntegers = checker(toBigInteger(receiver.value), toBigInteger(parameter.value))
 
         if (toBigInteger(actualResult) != resultInBigIntegers) {
-            trace.report(Errors.INTEGER_OVERFLOW.on(PsiTreeUtil.getParentOfType(callExpression, javaClass<JetExpression>()) ?: callExpression))
+            reportIntegerOverflow(callExpression)
         }
         return actualResult
     }
 
+    // Operations on two Ints or two Longs make up long chains in bit masks and generated tables of constants.
+    // They are evaluated and checked for overflow on primitives, without boxed operations from OperationsMapGenerated and BigIntegers.
+    // null is returned for the operations which are left to the generic path (mod is checked differently there)
+
+    private fun evaluateIntBinaryAndCheck(a: Int, b: Int, name: String, callExpression: JetExpression): Any? {
+        val exactResult = when (name) {
+            "plus" -> a.toLong() + b.toLong()
+            "minus" -> a.toLong() - b.toLong()
+            "times" -> a.toLong() * b.toLong()
+            "div" -> a.toLong() / b.toLong()
+            "and" -> return a.and(b)
+            "or" -> return a.or(b)
+            "xor" -> return a.xor(b)
+            "shl" -> return a.shl(b)
+            "shr" -> return a.shr(b)
+            "ushr" -> return a.ushr(b)
+            "compareTo" -> return a.compareTo(b)
+            else -> return null
+        }
+        val result = exactResult.toInt()
+        if (result.toLong() != exactResult) {
+            reportIntegerOverflow(callExpression)
+        }
+        return result
+    }
+
+    private fun evaluateLongBinaryAndCheck(a: Long, b: Long, name: String, callExpression: JetExpression): Any? {
+        val result = when (name) {
+            "plus" -> a + b
+            "minus" -> a - b
+            "times" -> a * b
+            "div" -> a / b
+            "and" -> return a.and(b)
+            "or" -> return a.or(b)
+            "xor" -> return a.xor(b)
+            "compareTo" -> return a.compareTo(b)
+            else -> return null
+        }
+        val isOverflow = when (name) {
+            "plus" -> a.xor(result).and(b.xor(result)) < 0
+            "minus" -> a.xor(b).and(a.xor(result)) < 0
+            "times" -> a != 0.toLong() && (result / a != b || (a == -1.toLong() && b == java.lang.Long.MIN_VALUE))
+            else -> a == java.lang.Long.MIN_VALUE && b == -1.toLong()
+        }
+        if (isOverflow) {
+            reportIntegerOverflow(callExpression)
+        }
+        return result
+    }
+
+    private fun evaluateLongShift(a: Long, b: Int, name: String): Any? {
+        return when (name) {
+            "shl" -> a.shl(b)
+            "shr" -> a.shr(b)
+            "ushr" -> a.ushr(b)
+            else -> null
+        }
+    }
+
+    private fun reportIntegerOverflow(callExpression: JetExpression) {
+        trace.report(Errors.INTEGER_OVERFLOW.on(PsiTreeUtil.getParentOfType(callExpression, javaClass<JetExpression>()) ?: callExpression))
+    }
+
     private fun isDivisionByZero(name: String, parameter: Any?): Boolean {
         if (name == OperatorConventions.BINARY_OPERATION_NAMES[JetTokens.DIV]!!.asString()) {
             if (isIntegerType(parameter)) {
@@ -403,7 +478,7 @@ public class ConstantExpressionEvaluator private (val trace: BindingTrace) : Jet
         return null
     }
 
-    private class OperationArgument(val value: Any, val ctcType: CompileTimeType<*>, val expression: JetExpression)
+    private class OperationArgument(val value: Any, val ctcType: CompileTimeType<*>, val constant: CompileTimeConstant<*>)
 
     private fun createOperationArgumentForReceiver(resolvedCall: ResolvedCall<*>, expression: JetExpression): OperationArgument? {
         val receiverExpressionType = getReceiverExpressionType(resolvedCall)
@@ -433,13 +508,13 @@ public class ConstantExpressionEvaluator private (val trace: BindingTrace) : Jet
 
         if (evaluatedConstant is IntegerValueTypeConstant) {
             val evaluationResultWithNewType = evaluatedConstant.getValue(expressionType)
-            return OperationArgument(evaluationResultWithNewType, compileTimeType, expression)
+            return OperationArgument(evaluationResultWithNewType, compileTimeType, evaluatedConstant)
         }
 
         val evaluationResult = evaluatedConstant.getValue()
         if (evaluationResult == null) return null
 
-        return OperationArgument(evaluationResult, compileTimeType, expression)
+        return OperationArgument(evaluationResult, compileTimeType, evaluatedConstant)
     }
 
     fun createCompileTimeConstant(value: Any?,
@@ -23,6 +23,7 @@ import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.tree.IElementType;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.TestOnly;
 
 public class JetParser implements PsiParser {
 
@@ -41,7 +42,7 @@ public class JetParser implements PsiParser {
     // we need this method because we need psiFile
     @NotNull
     public ASTNode parse(IElementType iElementType, PsiBuilder psiBuilder, PsiFile psiFile) {
-        JetParsing jetParsing = JetParsing.createForTopLevel(new SemanticWhitespaceAwarePsiBuilderImpl(psiBuilder));
+        JetParsing jetParsing = JetParsing.createForFile(new SemanticWhitespaceAwarePsiBuilderImpl(psiBuilder));
         if (scriptDefinitionProvider != null && scriptDefinitionProvider.isScript(psiFile)
             || psiFile.getName().endsWith(JetParserDefinition.STD_SCRIPT_EXT)) {
             jetParsing.parseScript();
@@ -72,4 +73,20 @@ public class JetParser implements PsiParser {
         jetParsing.parseBlockCodeFragment();
         return psiBuilder.getTreeBuilt();
     }
+
+    @NotNull
+    public static ASTNode parseLazyBlock(PsiBuilder psiBuilder) {
+        JetParsing jetParsing = JetParsing.createForTopLevel(new SemanticWhitespaceAwarePsiBuilderImpl(psiBuilder));
+        jetParsing.parseLazyBlock();
+        return psiBuilder.getTreeBuilt();
+    }
+
+    // Parses bodies of functions in place, to compare with the bodies collapsed by parse()
+    @TestOnly
+    @NotNull
+    public static ASTNode parseFileEagerly(PsiBuilder psiBuilder) {
+        JetParsing jetParsing = JetParsing.createForTopLevel(new SemanticWhitespaceAwarePsiBuilderImpl(psiBuilder));
+        jetParsing.parseFile();
+        return psiBuilder.getTreeBuilt();
+    }
 }
@@ -32,6 +32,7 @@ import com.intellij.psi.tree.TokenSet;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.jet.JetNodeType;
 import org.jetbrains.jet.JetNodeTypes;
+import org.jetbrains.jet.lang.psi.JetBlockExpression;
 import org.jetbrains.jet.lang.psi.JetFile;
 import org.jetbrains.jet.lang.psi.stubs.elements.JetStubElementType;
 import org.jetbrains.jet.lang.psi.stubs.elements.JetStubElementTypes;
@@ -102,6 +103,9 @@ public class JetParserDefinition implements ParserDefinition {
                  elementType == JetNodeTypes.BLOCK_CODE_FRAGMENT) {
             return new ASTWrapperPsiElement(astNode);
         }
+        else if (elementType == JetNodeTypes.BLOCK) {
+            return new JetBlockExpression(astNode);
+        }
         else {
             return ((JetNodeType) elementType).createPsi(astNode);
         }
@@ -66,6 +66,12 @@ public class JetParsing extends AbstractJetParsing {
         return jetParsing;
     }
 
+    static JetParsing createForFile(SemanticWhitespaceAwarePsiBuilder builder) {
+        JetParsing jetParsing = createForTopLevel(builder);
+        jetParsing.lazyFunctionBodies = true;
+        return jetParsing;
+    }
+
     private static JetParsing createForByClause(SemanticWhitespaceAwarePsiBuilder builder) {
         final SemanticWhitespaceAwarePsiBuilderForByClause builderForByClause = new SemanticWhitespaceAwarePsiBuilderForByClause(builder);
         JetParsing jetParsing = new JetParsing(builderForByClause);
@@ -87,6 +93,7 @@ public class JetParsing extends AbstractJetParsing {
     }
 
     private JetExpressionParsing myExpressionParsing;
+    private boolean lazyFunctionBodies;
 
     private JetParsing(SemanticWhitespaceAwarePsiBuilder builder) {
         super(builder);
@@ -145,6 +152,25 @@ public class JetParsing extends AbstractJetParsing {
         marker.done(BLOCK_CODE_FRAGMENT);
     }
 
+    /*
+     * The contents of a function body collapsed by collapseFunctionBody(): a block up to its matching closing brace.
+     * Error recovery can't go past the chameleon, so whatever the statements leave unparsed is reported within the block
+     */
+    void parseLazyBlock() {
+        PsiBuilder.Marker block = mark();
+
+        myBuilder.enableNewlines();
+        expect(LBRACE, "Expecting '{' to open a block");
+
+        myExpressionParsing.parseStatements();
+
+        expect(RBRACE, "Expecting '}");
+        checkForUnexpectedSymbols();
+        myBuilder.restoreNewlinesState();
+
+        block.done(BLOCK);
+    }
+
     void parseScript() {
         PsiBuilder.Marker fileMarker = mark();
 
@@ -1239,7 +1265,9 @@ public class JetParsing extends AbstractJetParsing {
      */
     private void parseFunctionBody() {
         if (at(LBRACE)) {
-            parseBlock();
+            if (!lazyFunctionBodies || !collapseFunctionBody()) {
+                parseBlock();
+            }
         }
         else if (at(EQ)) {
             advance(); // EQ
@@ -1251,6 +1279,35 @@ public class JetParsing extends AbstractJetParsing {
         }
     }
 
+    /*
+     * Skips a block up to the matching closing brace without parsing it, as PsiBuilderUtil.parseBlockLazy() does,
+     * and collapses it into a chameleon node which is parsed on demand, see JetBlockExpressionElementType.
+     * A block without the matching brace (unfinished code) is left to parseBlock(), so that error recovery can go past it
+     */
+    private boolean collapseFunctionBody() {
+        PsiBuilder.Marker block = mark();
+
+        int depth = 0;
+        while (!eof()) {
+            IElementType tokenType = tt();
+            if (tokenType == LBRACE) {
+                depth++;
+            }
+            else if (tokenType == RBRACE) {
+                depth--;
+            }
+            advance();
+
+            if (depth == 0) {
+                block.collapse(BLOCK);
+                return true;
+            }
+        }
+
+        block.rollbackTo();
+        return false;
+    }
+
     /*
      * block
      *   : "{" (expressions)* "}"
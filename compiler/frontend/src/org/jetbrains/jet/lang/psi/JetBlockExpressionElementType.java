@@ -0,0 +1,54 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.lang.psi;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.lang.PsiBuilder;
+import com.intellij.lang.PsiBuilderFactory;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.impl.source.tree.CompositeElement;
+import com.intellij.psi.tree.ICompositeElementType;
+import com.intellij.psi.tree.ILazyParseableElementType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.lang.parsing.JetParser;
+import org.jetbrains.jet.plugin.JetLanguage;
+
+/**
+ * Element type of blocks ({@link JetBlockExpression}).
+ *
+ * Bodies of functions and property accessors are collapsed by the parser into chameleon nodes of this type, which are parsed
+ * on the first access to their children. Other blocks are parsed in place and are regular composite nodes
+ */
+public class JetBlockExpressionElementType extends ILazyParseableElementType implements ICompositeElementType {
+    public JetBlockExpressionElementType() {
+        super("BLOCK", JetLanguage.INSTANCE);
+    }
+
+    @NotNull
+    @Override
+    public ASTNode createCompositeNode() {
+        return new CompositeElement(this);
+    }
+
+    @Override
+    protected ASTNode doParseContents(@NotNull ASTNode chameleon, @NotNull PsiElement psi) {
+        PsiBuilder builder = PsiBuilderFactory.getInstance().createBuilder(psi.getProject(), chameleon, null, getLanguage(),
+                                                                           chameleon.getChars());
+        return JetParser.parseLazyBlock(builder).getFirstChildNode();
+    }
+}
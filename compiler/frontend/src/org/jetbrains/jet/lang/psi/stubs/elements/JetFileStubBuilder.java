@@ -16,12 +16,15 @@
 
 package org.jetbrains.jet.lang.psi.stubs.elements;
 
+import com.intellij.lang.ASTNode;
 import com.intellij.psi.PsiFile;
+import com.intellij.psi.impl.source.tree.LazyParseableElement;
 import com.intellij.psi.stubs.DefaultStubBuilder;
 import com.intellij.psi.stubs.StubElement;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.jet.lang.psi.JetFile;
 import org.jetbrains.jet.lang.psi.stubs.impl.PsiJetFileStubImpl;
+import org.jetbrains.jet.lexer.JetTokens;
 
 public class JetFileStubBuilder extends DefaultStubBuilder {
     @Override
@@ -33,4 +36,18 @@ public class JetFileStubBuilder extends DefaultStubBuilder {
         JetFile jetFile = (JetFile) file;
         return new PsiJetFileStubImpl(jetFile, jetFile.getPackageFqNameByTree().asString(), jetFile.isScriptByTree());
     }
+
+    /**
+     * Collapsed bodies of functions are not expanded just to find out that there are no stubs inside:
+     * only local classes and objects get stubs there, and they can't be declared without one of their keywords
+     */
+    @Override
+    public boolean skipChildProcessingWhenBuildingStubs(@NotNull ASTNode parent, @NotNull ASTNode node) {
+        if (!(node instanceof LazyParseableElement) || ((LazyParseableElement) node).isParsed()) return false;
+
+        String text = node.getText();
+        return !text.contains(JetTokens.CLASS_KEYWORD.getValue()) &&
+               !text.contains(JetTokens.OBJECT_KEYWORD.getValue()) &&
+               !text.contains(JetTokens.TRAIT_KEYWORD.getValue());
+    }
 }
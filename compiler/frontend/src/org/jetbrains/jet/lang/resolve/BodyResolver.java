@@ -16,11 +16,13 @@
 
 package org.jetbrains.jet.lang.resolve;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.intellij.lang.ASTNode;
 import com.intellij.psi.PsiElement;
 import com.intellij.util.containers.Queue;
+import jsr166e.ForkJoinPool;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.jet.lang.descriptors.*;
@@ -38,12 +40,18 @@ import org.jetbrains.jet.lang.types.expressions.DataFlowUtils;
 import org.jetbrains.jet.lang.types.expressions.ExpressionTypingServices;
 import org.jetbrains.jet.lexer.JetModifierKeywordToken;
 import org.jetbrains.jet.lexer.JetTokens;
+import org.jetbrains.jet.storage.LockBasedLazyResolveStorageManager;
+import org.jetbrains.jet.storage.LockBasedStorageManager;
 import org.jetbrains.jet.util.Box;
 import org.jetbrains.jet.util.ReenteringLazyValueComputationException;
 import org.jetbrains.jet.util.slicedmap.WritableSlice;
+import org.jetbrains.jet.utils.UtilsPackage;
 
 import javax.inject.Inject;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import static org.jetbrains.jet.lang.descriptors.ReceiverParameterDescriptor.NO_RECEIVER_PARAMETER;
 import static org.jetbrains.jet.lang.diagnostics.Errors.*;
@@ -116,9 +124,23 @@ public class BodyResolver {
     }
 
     private void resolveBehaviorDeclarationBodies(@NotNull BodiesResolveContext c) {
+        List<DeclarationBodyResolveTask> propertyTasks = createPropertyBodyResolveTasks(c);
+        List<DeclarationBodyResolveTask> functionTasks = createFunctionBodyResolveTasks(c);
+
+        if (canResolveBodiesInParallel(c)) {
+            // Deferred types and compile-time initializers are resolved into the shared trace by whoever needs them first,
+            // so they are all computed here, before any body, both in the sequential and in the parallel mode
+            for (DeclarationBodyResolveTask task : propertyTasks) {
+                task.resolveSharedData();
+            }
+            for (DeclarationBodyResolveTask task : functionTasks) {
+                task.resolveSharedData();
+            }
+        }
+
         resolveDelegationSpecifierLists(c);
 
-        resolvePropertyDeclarationBodies(c);
+        resolveDeclarationBodies(c, propertyTasks);
 
         if (!c.getTopDownAnalysisParameters().isLazyTopDownAnalysis()) {
             resolveClassAnnotations(c);
@@ -126,7 +148,7 @@ public class BodyResolver {
         resolveAnonymousInitializers(c);
         resolvePrimaryConstructorParameters(c);
 
-        resolveFunctionBodies(c);
+        resolveDeclarationBodies(c, functionTasks);
 
         // SCRIPT: resolve script bodies
         scriptBodyResolverResolver.resolveScriptBodies(c, trace);
@@ -408,71 +430,91 @@ public class BodyResolver {
         return parameterScope;
     }
 
-    private void resolvePropertyDeclarationBodies(@NotNull BodiesResolveContext c) {
+    @NotNull
+    private List<DeclarationBodyResolveTask> createPropertyBodyResolveTasks(@NotNull final BodiesResolveContext c) {
+        List<DeclarationBodyResolveTask> tasks = Lists.newArrayList();
 
         // Member properties
         Set<JetProperty> processed = Sets.newHashSet();
         for (Map.Entry<JetClassOrObject, ClassDescriptorWithResolutionScopes> entry : c.getDeclaredClasses().entrySet()) {
             if (!(entry.getKey() instanceof JetClass)) continue;
             JetClass jetClass = (JetClass) entry.getKey();
-            ClassDescriptorWithResolutionScopes classDescriptor = entry.getValue();
+            final ClassDescriptorWithResolutionScopes classDescriptor = entry.getValue();
 
-            for (JetProperty property : jetClass.getProperties()) {
-                PropertyDescriptor propertyDescriptor = c.getProperties().get(property);
+            for (final JetProperty property : jetClass.getProperties()) {
+                final PropertyDescriptor propertyDescriptor = c.getProperties().get(property);
                 assert propertyDescriptor != null;
 
-                computeDeferredType(propertyDescriptor.getReturnType());
-
-                JetExpression initializer = property.getInitializer();
-                JetScope propertyScope = getScopeForProperty(c, property);
-                if (initializer != null) {
-                    ConstructorDescriptor primaryConstructor = classDescriptor.getUnsubstitutedPrimaryConstructor();
-                    if (primaryConstructor != null) {
-                        resolvePropertyInitializer(c, property, propertyDescriptor, initializer, propertyScope);
-                    }
-                }
+                boolean hasResolvedInitializer =
+                        property.getInitializer() != null && classDescriptor.getUnsubstitutedPrimaryConstructor() != null;
+                tasks.add(new DeclarationBodyResolveTask(property, propertyDescriptor.getReturnType(),
+                                                         hasResolvedInitializer ? propertyDescriptor : null) {
+                    @Override
+                    public void resolve(@NotNull BindingTrace trace) {
+                        JetExpression initializer = property.getInitializer();
+                        JetScope propertyScope = getScopeForProperty(c, property);
+                        if (initializer != null) {
+                            ConstructorDescriptor primaryConstructor = classDescriptor.getUnsubstitutedPrimaryConstructor();
+                            if (primaryConstructor != null) {
+                                resolvePropertyInitializer(c, property, propertyDescriptor, initializer, propertyScope, trace);
+                            }
+                        }
 
-                JetExpression delegateExpression = property.getDelegateExpression();
-                if (delegateExpression != null) {
-                    assert initializer == null : "Initializer should be null for delegated property : " + property.getText();
-                    resolvePropertyDelegate(c, property, propertyDescriptor, delegateExpression, classDescriptor.getScopeForMemberDeclarationResolution(), propertyScope);
-                }
+                        JetExpression delegateExpression = property.getDelegateExpression();
+                        if (delegateExpression != null) {
+                            assert initializer == null : "Initializer should be null for delegated property : " + property.getText();
+                            resolvePropertyDelegate(c, property, propertyDescriptor, delegateExpression,
+                                                    classDescriptor.getScopeForMemberDeclarationResolution(), propertyScope, trace);
+                        }
 
-                resolveAnnotationArguments(propertyScope, property);
+                        resolveAnnotationArguments(propertyScope, property, trace);
 
-                resolvePropertyAccessors(c, property, propertyDescriptor);
+                        resolvePropertyAccessors(c, property, propertyDescriptor, trace);
+                    }
+                });
                 processed.add(property);
             }
         }
 
         // Top-level properties & properties of objects
         for (Map.Entry<JetProperty, PropertyDescriptor> entry : c.getProperties().entrySet()) {
-            JetProperty property = entry.getKey();
+            final JetProperty property = entry.getKey();
             if (processed.contains(property)) continue;
 
-            PropertyDescriptor propertyDescriptor = entry.getValue();
+            final PropertyDescriptor propertyDescriptor = entry.getValue();
 
-            computeDeferredType(propertyDescriptor.getReturnType());
-
-            JetExpression initializer = property.getInitializer();
-            JetScope propertyScope = getScopeForProperty(c, property);
-            if (initializer != null) {
-                resolvePropertyInitializer(c, property, propertyDescriptor, initializer, propertyScope);
-            }
+            tasks.add(new DeclarationBodyResolveTask(property, propertyDescriptor.getReturnType(),
+                                                     property.getInitializer() != null ? propertyDescriptor : null) {
+                @Override
+                public void resolve(@NotNull BindingTrace trace) {
+                    JetExpression initializer = property.getInitializer();
+                    JetScope propertyScope = getScopeForProperty(c, property);
+                    if (initializer != null) {
+                        resolvePropertyInitializer(c, property, propertyDescriptor, initializer, propertyScope, trace);
+                    }
 
-            JetExpression delegateExpression = property.getDelegateExpression();
-            if (delegateExpression != null) {
-                assert initializer == null : "Initializer should be null for delegated property : " + property.getText();
-                resolvePropertyDelegate(c, property, propertyDescriptor, delegateExpression, propertyScope, propertyScope);
-            }
+                    JetExpression delegateExpression = property.getDelegateExpression();
+                    if (delegateExpression != null) {
+                        assert initializer == null : "Initializer should be null for delegated property : " + property.getText();
+                        resolvePropertyDelegate(c, property, propertyDescriptor, delegateExpression, propertyScope, propertyScope, trace);
+                    }
 
-            resolveAnnotationArguments(propertyScope, property);
+                    resolveAnnotationArguments(propertyScope, property, trace);
 
-            resolvePropertyAccessors(c, property, propertyDescriptor);
+                    resolvePropertyAccessors(c, property, propertyDescriptor, trace);
+                }
+            });
         }
+
+        return tasks;
     }
 
-    private JetScope makeScopeForPropertyAccessor(@NotNull BodiesResolveContext c, @NotNull JetPropertyAccessor accessor, @NotNull PropertyDescriptor descriptor) {
+    private JetScope makeScopeForPropertyAccessor(
+            @NotNull BodiesResolveContext c,
+            @NotNull JetPropertyAccessor accessor,
+            @NotNull PropertyDescriptor descriptor,
+            @NotNull BindingTrace trace
+    ) {
         JetScope accessorDeclaringScope = c.getDeclaringScopes().apply(accessor);
         assert accessorDeclaringScope != null : "Scope for accessor " + accessor.getText() + " should exists";
         return JetScopeUtils.makeScopeForPropertyAccessor(descriptor, accessorDeclaringScope, trace);
@@ -483,26 +525,38 @@ public class BodyResolver {
             @NotNull JetProperty property,
             @NotNull PropertyDescriptor propertyDescriptor
     ) {
-        ObservableBindingTrace fieldAccessTrackingTrace = createFieldTrackingTrace(propertyDescriptor);
+        resolvePropertyAccessors(c, property, propertyDescriptor, trace);
+    }
+
+    private void resolvePropertyAccessors(
+            @NotNull BodiesResolveContext c,
+            @NotNull JetProperty property,
+            @NotNull PropertyDescriptor propertyDescriptor,
+            @NotNull BindingTrace trace
+    ) {
+        ObservableBindingTrace fieldAccessTrackingTrace = createFieldTrackingTrace(propertyDescriptor, trace);
 
         JetPropertyAccessor getter = property.getGetter();
         PropertyGetterDescriptor getterDescriptor = propertyDescriptor.getGetter();
         if (getter != null && getterDescriptor != null) {
-            JetScope accessorScope = makeScopeForPropertyAccessor(c, getter, propertyDescriptor);
-            resolveAnnotationArguments(accessorScope, getter);
+            JetScope accessorScope = makeScopeForPropertyAccessor(c, getter, propertyDescriptor, trace);
+            resolveAnnotationArguments(accessorScope, getter, trace);
             resolveFunctionBody(c, fieldAccessTrackingTrace, getter, getterDescriptor, accessorScope);
         }
 
         JetPropertyAccessor setter = property.getSetter();
         PropertySetterDescriptor setterDescriptor = propertyDescriptor.getSetter();
         if (setter != null && setterDescriptor != null) {
-            JetScope accessorScope = makeScopeForPropertyAccessor(c, setter, propertyDescriptor);
-            resolveAnnotationArguments(accessorScope, setter);
+            JetScope accessorScope = makeScopeForPropertyAccessor(c, setter, propertyDescriptor, trace);
+            resolveAnnotationArguments(accessorScope, setter, trace);
             resolveFunctionBody(c, fieldAccessTrackingTrace, setter, setterDescriptor, accessorScope);
         }
     }
 
-    private ObservableBindingTrace createFieldTrackingTrace(final PropertyDescriptor propertyDescriptor) {
+    private static ObservableBindingTrace createFieldTrackingTrace(
+            final PropertyDescriptor propertyDescriptor,
+            @NotNull final BindingTrace trace
+    ) {
         return new ObservableBindingTrace(trace).addHandler(BindingContext.REFERENCE_TARGET, new ObservableBindingTrace.RecordHandler<JetReferenceExpression, DeclarationDescriptor>() {
             @Override
             public void handleRecord(WritableSlice<JetReferenceExpression, DeclarationDescriptor> slice, JetReferenceExpression expression, DeclarationDescriptor descriptor) {
@@ -526,6 +580,18 @@ public class BodyResolver {
             @NotNull JetExpression delegateExpression,
             @NotNull JetScope parentScopeForAccessor,
             @NotNull JetScope propertyScope
+    ) {
+        resolvePropertyDelegate(c, jetProperty, propertyDescriptor, delegateExpression, parentScopeForAccessor, propertyScope, trace);
+    }
+
+    private void resolvePropertyDelegate(
+            @NotNull BodiesResolveContext c,
+            @NotNull JetProperty jetProperty,
+            @NotNull PropertyDescriptor propertyDescriptor,
+            @NotNull JetExpression delegateExpression,
+            @NotNull JetScope parentScopeForAccessor,
+            @NotNull JetScope propertyScope,
+            @NotNull BindingTrace trace
     ) {
         JetPropertyAccessor getter = jetProperty.getGetter();
         if (getter != null) {
@@ -561,6 +627,17 @@ public class BodyResolver {
             @NotNull PropertyDescriptor propertyDescriptor,
             @NotNull JetExpression initializer,
             @NotNull JetScope scope
+    ) {
+        resolvePropertyInitializer(c, property, propertyDescriptor, initializer, scope, trace);
+    }
+
+    private void resolvePropertyInitializer(
+            @NotNull BodiesResolveContext c,
+            @NotNull JetProperty property,
+            @NotNull PropertyDescriptor propertyDescriptor,
+            @NotNull JetExpression initializer,
+            @NotNull JetScope scope,
+            @NotNull BindingTrace trace
     ) {
         JetScope propertyDeclarationInnerScope = JetScopeUtils.getPropertyDeclarationInnerScopeForInitializer(
                 scope, propertyDescriptor.getTypeParameters(), NO_RECEIVER_PARAMETER, trace);
@@ -578,22 +655,110 @@ public class BodyResolver {
         return scope;
     }
 
-    private void resolveFunctionBodies(@NotNull BodiesResolveContext c) {
+    @NotNull
+    private List<DeclarationBodyResolveTask> createFunctionBodyResolveTasks(@NotNull final BodiesResolveContext c) {
+        List<DeclarationBodyResolveTask> tasks = Lists.newArrayList();
         for (Map.Entry<JetNamedFunction, SimpleFunctionDescriptor> entry : c.getFunctions().entrySet()) {
-            JetNamedFunction declaration = entry.getKey();
-            SimpleFunctionDescriptor descriptor = entry.getValue();
+            final JetNamedFunction declaration = entry.getKey();
+            final SimpleFunctionDescriptor descriptor = entry.getValue();
+
+            tasks.add(new DeclarationBodyResolveTask(declaration, descriptor.getReturnType(), null) {
+                @Override
+                public void resolve(@NotNull BindingTrace trace) {
+                    JetScope declaringScope = c.getDeclaringScopes().apply(declaration);
+                    assert declaringScope != null;
+
+                    if (!c.getTopDownAnalysisParameters().isLazyTopDownAnalysis()) {
+                        resolveAnnotationArguments(declaringScope, declaration, trace);
+                    }
+                    resolveFunctionBody(c, trace, declaration, descriptor, declaringScope);
+
+                    assert descriptor.getReturnType() != null;
+                }
+            });
+        }
+
+        return tasks;
+    }
+
+    private abstract static class DeclarationBodyResolveTask {
+        private final JetDeclaration declaration;
+        private final JetType returnType;
+        // Compile-time initializer of this property is computed lazily into the shared trace when its body is resolved
+        private final PropertyDescriptor propertyWithInitializer;
+
+        protected DeclarationBodyResolveTask(
+                @NotNull JetDeclaration declaration,
+                @Nullable JetType returnType,
+                @Nullable PropertyDescriptor propertyWithInitializer
+        ) {
+            this.declaration = declaration;
+            this.returnType = returnType;
+            this.propertyWithInitializer = propertyWithInitializer;
+        }
 
-            computeDeferredType(descriptor.getReturnType());
+        public abstract void resolve(@NotNull BindingTrace trace);
 
-            JetScope declaringScope = c.getDeclaringScopes().apply(declaration);
-            assert declaringScope != null;
+        private void resolveSharedData() {
+            computeDeferredType(returnType);
+            if (propertyWithInitializer != null) {
+                propertyWithInitializer.getCompileTimeInitializer();
+            }
+        }
+    }
+
+    private static boolean canResolveBodiesInParallel(@NotNull BodiesResolveContext c) {
+        TopDownAnalysisParameters parameters = c.getTopDownAnalysisParameters();
+        return !parameters.isLazyTopDownAnalysis() && !parameters.isDeclaredLocally()
+               && parameters.getStorageManager() instanceof LockBasedStorageManager;
+    }
 
-            if (!c.getTopDownAnalysisParameters().isLazyTopDownAnalysis()) {
-                resolveAnnotationArguments(declaringScope, declaration);
+    private void resolveDeclarationBodies(@NotNull BodiesResolveContext c, @NotNull List<DeclarationBodyResolveTask> tasks) {
+        TopDownAnalysisParameters parameters = c.getTopDownAnalysisParameters();
+        int threads = Math.min(parameters.getBodyResolveThreads(), tasks.size());
+
+        if (threads <= 1 || !canResolveBodiesInParallel(c)) {
+            for (DeclarationBodyResolveTask task : tasks) {
+                computeDeferredType(task.returnType);
+                task.resolve(trace);
             }
-            resolveFunctionBody(c, trace, declaration, descriptor, declaringScope);
+            return;
+        }
+
+        // Lazy descriptors (e.g. the ones loaded from Java) record into the shared trace under the lock of the storage manager,
+        // the workers read the shared trace under the same lock and write only to their own traces
+        LockBasedStorageManager storageManager = (LockBasedStorageManager) parameters.getStorageManager();
+        BindingContext sharedContext = new LockBasedLazyResolveStorageManager(storageManager).createSafeTrace(trace).getBindingContext();
+
+        List<Callable<DelegatingBindingTrace>> workers = Lists.newArrayListWithCapacity(tasks.size());
+        for (final DeclarationBodyResolveTask task : tasks) {
+            final DelegatingBindingTrace workerTrace = new DelegatingBindingTrace(sharedContext, "Trace for body resolve", task.declaration);
+            workers.add(new Callable<DelegatingBindingTrace>() {
+                @Override
+                public DelegatingBindingTrace call() {
+                    task.resolve(workerTrace);
+                    return workerTrace;
+                }
+            });
+        }
 
-            assert descriptor.getReturnType() != null;
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            List<Future<DelegatingBindingTrace>> results = pool.invokeAll(workers);
+            // Traces are merged in the order of declarations after every worker is finished,
+            // so the result is the same as in the sequential mode
+            for (Future<DelegatingBindingTrace> result : results) {
+                result.get().addAllMyDataTo(trace);
+            }
+        }
+        catch (InterruptedException e) {
+            throw UtilsPackage.rethrow(e);
+        }
+        catch (ExecutionException e) {
+            throw UtilsPackage.rethrow(e.getCause());
+        }
+        finally {
+            pool.shutdownNow();
         }
     }
 
@@ -642,6 +807,14 @@ public class BodyResolver {
     }
 
     private void resolveAnnotationArguments(@NotNull JetScope scope, @NotNull JetModifierListOwner owner) {
+        resolveAnnotationArguments(scope, owner, trace);
+    }
+
+    private static void resolveAnnotationArguments(
+            @NotNull JetScope scope,
+            @NotNull JetModifierListOwner owner,
+            @NotNull BindingTrace trace
+    ) {
         AnnotationResolver.resolveAnnotationsArguments(owner.getModifierList(), trace);
     }
 
@@ -32,7 +32,7 @@ import java.util.Map;
 
 public class DelegatingBindingTrace implements BindingTrace {
     @SuppressWarnings("ConstantConditions")
-    private final MutableSlicedMap map = BindingTraceContext.TRACK_REWRITES ? new TrackingSlicedMap(BindingTraceContext.TRACK_WITH_STACK_TRACES) : SlicedMapImpl.create();
+    private final MutableSlicedMap map = BindingTraceContext.TRACK_REWRITES ? new TrackingSlicedMap(BindingTraceContext.TRACK_WITH_STACK_TRACES) : CompactSlicedMap.create();
 
     private final BindingContext parentContext;
     private final List<Diagnostic> diagnostics = Lists.newArrayList();
@@ -127,6 +127,18 @@ public class DelegatingBindingTrace implements BindingTrace {
     }
 
     public void moveAllMyDataTo(@NotNull BindingTrace trace) {
+        // Subclasses may override record() and report() (e.g. TraceUtil.DELEGATING_TRACE_STUB), so data is moved directly only
+        // to the traces which are known to put records to their maps as is
+        if (trace.getClass() == DelegatingBindingTrace.class || trace.getClass() == TemporaryBindingTrace.class) {
+            DelegatingBindingTrace delegatingTrace = (DelegatingBindingTrace) trace;
+            if (map instanceof CompactSlicedMap && delegatingTrace.map instanceof CompactSlicedMap) {
+                ((CompactSlicedMap) map).moveAllTo((CompactSlicedMap) delegatingTrace.map);
+                delegatingTrace.diagnostics.addAll(diagnostics);
+                diagnostics.clear();
+                return;
+            }
+        }
+
         addAllMyDataTo(trace, null, true);
         clear();
     }
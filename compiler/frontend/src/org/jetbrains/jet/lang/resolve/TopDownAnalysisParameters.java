@@ -28,9 +28,11 @@ import org.jetbrains.jet.storage.StorageManager;
  */
 public class TopDownAnalysisParameters implements GlobalContext {
     private static boolean LAZY;
+    private static int BODY_RESOLVE_THREADS;
 
     static {
         LAZY = "true".equals(System.getProperty("lazy.tda"));
+        BODY_RESOLVE_THREADS = Integer.getInteger("body.resolve.threads", 1);
     }
 
     @NotNull
@@ -42,7 +44,7 @@ public class TopDownAnalysisParameters implements GlobalContext {
             boolean declaredLocally
     ) {
         return new TopDownAnalysisParameters(storageManager, exceptionTracker, analyzeCompletely, analyzingBootstrapLibrary,
-                                             declaredLocally, LAZY);
+                                             declaredLocally, LAZY, BODY_RESOLVE_THREADS);
     }
 
     @NotNull
@@ -54,7 +56,7 @@ public class TopDownAnalysisParameters implements GlobalContext {
             boolean declaredLocally
     ) {
         return new TopDownAnalysisParameters(storageManager, exceptionTracker, analyzeCompletely, analyzingBootstrapLibrary,
-                                             declaredLocally, true);
+                                             declaredLocally, true, 1);
     }
 
     @NotNull
@@ -63,7 +65,7 @@ public class TopDownAnalysisParameters implements GlobalContext {
             @NotNull ExceptionTracker exceptionTracker,
             @NotNull Predicate<PsiFile> analyzeCompletely
     ) {
-        return new TopDownAnalysisParameters(storageManager, exceptionTracker, analyzeCompletely, false, true, false);
+        return new TopDownAnalysisParameters(storageManager, exceptionTracker, analyzeCompletely, false, true, false, 1);
     }
 
     @NotNull
@@ -75,6 +77,7 @@ public class TopDownAnalysisParameters implements GlobalContext {
     private final boolean analyzingBootstrapLibrary;
     private final boolean declaredLocally;
     private final boolean lazyTopDownAnalysis;
+    private final int bodyResolveThreads;
 
     private TopDownAnalysisParameters(
             @NotNull StorageManager storageManager,
@@ -82,7 +85,8 @@ public class TopDownAnalysisParameters implements GlobalContext {
             @NotNull Predicate<PsiFile> analyzeCompletely,
             boolean analyzingBootstrapLibrary,
             boolean declaredLocally,
-            boolean lazyTopDownAnalysis
+            boolean lazyTopDownAnalysis,
+            int bodyResolveThreads
     ) {
         this.storageManager = storageManager;
         this.exceptionTracker = exceptionTracker;
@@ -90,6 +94,13 @@ public class TopDownAnalysisParameters implements GlobalContext {
         this.analyzingBootstrapLibrary = analyzingBootstrapLibrary;
         this.declaredLocally = declaredLocally;
         this.lazyTopDownAnalysis = lazyTopDownAnalysis;
+        this.bodyResolveThreads = bodyResolveThreads;
+    }
+
+    @NotNull
+    public TopDownAnalysisParameters withBodyResolveThreads(int bodyResolveThreads) {
+        return new TopDownAnalysisParameters(storageManager, exceptionTracker, analyzeCompletely, analyzingBootstrapLibrary,
+                                             declaredLocally, lazyTopDownAnalysis, bodyResolveThreads);
     }
 
     @Override
@@ -122,4 +133,9 @@ public class TopDownAnalysisParameters implements GlobalContext {
     public boolean isLazyTopDownAnalysis() {
         return lazyTopDownAnalysis;
     }
+
+    // Function and property bodies are resolved in parallel if more than one thread is requested
+    public int getBodyResolveThreads() {
+        return bodyResolveThreads;
+    }
 }
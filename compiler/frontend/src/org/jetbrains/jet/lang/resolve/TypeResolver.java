@@ -43,6 +43,9 @@ public class TypeResolver {
     private QualifiedExpressionResolver qualifiedExpressionResolver;
     private ModuleDescriptor moduleDescriptor;
 
+    // Type resolver is created for each module, so are the shared types
+    private final TypeInterner typeInterner = new TypeInterner();
+
     @Inject
     public void setAnnotationResolver(AnnotationResolver annotationResolver) {
         this.annotationResolver = annotationResolver;
@@ -163,13 +166,19 @@ public class TypeResolver {
                                 }
                             }
                             else {
-                                JetTypeImpl resultingType = new JetTypeImpl(
-                                        annotations,
-                                        typeConstructor,
-                                        false,
-                                        arguments,
-                                        classDescriptor.getMemberScope(arguments)
-                                );
+                                JetType resultingType;
+                                if (annotations.isEmpty()) {
+                                    resultingType = typeInterner.internClassType(classDescriptor, false, arguments);
+                                }
+                                else {
+                                    resultingType = new JetTypeImpl(
+                                            annotations,
+                                            typeConstructor,
+                                            false,
+                                            arguments,
+                                            classDescriptor.getMemberScope(arguments)
+                                    );
+                                }
                                 result[0] = type(resultingType);
                                 if (c.checkBounds) {
                                     TypeSubstitutor substitutor = TypeSubstitutor.create(resultingType);
@@ -71,11 +71,19 @@ public class ArgumentTypeResolver {
     public static boolean isSubtypeOfForArgumentType(
             @NotNull JetType actualType,
             @NotNull JetType expectedType
+    ) {
+        return isSubtypeOfForArgumentType(JetTypeChecker.DEFAULT, actualType, expectedType);
+    }
+
+    public static boolean isSubtypeOfForArgumentType(
+            @NotNull JetTypeChecker typeChecker,
+            @NotNull JetType actualType,
+            @NotNull JetType expectedType
     ) {
         if (actualType == PLACEHOLDER_FUNCTION_TYPE) {
             return isFunctionOrErrorType(expectedType) || KotlinBuiltIns.getInstance().isAnyOrNullableAny(expectedType); //todo function type extends
         }
-        return JetTypeChecker.DEFAULT.isSubtypeOf(actualType, expectedType);
+        return typeChecker.isSubtypeOf(actualType, expectedType);
     }
 
     private static boolean isFunctionOrErrorType(@NotNull JetType supertype) {
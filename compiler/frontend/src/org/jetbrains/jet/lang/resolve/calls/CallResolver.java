@@ -31,6 +31,7 @@ import org.jetbrains.jet.lang.resolve.calls.context.*;
 import org.jetbrains.jet.lang.resolve.calls.model.MutableDataFlowInfoForArguments;
 import org.jetbrains.jet.lang.resolve.calls.model.MutableResolvedCall;
 import org.jetbrains.jet.lang.resolve.calls.model.ResolvedCall;
+import org.jetbrains.jet.lang.resolve.calls.results.ResolutionStatus;
 import org.jetbrains.jet.lang.resolve.calls.results.OverloadResolutionResults;
 import org.jetbrains.jet.lang.resolve.calls.results.OverloadResolutionResultsImpl;
 import org.jetbrains.jet.lang.resolve.calls.results.ResolutionResultsHandler;
@@ -527,30 +528,42 @@ public class CallResolver {
             @NotNull ResolutionTask<D, F> task,
             @NotNull CallTransformer<D, F> callTransformer
     ) {
+        // Candidates which can't accept the arguments of the call are resolved only if there is no applicable candidate:
+        // otherwise they don't affect the result. Resolved calls are added to the task in the order of candidates anyway,
+        // so that the reported diagnostics don't depend on this.
+        boolean deferInapplicable = task.checkArguments == CheckValueArgumentsMode.ENABLED && !task.collectAllCandidates;
+
+        List<ResolutionCandidate<D>> candidates = Lists.newArrayList(task.getCandidates());
+        List<Collection<MutableResolvedCall<F>>> resolvedCallsByCandidate = Lists.newArrayListWithCapacity(candidates.size());
+        boolean someCandidatesDeferred = false;
+        boolean applicableCandidateFound = false;
+        for (ResolutionCandidate<D> resolutionCandidate : candidates) {
+            if (deferInapplicable && resolutionCandidate.getDescriptor() instanceof FunctionDescriptor
+                && ValueArgumentsToParametersMapper.isArgumentMappingImpossible(task.call, resolutionCandidate)) {
+                resolvedCallsByCandidate.add(null);
+                someCandidatesDeferred = true;
+                continue;
+            }
+            Collection<MutableResolvedCall<F>> resolvedCalls = performResolutionForCandidate(resolutionCandidate, task, callTransformer);
+            resolvedCallsByCandidate.add(resolvedCalls);
+            applicableCandidateFound |= containsApplicableCall(resolvedCalls);
+        }
 
-        for (ResolutionCandidate<D> resolutionCandidate : task.getCandidates()) {
-            TemporaryBindingTrace candidateTrace = TemporaryBindingTrace.create(
-                    task.trace, "trace to resolve candidate");
-            Collection<CallCandidateResolutionContext<D>> contexts = callTransformer.createCallContexts(resolutionCandidate, task, candidateTrace);
-            for (CallCandidateResolutionContext<D> context : contexts) {
-
-                candidateResolver.performResolutionForCandidateCall(context, task);
-
-                /* important for 'variable as function case': temporary bind reference to descriptor (will be rewritten)
-                to have a binding to variable while 'invoke' call resolve */
-                task.tracing.bindReference(context.candidateCall.getTrace(), context.candidateCall);
-
-                Collection<MutableResolvedCall<F>> resolvedCalls = callTransformer.transformCall(context, this, task);
-
-                for (MutableResolvedCall<F> resolvedCall : resolvedCalls) {
-                    BindingTrace trace = resolvedCall.getTrace();
-                    task.tracing.bindReference(trace, resolvedCall);
-                    task.tracing.bindResolvedCall(trace, resolvedCall);
-                    task.addResolvedCall(resolvedCall);
+        if (someCandidatesDeferred && !applicableCandidateFound) {
+            for (int i = 0; i < candidates.size(); i++) {
+                if (resolvedCallsByCandidate.get(i) == null) {
+                    resolvedCallsByCandidate.set(i, performResolutionForCandidate(candidates.get(i), task, callTransformer));
                 }
             }
         }
 
+        for (Collection<MutableResolvedCall<F>> resolvedCalls : resolvedCallsByCandidate) {
+            if (resolvedCalls == null) continue;
+            for (MutableResolvedCall<F> resolvedCall : resolvedCalls) {
+                task.addResolvedCall(resolvedCall);
+            }
+        }
+
         OverloadResolutionResultsImpl<F> results = ResolutionResultsHandler.INSTANCE.computeResultAndReportErrors(
                 task, task.getResolvedCalls());
         if (!results.isSingleResult() && !results.isIncomplete()) {
@@ -558,4 +571,42 @@ public class CallResolver {
         }
         return results;
     }
+
+    @NotNull
+    private <D extends CallableDescriptor, F extends D> Collection<MutableResolvedCall<F>> performResolutionForCandidate(
+            @NotNull ResolutionCandidate<D> resolutionCandidate,
+            @NotNull ResolutionTask<D, F> task,
+            @NotNull CallTransformer<D, F> callTransformer
+    ) {
+        Collection<MutableResolvedCall<F>> result = Lists.newArrayList();
+        TemporaryBindingTrace candidateTrace = TemporaryBindingTrace.create(
+                task.trace, "trace to resolve candidate");
+        Collection<CallCandidateResolutionContext<D>> contexts = callTransformer.createCallContexts(resolutionCandidate, task, candidateTrace);
+        for (CallCandidateResolutionContext<D> context : contexts) {
+
+            candidateResolver.performResolutionForCandidateCall(context, task);
+
+            /* important for 'variable as function case': temporary bind reference to descriptor (will be rewritten)
+            to have a binding to variable while 'invoke' call resolve */
+            task.tracing.bindReference(context.candidateCall.getTrace(), context.candidateCall);
+
+            Collection<MutableResolvedCall<F>> resolvedCalls = callTransformer.transformCall(context, this, task);
+
+            for (MutableResolvedCall<F> resolvedCall : resolvedCalls) {
+                BindingTrace trace = resolvedCall.getTrace();
+                task.tracing.bindReference(trace, resolvedCall);
+                task.tracing.bindResolvedCall(trace, resolvedCall);
+                result.add(resolvedCall);
+            }
+        }
+        return result;
+    }
+
+    private static boolean containsApplicableCall(@NotNull Collection<? extends MutableResolvedCall<?>> resolvedCalls) {
+        for (MutableResolvedCall<?> resolvedCall : resolvedCalls) {
+            ResolutionStatus status = resolvedCall.getStatus();
+            if (status.isSuccess() || status == ResolutionStatus.INCOMPLETE_TYPE_INFERENCE) return true;
+        }
+        return false;
+    }
 }
@@ -43,6 +43,7 @@ import org.jetbrains.jet.lang.resolve.scopes.receivers.ExpressionReceiver;
 import org.jetbrains.jet.lang.resolve.scopes.receivers.ReceiverValue;
 import org.jetbrains.jet.lang.types.*;
 import org.jetbrains.jet.lang.types.checker.JetTypeChecker;
+import org.jetbrains.jet.lang.types.checker.SubtypeCache;
 import org.jetbrains.jet.lang.types.expressions.ExpressionTypingUtils;
 import org.jetbrains.jet.lang.types.lang.KotlinBuiltIns;
 
@@ -65,11 +66,19 @@ public class CandidateResolver {
     @NotNull
     private ArgumentTypeResolver argumentTypeResolver;
 
+    @NotNull
+    private JetTypeChecker typeChecker = JetTypeChecker.DEFAULT;
+
     @Inject
     public void setArgumentTypeResolver(@NotNull ArgumentTypeResolver argumentTypeResolver) {
         this.argumentTypeResolver = argumentTypeResolver;
     }
 
+    @Inject
+    public void setSubtypeCache(@NotNull SubtypeCache subtypeCache) {
+        this.typeChecker = JetTypeChecker.withCache(subtypeCache);
+    }
+
     public <D extends CallableDescriptor, F extends D> void performResolutionForCandidateCall(
             @NotNull CallCandidateResolutionContext<D> context,
             @NotNull ResolutionTask<D, F> task) {
@@ -472,6 +481,7 @@ public class CandidateResolver {
         ResolutionStatus resultStatus = SUCCESS;
         List<JetType> argumentTypes = Lists.newArrayList();
         MutableDataFlowInfoForArguments infoForArguments = candidateCall.getDataFlowInfoForArguments();
+        List<TypeParameterDescriptor> typeVariables = candidateCall.getCandidateDescriptor().getTypeParameters();
         for (Map.Entry<ValueParameterDescriptor, ResolvedValueArgument> entry : candidateCall.getValueArguments().entrySet()) {
             ValueParameterDescriptor parameterDescriptor = entry.getKey();
             ResolvedValueArgument resolvedArgument = entry.getValue();
@@ -499,8 +509,9 @@ public class CandidateResolver {
                     matchStatus = ArgumentMatchStatus.ARGUMENT_HAS_NO_TYPE;
                 }
                 else if (!noExpectedType(expectedType)) {
-                    if (!ArgumentTypeResolver.isSubtypeOfForArgumentType(type, expectedType)) {
-                        JetType autocastType = autocastValueArgumentTypeIfPossible(expression, expectedType, type, newContext);
+                    JetTypeChecker checker = getTypeChecker(type, typeVariables);
+                    if (!ArgumentTypeResolver.isSubtypeOfForArgumentType(checker, type, expectedType)) {
+                        JetType autocastType = autocastValueArgumentTypeIfPossible(checker, expression, expectedType, type, newContext);
                         if (autocastType == null) {
                             resultStatus = OTHER_ERROR;
                             matchStatus = ArgumentMatchStatus.TYPE_MISMATCH;
@@ -520,8 +531,20 @@ public class CandidateResolver {
         return new ValueArgumentsCheckingResult(resultStatus, argumentTypes);
     }
 
+    // The subtype cache is keyed on types only, while the type variables of the candidate which are being inferred
+    // get their values only when the inference is complete, so checks involving them are not cached.
+    // The expected type never depends on the type variables here, see checkValueArgumentTypes()
+    @NotNull
+    private JetTypeChecker getTypeChecker(@NotNull JetType argumentType, @NotNull List<TypeParameterDescriptor> typeVariables) {
+        if (typeVariables.isEmpty() || !TypeUtils.dependsOnTypeParameters(argumentType, typeVariables)) {
+            return typeChecker;
+        }
+        return JetTypeChecker.DEFAULT;
+    }
+
     @Nullable
     private static JetType autocastValueArgumentTypeIfPossible(
+            @NotNull JetTypeChecker typeChecker,
             @NotNull JetExpression expression,
             @NotNull JetType expectedType,
             @NotNull JetType actualType,
@@ -531,7 +554,7 @@ public class CandidateResolver {
         List<JetType> variants =
                 AutoCastUtils.getAutoCastVariantsExcludingReceiver(context.trace.getBindingContext(), context.dataFlowInfo, receiverToCast);
         for (JetType possibleType : variants) {
-            if (JetTypeChecker.DEFAULT.isSubtypeOf(possibleType, expectedType)) {
+            if (typeChecker.isSubtypeOf(possibleType, expectedType)) {
                 return possibleType;
             }
         }
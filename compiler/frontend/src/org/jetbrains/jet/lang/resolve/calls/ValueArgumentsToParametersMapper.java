@@ -28,6 +28,7 @@ import org.jetbrains.jet.lang.diagnostics.Diagnostic;
 import org.jetbrains.jet.lang.psi.*;
 import org.jetbrains.jet.lang.resolve.calls.callUtil.CallUtilPackage;
 import org.jetbrains.jet.lang.resolve.calls.model.*;
+import org.jetbrains.jet.lang.resolve.calls.tasks.ResolutionCandidate;
 import org.jetbrains.jet.lang.resolve.calls.tasks.TracingStrategy;
 import org.jetbrains.jet.lang.resolve.name.Name;
 import org.jetbrains.jet.lang.resolve.scopes.receivers.ReceiverValue;
@@ -78,6 +79,60 @@ import static org.jetbrains.jet.lang.resolve.calls.ValueArgumentsToParametersMap
         return processor.status;
     }
 
+    /**
+     * A cheap check which doesn't create a resolved call: returns true only if {@link #mapValueArgumentsToParameters}
+     * is sure to fail for the given candidate (wrong number of arguments, unknown named arguments, missing or unexpected receiver)
+     */
+    public static boolean isArgumentMappingImpossible(@NotNull Call call, @NotNull ResolutionCandidate<?> candidate) {
+        CallableDescriptor descriptor = candidate.getDescriptor();
+        if ((descriptor.getReceiverParameter() != null) != candidate.getReceiverArgument().exists()) return true;
+
+        List<ValueParameterDescriptor> valueParameters = descriptor.getValueParameters();
+        boolean[] used = new boolean[valueParameters.size()];
+
+        int currentParameter = 0;
+        boolean namedArgumentSeen = false;
+        for (ValueArgument argument : CallUtilPackage.getValueArgumentsInParentheses(call)) {
+            int index;
+            if (argument.isNamed()) {
+                namedArgumentSeen = true;
+                index = indexOfParameter(valueParameters, argument.getArgumentName().getReferenceExpression().getReferencedNameAsName());
+                if (index < 0 || used[index]) return true;
+            }
+            else {
+                if (namedArgumentSeen || currentParameter >= valueParameters.size()) return true;
+                index = currentParameter;
+                if (valueParameters.get(index).getVarargElementType() == null) {
+                    currentParameter++;
+                }
+            }
+            if (argument.getSpreadElement() != null && valueParameters.get(index).getVarargElementType() == null) return true;
+            used[index] = true;
+        }
+
+        List<JetFunctionLiteralArgument> functionLiteralArguments = call.getFunctionLiteralArguments();
+        if (!functionLiteralArguments.isEmpty()) {
+            int last = valueParameters.size() - 1;
+            if (functionLiteralArguments.size() > 1 || last < 0) return true;
+            if (used[last] || valueParameters.get(last).getVarargElementType() != null) return true;
+            used[last] = true;
+        }
+
+        for (int i = 0; i < valueParameters.size(); i++) {
+            ValueParameterDescriptor valueParameter = valueParameters.get(i);
+            if (!used[i] && !valueParameter.hasDefaultValue() && valueParameter.getVarargElementType() == null) return true;
+        }
+        return false;
+    }
+
+    // The last parameter with this name wins, as in Processor.parameterByName
+    private static int indexOfParameter(@NotNull List<ValueParameterDescriptor> valueParameters, @NotNull Name name) {
+        for (int i = valueParameters.size() - 1; i >= 0; i--) {
+            if (valueParameters.get(i).getName().equals(name)) return i;
+        }
+        return -1;
+    }
+
     private static class Processor<D extends CallableDescriptor> {
         private final Call call;
         private final TracingStrategy tracing;
@@ -16,17 +16,17 @@
 
 package org.jetbrains.jet.lang.resolve.calls.autocasts;
 
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.SetMultimap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.jet.lang.types.JetType;
+import org.jetbrains.jet.utils.PersistentHashMap;
 
 import java.util.Map;
 import java.util.Set;
 
 public interface DataFlowInfo {
-    DataFlowInfo EMPTY = new DelegatingDataFlowInfo(null, ImmutableMap.<DataFlowValue, Nullability>of(),
-                                                    DelegatingDataFlowInfo.newTypeInfo());
+    DataFlowInfo EMPTY = new PersistentDataFlowInfo(PersistentHashMap.<DataFlowValue, Nullability>empty(),
+                                                    PersistentHashMap.<DataFlowValue, Set<JetType>>empty());
 
     @NotNull
     Map<DataFlowValue, Nullability> getCompleteNullabilityInfo();
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.lang.resolve.calls.autocasts;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.SetMultimap;
+import com.google.common.collect.Sets;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.lang.types.JetType;
+import org.jetbrains.jet.lang.types.TypeUtils;
+import org.jetbrains.jet.utils.PersistentHashMap;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.jetbrains.jet.lang.resolve.calls.autocasts.Nullability.NOT_NULL;
+
+/**
+ * Data flow info is kept in persistent maps, so that a derived info shares almost all the data with the original one,
+ * and a lookup doesn't depend on how many times the info was derived.
+ *
+ * Possible types of a value are kept in the order of the old chains of infos: the most recently established types go first.
+ */
+/* package */ class PersistentDataFlowInfo implements DataFlowInfo {
+    @NotNull
+    private final PersistentHashMap<DataFlowValue, Nullability> nullabilityInfo;
+
+    /** Sets of types are immutable */
+    @NotNull
+    private final PersistentHashMap<DataFlowValue, Set<JetType>> typeInfo;
+
+    /* package */ PersistentDataFlowInfo(
+            @NotNull PersistentHashMap<DataFlowValue, Nullability> nullabilityInfo,
+            @NotNull PersistentHashMap<DataFlowValue, Set<JetType>> typeInfo
+    ) {
+        this.nullabilityInfo = nullabilityInfo;
+        this.typeInfo = typeInfo;
+    }
+
+    @Override
+    @NotNull
+    public Map<DataFlowValue, Nullability> getCompleteNullabilityInfo() {
+        return nullabilityInfo.toMap();
+    }
+
+    @Override
+    @NotNull
+    public SetMultimap<DataFlowValue, JetType> getCompleteTypeInfo() {
+        SetMultimap<DataFlowValue, JetType> result = LinkedHashMultimap.create();
+        for (Map.Entry<DataFlowValue, Set<JetType>> entry : typeInfo) {
+            result.putAll(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    @Override
+    @NotNull
+    public Nullability getNullability(@NotNull DataFlowValue key) {
+        if (!key.isStableIdentifier()) return key.getImmanentNullability();
+        Nullability nullability = nullabilityInfo.get(key);
+        return nullability != null ? nullability : key.getImmanentNullability();
+    }
+
+    @NotNull
+    private Set<JetType> getTypes(@NotNull DataFlowValue key) {
+        Set<JetType> types = typeInfo.get(key);
+        return types != null ? types : ImmutableSet.<JetType>of();
+    }
+
+    @Override
+    @NotNull
+    public Set<JetType> getPossibleTypes(@NotNull DataFlowValue key) {
+        Set<JetType> types = getTypes(key);
+        if (getNullability(key).canBeNull()) {
+            return types;
+        }
+
+        Set<JetType> enrichedTypes = Sets.newHashSetWithExpectedSize(types.size() + 1);
+        JetType originalType = key.getType();
+        if (originalType.isNullable()) {
+            enrichedTypes.add(TypeUtils.makeNotNullable(originalType));
+        }
+        for (JetType type : types) {
+            enrichedTypes.add(TypeUtils.makeNotNullable(type));
+        }
+
+        return enrichedTypes;
+    }
+
+    @Override
+    @NotNull
+    public DataFlowInfo equate(@NotNull DataFlowValue a, @NotNull DataFlowValue b) {
+        Nullability nullabilityOfA = getNullability(a);
+        Nullability nullabilityOfB = getNullability(b);
+
+        return putNullability(a, nullabilityOfA.refine(nullabilityOfB), b, nullabilityOfB.refine(nullabilityOfA));
+    }
+
+    @Override
+    @NotNull
+    public DataFlowInfo disequate(@NotNull DataFlowValue a, @NotNull DataFlowValue b) {
+        Nullability nullabilityOfA = getNullability(a);
+        Nullability nullabilityOfB = getNullability(b);
+
+        return putNullability(a, nullabilityOfA.refine(nullabilityOfB.invert()), b, nullabilityOfB.refine(nullabilityOfA.invert()));
+    }
+
+    // Only stable values are recorded, and only if the nullability of one of them is changed
+    @NotNull
+    private DataFlowInfo putNullability(
+            @NotNull DataFlowValue a, @NotNull Nullability nullabilityOfA,
+            @NotNull DataFlowValue b, @NotNull Nullability nullabilityOfB
+    ) {
+        boolean changed = false;
+        PersistentHashMap<DataFlowValue, Nullability> newNullabilityInfo = nullabilityInfo;
+        if (a.isStableIdentifier()) {
+            newNullabilityInfo = newNullabilityInfo.plus(a, nullabilityOfA);
+            changed |= nullabilityOfA != getNullability(a);
+        }
+        if (b.isStableIdentifier()) {
+            newNullabilityInfo = newNullabilityInfo.plus(b, nullabilityOfB);
+            changed |= nullabilityOfB != getNullability(b);
+        }
+        return changed ? new PersistentDataFlowInfo(newNullabilityInfo, typeInfo) : this;
+    }
+
+    @Override
+    @NotNull
+    public DataFlowInfo establishSubtyping(@NotNull DataFlowValue value, @NotNull JetType type) {
+        if (value.getType().equals(type)) return this;
+        if (getPossibleTypes(value).contains(type)) return this;
+        PersistentHashMap<DataFlowValue, Nullability> newNullabilityInfo =
+                type.isNullable() ? nullabilityInfo : nullabilityInfo.plus(value, NOT_NULL);
+        Set<JetType> newTypes = ImmutableSet.<JetType>builder().add(type).addAll(getTypes(value)).build();
+        return new PersistentDataFlowInfo(newNullabilityInfo, typeInfo.plus(value, newTypes));
+    }
+
+    @NotNull
+    @Override
+    public DataFlowInfo and(@NotNull DataFlowInfo otherInfo) {
+        if (otherInfo == EMPTY) return this;
+        if (this == EMPTY) return otherInfo;
+        if (this == otherInfo) return this;
+
+        assert otherInfo instanceof PersistentDataFlowInfo : "Unknown DataFlowInfo type: " + otherInfo;
+        PersistentDataFlowInfo other = (PersistentDataFlowInfo) otherInfo;
+
+        boolean changed = false;
+        PersistentHashMap<DataFlowValue, Nullability> newNullabilityInfo = nullabilityInfo;
+        for (Map.Entry<DataFlowValue, Nullability> entry : other.nullabilityInfo) {
+            DataFlowValue key = entry.getKey();
+            Nullability thisFlags = getNullability(key);
+            Nullability flags = thisFlags.and(entry.getValue());
+            if (flags != thisFlags) {
+                newNullabilityInfo = newNullabilityInfo.plus(key, flags);
+                changed = true;
+            }
+        }
+
+        // Types known from the other info go first
+        PersistentHashMap<DataFlowValue, Set<JetType>> newTypeInfo = typeInfo;
+        for (Map.Entry<DataFlowValue, Set<JetType>> entry : other.typeInfo) {
+            DataFlowValue key = entry.getKey();
+            Set<JetType> thisTypes = getTypes(key);
+            Set<JetType> otherTypes = entry.getValue();
+            if (!thisTypes.containsAll(otherTypes)) {
+                changed = true;
+            }
+            Set<JetType> newTypes = ImmutableSet.<JetType>builder().addAll(otherTypes).addAll(thisTypes).build();
+            if (!Iterables.elementsEqual(newTypes, thisTypes)) {
+                newTypeInfo = newTypeInfo.plus(key, newTypes);
+            }
+        }
+
+        return changed ? new PersistentDataFlowInfo(newNullabilityInfo, newTypeInfo) : this;
+    }
+
+    @NotNull
+    @Override
+    public DataFlowInfo or(@NotNull DataFlowInfo otherInfo) {
+        if (otherInfo == EMPTY) return EMPTY;
+        if (this == EMPTY) return EMPTY;
+        if (this == otherInfo) return this;
+
+        assert otherInfo instanceof PersistentDataFlowInfo : "Unknown DataFlowInfo type: " + otherInfo;
+        PersistentDataFlowInfo other = (PersistentDataFlowInfo) otherInfo;
+
+        PersistentHashMap<DataFlowValue, Nullability> newNullabilityInfo = PersistentHashMap.empty();
+        for (Map.Entry<DataFlowValue, Nullability> entry : other.nullabilityInfo) {
+            DataFlowValue key = entry.getKey();
+            newNullabilityInfo = newNullabilityInfo.plus(key, getNullability(key).or(entry.getValue()));
+        }
+
+        PersistentHashMap<DataFlowValue, Set<JetType>> newTypeInfo = PersistentHashMap.empty();
+        for (Map.Entry<DataFlowValue, Set<JetType>> entry : typeInfo) {
+            DataFlowValue key = entry.getKey();
+            Set<JetType> otherTypes = other.typeInfo.get(key);
+            if (otherTypes == null) continue;
+
+            Set<JetType> commonTypes = ImmutableSet.copyOf(Sets.intersection(entry.getValue(), otherTypes));
+            if (!commonTypes.isEmpty()) {
+                newTypeInfo = newTypeInfo.plus(key, commonTypes);
+            }
+        }
+
+        if (newNullabilityInfo.isEmpty() && newTypeInfo.isEmpty()) {
+            return EMPTY;
+        }
+
+        return new PersistentDataFlowInfo(newNullabilityInfo, newTypeInfo);
+    }
+
+    @Override
+    public String toString() {
+        if (typeInfo.isEmpty() && nullabilityInfo.isEmpty()) {
+            return "EMPTY";
+        }
+        return "Non-trivial DataFlowInfo";
+    }
+}
@@ -22,6 +22,7 @@ import kotlin.Function0;
 import kotlin.Function1;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.jet.lang.PlatformToKotlinClassMap;
 import org.jetbrains.jet.lang.descriptors.*;
 import org.jetbrains.jet.lang.psi.JetCodeFragment;
 import org.jetbrains.jet.lang.psi.JetFile;
@@ -56,11 +57,52 @@ public class LazyImportScope implements JetScope, LazyEntity {
         private final LookupMode lookupMode;
         private final JetScope scope;
         private final Collection<? extends DeclarationDescriptor> descriptors;
-
-        ImportResolveStatus(LookupMode lookupMode, JetScope scope, Collection<? extends DeclarationDescriptor> descriptors) {
+        // Scopes of the packages imported with '*', null if something else was imported that way
+        @Nullable
+        private final List<JetScope> allUnderImportedScopes;
+
+        ImportResolveStatus(
+                LookupMode lookupMode,
+                JetScope scope,
+                Collection<? extends DeclarationDescriptor> descriptors,
+                @Nullable List<JetScope> allUnderImportedScopes
+        ) {
             this.lookupMode = lookupMode;
             this.scope = scope;
             this.descriptors = descriptors;
+            this.allUnderImportedScopes = allUnderImportedScopes;
+        }
+
+        private boolean mayContainName(@NotNull Name name) {
+            if (allUnderImportedScopes == null) return true;
+
+            for (JetScope importedScope : allUnderImportedScopes) {
+                if (JetScopeSelectorUtil.mayContainName(importedScope, name)) return true;
+            }
+            return false;
+        }
+    }
+
+    private static class AllUnderImportsRecordingImporter extends Importer.StandardImporter {
+        @Nullable
+        private List<JetScope> allUnderImportedScopes = Lists.newArrayList();
+
+        private AllUnderImportsRecordingImporter(@NotNull WritableScope fileScope) {
+            super(fileScope);
+        }
+
+        @Override
+        public void addAllUnderImport(@NotNull DeclarationDescriptor descriptor, @NotNull PlatformToKotlinClassMap platformToKotlinClassMap) {
+            super.addAllUnderImport(descriptor, platformToKotlinClassMap);
+
+            if (allUnderImportedScopes == null) return;
+            if (descriptor instanceof PackageViewDescriptor) {
+                allUnderImportedScopes.add(((PackageViewDescriptor) descriptor).getMemberScope());
+            }
+            else {
+                // Static members of classes are not summarized
+                allUnderImportedScopes = null;
+            }
         }
     }
 
@@ -93,7 +135,7 @@ public class LazyImportScope implements JetScope, LazyEntity {
                             "Scope for import '" + DebugTextPackage.getDebugText(directive) + "' resolve in " + toString());
                     directiveImportScope.changeLockLevel(WritableScope.LockLevel.BOTH);
 
-                    Importer.StandardImporter importer = new Importer.StandardImporter(directiveImportScope);
+                    AllUnderImportsRecordingImporter importer = new AllUnderImportsRecordingImporter(directiveImportScope);
                     directiveUnderResolve = directive;
 
                     Collection<? extends DeclarationDescriptor> descriptors;
@@ -120,11 +162,18 @@ public class LazyImportScope implements JetScope, LazyEntity {
                         directiveImportScope.changeLockLevel(WritableScope.LockLevel.READING);
                     }
 
-                    importResolveStatus = new ImportResolveStatus(mode, directiveImportScope, descriptors);
+                    List<JetScope> allUnderImportedScopes = directive.isAllUnder() ? importer.allUnderImportedScopes : null;
+                    importResolveStatus = new ImportResolveStatus(mode, directiveImportScope, descriptors, allUnderImportedScopes);
                     return directiveImportScope;
                 }
             });
         }
+
+        // Should be called after the directive is resolved
+        private boolean mayContainName(@NotNull Name name) {
+            ImportResolveStatus status = importResolveStatus;
+            return status == null || status.mayContainName(name);
+        }
     }
 
     private final MemoizedFunctionToNotNull<JetImportDirective, ImportDirectiveResolveCache> importedScopesProvider;
@@ -212,7 +261,14 @@ public class LazyImportScope implements JetScope, LazyEntity {
                         return null;
                     }
 
-                    D foundDescriptor = descriptorSelector.get(getImportScope(directive, lookupMode), name);
+                    ImportDirectiveResolveCache directiveResolveCache = importedScopesProvider.invoke(directive);
+                    JetScope importScope = directiveResolveCache.scopeForMode(lookupMode);
+                    // Name summaries don't cover packages
+                    if (descriptorSelector != JetScopeSelectorUtil.PACKAGE_SCOPE_SELECTOR && !directiveResolveCache.mayContainName(name)) {
+                        continue;
+                    }
+
+                    D foundDescriptor = descriptorSelector.get(importScope, name);
                     if (foundDescriptor != null) {
                         return foundDescriptor;
                     }
@@ -239,7 +295,11 @@ public class LazyImportScope implements JetScope, LazyEntity {
                         throw new IllegalStateException("Recursion while resolving many imports: " + directive.getText());
                     }
 
-                    descriptors.addAll(descriptorsSelector.get(getImportScope(directive, lookupMode), name));
+                    ImportDirectiveResolveCache directiveResolveCache = importedScopesProvider.invoke(directive);
+                    JetScope importScope = directiveResolveCache.scopeForMode(lookupMode);
+                    if (!directiveResolveCache.mayContainName(name)) continue;
+
+                    descriptors.addAll(descriptorsSelector.get(importScope, name));
                 }
 
                 return descriptors;
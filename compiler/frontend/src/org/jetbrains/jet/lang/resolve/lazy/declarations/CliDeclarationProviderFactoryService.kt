@@ -23,7 +23,10 @@ import org.jetbrains.jet.storage.StorageManager
 import org.jetbrains.kotlin.util.sure
 import java.util.ArrayList
 
-public class CliDeclarationProviderFactoryService(private val sourceFiles: Collection<JetFile>) : DeclarationProviderFactoryService() {
+public class CliDeclarationProviderFactoryService(
+        private val sourceFiles: Collection<JetFile>,
+        private val declarationNames: ((JetFile) -> FileDeclarationNames)? = null
+) : DeclarationProviderFactoryService() {
 
     override fun create(
             project: Project,
@@ -37,6 +40,10 @@ public class CliDeclarationProviderFactoryService(private val sourceFiles: Colle
             filesScope.contains(vFile)
         }
         allFiles addAll syntheticFiles
+        val names = declarationNames
+        if (names != null) {
+            return NameFilteredDeclarationProviderFactory(storageManager, allFiles, names)
+        }
         return FileBasedDeclarationProviderFactory(storageManager, allFiles)
     }
 }
@@ -41,7 +41,7 @@ public class FileBasedDeclarationProviderFactory extends AbstractDeclarationProv
         private final Set<FqName> declaredPackages = Sets.newHashSet();
     }
 
-    private final StorageManager storageManager;
+    protected final StorageManager storageManager;
     private final NotNullLazyValue<Index> index;
 
     public FileBasedDeclarationProviderFactory(@NotNull StorageManager storageManager, @NotNull final Collection<JetFile> files) {
@@ -56,16 +56,21 @@ public class FileBasedDeclarationProviderFactory extends AbstractDeclarationProv
     }
 
     @NotNull
-    private static Index computeFilesByPackage(@NotNull Collection<JetFile> files) {
+    private Index computeFilesByPackage(@NotNull Collection<JetFile> files) {
         Index index = new Index();
         for (JetFile file : files) {
-            FqName packageFqName = file.getPackageFqName();
+            FqName packageFqName = getPackageFqName(file);
             addMeAndParentPackages(index, packageFqName);
             index.filesByPackage.put(packageFqName, file);
         }
         return index;
     }
 
+    @NotNull
+    protected FqName getPackageFqName(@NotNull JetFile file) {
+        return file.getPackageFqName();
+    }
+
     private static void addMeAndParentPackages(@NotNull Index index, @NotNull FqName name) {
         index.declaredPackages.add(name);
         if (!name.isRoot()) {
@@ -90,13 +95,20 @@ public class FileBasedDeclarationProviderFactory extends AbstractDeclarationProv
     @Override
     protected PackageMemberDeclarationProvider createPackageMemberDeclarationProvider(@NotNull FqName packageFqName) {
         if (isPackageDeclaredExplicitly(packageFqName)) {
-            return new FileBasedPackageMemberDeclarationProvider(
-                    storageManager, packageFqName, this, index.invoke().filesByPackage.get(packageFqName));
+            return createPackageMemberDeclarationProvider(packageFqName, index.invoke().filesByPackage.get(packageFqName));
         }
 
         return null;
     }
 
+    @NotNull
+    protected PackageMemberDeclarationProvider createPackageMemberDeclarationProvider(
+            @NotNull FqName packageFqName,
+            @NotNull Collection<JetFile> packageFiles
+    ) {
+        return new FileBasedPackageMemberDeclarationProvider(storageManager, packageFqName, this, packageFiles);
+    }
+
     @NotNull
     @Override
     public ClassMemberDeclarationProvider getClassMemberDeclarationProvider(@NotNull JetClassLikeInfo classLikeInfo) {
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.lang.resolve.lazy.declarations;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.lang.psi.*;
+import org.jetbrains.jet.lang.resolve.name.FqName;
+import org.jetbrains.jet.lang.resolve.name.Name;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.jetbrains.jet.lang.resolve.lazy.ResolveSessionUtils.safeNameForLazyResolve;
+
+/**
+ * The package of a file and the names of its top-level declarations. They are small enough to be cached between compilations,
+ * and it's enough to know which files of a package declare a name, so other files are not parsed for lazy resolve of this name.
+ * Names are made safe for lazy resolve the same way as in {@link AbstractPsiBasedDeclarationProvider}
+ */
+public final class FileDeclarationNames {
+    private final FqName packageFqName;
+    private final boolean isScript;
+    private final Set<Name> functionNames;
+    private final Set<Name> propertyNames;
+    private final Set<Name> classNames;
+
+    private FileDeclarationNames(
+            @NotNull FqName packageFqName,
+            boolean isScript,
+            @NotNull Set<Name> functionNames,
+            @NotNull Set<Name> propertyNames,
+            @NotNull Set<Name> classNames
+    ) {
+        this.packageFqName = packageFqName;
+        this.isScript = isScript;
+        this.functionNames = functionNames;
+        this.propertyNames = propertyNames;
+        this.classNames = classNames;
+    }
+
+    /**
+     * Builds the file-level tree of the file if it's not built yet, lazily parsed bodies of functions stay collapsed
+     */
+    @NotNull
+    public static FileDeclarationNames build(@NotNull JetFile file) {
+        Set<Name> functionNames = new HashSet<Name>();
+        Set<Name> propertyNames = new HashSet<Name>();
+        Set<Name> classNames = new HashSet<Name>();
+        for (JetDeclaration declaration : file.getDeclarations()) {
+            if (declaration instanceof JetNamedFunction) {
+                functionNames.add(safeNameForLazyResolve((JetNamedFunction) declaration));
+            }
+            else if (declaration instanceof JetProperty) {
+                propertyNames.add(safeNameForLazyResolve((JetProperty) declaration));
+            }
+            else if (declaration instanceof JetClassOrObject) {
+                classNames.add(safeNameForLazyResolve(((JetClassOrObject) declaration).getNameAsName()));
+            }
+        }
+
+        return new FileDeclarationNames(file.getPackageFqName(), file.isScript(), functionNames, propertyNames, classNames);
+    }
+
+    @NotNull
+    public FqName getPackageFqName() {
+        return packageFqName;
+    }
+
+    /**
+     * Declarations of a script are not indexed by name, all files of a package with a script are loaded on any request
+     */
+    public boolean isScript() {
+        return isScript;
+    }
+
+    public boolean declaresFunction(@NotNull Name name) {
+        return functionNames.contains(name);
+    }
+
+    public boolean declaresProperty(@NotNull Name name) {
+        return propertyNames.contains(name);
+    }
+
+    public boolean declaresClassOrObject(@NotNull Name name) {
+        return classNames.contains(name);
+    }
+
+    public void write(@NotNull DataOutput output) throws IOException {
+        output.writeUTF(packageFqName.asString());
+        output.writeBoolean(isScript);
+        writeNames(output, functionNames);
+        writeNames(output, propertyNames);
+        writeNames(output, classNames);
+    }
+
+    @NotNull
+    public static FileDeclarationNames read(@NotNull DataInput input) throws IOException {
+        FqName packageFqName = new FqName(input.readUTF());
+        boolean isScript = input.readBoolean();
+        Set<Name> functionNames = readNames(input);
+        Set<Name> propertyNames = readNames(input);
+        Set<Name> classNames = readNames(input);
+        return new FileDeclarationNames(packageFqName, isScript, functionNames, propertyNames, classNames);
+    }
+
+    private static void writeNames(@NotNull DataOutput output, @NotNull Set<Name> names) throws IOException {
+        output.writeInt(names.size());
+        for (Name name : names) {
+            output.writeUTF(name.asString());
+        }
+    }
+
+    @NotNull
+    private static Set<Name> readNames(@NotNull DataInput input) throws IOException {
+        int count = input.readInt();
+        Set<Name> names = new HashSet<Name>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(Name.identifier(input.readUTF()));
+        }
+        return names;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.lang.resolve.lazy.declarations;
+
+import kotlin.Function1;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.lang.psi.JetFile;
+import org.jetbrains.jet.lang.resolve.name.FqName;
+import org.jetbrains.jet.storage.StorageManager;
+
+import java.util.Collection;
+
+/**
+ * Indexes files by package and looks up declarations by name only in the files which declare it according to {@link FileDeclarationNames}.
+ * The names may come from a cache, in which case a file is only parsed when one of the names it declares is requested.
+ * Declarations themselves, including their headers, are always taken from PSI of the files
+ */
+public class NameFilteredDeclarationProviderFactory extends FileBasedDeclarationProviderFactory {
+    private final Function1<JetFile, FileDeclarationNames> declarationNames;
+
+    public NameFilteredDeclarationProviderFactory(
+            @NotNull StorageManager storageManager,
+            @NotNull Collection<JetFile> files,
+            @NotNull Function1<JetFile, FileDeclarationNames> declarationNames
+    ) {
+        super(storageManager, files);
+        this.declarationNames = declarationNames;
+    }
+
+    @NotNull
+    @Override
+    protected FqName getPackageFqName(@NotNull JetFile file) {
+        return declarationNames.invoke(file).getPackageFqName();
+    }
+
+    @NotNull
+    @Override
+    protected PackageMemberDeclarationProvider createPackageMemberDeclarationProvider(
+            @NotNull FqName packageFqName,
+            @NotNull Collection<JetFile> packageFiles
+    ) {
+        return new NameFilteredPackageMemberDeclarationProvider(storageManager, packageFqName, this, packageFiles, declarationNames);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.lang.resolve.lazy.declarations;
+
+import kotlin.Function0;
+import kotlin.Function1;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.lang.psi.*;
+import org.jetbrains.jet.lang.resolve.lazy.data.JetClassInfoUtil;
+import org.jetbrains.jet.lang.resolve.lazy.data.JetClassLikeInfo;
+import org.jetbrains.jet.lang.resolve.name.FqName;
+import org.jetbrains.jet.lang.resolve.name.Name;
+import org.jetbrains.jet.storage.MemoizedFunctionToNotNull;
+import org.jetbrains.jet.storage.NotNullLazyValue;
+import org.jetbrains.jet.storage.StorageManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.jetbrains.jet.lang.resolve.lazy.ResolveSessionUtils.safeNameForLazyResolve;
+
+/**
+ * Looks up declarations by name only in the files which declare this name according to {@link FileDeclarationNames},
+ * so the other files of the package are not parsed. Found declarations and all declarations of the package are taken from PSI
+ */
+public class NameFilteredPackageMemberDeclarationProvider extends FileBasedPackageMemberDeclarationProvider {
+    private final Collection<JetFile> packageFiles;
+    private final Function1<JetFile, FileDeclarationNames> declarationNames;
+    private final NotNullLazyValue<Boolean> hasScripts;
+
+    private final MemoizedFunctionToNotNull<Name, List<JetNamedFunction>> functions;
+    private final MemoizedFunctionToNotNull<Name, List<JetProperty>> properties;
+    private final MemoizedFunctionToNotNull<Name, List<JetClassLikeInfo>> classesAndObjects;
+
+    /*package*/ NameFilteredPackageMemberDeclarationProvider(
+            @NotNull StorageManager storageManager,
+            @NotNull FqName fqName,
+            @NotNull FileBasedDeclarationProviderFactory factory,
+            @NotNull final Collection<JetFile> packageFiles,
+            @NotNull final Function1<JetFile, FileDeclarationNames> declarationNames
+    ) {
+        super(storageManager, fqName, factory, packageFiles);
+        this.packageFiles = packageFiles;
+        this.declarationNames = declarationNames;
+        this.hasScripts = storageManager.createLazyValue(new Function0<Boolean>() {
+            @Override
+            public Boolean invoke() {
+                for (JetFile file : packageFiles) {
+                    if (declarationNames.invoke(file).isScript()) return true;
+                }
+                return false;
+            }
+        });
+        this.functions = storageManager.createMemoizedFunction(new Function1<Name, List<JetNamedFunction>>() {
+            @Override
+            public List<JetNamedFunction> invoke(Name name) {
+                return findDeclarations(name, JetNamedFunction.class);
+            }
+        });
+        this.properties = storageManager.createMemoizedFunction(new Function1<Name, List<JetProperty>>() {
+            @Override
+            public List<JetProperty> invoke(Name name) {
+                return findDeclarations(name, JetProperty.class);
+            }
+        });
+        this.classesAndObjects = storageManager.createMemoizedFunction(new Function1<Name, List<JetClassLikeInfo>>() {
+            @Override
+            public List<JetClassLikeInfo> invoke(Name name) {
+                List<JetClassLikeInfo> result = new ArrayList<JetClassLikeInfo>();
+                for (JetClassOrObject classOrObject : findDeclarations(name, JetClassOrObject.class)) {
+                    result.add(JetClassInfoUtil.createClassLikeInfo(classOrObject));
+                }
+                return result;
+            }
+        });
+    }
+
+    @NotNull
+    private <D extends JetNamedDeclaration> List<D> findDeclarations(@NotNull Name name, @NotNull Class<D> declarationClass) {
+        List<D> result = new ArrayList<D>();
+        for (JetFile file : packageFiles) {
+            if (!declares(declarationNames.invoke(file), name, declarationClass)) continue;
+
+            for (JetDeclaration declaration : file.getDeclarations()) {
+                if (declarationClass.isInstance(declaration) && safeNameForLazyResolve((JetNamedDeclaration) declaration).equals(name)) {
+                    result.add(declarationClass.cast(declaration));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean declares(@NotNull FileDeclarationNames names, @NotNull Name name, @NotNull Class<?> declarationClass) {
+        if (declarationClass == JetNamedFunction.class) return names.declaresFunction(name);
+        if (declarationClass == JetProperty.class) return names.declaresProperty(name);
+        return names.declaresClassOrObject(name);
+    }
+
+    @NotNull
+    @Override
+    public List<JetNamedFunction> getFunctionDeclarations(@NotNull Name name) {
+        if (hasScripts.invoke()) return super.getFunctionDeclarations(name);
+        return functions.invoke(safeNameForLazyResolve(name));
+    }
+
+    @NotNull
+    @Override
+    public List<JetProperty> getPropertyDeclarations(@NotNull Name name) {
+        if (hasScripts.invoke()) return super.getPropertyDeclarations(name);
+        return properties.invoke(safeNameForLazyResolve(name));
+    }
+
+    @NotNull
+    @Override
+    public Collection<JetClassLikeInfo> getClassOrObjectDeclarations(@NotNull Name name) {
+        if (hasScripts.invoke()) return super.getClassOrObjectDeclarations(name);
+        return classesAndObjects.invoke(safeNameForLazyResolve(name));
+    }
+}
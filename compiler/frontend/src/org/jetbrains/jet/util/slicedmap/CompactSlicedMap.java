@@ -0,0 +1,408 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.util.slicedmap;
+
+import com.google.common.collect.ImmutableMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Sliced map which keeps a separate open addressing table for each slice. Unlike {@link SlicedMapImpl},
+ * it doesn't allocate {@link SlicedMapKey} and entry objects on reads and writes.
+ *
+ * Behaves as {@link SlicedMapImpl} with one exception: iteration order. Entries are grouped by slice: slices are iterated in the order
+ * of the first write to them, entries of a slice in the order of insertion. {@link SlicedMapImpl} iterates all entries in the order of
+ * insertion. Like there, getSliceContents() returns entries only for the slice which they are stored for (so it's empty for
+ * {@link DelegatingSlice}), collective keys are collected for the slice they were put with and are not dropped by clear().
+ */
+public class CompactSlicedMap implements MutableSlicedMap {
+
+    public static CompactSlicedMap create() {
+        return new CompactSlicedMap();
+    }
+
+    // Both are created on the first write, since most of the maps (e.g. in temporary traces) stay empty
+    private Map<WritableSlice<?, ?>, SliceTable> tableBySlice = null;
+    private List<SliceTable> tables = null;
+    private Map<WritableSlice<?, ?>, List<Object>> collectiveKeys = null;
+
+    protected CompactSlicedMap() {
+    }
+
+    @Override
+    public <K, V> void put(WritableSlice<K, V> slice, K key, V value) {
+        if (!slice.check(key, value)) {
+            return;
+        }
+
+        SliceTable table = getOrCreateTable(slice);
+        Object storageKey = getStorageKey(slice, key);
+
+        RewritePolicy rewritePolicy = slice.getRewritePolicy();
+        if (rewritePolicy.rewriteProcessingNeeded(key)) {
+            int position = table.find(storageKey);
+            if (position >= 0) {
+                //noinspection unchecked
+                if (!rewritePolicy.processRewrite(slice, key, (V) table.values[position], value)) {
+                    return;
+                }
+            }
+        }
+
+        if (slice.isCollective()) {
+            addCollectiveKey(slice, key);
+        }
+
+        table.put(storageKey, value);
+        slice.afterPut(this, key, value);
+    }
+
+    // Collective keys are kept, just like in SlicedMapImpl
+    @Override
+    public void clear() {
+        tableBySlice = null;
+        tables = null;
+    }
+
+    /**
+     * Moves all entries to the target map and clears this one, like putting every entry to the target and calling clear() does.
+     * A table is handed over as a whole only when the target has no entries of its slice, so no rewrite policy can be involved,
+     * and afterPut() of the slice writes nothing (see {@link #isAfterPutNoOp}). Entries of other slices are put one by one.
+     */
+    public void moveAllTo(@NotNull CompactSlicedMap target) {
+        if (tables == null) return;
+
+        for (SliceTable table : tables) {
+            SliceTable targetTable = target.tableBySlice == null ? null : target.tableBySlice.get(table.slice);
+            if (targetTable == null && isAfterPutNoOp(table.slice)) {
+                target.addTable(table);
+                if (table.slice.isCollective()) {
+                    for (int i = 0; i < table.size; i++) {
+                        Object key = table.keys[i];
+                        if (key == REMOVED) continue;
+                        target.addCollectiveKey(table.slice, unmaskNull(key));
+                    }
+                }
+                continue;
+            }
+
+            WritableSlice slice = table.slice;
+            for (int i = 0; i < table.size; i++) {
+                Object key = table.keys[i];
+                if (key == REMOVED) continue;
+
+                //noinspection unchecked
+                target.put(slice, unmaskNull(key), table.values[i]);
+            }
+        }
+
+        clear();
+    }
+
+    // Anonymous slices made by Slices.SliceBuilder override computeValue() only
+    private static boolean isAfterPutNoOp(@NotNull WritableSlice<?, ?> slice) {
+        if (slice instanceof Slices.SliceWithOpposite) {
+            return !((Slices.SliceWithOpposite) slice).hasOpposite();
+        }
+        return slice.getClass() == BasicWritableSlice.class || slice.getClass() == Slices.SetSlice.class;
+    }
+
+    @Override
+    public <K, V> V get(ReadOnlySlice<K, V> slice, K key) {
+        SliceTable table = getTable(slice);
+        int position = table == null ? -1 : table.find(getStorageKey(slice, key));
+        //noinspection unchecked
+        V value = position < 0 ? null : (V) table.values[position];
+        return slice.computeValue(this, key, value, position < 0);
+    }
+
+    @Override
+    public <K, V> Collection<K> getKeys(WritableSlice<K, V> slice) {
+        assert slice.isCollective() : "Keys are not collected for slice " + slice;
+        List<Object> keys = collectiveKeys == null ? null : collectiveKeys.get(slice);
+        if (keys == null) {
+            return Collections.emptyList();
+        }
+        //noinspection unchecked
+        return (Collection<K>) Collections.unmodifiableList(keys);
+    }
+
+    @Override
+    public <K, V> V remove(RemovableSlice<K, V> slice, K key) {
+        SliceTable table = getTable(slice);
+        //noinspection unchecked
+        return table == null ? null : (V) table.remove(getStorageKey(slice, key));
+    }
+
+    @NotNull
+    @Override
+    public Iterator<Map.Entry<SlicedMapKey<?, ?>, ?>> iterator() {
+        if (tables == null) {
+            return Collections.<Map.Entry<SlicedMapKey<?, ?>, ?>>emptySet().iterator();
+        }
+
+        List<Map.Entry<SlicedMapKey<?, ?>, ?>> entries = new ArrayList<Map.Entry<SlicedMapKey<?, ?>, ?>>();
+        for (SliceTable table : tables) {
+            for (int i = 0; i < table.size; i++) {
+                Object key = table.keys[i];
+                if (key == REMOVED) continue;
+
+                //noinspection unchecked
+                SlicedMapKey<?, ?> slicedMapKey = new SlicedMapKey(table.slice, unmaskNull(key));
+                entries.add(new AbstractMap.SimpleImmutableEntry<SlicedMapKey<?, ?>, Object>(slicedMapKey, table.values[i]));
+            }
+        }
+        return entries.iterator();
+    }
+
+    @NotNull
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> ImmutableMap<K, V> getSliceContents(@NotNull ReadOnlySlice<K, V> slice) {
+        ImmutableMap.Builder<K, V> builder = ImmutableMap.builder();
+        SliceTable table = getTable(slice);
+        // Entries put with a DelegatingSlice are stored for its delegate and are not contents of the DelegatingSlice itself
+        if (table != null && table.slice == slice) {
+            for (int i = 0; i < table.size; i++) {
+                Object key = table.keys[i];
+                if (key == REMOVED) continue;
+
+                builder.put((K) unmaskNull(key), (V) table.values[i]);
+            }
+        }
+        return builder.build();
+    }
+
+    @Nullable
+    private SliceTable getTable(@NotNull ReadOnlySlice<?, ?> slice) {
+        return tableBySlice == null ? null : tableBySlice.get(getStorageSlice(slice));
+    }
+
+    @NotNull
+    private SliceTable getOrCreateTable(@NotNull WritableSlice<?, ?> slice) {
+        WritableSlice<?, ?> storageSlice = getStorageSlice(slice);
+        SliceTable table = tableBySlice == null ? null : tableBySlice.get(storageSlice);
+        if (table == null) {
+            table = new SliceTable(storageSlice);
+            addTable(table);
+        }
+        return table;
+    }
+
+    private void addTable(@NotNull SliceTable table) {
+        if (tableBySlice == null) {
+            tableBySlice = new IdentityHashMap<WritableSlice<?, ?>, SliceTable>();
+            tables = new ArrayList<SliceTable>();
+        }
+        tableBySlice.put(table.slice, table);
+        tables.add(table);
+    }
+
+    private void addCollectiveKey(@NotNull WritableSlice<?, ?> slice, @Nullable Object key) {
+        if (collectiveKeys == null) {
+            collectiveKeys = new IdentityHashMap<WritableSlice<?, ?>, List<Object>>();
+        }
+        List<Object> keys = collectiveKeys.get(slice);
+        if (keys == null) {
+            keys = new ArrayList<Object>();
+            collectiveKeys.put(slice, keys);
+        }
+        keys.add(key);
+    }
+
+    // Slices and keys are normalized the same way as in ReadOnlySlice.makeKey(), but without creating a SlicedMapKey
+
+    @NotNull
+    private static WritableSlice<?, ?> getStorageSlice(@NotNull ReadOnlySlice<?, ?> slice) {
+        ReadOnlySlice<?, ?> current = slice;
+        while (current instanceof DelegatingSlice) {
+            current = ((DelegatingSlice<?, ?>) current).getDelegate();
+        }
+        if (current instanceof BasicWritableSlice) {
+            return (WritableSlice<?, ?>) current;
+        }
+        return current.makeKey(null).getSlice();
+    }
+
+    @Nullable
+    private static <K> Object getStorageKey(@NotNull ReadOnlySlice<K, ?> slice, @Nullable K key) {
+        ReadOnlySlice<K, ?> current = slice;
+        while (current instanceof DelegatingSlice) {
+            current = ((DelegatingSlice<K, ?>) current).getDelegate();
+        }
+        K normalizedKey;
+        if (current instanceof Slices.SliceWithOpposite) {
+            normalizedKey = ((Slices.SliceWithOpposite<K, ?>) current).normalizeKey(key);
+        }
+        else if (current instanceof BasicWritableSlice) {
+            normalizedKey = key;
+        }
+        else {
+            normalizedKey = current.makeKey(key).getKey();
+        }
+        return maskNull(normalizedKey);
+    }
+
+    private static final Object NULL_KEY = new Object() {
+        @Override
+        public String toString() {
+            return "NULL_KEY";
+        }
+    };
+
+    private static final Object REMOVED = new Object() {
+        @Override
+        public String toString() {
+            return "REMOVED";
+        }
+    };
+
+    @NotNull
+    private static Object maskNull(@Nullable Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    @Nullable
+    private static Object unmaskNull(@NotNull Object key) {
+        return key == NULL_KEY ? null : key;
+    }
+
+    /**
+     * Entries are kept in two parallel arrays in the order of insertion, removed entries are marked with REMOVED.
+     * The hash index is an open addressing (linear probing) table of positions in these arrays.
+     */
+    private static final class SliceTable {
+        private static final int INITIAL_CAPACITY = 4;
+
+        // Values in the index: 0 is a free slot, DELETED is a slot of a removed entry, other values are positions + 1
+        private static final int DELETED = -1;
+
+        private final WritableSlice<?, ?> slice;
+
+        private Object[] keys = new Object[INITIAL_CAPACITY];
+        private Object[] values = new Object[INITIAL_CAPACITY];
+        // Number of used positions in keys and values, including removed ones
+        private int size = 0;
+        private int removed = 0;
+
+        private int[] index = new int[INITIAL_CAPACITY * 2];
+
+        private SliceTable(@NotNull WritableSlice<?, ?> slice) {
+            this.slice = slice;
+        }
+
+        private static int hash(@NotNull Object key) {
+            int h = key.hashCode() * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+
+        private int find(@NotNull Object key) {
+            int mask = index.length - 1;
+            for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+                int entry = index[slot];
+                if (entry == 0) return -1;
+                if (entry == DELETED) continue;
+
+                Object candidate = keys[entry - 1];
+                if (candidate == key || candidate.equals(key)) return entry - 1;
+            }
+        }
+
+        private void put(@NotNull Object key, @Nullable Object value) {
+            int mask = index.length - 1;
+            int freeSlot = -1;
+            int slot = hash(key) & mask;
+            for (; ; slot = (slot + 1) & mask) {
+                int entry = index[slot];
+                if (entry == 0) break;
+                if (entry == DELETED) {
+                    if (freeSlot < 0) freeSlot = slot;
+                    continue;
+                }
+
+                Object candidate = keys[entry - 1];
+                if (candidate == key || candidate.equals(key)) {
+                    values[entry - 1] = value;
+                    return;
+                }
+            }
+
+            if (size == keys.length) {
+                growOrCompact();
+                put(key, value);
+                return;
+            }
+
+            keys[size] = key;
+            values[size] = value;
+            size++;
+            index[freeSlot >= 0 ? freeSlot : slot] = size;
+        }
+
+        @Nullable
+        private Object remove(@NotNull Object key) {
+            int mask = index.length - 1;
+            for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+                int entry = index[slot];
+                if (entry == 0) return null;
+                if (entry == DELETED) continue;
+
+                Object candidate = keys[entry - 1];
+                if (candidate == key || candidate.equals(key)) {
+                    Object oldValue = values[entry - 1];
+                    keys[entry - 1] = REMOVED;
+                    values[entry - 1] = null;
+                    index[slot] = DELETED;
+                    removed++;
+                    return oldValue;
+                }
+            }
+        }
+
+        private void growOrCompact() {
+            int liveEntries = size - removed;
+            int capacity = liveEntries * 2 > keys.length ? keys.length * 2 : keys.length;
+
+            Object[] newKeys = new Object[capacity];
+            Object[] newValues = new Object[capacity];
+            int newSize = 0;
+            for (int i = 0; i < size; i++) {
+                if (keys[i] == REMOVED) continue;
+                newKeys[newSize] = keys[i];
+                newValues[newSize] = values[i];
+                newSize++;
+            }
+
+            keys = newKeys;
+            values = newValues;
+            size = newSize;
+            removed = 0;
+
+            index = new int[capacity * 2];
+            int mask = index.length - 1;
+            for (int i = 0; i < size; i++) {
+                int slot = hash(keys[i]) & mask;
+                while (index[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                index[slot] = i + 1;
+            }
+        }
+    }
+}
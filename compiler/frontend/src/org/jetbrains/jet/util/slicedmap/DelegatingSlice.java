@@ -28,6 +28,11 @@ public class DelegatingSlice<K, V> implements WritableSlice<K, V> {
         this.delegate = delegate;
     }
 
+    @NotNull
+    public WritableSlice<K, V> getDelegate() {
+        return delegate;
+    }
+
     @Override
     public boolean isCollective() {
         return delegate.isCollective();
@@ -188,10 +188,18 @@ public class Slices {
         }
         @Override
         public SlicedMapKey<K, V> makeKey(K key) {
+            return super.makeKey(normalizeKey(key));
+        }
+
+        public K normalizeKey(K key) {
             if (keyNormalizer == null) {
-                return super.makeKey(key);
+                return key;
             }
-            return super.makeKey(keyNormalizer.normalize(key));
+            return keyNormalizer.normalize(key);
+        }
+
+        public boolean hasOpposite() {
+            return opposite != null;
         }
 
     }
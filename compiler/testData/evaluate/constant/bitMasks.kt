@@ -0,0 +1,31 @@
+package test
+
+// val prop1: 255
+val prop1 = 0xF0 or 0x0F
+
+// val prop2: 16
+val prop2 = 0xF0 and 0x1F
+
+// val prop3: 255
+val prop3 = 0xF0 xor 0x0F
+
+// val prop4: 1024
+val prop4 = 1 shl 10
+
+// val prop5: -1
+val prop5 = -16 shr 4
+
+// val prop6: 268435455
+val prop6 = -16 ushr 4
+
+// val prop7: 7
+val prop7 = (1 shl 3) - 1
+
+// val prop8: 4294967296.toLong()
+val prop8 = 1.toLong() shl 32
+
+// val prop9: 3.toLong()
+val prop9 = 0xFFFFFFFFFF and 3.toLong()
+
+// val prop10: 1099511627774.toLong()
+val prop10 = 0xFFFFFFFFFF xor 1.toLong()
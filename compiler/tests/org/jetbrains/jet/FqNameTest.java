@@ -102,6 +102,29 @@ public class FqNameTest {
         Assert.assertSame(fqName, fqName.toSafe().toUnsafe());
     }
 
+    @Test
+    public void namesAreInterned() {
+        String string = "foo";
+        Name name = Name.identifier(string);
+        Assert.assertSame(name, Name.identifier(new String(string)));
+        Assert.assertSame(name, Name.guess(new StringBuilder("fo").append("o").toString()));
+        Assert.assertSame(name, new FqName("a.foo").shortName());
+
+        Assert.assertSame(Name.special("<foo>"), Name.guess("<foo>"));
+        Assert.assertNotSame(Name.special("<foo>"), Name.identifierNoValidate("<foo>"));
+        Assert.assertFalse(Name.special("<foo>").equals(Name.identifierNoValidate("<foo>")));
+    }
+
+    @Test
+    public void childrenAreInterned() {
+        FqName parent = new FqName("org.jetbrains");
+        FqName child = parent.child(Name.identifier("kotlin"));
+        Assert.assertSame(child, new FqName("org.jetbrains").child(Name.identifier("kotlin")));
+        Assert.assertSame(new FqName("org.jetbrains.kotlin").parent(), new FqName("org.jetbrains.kotlin").parent());
+        Assert.assertSame(FqName.topLevel(Name.identifier("org")), new FqName("org.jetbrains").parent());
+        Assert.assertEquals(new FqName("org.jetbrains.kotlin"), child);
+    }
+
     @Test
     public void isValidJavaFqName() {
         Assert.assertTrue(NamePackage.isValidJavaFqName(""));
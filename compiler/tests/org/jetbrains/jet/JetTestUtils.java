@@ -91,6 +91,7 @@ import static org.jetbrains.jet.ConfigurationKind.ALL;
 import static org.jetbrains.jet.ConfigurationKind.JDK_AND_ANNOTATIONS;
 import static org.jetbrains.jet.cli.jvm.JVMConfigurationKeys.ANNOTATIONS_PATH_KEY;
 import static org.jetbrains.jet.cli.jvm.JVMConfigurationKeys.CLASSPATH_KEY;
+import static org.jetbrains.jet.cli.jvm.JVMConfigurationKeys.READ_JAVA_CLASS_FILES;
 import static org.jetbrains.jet.jvm.compiler.LoadDescriptorUtil.compileKotlinToDirAndGetAnalyzeExhaust;
 import static org.jetbrains.jet.lang.psi.PsiPackage.JetPsiFactory;
 
@@ -101,6 +102,9 @@ public class JetTestUtils {
     private static final Pattern KT_FILES = Pattern.compile(".*?.kt");
     private static final List<File> filesToDelete = new ArrayList<File>();
 
+    // Run tests with -Dkotlin.test.read.java.class.files=true to check that reading Java class files without PSI works the same
+    private static final boolean READ_JAVA_CLASS_FILES_IN_TESTS = Boolean.getBoolean("kotlin.test.read.java.class.files");
+
     /**
      * Syntax:
      *
@@ -411,6 +415,10 @@ public class JetTestUtils {
             }
         }
 
+        if (READ_JAVA_CLASS_FILES_IN_TESTS) {
+            configuration.put(READ_JAVA_CLASS_FILES, true);
+        }
+
         return configuration;
     }
 
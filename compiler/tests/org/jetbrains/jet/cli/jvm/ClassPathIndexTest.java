@@ -0,0 +1,218 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.cli.jvm;
+
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.search.GlobalSearchScope;
+import org.jetbrains.jet.ConfigurationKind;
+import org.jetbrains.jet.JetTestUtils;
+import org.jetbrains.jet.TestJdkKind;
+import org.jetbrains.jet.cli.jvm.compiler.ClassPath;
+import org.jetbrains.jet.cli.jvm.compiler.ClassPathIndex;
+import org.jetbrains.jet.cli.jvm.compiler.JetCoreEnvironment;
+import org.jetbrains.jet.config.CompilerConfiguration;
+import org.jetbrains.jet.di.InjectorForJavaDescriptorResolverUtil;
+import org.jetbrains.jet.lang.resolve.BindingTraceContext;
+import org.jetbrains.jet.lang.resolve.java.JavaClassFinder;
+import org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles.BinaryJavaClassFinder;
+import org.jetbrains.jet.lang.resolve.lazy.KotlinTestWithEnvironment;
+import org.jetbrains.jet.lang.resolve.name.FqName;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+public class ClassPathIndexTest extends KotlinTestWithEnvironment {
+    private static final int ROOT_COUNT = 200;
+
+    // Classes which should be found both in PSI and by the binary class finder, see testNoFalseNegatives
+    private static final String[] CLASSES = {
+            "Default", "Default.Nested", "Default.Nested.Deep", "Default.Inner",
+            "a.b.Outer", "a.b.Outer.Nested",
+            "Source", "Source.Nested", "c.Src", "c.Src.Nested",
+            "java.util.Map", "java.util.Map.Entry"
+    };
+
+    private File tmpDir;
+
+    @Override
+    protected void setUp() throws Exception {
+        // The environment is created in super.setUp(), so the classpath should be ready before it
+        tmpDir = JetTestUtils.tmpDirForTest(this);
+        File sourcesToCompile = new File(tmpDir, "compile");
+        File classes = new File(tmpDir, "classes");
+        File sources = new File(tmpDir, "sources");
+        assertTrue(classes.mkdirs());
+
+        JetTestUtils.compileJavaFiles(Arrays.asList(
+                writeFile(sourcesToCompile, "Default.java",
+                          "public class Default { public static class Nested { public static class Deep {} } public class Inner {} }"),
+                writeFile(sourcesToCompile, "a/b/Outer.java",
+                          "package a.b; public class Outer { public static class Nested {} }")
+        ), Arrays.asList("-d", classes.getPath()));
+
+        writeFile(sources, "Source.java", "public class Source { public static class Nested {} }");
+        writeFile(sources, "c/Src.java", "package c; public class Src { public static class Nested {} }");
+
+        super.setUp();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        super.tearDown();
+        FileUtil.delete(tmpDir);
+        tmpDir = null;
+    }
+
+    @Override
+    protected JetCoreEnvironment createEnvironment() {
+        CompilerConfiguration configuration = JetTestUtils.compilerConfigurationForTests(
+                ConfigurationKind.JDK_ONLY, TestJdkKind.MOCK_JDK, new File(tmpDir, "classes"), new File(tmpDir, "sources"));
+        configuration.put(JVMConfigurationKeys.READ_JAVA_CLASS_FILES, true);
+        return JetCoreEnvironment.createForTests(getTestRootDisposable(), configuration);
+    }
+
+    private static File writeFile(File root, String relativePath, String text) throws IOException {
+        File file = new File(root, relativePath);
+        FileUtil.writeToFile(file, text);
+        return file;
+    }
+
+    private static VirtualFile findMockJdkRoot() {
+        VirtualFile root = VirtualFileManager.getInstance().findFileByUrl("jar://" + JetTestUtils.findMockJdkRtJar().getPath() + "!/");
+        assertNotNull(root);
+        return root;
+    }
+
+    private static VirtualFile findDirectory(File directory) {
+        VirtualFile root = VirtualFileManager.getInstance().refreshAndFindFileByUrl("file://" + directory.getPath());
+        assertNotNull(root);
+        return root;
+    }
+
+    private static void createFile(File root, String relativePath) throws IOException {
+        File file = new File(root, relativePath);
+        assertTrue(file.getParentFile().mkdirs() || file.getParentFile().isDirectory());
+        assertTrue(file.createNewFile());
+    }
+
+    public void testMockJdk() {
+        ClassPath classPath = new ClassPath();
+        classPath.add(findMockJdkRoot());
+        ClassPathIndex index = new ClassPathIndex(classPath);
+
+        assertTrue(index.hasPackage(new FqName("java.util")));
+        assertFalse(index.hasPackage(new FqName("java.utils")));
+
+        assertEquals(new FqName("java.util"), index.findPackageOfClass(new FqName("java.util.Map")));
+        assertEquals(new FqName("java.util"), index.findPackageOfClass(new FqName("java.util.Map.Entry")));
+        assertNull(index.findPackageOfClass(new FqName("java.util.NoSuchClass")));
+        assertNull(index.findPackageOfClass(new FqName("no.such.pkg.Map")));
+
+        List<VirtualFile> entryFiles = index.findClassFiles(new FqName("java.util.Map.Entry"));
+        assertEquals(1, entryFiles.size());
+        assertEquals("Map$Entry.class", entryFiles.get(0).getName());
+        assertEquals(entryFiles.get(0), index.findClassFileByInternalName("java/util/Map$Entry"));
+
+        assertNull(index.findClassFileByInternalName("java/util/NoSuchClass"));
+        assertTrue(index.findClassFiles(new FqName("java.util.NoSuchClass")).isEmpty());
+    }
+
+    public void testRootOrderAndSources() throws IOException {
+        File first = JetTestUtils.tmpDir("first");
+        File second = JetTestUtils.tmpDir("second");
+        try {
+            createFile(first, "a/b/C.class");
+            createFile(second, "a/b/C.class");
+            createFile(second, "a/b/D.java");
+            createFile(second, "a/b/C/E.class");
+
+            ClassPath classPath = new ClassPath();
+            classPath.add(findDirectory(first));
+            classPath.add(findDirectory(second));
+            ClassPathIndex index = new ClassPathIndex(classPath);
+
+            List<VirtualFile> files = index.findClassFiles(new FqName("a.b.C"));
+            assertEquals(2, files.size());
+            assertTrue(files.get(0).getPath().startsWith(FileUtil.toSystemIndependentName(first.getPath())));
+
+            // Nested classes of sources are found by the top level class
+            FqName nested = new FqName("a.b.D.Nested");
+            assertEquals(new FqName("a.b"), index.findPackageOfClass(nested));
+            VirtualFile sourceFile = index.findClassOrSourceFile(new FqName("a.b"), nested);
+            assertNotNull(sourceFile);
+            assertEquals("D.java", sourceFile.getName());
+
+            // The longest package wins
+            assertEquals(new FqName("a.b.C"), index.findPackageOfClass(new FqName("a.b.C.E")));
+        }
+        finally {
+            FileUtil.delete(first);
+            FileUtil.delete(second);
+        }
+    }
+
+    public void testManyRoots() throws IOException {
+        File rootsDir = JetTestUtils.tmpDir("roots");
+        try {
+            ClassPath classPath = new ClassPath();
+            for (int i = 0; i < ROOT_COUNT; i++) {
+                File root = new File(rootsDir, "root" + i);
+                createFile(root, "p" + i + "/C" + i + ".class");
+                classPath.add(findDirectory(root));
+            }
+            classPath.add(findMockJdkRoot());
+
+            ClassPathIndex index = new ClassPathIndex(classPath);
+
+            for (int i = 0; i < ROOT_COUNT; i++) {
+                assertEquals(new FqName("p" + i), index.findPackageOfClass(new FqName("p" + i + ".C" + i)));
+                assertEquals(1, index.findClassFiles(new FqName("p" + i + ".C" + i)).size());
+            }
+            assertEquals(1, index.findClassFiles(new FqName("java.util.Map.Entry")).size());
+            assertNull(index.findPackageOfClass(new FqName("foo.bar.Baz")));
+        }
+        finally {
+            FileUtil.delete(rootsDir);
+        }
+    }
+
+    public void testNoFalseNegatives() {
+        // JavaClassFinderImpl doesn't look for a class in PSI if the binary class finder says it's not on the classpath
+        BinaryJavaClassFinder binaryClassFinder = BinaryJavaClassFinder.getInstance(getProject());
+        assertNotNull(binaryClassFinder);
+        JavaClassFinder javaClassFinder =
+                InjectorForJavaDescriptorResolverUtil.create(getProject(), new BindingTraceContext(), false).getJavaClassFinder();
+
+        for (String qualifiedName : CLASSES) {
+            FqName fqName = new FqName(qualifiedName);
+            assertNotNull("Class is not found in PSI: " + qualifiedName,
+                          JavaPsiFacade.getInstance(getProject()).findClass(qualifiedName, GlobalSearchScope.allScope(getProject())));
+            assertTrue("False negative for " + qualifiedName, binaryClassFinder.mayContainClass(fqName));
+            assertNotNull("Class is not found: " + qualifiedName, javaClassFinder.findClass(fqName));
+        }
+
+        for (String qualifiedName : new String[] {"NoSuchClass", "Default.NoSuchNested", "a.b.NoSuchClass", "Source.NoSuchNested.Deep"}) {
+            assertNull(javaClassFinder.findClass(new FqName(qualifiedName)));
+        }
+        assertFalse(binaryClassFinder.mayContainClass(new FqName("no.such.pkg.Default")));
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.cli.jvm;
+
+import com.intellij.codeInsight.ExternalAnnotationsManager;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.ConfigurationKind;
+import org.jetbrains.jet.JetTestUtils;
+import org.jetbrains.jet.TestJdkKind;
+import org.jetbrains.jet.cli.jvm.compiler.ExternalAnnotationsIndex;
+import org.jetbrains.jet.cli.jvm.compiler.ExternalAnnotationsIndexCompiler;
+import org.jetbrains.jet.cli.jvm.compiler.JetCoreEnvironment;
+import org.jetbrains.jet.config.CompilerConfiguration;
+import org.jetbrains.jet.test.TestCaseWithTmpdir;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+public class ExternalAnnotationsIndexTest extends TestCaseWithTmpdir {
+    private static final String[] CLASSES = {
+            "java.lang.String", "java.lang.Object", "java.util.Map", "java.util.ArrayList", "java.util.Collections"
+    };
+
+    public void testWriteAndLoad() throws IOException {
+        File root = new File(tmpdir, "root");
+        FileUtil.writeToFile(new File(root, "a/b/annotations.xml"),
+                             "<root>\n" +
+                             "  <item name='a.b.C java.lang.String foo(int) 0'>\n" +
+                             "    <annotation name='org.jetbrains.annotations.NotNull'/>\n" +
+                             "  </item>\n" +
+                             "  <item name='a.b.C java.lang.String foo(int)'>\n" +
+                             "    <annotation name='org.jetbrains.annotations.Nullable'/>\n" +
+                             "    <annotation name='jet.runtime.typeinfo.KotlinSignature'>\n" +
+                             "      <val name=\"value\" val=\"&quot;fun foo(p: Int): String?&quot;\"/>\n" +
+                             "    </annotation>\n" +
+                             "  </item>\n" +
+                             "</root>\n");
+        FileUtil.writeToFile(new File(root, "annotations.xml"),
+                             "<root><item name='D'><annotation name='A'><val val='1'/></annotation></item></root>");
+
+        File indexFile = new File(tmpdir, "annotations.index");
+        ExternalAnnotationsIndexCompiler.compile(root, indexFile);
+        ExternalAnnotationsIndex index = ExternalAnnotationsIndex.load(indexFile);
+
+        assertTrue(index.hasPackage("a/b"));
+        assertTrue(index.hasPackage(""));
+        assertFalse(index.hasPackage("a"));
+
+        assertEquals("[@org.jetbrains.annotations.NotNull]", texts(index.findAnnotations("a/b", "a.b.C java.lang.String foo(int) 0")));
+        assertEquals("[@org.jetbrains.annotations.Nullable, @jet.runtime.typeinfo.KotlinSignature(value=\"fun foo(p: Int): String?\")]",
+                     texts(index.findAnnotations("a/b", "a.b.C java.lang.String foo(int)")));
+        assertEquals("[@A(1)]", texts(index.findAnnotations("", "D")));
+        assertNull(index.findAnnotations("a/b", "a.b.C void bar()"));
+        assertNull(index.findAnnotations("x", "D"));
+    }
+
+    private static String texts(List<ExternalAnnotationsIndex.Annotation> annotations) {
+        if (annotations == null) return null;
+        List<String> result = new ArrayList<String>();
+        for (ExternalAnnotationsIndex.Annotation annotation : annotations) {
+            result.add(annotation.getText());
+        }
+        return result.toString();
+    }
+
+    public void testJdkIndexContainsEveryXmlItem() throws Exception {
+        File jar = JetTestUtils.getJdkAnnotationsJar();
+        File indexFile = new File(tmpdir, "jdk-annotations.index");
+        ExternalAnnotationsIndexCompiler.compile(jar, indexFile);
+        ExternalAnnotationsIndex index = ExternalAnnotationsIndex.load(indexFile);
+
+        int itemCount = 0;
+        ZipFile zipFile = new ZipFile(jar);
+        try {
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                String name = entry.getName();
+                if (!name.endsWith("/" + ExternalAnnotationsManager.ANNOTATIONS_XML)) continue;
+
+                String packagePath = name.substring(0, name.length() - ExternalAnnotationsManager.ANNOTATIONS_XML.length() - 1);
+                assertTrue(packagePath, index.hasPackage(packagePath));
+
+                InputStream input = zipFile.getInputStream(entry);
+                try {
+                    Map<String, List<String>> items = readXmlItems(input);
+                    for (Map.Entry<String, List<String>> item : items.entrySet()) {
+                        assertEquals(packagePath + ": " + item.getKey(), item.getValue(),
+                                     fqNames(index.findAnnotations(packagePath, item.getKey())));
+                    }
+                    itemCount += items.size();
+                }
+                finally {
+                    input.close();
+                }
+            }
+        }
+        finally {
+            zipFile.close();
+        }
+
+        assertTrue("No annotations found in " + jar, itemCount > 0);
+        assertTrue(index.hasPackage("java/util"));
+        assertFalse(index.hasPackage("no/such/package"));
+        assertNull(index.findAnnotations("java/util", "java.util.NoSuchClass void foo()"));
+    }
+
+    // External name -> qualified names of its annotations, in the order of the file
+    private static Map<String, List<String>> readXmlItems(@NotNull InputStream input) throws Exception {
+        Map<String, List<String>> result = new LinkedHashMap<String, List<String>>();
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(input);
+        NodeList items = document.getElementsByTagName("item");
+        for (int i = 0; i < items.getLength(); i++) {
+            Element item = (Element) items.item(i);
+            String externalName = item.getAttribute("name");
+            List<String> annotations = result.get(externalName);
+            if (annotations == null) {
+                annotations = new ArrayList<String>();
+                result.put(externalName, annotations);
+            }
+            NodeList annotationElements = item.getElementsByTagName("annotation");
+            for (int j = 0; j < annotationElements.getLength(); j++) {
+                annotations.add(((Element) annotationElements.item(j)).getAttribute("name"));
+            }
+        }
+        return result;
+    }
+
+    private static List<String> fqNames(List<ExternalAnnotationsIndex.Annotation> annotations) {
+        if (annotations == null) return null;
+        List<String> result = new ArrayList<String>();
+        for (ExternalAnnotationsIndex.Annotation annotation : annotations) {
+            result.add(annotation.getFqName());
+        }
+        return result;
+    }
+
+    public void testSameAnnotationsAsXml() throws IOException {
+        File indexFile = new File(tmpdir, "jdk-annotations.index");
+        ExternalAnnotationsIndexCompiler.compile(JetTestUtils.getJdkAnnotationsJar(), indexFile);
+
+        Disposable disposable = Disposer.newDisposable();
+        try {
+            JetCoreEnvironment xmlEnvironment = JetCoreEnvironment.createForTests(
+                    disposable, JetTestUtils.compilerConfigurationForTests(ConfigurationKind.JDK_AND_ANNOTATIONS, TestJdkKind.MOCK_JDK));
+            List<String> fromXml = collectAnnotations(xmlEnvironment);
+
+            CompilerConfiguration configuration =
+                    JetTestUtils.compilerConfigurationForTests(ConfigurationKind.JDK_ONLY, TestJdkKind.MOCK_JDK);
+            configuration.add(JVMConfigurationKeys.ANNOTATIONS_PATH_KEY, indexFile);
+            JetCoreEnvironment indexEnvironment = JetCoreEnvironment.createForTests(disposable, configuration);
+            List<String> fromIndex = collectAnnotations(indexEnvironment);
+
+            assertTrue(fromXml.toString(), fromXml.contains(NotNull.class.getName()));
+            assertEquals(fromXml, fromIndex);
+        }
+        finally {
+            Disposer.dispose(disposable);
+        }
+    }
+
+    // Qualified names of external annotations of methods and their parameters, prefixed with the method
+    private static List<String> collectAnnotations(JetCoreEnvironment environment) {
+        ExternalAnnotationsManager manager = ExternalAnnotationsManager.getInstance(environment.getProject());
+        JavaPsiFacade facade = JavaPsiFacade.getInstance(environment.getProject());
+
+        List<String> result = new ArrayList<String>();
+        for (String className : CLASSES) {
+            PsiClass psiClass = facade.findClass(className, GlobalSearchScope.allScope(environment.getProject()));
+            assertNotNull("Class not found: " + className, psiClass);
+
+            for (PsiMethod method : psiClass.getMethods()) {
+                result.add(method.getName());
+                addAnnotations(manager.findExternalAnnotations(method), result);
+                for (PsiParameter parameter : method.getParameterList().getParameters()) {
+                    addAnnotations(manager.findExternalAnnotations(parameter), result);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void addAnnotations(PsiAnnotation[] annotations, List<String> result) {
+        if (annotations == null) return;
+        for (PsiAnnotation annotation : annotations) {
+            result.add(annotation.getQualifiedName());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.cli.jvm;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.psi.impl.DebugUtil;
+import com.intellij.psi.impl.source.tree.LazyParseableElement;
+import com.intellij.psi.util.PsiTreeUtil;
+import junit.framework.TestCase;
+import kotlin.Function1;
+import kotlin.Unit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.ConfigurationKind;
+import org.jetbrains.jet.JetTestUtils;
+import org.jetbrains.jet.TestJdkKind;
+import org.jetbrains.jet.cli.jvm.compiler.CompileEnvironmentUtil;
+import org.jetbrains.jet.cli.jvm.compiler.JetCoreEnvironment;
+import org.jetbrains.jet.lang.psi.JetBlockExpression;
+import org.jetbrains.jet.lang.psi.JetFile;
+
+import java.util.Collections;
+import java.util.List;
+
+public class ParallelParsingTest extends TestCase {
+    // Parser tests data: valid and invalid code, scripts
+    private static final String SOURCES = "compiler/testData/psi";
+    private static final int THREADS = 4;
+
+    private Disposable disposable;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        disposable = Disposer.newDisposable();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        Disposer.dispose(disposable);
+        super.tearDown();
+    }
+
+    public void testSameTreesAsSequentialParsing() {
+        List<JetFile> sequential = createFiles();
+        List<JetFile> parallel = createFiles();
+        assertEquals(sequential.size(), parallel.size());
+        assertTrue("No files in " + SOURCES, sequential.size() > THREADS);
+
+        CompileEnvironmentUtil.parseFiles(parallel, THREADS);
+        for (JetFile file : parallel) {
+            for (JetBlockExpression block : PsiTreeUtil.findChildrenOfType(file, JetBlockExpression.class)) {
+                if (block.getNode() instanceof LazyParseableElement) {
+                    assertTrue(file.getName() + ": " + block.getText(), ((LazyParseableElement) block.getNode()).isParsed());
+                }
+            }
+        }
+
+        for (JetFile file : sequential) {
+            CompileEnvironmentUtil.parseFile(file);
+        }
+
+        for (int i = 0; i < sequential.size(); i++) {
+            JetFile expected = sequential.get(i);
+            JetFile actual = parallel.get(i);
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected.getName(), DebugUtil.psiToString(expected, false, true), DebugUtil.psiToString(actual, false, true));
+        }
+    }
+
+    // Every call creates a separate environment, so that files parsed in one of them share nothing with the other
+    @NotNull
+    private List<JetFile> createFiles() {
+        JetCoreEnvironment environment = JetCoreEnvironment.createForTests(
+                disposable, JetTestUtils.compilerConfigurationForTests(ConfigurationKind.JDK_ONLY, TestJdkKind.MOCK_JDK));
+        return CompileEnvironmentUtil.getJetFiles(
+                environment.getProject(), Collections.singletonList(SOURCES), new Function1<String, Unit>() {
+                    @Override
+                    public Unit invoke(String message) {
+                        throw new IllegalArgumentException(message);
+                    }
+                });
+    }
+}
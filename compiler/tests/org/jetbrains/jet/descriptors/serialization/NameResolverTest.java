@@ -0,0 +1,61 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.descriptors.serialization;
+
+import com.intellij.testFramework.UsefulTestCase;
+import org.jetbrains.jet.lang.resolve.name.FqName;
+import org.jetbrains.jet.lang.resolve.name.FqNameUnsafe;
+
+import static org.jetbrains.jet.descriptors.serialization.ProtoBuf.QualifiedNameTable.QualifiedName;
+
+public class NameResolverTest extends UsefulTestCase {
+    // Simple names: 0 - "a", 1 - "b", 2 - "C", 3 - "D"
+    // Qualified names: 0 - package a, 1 - package a.b, 2 - class a.b.C, 3 - class a.b.C.D, 4 - class C (in the root package)
+    private static NameResolver createNameResolver() {
+        ProtoBuf.SimpleNameTable simpleNames = ProtoBuf.SimpleNameTable.newBuilder()
+                .addName("a").addName("b").addName("C").addName("D").build();
+        ProtoBuf.QualifiedNameTable qualifiedNames = ProtoBuf.QualifiedNameTable.newBuilder()
+                .addQualifiedName(QualifiedName.newBuilder().setShortName(0).setKind(QualifiedName.Kind.PACKAGE))
+                .addQualifiedName(QualifiedName.newBuilder().setShortName(1).setParentQualifiedName(0).setKind(QualifiedName.Kind.PACKAGE))
+                .addQualifiedName(QualifiedName.newBuilder().setShortName(2).setParentQualifiedName(1).setKind(QualifiedName.Kind.CLASS))
+                .addQualifiedName(QualifiedName.newBuilder().setShortName(3).setParentQualifiedName(2).setKind(QualifiedName.Kind.CLASS))
+                .addQualifiedName(QualifiedName.newBuilder().setShortName(2).setKind(QualifiedName.Kind.CLASS))
+                .build();
+        return new NameResolver(simpleNames, qualifiedNames);
+    }
+
+    public void testClassIds() {
+        NameResolver nameResolver = createNameResolver();
+
+        assertEquals(new ClassId(new FqName("a.b"), new FqNameUnsafe("C")), nameResolver.getClassId(2));
+        assertEquals(new ClassId(new FqName("a.b"), new FqNameUnsafe("C.D")), nameResolver.getClassId(3));
+        assertEquals(new ClassId(FqName.ROOT, new FqNameUnsafe("C")), nameResolver.getClassId(4));
+
+        assertSame(nameResolver.getClassId(3), nameResolver.getClassId(3));
+    }
+
+    public void testFqNames() {
+        NameResolver nameResolver = createNameResolver();
+
+        assertEquals(new FqName("a.b"), nameResolver.getFqName(1));
+        assertEquals(new FqName("a.b.C.D"), nameResolver.getFqName(3));
+
+        assertSame(nameResolver.getFqName(3), nameResolver.getFqName(3));
+        assertEquals(nameResolver.getFqName(1), nameResolver.getFqName(3).parent().parent());
+        assertSame(nameResolver.getName(2), nameResolver.getFqName(2).shortName());
+    }
+}
@@ -41,6 +41,12 @@ public class EvaluateExpressionTestGenerated extends AbstractEvaluateExpressionT
             JetTestUtils.assertAllTestsPresentByMetadata(this.getClass(), new File("compiler/testData/evaluate/constant"), Pattern.compile("^(.+)\\.kt$"), true);
         }
         
+        @TestMetadata("bitMasks.kt")
+        public void testBitMasks() throws Exception {
+            String fileName = JetTestUtils.navigationMetadata("compiler/testData/evaluate/constant/bitMasks.kt");
+            doConstantTest(fileName);
+        }
+        
         @TestMetadata("classObjectProperty.kt")
         public void testClassObjectProperty() throws Exception {
             String fileName = JetTestUtils.navigationMetadata("compiler/testData/evaluate/constant/classObjectProperty.kt");
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.jvm.compiler;
+
+import com.intellij.codeInsight.ExternalAnnotationsManager;
+import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiFormatUtil;
+import org.jetbrains.jet.ConfigurationKind;
+import org.jetbrains.jet.JetTestUtils;
+import org.jetbrains.jet.TestJdkKind;
+import org.jetbrains.jet.cli.jvm.JVMConfigurationKeys;
+import org.jetbrains.jet.cli.jvm.compiler.JetCoreEnvironment;
+import org.jetbrains.jet.config.CompilerConfiguration;
+import org.jetbrains.jet.lang.resolve.java.resolver.PsiBasedExternalAnnotationResolver;
+import org.jetbrains.jet.lang.resolve.java.structure.*;
+import org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles.BinaryExternalAnnotations;
+import org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles.BinaryJavaClass;
+import org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles.BinaryJavaClassFinder;
+import org.jetbrains.jet.lang.resolve.lazy.KotlinTestWithEnvironment;
+import org.jetbrains.jet.lang.resolve.name.FqName;
+
+import java.util.*;
+
+public class BinaryExternalAnnotationsTest extends KotlinTestWithEnvironment {
+    private static final String[] CLASSES = {
+            "java.lang.String", "java.lang.Object", "java.util.Map", "java.util.Map.Entry", "java.util.ArrayList",
+            "java.util.Collections", "java.util.Arrays", "java.io.File", "java.lang.annotation.RetentionPolicy"
+    };
+
+    @Override
+    protected JetCoreEnvironment createEnvironment() {
+        CompilerConfiguration configuration =
+                JetTestUtils.compilerConfigurationForTests(ConfigurationKind.JDK_AND_ANNOTATIONS, TestJdkKind.MOCK_JDK);
+        configuration.put(JVMConfigurationKeys.READ_JAVA_CLASS_FILES, true);
+        return JetCoreEnvironment.createForTests(getTestRootDisposable(), configuration);
+    }
+
+    public void testClassesWithExternalAnnotationsAreReadFromClassFiles() {
+        BinaryJavaClassFinder finder = BinaryJavaClassFinder.getInstance(getProject());
+        assertNotNull(finder);
+        for (String className : CLASSES) {
+            assertNotNull("Class not read from class files: " + className, finder.findBinaryClass(new FqName(className)));
+        }
+    }
+
+    public void testSameExternalNamesAsPsi() {
+        for (String className : CLASSES) {
+            assertEquals(className, sorted(collectPsiAnnotations(className).keySet()), sorted(collectBinaryAnnotations(className).keySet()));
+        }
+    }
+
+    public void testSameAnnotationsAsPsi() {
+        int annotatedCount = 0;
+        for (String className : CLASSES) {
+            Map<String, List<String>> fromPsi = collectPsiAnnotations(className);
+            assertEquals(className, fromPsi, collectBinaryAnnotations(className));
+            for (List<String> annotations : fromPsi.values()) {
+                if (!annotations.isEmpty()) annotatedCount++;
+            }
+        }
+        assertTrue("No external annotations found", annotatedCount > 0);
+    }
+
+    private static List<String> sorted(Collection<String> strings) {
+        List<String> result = new ArrayList<String>(strings);
+        Collections.sort(result);
+        return result;
+    }
+
+    // External name -> qualified names of external annotations, for methods, their parameters and fields
+    private Map<String, List<String>> collectPsiAnnotations(String className) {
+        PsiClass psiClass = JavaPsiFacade.getInstance(getProject()).findClass(className, GlobalSearchScope.allScope(getProject()));
+        assertNotNull("Class not found: " + className, psiClass);
+
+        ExternalAnnotationsManager manager = ExternalAnnotationsManager.getInstance(getProject());
+        Map<String, List<String>> result = new HashMap<String, List<String>>();
+        for (PsiMethod method : psiClass.getMethods()) {
+            addPsiAnnotations(manager, method, result);
+            for (PsiParameter parameter : method.getParameterList().getParameters()) {
+                addPsiAnnotations(manager, parameter, result);
+            }
+        }
+        for (PsiField field : psiClass.getFields()) {
+            addPsiAnnotations(manager, field, result);
+        }
+        return result;
+    }
+
+    private static void addPsiAnnotations(ExternalAnnotationsManager manager, PsiModifierListOwner owner, Map<String, List<String>> result) {
+        List<String> names = new ArrayList<String>();
+        PsiAnnotation[] annotations = manager.findExternalAnnotations(owner);
+        if (annotations != null) {
+            for (PsiAnnotation annotation : annotations) {
+                names.add(annotation.getQualifiedName());
+            }
+        }
+        result.put(PsiFormatUtil.getExternalName(owner), names);
+    }
+
+    private Map<String, List<String>> collectBinaryAnnotations(String className) {
+        BinaryJavaClassFinder finder = BinaryJavaClassFinder.getInstance(getProject());
+        assertNotNull(finder);
+        BinaryJavaClass javaClass = finder.findBinaryClass(new FqName(className));
+        assertNotNull("Class not found: " + className, javaClass);
+
+        PsiBasedExternalAnnotationResolver resolver = new PsiBasedExternalAnnotationResolver();
+        Map<String, List<String>> result = new HashMap<String, List<String>>();
+        List<JavaMethod> methods = new ArrayList<JavaMethod>(javaClass.getMethods());
+        methods.addAll(javaClass.getConstructors());
+        for (JavaMethod method : methods) {
+            addBinaryAnnotations(resolver, method, result);
+            for (JavaValueParameter parameter : method.getValueParameters()) {
+                addBinaryAnnotations(resolver, parameter, result);
+            }
+        }
+        for (JavaField field : javaClass.getFields()) {
+            addBinaryAnnotations(resolver, field, result);
+        }
+        return result;
+    }
+
+    private static void addBinaryAnnotations(
+            PsiBasedExternalAnnotationResolver resolver,
+            JavaAnnotationOwner owner,
+            Map<String, List<String>> result
+    ) {
+        List<String> names = new ArrayList<String>();
+        for (JavaAnnotation annotation : resolver.findExternalAnnotations(owner)) {
+            FqName fqName = annotation.getFqName();
+            names.add(fqName != null ? fqName.asString() : null);
+        }
+        result.put(BinaryExternalAnnotations.getExternalName(owner), names);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.jvm.compiler;
+
+import org.jetbrains.jet.ConfigurationKind;
+import org.jetbrains.jet.JetTestUtils;
+import org.jetbrains.jet.TestJdkKind;
+import org.jetbrains.jet.cli.jvm.JVMConfigurationKeys;
+import org.jetbrains.jet.cli.jvm.compiler.JetCoreEnvironment;
+import org.jetbrains.jet.config.CompilerConfiguration;
+import org.jetbrains.jet.lang.resolve.java.structure.*;
+import org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles.BinaryJavaClass;
+import org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles.BinaryJavaClassFinder;
+import org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles.BinaryJavaField;
+import org.jetbrains.jet.lang.resolve.lazy.KotlinTestWithEnvironment;
+import org.jetbrains.jet.lang.resolve.name.FqName;
+import org.jetbrains.jet.lang.resolve.name.Name;
+
+import java.util.List;
+
+public class BinaryJavaClassTest extends KotlinTestWithEnvironment {
+    @Override
+    protected JetCoreEnvironment createEnvironment() {
+        CompilerConfiguration configuration = JetTestUtils.compilerConfigurationForTests(ConfigurationKind.JDK_ONLY, TestJdkKind.MOCK_JDK);
+        configuration.put(JVMConfigurationKeys.READ_JAVA_CLASS_FILES, true);
+        return JetCoreEnvironment.createForTests(getTestRootDisposable(), configuration);
+    }
+
+    private BinaryJavaClass findClass(String fqName) {
+        BinaryJavaClassFinder finder = BinaryJavaClassFinder.getInstance(getProject());
+        assertNotNull(finder);
+        BinaryJavaClass javaClass = finder.findBinaryClass(new FqName(fqName));
+        assertNotNull("Class not found: " + fqName, javaClass);
+        assertSame(javaClass, finder.findBinaryClass(new FqName(fqName)));
+        return javaClass;
+    }
+
+    private static JavaMethod findMethod(JavaClass javaClass, String name) {
+        for (JavaMethod method : javaClass.getMethods()) {
+            if (method.getName().asString().equals(name)) return method;
+        }
+        fail("Method not found: " + name);
+        return null;
+    }
+
+    public void testGenericInterface() {
+        BinaryJavaClass map = findClass("java.util.Map");
+        assertTrue(map.isInterface());
+        assertEquals(JavaClass.OriginKind.COMPILED, map.getOriginKind());
+
+        List<JavaTypeParameter> typeParameters = map.getTypeParameters();
+        assertEquals(2, typeParameters.size());
+        assertEquals("K", typeParameters.get(0).getName().asString());
+        assertEquals("V", typeParameters.get(1).getName().asString());
+
+        JavaMethod put = findMethod(map, "put");
+        List<JavaValueParameter> parameters = put.getValueParameters();
+        assertEquals(2, parameters.size());
+        assertSame(typeParameters.get(0), ((JavaClassifierType) parameters.get(0).getType()).getClassifier());
+        assertSame(typeParameters.get(1), ((JavaClassifierType) put.getReturnType()).getClassifier());
+
+        JavaClassifierType entrySetType = (JavaClassifierType) findMethod(map, "entrySet").getReturnType();
+        assertEquals("java.util.Set<java.util.Map.Entry<K,V>>", entrySetType.getPresentableText());
+    }
+
+    public void testNestedClass() {
+        BinaryJavaClass entry = findClass("java.util.Map.Entry");
+        assertTrue(entry.isStatic());
+        assertEquals(Name.identifier("Entry"), entry.getName());
+
+        JavaClass outerClass = entry.getOuterClass();
+        assertNotNull(outerClass);
+        assertEquals(new FqName("java.util.Map"), outerClass.getFqName());
+        assertTrue(outerClass.getInnerClasses().contains(entry));
+    }
+
+    public void testConstant() {
+        BinaryJavaClass integer = findClass("java.lang.Integer");
+        for (JavaField field : integer.getFields()) {
+            if (field.getName().asString().equals("MAX_VALUE")) {
+                assertEquals(Integer.MAX_VALUE, ((BinaryJavaField) field).getConstantValue());
+                return;
+            }
+        }
+        fail("MAX_VALUE not found");
+    }
+
+    public void testEnum() {
+        BinaryJavaClass retentionPolicy = findClass("java.lang.annotation.RetentionPolicy");
+        assertTrue(retentionPolicy.isEnum());
+        for (JavaMethod constructor : retentionPolicy.getConstructors()) {
+            // Name and ordinal are synthetic parameters
+            assertEquals(0, constructor.getValueParameters().size());
+        }
+        for (JavaMethod method : retentionPolicy.getMethods()) {
+            assertFalse(method.getName().asString().equals("values"));
+        }
+    }
+
+    public void testMissingClass() {
+        BinaryJavaClassFinder finder = BinaryJavaClassFinder.getInstance(getProject());
+        assertNotNull(finder);
+        assertNull(finder.findBinaryClass(new FqName("java.util.NoSuchClass")));
+        assertNull(finder.findBinaryClass(new FqName("java.util.Map.NoSuchEntry")));
+    }
+}
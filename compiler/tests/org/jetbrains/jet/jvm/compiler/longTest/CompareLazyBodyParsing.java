@@ -0,0 +1,142 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.jvm.compiler.longTest;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.lang.PsiBuilderFactory;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.psi.impl.source.tree.LazyParseableElement;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.ConfigurationKind;
+import org.jetbrains.jet.JetTestUtils;
+import org.jetbrains.jet.TestJdkKind;
+import org.jetbrains.jet.cli.jvm.compiler.JetCoreEnvironment;
+import org.jetbrains.jet.lang.parsing.JetParser;
+import org.jetbrains.jet.lang.parsing.JetParserDefinition;
+import org.jetbrains.jet.lang.psi.JetPsiFactory;
+import org.jetbrains.jet.lexer.JetLexer;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.jetbrains.jet.lang.psi.PsiPackage.JetPsiFactory;
+
+/**
+ * Measures the time of parsing all Kotlin files under a directory and the retained size of their trees, with bodies of functions
+ * parsed in place, with bodies collapsed into chameleons (what the compiler does before resolve), and with the chameleons expanded.
+ *
+ * Usage: CompareLazyBodyParsing [source directory, compiler/testData by default] [number of runs, 3 by default]
+ */
+public class CompareLazyBodyParsing {
+    private enum Mode {
+        EAGER, LAZY, LAZY_EXPANDED
+    }
+
+    public static void main(String[] args) throws IOException {
+        File directory = new File(args.length > 0 ? args[0] : "compiler/testData");
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+
+        List<String> texts = new ArrayList<String>();
+        collectTexts(directory, texts);
+
+        Disposable disposable = Disposer.newDisposable();
+        try {
+            JetCoreEnvironment environment = JetCoreEnvironment.createForTests(
+                    disposable, JetTestUtils.compilerConfigurationForTests(ConfigurationKind.JDK_ONLY, TestJdkKind.MOCK_JDK));
+            JetPsiFactory factory = JetPsiFactory(environment.getProject());
+
+            for (int i = 0; i < runs; i++) {
+                StringBuilder result = new StringBuilder("Run " + (i + 1) + ", " + texts.size() + " files:");
+                for (Mode mode : Mode.values()) {
+                    result.append(" ").append(mode).append(" ").append(measure(mode, texts, factory));
+                }
+                System.out.println(result);
+            }
+        }
+        finally {
+            Disposer.dispose(disposable);
+        }
+    }
+
+    private static void collectTexts(@NotNull File directory, @NotNull List<String> result) throws IOException {
+        File[] children = directory.listFiles();
+        if (children == null) return;
+
+        for (File child : children) {
+            if (child.isDirectory()) {
+                collectTexts(child, result);
+            }
+            else if (child.getName().endsWith(".kt")) {
+                result.add(FileUtil.loadFile(child, true));
+            }
+        }
+    }
+
+    @NotNull
+    private static String measure(@NotNull Mode mode, @NotNull List<String> texts, @NotNull JetPsiFactory factory) {
+        List<ASTNode> trees = new ArrayList<ASTNode>(texts.size());
+        long before = usedMemory();
+        long start = System.nanoTime();
+        for (String text : texts) {
+            ASTNode tree;
+            if (mode == Mode.EAGER) {
+                tree = JetParser.parseFileEagerly(
+                        PsiBuilderFactory.getInstance().createBuilder(new JetParserDefinition(), new JetLexer(), text));
+            }
+            else {
+                tree = factory.createFile(text).getNode();
+            }
+            int nodes = countNodes(tree, mode == Mode.LAZY_EXPANDED);
+            if (nodes == 0) {
+                throw new IllegalStateException("Empty tree");
+            }
+            trees.add(tree);
+        }
+        long time = (System.nanoTime() - start) / 1000000;
+        long retained = usedMemory() - before;
+        if (trees.size() != texts.size()) {
+            throw new IllegalStateException("Trees are lost");
+        }
+        return time + " ms, " + retained / 1024 + "K;";
+    }
+
+    // Walks the whole tree, lazy nodes are only expanded if asked to
+    private static int countNodes(@NotNull ASTNode node, boolean expand) {
+        if (!expand && node instanceof LazyParseableElement &&
+            !((LazyParseableElement) node).isParsed()) {
+            return 1;
+        }
+        int result = 1;
+        for (ASTNode child = node.getFirstChildNode(); child != null; child = child.getTreeNext()) {
+            result += countNodes(child, expand);
+        }
+        return result;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.jvm.compiler.longTest;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.util.slicedmap.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the retained size and the average lookup time of SlicedMapImpl and CompactSlicedMap
+ * filled with the same entries spread over several slices.
+ *
+ * Usage: CompareSlicedMapFootprint [number of entries, 200000 by default] [number of runs, 3 by default]
+ */
+public class CompareSlicedMapFootprint {
+    private static final int SLICES = 8;
+    private static final int LOOKUP_ROUNDS = 10;
+
+    public static void main(String[] args) {
+        int entries = args.length > 0 ? Integer.parseInt(args[0]) : 200000;
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+
+        List<WritableSlice<Object, Object>> slices = new ArrayList<WritableSlice<Object, Object>>();
+        for (int i = 0; i < SLICES; i++) {
+            slices.add(Slices.createSimpleSlice());
+        }
+        List<Object> keys = new ArrayList<Object>(entries);
+        for (int i = 0; i < entries; i++) {
+            keys.add(new Object());
+        }
+
+        for (int i = 0; i < runs; i++) {
+            System.out.println("Run " + (i + 1) + ": " + entries + " entries in " + SLICES + " slices, retained size: " +
+                               "SlicedMapImpl " + measureRetainedSize(SlicedMapImpl.create(), slices, keys) / 1024 + "K, " +
+                               "CompactSlicedMap " + measureRetainedSize(CompactSlicedMap.create(), slices, keys) / 1024 + "K; " +
+                               "average lookup: SlicedMapImpl " + measureLookupNanos(SlicedMapImpl.create(), slices, keys) + " ns, " +
+                               "CompactSlicedMap " + measureLookupNanos(CompactSlicedMap.create(), slices, keys) + " ns");
+        }
+    }
+
+    private static void fill(@NotNull MutableSlicedMap map, @NotNull List<WritableSlice<Object, Object>> slices, @NotNull List<Object> keys) {
+        for (int i = 0; i < keys.size(); i++) {
+            map.put(slices.get(i % slices.size()), keys.get(i), keys.get(i));
+        }
+    }
+
+    private static long measureRetainedSize(
+            @NotNull MutableSlicedMap map,
+            @NotNull List<WritableSlice<Object, Object>> slices,
+            @NotNull List<Object> keys
+    ) {
+        long before = usedMemory();
+        fill(map, slices, keys);
+        long after = usedMemory();
+        if (map.get(slices.get(0), keys.get(0)) == null) {
+            throw new IllegalStateException("Entry is lost");
+        }
+        return after - before;
+    }
+
+    private static long measureLookupNanos(
+            @NotNull MutableSlicedMap map,
+            @NotNull List<WritableSlice<Object, Object>> slices,
+            @NotNull List<Object> keys
+    ) {
+        fill(map, slices, keys);
+
+        // The first pass is a warm up
+        long time = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            int found = 0;
+            long start = System.nanoTime();
+            for (int round = 0; round < LOOKUP_ROUNDS; round++) {
+                for (int i = 0; i < keys.size(); i++) {
+                    if (map.get(slices.get(i % slices.size()), keys.get(i)) != null) found++;
+                }
+            }
+            time = System.nanoTime() - start;
+            if (found != LOOKUP_ROUNDS * keys.size()) {
+                throw new IllegalStateException("Found " + found + " entries");
+            }
+        }
+        return time / (LOOKUP_ROUNDS * keys.size());
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.jvm.compiler.longTest;
+
+import kotlin.Function0;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.storage.ConcurrentStorageManager;
+import org.jetbrains.jet.storage.LockBasedStorageManager;
+import org.jetbrains.jet.storage.NotNullLazyValue;
+import org.jetbrains.jet.storage.StorageManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures the time of computing independent lazy values from many threads
+ * with the global lock of LockBasedStorageManager and with ConcurrentStorageManager.
+ *
+ * Usage: CompareStorageManagerThroughput [number of threads, 16 by default] [number of runs, 5 by default]
+ */
+public class CompareStorageManagerThroughput {
+    private static final int VALUES_PER_THREAD = 200;
+    private static final int WORK_PER_VALUE = 100000;
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        for (int i = 0; i < runs; i++) {
+            long global = measure(new LockBasedStorageManager(), threads);
+            long concurrent = measure(new ConcurrentStorageManager(), threads);
+            System.out.println("Run " + (i + 1) + ": " + threads * VALUES_PER_THREAD + " values in " + threads + " threads: " +
+                               "global lock " + global + " ms, concurrent " + concurrent + " ms");
+        }
+    }
+
+    private static long measure(@NotNull StorageManager storageManager, int threads) throws Exception {
+        final List<NotNullLazyValue<Long>> values = new ArrayList<NotNullLazyValue<Long>>();
+        for (int i = 0; i < threads * VALUES_PER_THREAD; i++) {
+            final int seed = i;
+            values.add(storageManager.createLazyValue(new Function0<Long>() {
+                @Override
+                public Long invoke() {
+                    long result = seed;
+                    for (int j = 0; j < WORK_PER_VALUE; j++) {
+                        result = result * 31 + j;
+                    }
+                    return result;
+                }
+            }));
+        }
+
+        final AtomicInteger next = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        start.await();
+                        for (int index = next.getAndIncrement(); index < values.size(); index = next.getAndIncrement()) {
+                            values.get(index).invoke();
+                        }
+                        return null;
+                    }
+                }));
+            }
+
+            long startTime = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return (System.nanoTime() - startTime) / 1000000;
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+}
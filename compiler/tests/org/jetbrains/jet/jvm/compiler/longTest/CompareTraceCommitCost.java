@@ -0,0 +1,132 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.jvm.compiler.longTest;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.util.slicedmap.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Emulates resolution of candidate calls, where each candidate records a few entries into its own trace
+ * and the traces are committed into the enclosing ones through several nesting levels.
+ * Measures the commit time and the average lookup time in the resulting map for
+ * SlicedMapImpl with entries put one by one (as before CompactSlicedMap), CompactSlicedMap with entries put one by one,
+ * and CompactSlicedMap.moveAllTo() used by DelegatingBindingTrace.moveAllMyDataTo().
+ *
+ * Usage: CompareTraceCommitCost [number of candidates, 20000 by default] [nesting levels, 4 by default] [number of runs, 3 by default]
+ */
+public class CompareTraceCommitCost {
+    private static final int ENTRIES_PER_CANDIDATE = 4;
+    private static final int LOOKUP_ROUNDS = 10;
+
+    private enum Mode {
+        PUT_INTO_SLICED_MAP_IMPL,
+        PUT_INTO_COMPACT_SLICED_MAP,
+        MOVE_COMPACT_SLICED_MAP
+    }
+
+    public static void main(String[] args) {
+        int candidates = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        int levels = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+
+        List<WritableSlice<Object, Object>> slices = new ArrayList<WritableSlice<Object, Object>>();
+        for (int i = 0; i < ENTRIES_PER_CANDIDATE; i++) {
+            slices.add(Slices.createSimpleSlice());
+        }
+        List<Object> keys = new ArrayList<Object>();
+        for (int i = 0; i < candidates * ENTRIES_PER_CANDIDATE; i++) {
+            keys.add(new Object());
+        }
+
+        // The first run is a warm up
+        for (int i = 0; i <= runs; i++) {
+            StringBuilder result = new StringBuilder();
+            for (Mode mode : Mode.values()) {
+                long start = System.nanoTime();
+                MutableSlicedMap root = commitNested(mode, slices, keys, levels);
+                long commitTime = (System.nanoTime() - start) / 1000000;
+                result.append(mode).append(": commit ").append(commitTime).append(" ms, lookup ")
+                        .append(measureLookupNanos(root, slices, keys)).append(" ns; ");
+            }
+            if (i > 0) {
+                System.out.println("Run " + i + ": " + candidates + " candidates through " + levels + " levels, " + result);
+            }
+        }
+    }
+
+    @NotNull
+    private static MutableSlicedMap commitNested(
+            @NotNull Mode mode,
+            @NotNull List<WritableSlice<Object, Object>> slices,
+            @NotNull List<Object> keys,
+            int levels
+    ) {
+        MutableSlicedMap root = createMap(mode);
+        for (int i = 0; i + ENTRIES_PER_CANDIDATE <= keys.size(); i += ENTRIES_PER_CANDIDATE) {
+            MutableSlicedMap[] chain = new MutableSlicedMap[levels];
+            for (int level = 0; level < levels; level++) {
+                chain[level] = createMap(mode);
+            }
+            for (int j = 0; j < ENTRIES_PER_CANDIDATE; j++) {
+                chain[levels - 1].put(slices.get(j), keys.get(i + j), keys.get(i + j));
+            }
+            for (int level = levels - 1; level >= 0; level--) {
+                MutableSlicedMap target = level == 0 ? root : chain[level - 1];
+                if (mode == Mode.MOVE_COMPACT_SLICED_MAP) {
+                    ((CompactSlicedMap) chain[level]).moveAllTo((CompactSlicedMap) target);
+                }
+                else {
+                    for (Map.Entry<SlicedMapKey<?, ?>, ?> entry : chain[level]) {
+                        //noinspection unchecked
+                        target.put((WritableSlice) entry.getKey().getSlice(), entry.getKey().getKey(), entry.getValue());
+                    }
+                    chain[level].clear();
+                }
+            }
+        }
+        return root;
+    }
+
+    @NotNull
+    private static MutableSlicedMap createMap(@NotNull Mode mode) {
+        return mode == Mode.PUT_INTO_SLICED_MAP_IMPL ? SlicedMapImpl.create() : CompactSlicedMap.create();
+    }
+
+    private static long measureLookupNanos(
+            @NotNull MutableSlicedMap map,
+            @NotNull List<WritableSlice<Object, Object>> slices,
+            @NotNull List<Object> keys
+    ) {
+        int found = 0;
+        long start = System.nanoTime();
+        for (int round = 0; round < LOOKUP_ROUNDS; round++) {
+            for (int i = 0; i < keys.size(); i++) {
+                if (map.get(slices.get(i % slices.size()), keys.get(i)) != null) found++;
+            }
+        }
+        long time = System.nanoTime() - start;
+        if (found != LOOKUP_ROUNDS * keys.size()) {
+            throw new IllegalStateException("Found " + found + " entries");
+        }
+        return time / (LOOKUP_ROUNDS * keys.size());
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.jvm.compiler.longTest;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.util.Disposer;
+import kotlin.Function1;
+import kotlin.Unit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.ConfigurationKind;
+import org.jetbrains.jet.JetTestUtils;
+import org.jetbrains.jet.TestJdkKind;
+import org.jetbrains.jet.cli.jvm.compiler.CompileEnvironmentUtil;
+import org.jetbrains.jet.cli.jvm.compiler.JetCoreEnvironment;
+import org.jetbrains.jet.lang.psi.JetFile;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compares the time of parsing all Kotlin files under a directory on one thread and on a pool of threads,
+ * the way JetCoreEnvironment parses the source files of a module. Full trees are built, including bodies of functions.
+ *
+ * Usage: ParseSourcesInParallel [source directory, compiler/testData by default] [number of threads, number of processors by default]
+ *                               [number of runs, 3 by default]
+ */
+public class ParseSourcesInParallel {
+    public static void main(String[] args) {
+        File directory = new File(args.length > 0 ? args[0] : "compiler/testData");
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+
+        for (int i = 0; i < runs; i++) {
+            long sequential = parseAll(directory, 1);
+            long parallel = parseAll(directory, threads);
+            System.out.println("Run " + (i + 1) + ": 1 thread " + sequential + " ms, " + threads + " threads " + parallel + " ms");
+        }
+    }
+
+    private static long parseAll(@NotNull File directory, int threads) {
+        Disposable disposable = Disposer.newDisposable();
+        try {
+            JetCoreEnvironment environment = JetCoreEnvironment.createForTests(
+                    disposable, JetTestUtils.compilerConfigurationForTests(ConfigurationKind.JDK_ONLY, TestJdkKind.MOCK_JDK));
+            List<JetFile> files = CompileEnvironmentUtil.getJetFiles(
+                    environment.getProject(), Collections.singletonList(directory.getPath()), new Function1<String, Unit>() {
+                        @Override
+                        public Unit invoke(String message) {
+                            throw new IllegalArgumentException(message);
+                        }
+                    });
+
+            long start = System.nanoTime();
+            if (threads > 1) {
+                CompileEnvironmentUtil.parseFiles(files, threads);
+            }
+            else {
+                for (JetFile file : files) {
+                    CompileEnvironmentUtil.parseFile(file);
+                }
+            }
+            return (System.nanoTime() - start) / 1000000;
+        }
+        finally {
+            Disposer.dispose(disposable);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.jvm.compiler.longTest;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.util.Disposer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.ConfigurationKind;
+import org.jetbrains.jet.JetTestUtils;
+import org.jetbrains.jet.TestJdkKind;
+import org.jetbrains.jet.cli.jvm.compiler.JetCoreEnvironment;
+import org.jetbrains.jet.di.InjectorForJavaDescriptorResolver;
+import org.jetbrains.jet.di.InjectorForJavaDescriptorResolverUtil;
+import org.jetbrains.jet.lang.descriptors.ClassDescriptor;
+import org.jetbrains.jet.lang.descriptors.DeclarationDescriptor;
+import org.jetbrains.jet.lang.descriptors.FunctionDescriptor;
+import org.jetbrains.jet.lang.descriptors.ModuleDescriptor;
+import org.jetbrains.jet.lang.resolve.BindingTraceContext;
+import org.jetbrains.jet.lang.resolve.ResolvePackage;
+import org.jetbrains.jet.lang.resolve.name.FqName;
+import org.jetbrains.jet.utils.PathUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Resolves all members of every top-level class in a Java library in one module and reports the time it took.
+ * Most of the time is spent in propagation of signatures from super methods, so deep hierarchies (Swing, AWT, exceptions in rt.jar)
+ * show how well the work done for super methods is reused by their overriders.
+ *
+ * Usage: ResolveAllMembersOfJavaLibrary [library jar, rt.jar by default] [number of runs, 3 by default]
+ */
+public class ResolveAllMembersOfJavaLibrary {
+    public static void main(String[] args) throws IOException {
+        File jar = args.length > 0 ? new File(args[0]) : findRtJar();
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+
+        List<FqName> classNames = getTopLevelClassNames(jar);
+        System.out.println("Resolving members of " + classNames.size() + " classes from " + jar);
+
+        for (int i = 0; i < runs; i++) {
+            Disposable disposable = Disposer.newDisposable();
+            try {
+                long start = System.nanoTime();
+                int functionCount = resolveAllMembers(disposable, jar, classNames);
+                System.out.println("Run " + (i + 1) + ": " + functionCount + " functions in " +
+                                   (System.nanoTime() - start) / 1000000 + " ms");
+            }
+            finally {
+                Disposer.dispose(disposable);
+            }
+        }
+    }
+
+    private static int resolveAllMembers(@NotNull Disposable disposable, @NotNull File jar, @NotNull List<FqName> classNames) {
+        JetCoreEnvironment environment = JetCoreEnvironment.createForTests(disposable, JetTestUtils.compilerConfigurationForTests(
+                ConfigurationKind.JDK_AND_ANNOTATIONS, TestJdkKind.FULL_JDK, JetTestUtils.getAnnotationsJar(), jar));
+        InjectorForJavaDescriptorResolver injector =
+                InjectorForJavaDescriptorResolverUtil.create(environment.getProject(), new BindingTraceContext(), false);
+        ModuleDescriptor module = injector.getModule();
+
+        int functionCount = 0;
+        for (FqName className : classNames) {
+            ClassDescriptor classDescriptor = ResolvePackage.resolveTopLevelClass(module, className);
+            if (classDescriptor == null) continue;
+
+            for (DeclarationDescriptor member : classDescriptor.getDefaultType().getMemberScope().getAllDescriptors()) {
+                if (member instanceof FunctionDescriptor) {
+                    functionCount++;
+                }
+            }
+        }
+        return functionCount;
+    }
+
+    @NotNull
+    private static List<FqName> getTopLevelClassNames(@NotNull File jar) throws IOException {
+        List<FqName> result = new ArrayList<FqName>();
+        ZipFile zipFile = new ZipFile(jar);
+        try {
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                String name = entries.nextElement().getName();
+                if (!name.endsWith(".class") || name.contains("$") || name.endsWith("package-info.class")) continue;
+
+                result.add(new FqName(name.substring(0, name.length() - ".class".length()).replace('/', '.')));
+            }
+        }
+        finally {
+            zipFile.close();
+        }
+        return result;
+    }
+
+    @NotNull
+    private static File findRtJar() {
+        for (File root : PathUtil.getJdkClassesRoots()) {
+            if (root.getName().equals("rt.jar") || root.getName().equals("classes.jar")) {
+                return root;
+            }
+        }
+        throw new IllegalArgumentException("No rt.jar/classes.jar found under " + System.getProperty("java.home"));
+    }
+}
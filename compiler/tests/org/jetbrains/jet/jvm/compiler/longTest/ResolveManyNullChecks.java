@@ -0,0 +1,73 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.jvm.compiler.longTest;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.util.Disposer;
+import org.jetbrains.jet.ConfigurationKind;
+import org.jetbrains.jet.JetTestUtils;
+import org.jetbrains.jet.TestJdkKind;
+import org.jetbrains.jet.cli.jvm.compiler.JetCoreEnvironment;
+import org.jetbrains.jet.lang.psi.JetFile;
+import org.jetbrains.jet.lang.resolve.lazy.JvmResolveUtil;
+
+/**
+ * Measures the time of resolving a function where each null check adds a smart cast
+ * which stays valid until the end of the function, so data flow info grows with every statement.
+ *
+ * Usage: ResolveManyNullChecks [number of null checks, 400 by default] [number of runs, 3 by default]
+ */
+public class ResolveManyNullChecks {
+    public static void main(String[] args) {
+        int checks = args.length > 0 ? Integer.parseInt(args[0]) : 400;
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+
+        String text = generateText(checks);
+        for (int i = 0; i < runs; i++) {
+            System.out.println("Run " + (i + 1) + ": function with " + checks + " null checks resolved in " + resolve(text) + " ms");
+        }
+    }
+
+    private static String generateText(int checks) {
+        StringBuilder text = new StringBuilder("fun test(s: String?): Int {\n    var result = 0\n");
+        for (int i = 0; i < checks; i++) {
+            text.append("    val x").append(i).append(": String? = s\n");
+            text.append("    if (x").append(i).append(" != null) result += x").append(i).append(".length else return result\n");
+        }
+        for (int i = 0; i < checks; i++) {
+            text.append("    result += x").append(i).append(".length\n");
+        }
+        text.append("    return result\n}\n");
+        return text.toString();
+    }
+
+    private static long resolve(String text) {
+        Disposable disposable = Disposer.newDisposable();
+        try {
+            JetCoreEnvironment environment = JetCoreEnvironment.createForTests(
+                    disposable, JetTestUtils.compilerConfigurationForTests(ConfigurationKind.JDK_ONLY, TestJdkKind.MOCK_JDK));
+            JetFile file = JetTestUtils.createFile("nullChecks.kt", text, environment.getProject());
+
+            long start = System.nanoTime();
+            JvmResolveUtil.analyzeOneFileWithJavaIntegrationAndCheckForErrors(file);
+            return (System.nanoTime() - start) / 1000000;
+        }
+        finally {
+            Disposer.dispose(disposable);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.lang.resolve;
+
+import com.google.common.base.Predicates;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.JetTestUtils;
+import org.jetbrains.jet.checkers.BaseDiagnosticsTest;
+import org.jetbrains.jet.cli.jvm.compiler.CliLightClassGenerationSupport;
+import org.jetbrains.jet.context.ContextPackage;
+import org.jetbrains.jet.context.GlobalContextImpl;
+import org.jetbrains.jet.di.InjectorForTopDownAnalyzerForJvm;
+import org.jetbrains.jet.lang.descriptors.DeclarationDescriptor;
+import org.jetbrains.jet.lang.diagnostics.Diagnostic;
+import org.jetbrains.jet.lang.diagnostics.rendering.DefaultErrorMessages;
+import org.jetbrains.jet.lang.psi.JetExpression;
+import org.jetbrains.jet.lang.psi.JetFile;
+import org.jetbrains.jet.lang.psi.JetReferenceExpression;
+import org.jetbrains.jet.lang.types.JetType;
+import org.jetbrains.jet.renderer.DescriptorRenderer;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks that resolving function and property bodies in several threads gives exactly the same diagnostics
+ * and binding context contents as the sequential resolve
+ */
+public abstract class AbstractParallelBodyResolveTest extends BaseDiagnosticsTest {
+    private static final int THREADS = 4;
+
+    @Override
+    protected void analyzeAndCheck(File testDataFile, List<TestFile> files) {
+        List<JetFile> jetFiles = getJetFiles(files);
+
+        String sequential = render(analyze(jetFiles, 1));
+        String parallel = render(analyze(jetFiles, THREADS));
+
+        assertEquals("Parallel body resolve differs from the sequential one for " + testDataFile, sequential, parallel);
+    }
+
+    @NotNull
+    private BindingContext analyze(@NotNull List<JetFile> files, int bodyResolveThreads) {
+        JetTestUtils.newTrace(getEnvironment());
+
+        GlobalContextImpl globalContext = ContextPackage.GlobalContext();
+        TopDownAnalysisParameters params = TopDownAnalysisParameters.create(
+                globalContext.getStorageManager(), globalContext.getExceptionTracker(), Predicates.<PsiFile>alwaysTrue(), false, false
+        ).withBodyResolveThreads(bodyResolveThreads);
+        CliLightClassGenerationSupport support = CliLightClassGenerationSupport.getInstanceForCli(getProject());
+        BindingTrace trace = support.getTrace();
+
+        InjectorForTopDownAnalyzerForJvm injector = new InjectorForTopDownAnalyzerForJvm(getProject(), params, trace, support.newModule());
+        try {
+            injector.getTopDownAnalyzer().analyzeFiles(params, files, injector.getJavaDescriptorResolver().getPackageFragmentProvider());
+        }
+        finally {
+            injector.destroy();
+        }
+        return trace.getBindingContext();
+    }
+
+    @NotNull
+    private static String render(@NotNull BindingContext context) {
+        StringBuilder result = new StringBuilder();
+
+        // Diagnostics are not sorted: they should be reported in the same order as in the sequential mode
+        for (Diagnostic diagnostic : context.getDiagnostics().all()) {
+            result.append(diagnostic.getFactory().getName()).append(" ").append(diagnostic.getTextRanges()).append(": ")
+                    .append(DefaultErrorMessages.RENDERER.render(diagnostic)).append("\n");
+        }
+
+        List<String> entries = new ArrayList<String>();
+        for (Map.Entry<JetExpression, JetType> entry : context.getSliceContents(BindingContext.EXPRESSION_TYPE).entrySet()) {
+            entries.add(renderKey(entry.getKey()) + " : " + DescriptorRenderer.FQ_NAMES_IN_TYPES.renderType(entry.getValue()));
+        }
+        for (Map.Entry<JetReferenceExpression, DeclarationDescriptor> entry : context.getSliceContents(BindingContext.REFERENCE_TARGET).entrySet()) {
+            entries.add(renderKey(entry.getKey()) + " -> " + DescriptorRenderer.FQ_NAMES_IN_TYPES.render(entry.getValue()));
+        }
+        Collections.sort(entries);
+
+        for (String entry : entries) {
+            result.append(entry).append("\n");
+        }
+        return result.toString();
+    }
+
+    @NotNull
+    private static String renderKey(@NotNull PsiElement element) {
+        return element.getContainingFile().getName() + ":" + element.getTextRange() + " " + element.getText();
+    }
+}
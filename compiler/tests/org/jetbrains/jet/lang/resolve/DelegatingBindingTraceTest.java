@@ -0,0 +1,106 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.lang.resolve;
+
+import junit.framework.TestCase;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.util.slicedmap.Slices;
+import org.jetbrains.jet.util.slicedmap.WritableSlice;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class DelegatingBindingTraceTest extends TestCase {
+    private static final WritableSlice<String, Integer> NAME_TO_NUMBER = Slices.createSimpleSlice();
+    private static final WritableSlice<Integer, String> NUMBER_TO_NAME = Slices.<Integer, String>sliceBuilder().build();
+    private static final WritableSlice<String, Integer> NAME_TO_NUMBER_WITH_OPPOSITE =
+            Slices.<String, Integer>sliceBuilder().setOpposite(NUMBER_TO_NAME).build();
+
+    private static class RecordingTrace extends DelegatingBindingTrace {
+        private final List<String> records = new ArrayList<String>();
+
+        RecordingTrace() {
+            super(BindingContext.EMPTY, "Recording trace");
+        }
+
+        @Override
+        public <K, V> void record(WritableSlice<K, V> slice, K key, V value) {
+            records.add(key + "=" + value);
+            super.record(slice, key, value);
+        }
+    }
+
+    @NotNull
+    private static DelegatingBindingTrace createSource() {
+        DelegatingBindingTrace trace = new DelegatingBindingTrace(BindingContext.EMPTY, "Source trace");
+        trace.record(NAME_TO_NUMBER, "one", 1);
+        trace.record(NAME_TO_NUMBER_WITH_OPPOSITE, "two", 2);
+        return trace;
+    }
+
+    public void testMoveToOverridingTraceRecordsEveryEntry() {
+        RecordingTrace moved = new RecordingTrace();
+        createSource().moveAllMyDataTo(moved);
+
+        RecordingTrace added = new RecordingTrace();
+        createSource().addAllMyDataTo(added);
+
+        assertEquals(Arrays.asList("one=1", "two=2", "2=two"), added.records);
+        assertEquals(added.records, moved.records);
+    }
+
+    public void testMoveToTraceStub() {
+        try {
+            createSource().moveAllMyDataTo(TraceUtil.DELEGATING_TRACE_STUB);
+            fail("Records should go through the overridden record() of the stub");
+        }
+        catch (IllegalStateException ignored) {
+        }
+    }
+
+    public void testMoveToTemporaryTraceSameAsRecordingEntries() {
+        DelegatingBindingTrace parent = new DelegatingBindingTrace(BindingContext.EMPTY, "Parent trace");
+
+        TemporaryBindingTrace moved = TemporaryBindingTrace.create(parent, "Moved");
+        moved.record(NUMBER_TO_NAME, 3, "three");
+        DelegatingBindingTrace movedSource = createSource();
+        movedSource.moveAllMyDataTo(moved);
+
+        TemporaryBindingTrace added = TemporaryBindingTrace.create(parent, "Added");
+        added.record(NUMBER_TO_NAME, 3, "three");
+        DelegatingBindingTrace addedSource = createSource();
+        addedSource.addAllMyDataTo(added);
+        addedSource.clear();
+
+        assertEquals(render(added), render(moved));
+        assertEquals(render(addedSource), render(movedSource));
+        assertEquals("two", moved.get(NUMBER_TO_NAME, 2));
+    }
+
+    @NotNull
+    private static List<String> render(@NotNull DelegatingBindingTrace trace) {
+        final List<String> result = new ArrayList<String>();
+        trace.addAllMyDataTo(new RecordingTrace() {
+            @Override
+            public <K, V> void record(WritableSlice<K, V> slice, K key, V value) {
+                result.add(key + "=" + value);
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.lang.resolve.calls;
+
+import com.google.common.collect.Sets;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.jetbrains.jet.ConfigurationKind;
+import org.jetbrains.jet.JetTestUtils;
+import org.jetbrains.jet.cli.jvm.compiler.JetCoreEnvironment;
+import org.jetbrains.jet.lang.descriptors.SimpleFunctionDescriptor;
+import org.jetbrains.jet.lang.psi.*;
+import org.jetbrains.jet.lang.resolve.BindingContext;
+import org.jetbrains.jet.lang.resolve.DelegatingBindingTrace;
+import org.jetbrains.jet.lang.resolve.calls.model.DataFlowInfoForArgumentsImpl;
+import org.jetbrains.jet.lang.resolve.calls.model.ExplicitReceiverKind;
+import org.jetbrains.jet.lang.resolve.calls.model.ResolvedCallImpl;
+import org.jetbrains.jet.lang.resolve.calls.tasks.ResolutionCandidate;
+import org.jetbrains.jet.lang.resolve.calls.tasks.TracingStrategy;
+import org.jetbrains.jet.lang.resolve.calls.util.CallMaker;
+import org.jetbrains.jet.lang.resolve.lazy.JvmResolveUtil;
+import org.jetbrains.jet.lang.resolve.lazy.KotlinTestWithEnvironment;
+import org.jetbrains.jet.lang.resolve.scopes.receivers.ReceiverValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Checks that the cheap check used by CallResolver to defer candidates never rejects a call which the mapper accepts
+ */
+public class ValueArgumentsToParametersMapperTest extends KotlinTestWithEnvironment {
+    private static final String DECLARATIONS =
+            "fun none() {}\n" +
+            "fun one(a: Int) {}\n" +
+            "fun two(a: Int, b: String) {}\n" +
+            "fun defaults(a: Int, b: String = \"\", c: Int = 0) {}\n" +
+            "fun allDefaults(a: Int = 0, b: String = \"\") {}\n" +
+            "fun varargOnly(vararg a: Int) {}\n" +
+            "fun varargFirst(vararg a: Int, b: String) {}\n" +
+            "fun varargLast(a: Int, vararg b: Int) {}\n" +
+            "fun lambda(a: Int, f: () -> Unit) {}\n" +
+            "fun lambdaOnly(f: () -> Unit) {}\n" +
+            "fun lambdaWithDefault(a: Int = 0, f: () -> Unit) {}\n" +
+            "fun varargLambda(vararg f: () -> Unit) {}\n";
+
+    private static final String[] CALLS = {
+            "x()", "x(1)", "x(1, \"\")", "x(1, 2)", "x(1, 2, 3)", "x(\"\")", "x(1, \"\", 2)",
+            "x(a = 1)", "x(b = \"\")", "x(c = 1)", "x(b = \"\", a = 1)", "x(1, b = \"\")", "x(a = 1, 2)", "x(a = 1, a = 2)",
+            "x(1, c = 2)", "x(f = {})", "x(d = 1)",
+            "x {}", "x(1) {}", "x(1, {}) {}", "x(a = 1) {}", "x(f = {}) {}",
+            "x(*ints)", "x(1, *ints)", "x(a = *ints)", "x(*ints, b = \"\")", "x(*ints) {}"
+    };
+
+    @Override
+    protected JetCoreEnvironment createEnvironment() {
+        return createEnvironmentWithMockJdk(ConfigurationKind.JDK_ONLY);
+    }
+
+    public void testImpossibleMappingAgreesWithMapper() throws Exception {
+        StringBuilder text = new StringBuilder(DECLARATIONS);
+        text.append("fun calls(ints: IntArray) {\n");
+        for (String call : CALLS) {
+            text.append("    ").append(call).append("\n");
+        }
+        text.append("}\n");
+
+        JetFile file = JetTestUtils.createFile("calls.kt", text.toString(), getProject());
+        BindingContext context = JvmResolveUtil.analyzeOneFileWithJavaIntegration(file).getBindingContext();
+
+        List<SimpleFunctionDescriptor> functions = new ArrayList<SimpleFunctionDescriptor>();
+        for (JetDeclaration declaration : file.getDeclarations()) {
+            if (declaration.getName().equals("calls")) continue;
+            SimpleFunctionDescriptor function = context.get(BindingContext.FUNCTION, declaration);
+            assertNotNull(function);
+            functions.add(function);
+        }
+
+        Collection<JetCallExpression> callExpressions = PsiTreeUtil.findChildrenOfType(file, JetCallExpression.class);
+        assertEquals(CALLS.length, callExpressions.size());
+
+        int rejected = 0;
+        int mapped = 0;
+        for (JetCallExpression callExpression : callExpressions) {
+            Call call = CallMaker.makeCall(ReceiverValue.NO_RECEIVER, null, callExpression);
+            for (SimpleFunctionDescriptor function : functions) {
+                ResolutionCandidate<SimpleFunctionDescriptor> candidate = ResolutionCandidate.create(
+                        call, function, ReceiverValue.NO_RECEIVER, ReceiverValue.NO_RECEIVER, ExplicitReceiverKind.NO_EXPLICIT_RECEIVER, false);
+                boolean impossible = ValueArgumentsToParametersMapper.isArgumentMappingImpossible(call, candidate);
+
+                ResolvedCallImpl<SimpleFunctionDescriptor> resolvedCall = ResolvedCallImpl.create(
+                        candidate, new DelegatingBindingTrace(context, "Trace for mapping"), TracingStrategy.EMPTY,
+                        new DataFlowInfoForArgumentsImpl(call));
+                ValueArgumentsToParametersMapper.Status status = ValueArgumentsToParametersMapper.mapValueArgumentsToParameters(
+                        call, TracingStrategy.EMPTY, resolvedCall, Sets.<ValueArgument>newLinkedHashSet());
+
+                String message = callExpression.getText().replace("x", function.getName().asString()) + ": " + status;
+                if (impossible) {
+                    assertFalse("Rejected by the check, but mapped: " + message, status.isSuccess());
+                    rejected++;
+                }
+                if (status.isSuccess()) {
+                    mapped++;
+                }
+            }
+        }
+
+        assertTrue(rejected > 0);
+        assertTrue(mapped > 0);
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.lang.resolve.calls.autocasts;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.ConfigurationKind;
+import org.jetbrains.jet.cli.jvm.compiler.JetCoreEnvironment;
+import org.jetbrains.jet.lang.resolve.lazy.KotlinTestWithEnvironment;
+import org.jetbrains.jet.lang.types.JetType;
+import org.jetbrains.jet.lang.types.TypeUtils;
+import org.jetbrains.jet.lang.types.lang.KotlinBuiltIns;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.jetbrains.jet.lang.resolve.calls.autocasts.Nullability.*;
+
+public class PersistentDataFlowInfoTest extends KotlinTestWithEnvironment {
+    // Ids with equal hash codes make data flow values collide in the persistent maps
+    private static class Id {
+        private final String name;
+
+        private Id(@NotNull String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Id && ((Id) o).name.equals(name);
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private KotlinBuiltIns builtIns;
+
+    @Override
+    protected JetCoreEnvironment createEnvironment() {
+        return createEnvironmentWithMockJdk(ConfigurationKind.JDK_ONLY);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        builtIns = KotlinBuiltIns.getInstance();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        builtIns = null;
+        super.tearDown();
+    }
+
+    @NotNull
+    private JetType nullableString() {
+        return TypeUtils.makeNullable(builtIns.getStringType());
+    }
+
+    @NotNull
+    private static DataFlowValue stableValue(@NotNull Object id, @NotNull JetType type) {
+        return new DataFlowValue(id, type, true, type.isNullable() ? UNKNOWN : NOT_NULL);
+    }
+
+    public void testEquateAndDisequateWithNull() {
+        DataFlowValue x = stableValue("x", nullableString());
+
+        assertEquals(UNKNOWN, DataFlowInfo.EMPTY.getNullability(x));
+        assertEquals(NOT_NULL, DataFlowInfo.EMPTY.disequate(x, DataFlowValue.NULL).getNullability(x));
+        assertEquals(NULL, DataFlowInfo.EMPTY.equate(x, DataFlowValue.NULL).getNullability(x));
+        assertEquals(Sets.newHashSet(builtIns.getStringType()), DataFlowInfo.EMPTY.disequate(x, DataFlowValue.NULL).getPossibleTypes(x));
+
+        // Nothing changes, so the same info is returned
+        DataFlowInfo notNull = DataFlowInfo.EMPTY.disequate(x, DataFlowValue.NULL);
+        assertSame(notNull, notNull.disequate(x, DataFlowValue.NULL));
+    }
+
+    public void testUnstableValuesAreNotRecorded() {
+        DataFlowValue x = new DataFlowValue("x", nullableString(), false, UNKNOWN);
+
+        DataFlowInfo info = DataFlowInfo.EMPTY.disequate(x, DataFlowValue.NULL);
+        assertEquals(UNKNOWN, info.getNullability(x));
+        assertSame(DataFlowInfo.EMPTY, info);
+    }
+
+    public void testEquateTwoValues() {
+        DataFlowValue x = stableValue("x", nullableString());
+        DataFlowValue y = stableValue("y", builtIns.getStringType());
+
+        DataFlowInfo info = DataFlowInfo.EMPTY.equate(x, y);
+        assertEquals(NOT_NULL, info.getNullability(x));
+        assertEquals(NOT_NULL, info.getNullability(y));
+    }
+
+    public void testEstablishSubtyping() {
+        DataFlowValue x = stableValue("x", builtIns.getNullableAnyType());
+
+        DataFlowInfo info = DataFlowInfo.EMPTY.establishSubtyping(x, builtIns.getStringType());
+        assertEquals(NOT_NULL, info.getNullability(x));
+        assertEquals(Sets.newHashSet(builtIns.getAnyType(), builtIns.getStringType()), info.getPossibleTypes(x));
+        assertSame(info, info.establishSubtyping(x, builtIns.getStringType()));
+
+        // The original info is not changed
+        assertEquals(UNKNOWN, DataFlowInfo.EMPTY.getNullability(x));
+        assertTrue(DataFlowInfo.EMPTY.getPossibleTypes(x).isEmpty());
+    }
+
+    public void testAnd() {
+        DataFlowValue x = stableValue("x", builtIns.getNullableAnyType());
+        DataFlowValue y = stableValue("y", builtIns.getNullableAnyType());
+
+        DataFlowInfo first = DataFlowInfo.EMPTY.establishSubtyping(x, builtIns.getStringType());
+        DataFlowInfo second = DataFlowInfo.EMPTY.disequate(y, DataFlowValue.NULL).establishSubtyping(x, builtIns.getIntType());
+
+        DataFlowInfo both = first.and(second);
+        assertEquals(NOT_NULL, both.getNullability(x));
+        assertEquals(NOT_NULL, both.getNullability(y));
+        // Types known from the other info go first
+        assertEquals(Lists.newArrayList(builtIns.getIntType(), builtIns.getStringType()),
+                     new ArrayList<JetType>(both.getCompleteTypeInfo().get(x)));
+
+        assertSame(first, first.and(DataFlowInfo.EMPTY));
+        assertSame(second, DataFlowInfo.EMPTY.and(second));
+        assertSame(both, both.and(first));
+    }
+
+    public void testOr() {
+        DataFlowValue x = stableValue("x", builtIns.getNullableAnyType());
+        DataFlowValue y = stableValue("y", builtIns.getNullableAnyType());
+
+        DataFlowInfo first = DataFlowInfo.EMPTY.disequate(x, DataFlowValue.NULL)
+                .establishSubtyping(y, builtIns.getStringType()).establishSubtyping(y, builtIns.getIntType());
+        DataFlowInfo second = DataFlowInfo.EMPTY.disequate(x, DataFlowValue.NULL).establishSubtyping(y, builtIns.getIntType());
+
+        DataFlowInfo either = first.or(second);
+        assertEquals(NOT_NULL, either.getNullability(x));
+        // Only the common types are kept
+        assertEquals(Sets.newHashSet(builtIns.getIntType()), either.getCompleteTypeInfo().get(y));
+
+        DataFlowInfo xIsNull = DataFlowInfo.EMPTY.equate(x, DataFlowValue.NULL);
+        assertEquals(UNKNOWN, first.or(xIsNull).getNullability(x));
+        // Types of y are known only in one of the branches, so they are removed
+        assertTrue(first.or(xIsNull).getCompleteTypeInfo().get(y).isEmpty());
+
+        assertSame(DataFlowInfo.EMPTY, first.or(DataFlowInfo.EMPTY));
+        assertSame(first, first.or(first));
+    }
+
+    public void testManyValuesWithCollidingHashCodes() {
+        List<DataFlowValue> values = new ArrayList<DataFlowValue>();
+        for (int i = 0; i < 100; i++) {
+            values.add(stableValue(new Id("v" + i), nullableString()));
+        }
+
+        DataFlowInfo allNotNull = DataFlowInfo.EMPTY;
+        DataFlowInfo evenNotNull = DataFlowInfo.EMPTY;
+        for (int i = 0; i < values.size(); i++) {
+            allNotNull = allNotNull.disequate(values.get(i), DataFlowValue.NULL);
+            if (i % 2 == 0) {
+                evenNotNull = evenNotNull.disequate(values.get(i), DataFlowValue.NULL);
+            }
+        }
+
+        assertEquals(100, allNotNull.getCompleteNullabilityInfo().size());
+        DataFlowInfo either = allNotNull.or(evenNotNull);
+        for (int i = 0; i < values.size(); i++) {
+            DataFlowValue value = values.get(i);
+            assertEquals(NOT_NULL, allNotNull.getNullability(value));
+            assertEquals(i % 2 == 0 ? NOT_NULL : UNKNOWN, evenNotNull.getNullability(value));
+            assertEquals(i % 2 == 0 ? NOT_NULL : UNKNOWN, either.getNullability(value));
+        }
+        assertEquals(50, either.getCompleteNullabilityInfo().size());
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.lang.resolve.java;
+
+import com.intellij.openapi.util.io.FileUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.ConfigurationKind;
+import org.jetbrains.jet.JetTestUtils;
+import org.jetbrains.jet.TestJdkKind;
+import org.jetbrains.jet.cli.jvm.compiler.JetCoreEnvironment;
+import org.jetbrains.jet.di.InjectorForJavaDescriptorResolver;
+import org.jetbrains.jet.di.InjectorForJavaDescriptorResolverUtil;
+import org.jetbrains.jet.lang.descriptors.ClassDescriptor;
+import org.jetbrains.jet.lang.descriptors.DeclarationDescriptor;
+import org.jetbrains.jet.lang.resolve.BindingTraceContext;
+import org.jetbrains.jet.lang.resolve.DescriptorUtils;
+import org.jetbrains.jet.lang.resolve.ResolvePackage;
+import org.jetbrains.jet.lang.resolve.java.lazy.descriptors.JavaClassMembers;
+import org.jetbrains.jet.lang.resolve.java.lazy.descriptors.MemberIndex;
+import org.jetbrains.jet.lang.resolve.java.resolver.DescriptorResolverUtils;
+import org.jetbrains.jet.lang.resolve.java.structure.JavaClass;
+import org.jetbrains.jet.lang.resolve.java.structure.JavaField;
+import org.jetbrains.jet.lang.resolve.java.structure.JavaMethod;
+import org.jetbrains.jet.lang.resolve.name.FqName;
+import org.jetbrains.jet.lang.resolve.name.Name;
+import org.jetbrains.jet.lang.resolve.scopes.JetScope;
+import org.jetbrains.jet.storage.LockBasedStorageManager;
+import org.jetbrains.jet.test.TestCaseWithTmpdir;
+
+import java.io.File;
+import java.util.*;
+
+public class JavaClassMembersTest extends TestCaseWithTmpdir {
+    private InjectorForJavaDescriptorResolver injector;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        File sources = new File(tmpdir, "src");
+        List<File> files = new ArrayList<File>();
+        files.add(writeSource(sources, "I",
+                              "public interface I { void fromInterface(); String toString(); boolean equals(Object o); }"));
+        files.add(writeSource(sources, "Base",
+                              "public class Base {\n" +
+                              "    public void inherited() {}\n" +
+                              "    public void same(long l) {}\n" +
+                              "    public static void staticInherited() {}\n" +
+                              "    public int baseField;\n" +
+                              "    public static int STATIC_BASE;\n" +
+                              "}"));
+        files.add(writeSource(sources, "Derived",
+                              "public class Derived extends Base implements I {\n" +
+                              "    public Derived() {}\n" +
+                              "    public Derived(int x) {}\n" +
+                              "    public void fromInterface() {}\n" +
+                              "    public void same() {}\n" +
+                              "    public void same(int x) {}\n" +
+                              "    public static void same(String s) {}\n" +
+                              "    public static void onlyStatic() {}\n" +
+                              "    public int field;\n" +
+                              "    public static int STATIC_FIELD;\n" +
+                              "    public int conflict;\n" +
+                              "    public void conflict() {}\n" +
+                              "}"));
+        files.add(writeSource(sources, "E",
+                              "public enum E { A, B; public void foo() {} public static void bar() {} }"));
+
+        File classes = new File(tmpdir, "classes");
+        JetTestUtils.mkdirs(classes);
+        JetTestUtils.compileJavaFiles(files, Arrays.asList("-d", classes.getPath()));
+
+        JetCoreEnvironment environment = JetCoreEnvironment.createForTests(
+                getTestRootDisposable(), JetTestUtils.compilerConfigurationForTests(ConfigurationKind.JDK_ONLY, TestJdkKind.MOCK_JDK, classes));
+        injector = InjectorForJavaDescriptorResolverUtil.create(environment.getProject(), new BindingTraceContext(), false);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        injector = null;
+        super.tearDown();
+    }
+
+    @NotNull
+    private static File writeSource(@NotNull File root, @NotNull String className, @NotNull String text) throws Exception {
+        File file = new File(root, "test/" + className + ".java");
+        FileUtil.writeToFile(file, "package test;\n\n" + text + "\n");
+        return file;
+    }
+
+    public void testSameIndexAsMemberFilter() {
+        for (String className : new String[] {
+                "test.I", "test.Base", "test.Derived", "test.E",
+                "java.lang.Object", "java.lang.String", "java.util.ArrayList", "java.util.Map", "java.util.concurrent.TimeUnit"
+        }) {
+            JavaClass jClass = injector.getJavaClassFinder().findClass(new FqName(className));
+            assertNotNull("Class not found: " + className, jClass);
+
+            JavaClassMembers members = new JavaClassMembers(jClass, LockBasedStorageManager.NO_LOCKS);
+            assertSameAsFiltered(className + " (non-static)", jClass, false, members.getNonStaticMembers());
+            assertSameAsFiltered(className + " (static)", jClass, true, members.getStaticMembers());
+        }
+    }
+
+    // Compares the index with the members selected by a filter from each list of the class, as the scopes did before members were shared
+    private static void assertSameAsFiltered(@NotNull String message, @NotNull JavaClass jClass, boolean isStatic, @NotNull MemberIndex index) {
+        Map<Name, Set<JavaMethod>> methods = new HashMap<Name, Set<JavaMethod>>();
+        for (JavaMethod method : jClass.getMethods()) {
+            if (isIndexedMethod(method, isStatic)) {
+                Set<JavaMethod> byName = methods.get(method.getName());
+                if (byName == null) {
+                    byName = new HashSet<JavaMethod>();
+                    methods.put(method.getName(), byName);
+                }
+                byName.add(method);
+            }
+        }
+
+        Set<Name> allMethodNames = new HashSet<Name>();
+        for (JavaMethod method : jClass.getAllMethods()) {
+            if (isIndexedMethod(method, isStatic)) {
+                allMethodNames.add(method.getName());
+            }
+        }
+        assertEquals(message, allMethodNames, new HashSet<Name>(index.getAllMethodNames()));
+
+        for (Name name : allMethodNames) {
+            Set<JavaMethod> expected = methods.containsKey(name) ? methods.get(name) : Collections.<JavaMethod>emptySet();
+            assertEquals(message + ": " + name, expected, new HashSet<JavaMethod>(index.findMethodsByName(name)));
+        }
+
+        Map<Name, JavaField> fields = new HashMap<Name, JavaField>();
+        for (JavaField field : jClass.getFields()) {
+            if (field.isStatic() == isStatic) {
+                fields.put(field.getName(), field);
+            }
+        }
+
+        Set<Name> allFieldNames = new HashSet<Name>();
+        for (JavaField field : jClass.getAllFields()) {
+            if (field.isStatic() == isStatic) {
+                allFieldNames.add(field.getName());
+            }
+        }
+        assertEquals(message, allFieldNames, new HashSet<Name>(index.getAllFieldNames()));
+
+        for (Name name : allFieldNames) {
+            assertEquals(message + ": " + name, fields.get(name), index.findFieldByName(name));
+        }
+    }
+
+    private static boolean isIndexedMethod(@NotNull JavaMethod method, boolean isStatic) {
+        return method.isStatic() == isStatic &&
+               !method.isConstructor() &&
+               !DescriptorResolverUtils.isObjectMethodInInterface(method);
+    }
+
+    public void testMemberScope() {
+        ClassDescriptor derived = resolveClass("test.Derived");
+        JetScope memberScope = derived.getDefaultType().getMemberScope();
+
+        assertEquals(3, memberScope.getFunctions(Name.identifier("same")).size());
+        assertEquals(1, memberScope.getFunctions(Name.identifier("inherited")).size());
+        assertEquals(1, memberScope.getFunctions(Name.identifier("fromInterface")).size());
+        assertEquals(1, memberScope.getFunctions(Name.identifier("conflict")).size());
+        assertTrue(memberScope.getFunctions(Name.identifier("onlyStatic")).isEmpty());
+        assertTrue(memberScope.getFunctions(Name.identifier("staticInherited")).isEmpty());
+        assertTrue(memberScope.getFunctions(Name.identifier("<init>")).isEmpty());
+
+        assertEquals(1, memberScope.getProperties(Name.identifier("field")).size());
+        assertEquals(1, memberScope.getProperties(Name.identifier("baseField")).size());
+        assertEquals(1, memberScope.getProperties(Name.identifier("conflict")).size());
+        assertTrue(memberScope.getProperties(Name.identifier("STATIC_FIELD")).isEmpty());
+
+        Set<String> names = names(memberScope.getAllDescriptors());
+        assertTrue(names.toString(), names.containsAll(Arrays.asList("same", "inherited", "fromInterface", "conflict", "field", "baseField")));
+        assertFalse(names.toString(), names.contains("onlyStatic"));
+        assertFalse(names.toString(), names.contains("STATIC_FIELD"));
+
+        assertEquals(2, derived.getConstructors().size());
+    }
+
+    public void testStaticScope() {
+        ClassDescriptor derived = resolveClass("test.Derived");
+        JetScope staticScope = derived.getStaticScope();
+
+        assertEquals(1, staticScope.getFunctions(Name.identifier("same")).size());
+        assertEquals(1, staticScope.getFunctions(Name.identifier("onlyStatic")).size());
+        assertTrue(staticScope.getFunctions(Name.identifier("inherited")).isEmpty());
+        assertTrue(staticScope.getFunctions(Name.identifier("staticInherited")).isEmpty());
+
+        assertEquals(1, staticScope.getProperties(Name.identifier("STATIC_FIELD")).size());
+        assertTrue(staticScope.getProperties(Name.identifier("field")).isEmpty());
+
+        Set<String> names = names(staticScope.getAllDescriptors());
+        assertTrue(names.toString(), names.containsAll(Arrays.asList("same", "onlyStatic", "STATIC_FIELD")));
+        assertFalse(names.toString(), names.contains("inherited"));
+        assertFalse(names.toString(), names.contains("field"));
+    }
+
+    public void testEnum() {
+        ClassDescriptor e = resolveClass("test.E");
+        assertEquals(1, e.getDefaultType().getMemberScope().getFunctions(Name.identifier("foo")).size());
+        assertTrue(e.getDefaultType().getMemberScope().getFunctions(Name.identifier("bar")).isEmpty());
+
+        JetScope staticScope = e.getStaticScope();
+        assertEquals(1, staticScope.getFunctions(Name.identifier("bar")).size());
+        assertFalse(staticScope.getFunctions(DescriptorUtils.ENUM_VALUES).isEmpty());
+        assertFalse(staticScope.getFunctions(DescriptorUtils.ENUM_VALUE_OF).isEmpty());
+        assertTrue(staticScope.getFunctions(Name.identifier("foo")).isEmpty());
+    }
+
+    @NotNull
+    private ClassDescriptor resolveClass(@NotNull String fqName) {
+        ClassDescriptor descriptor = ResolvePackage.resolveTopLevelClass(injector.getModule(), new FqName(fqName));
+        assertNotNull("Class not resolved: " + fqName, descriptor);
+        return descriptor;
+    }
+
+    @NotNull
+    private static Set<String> names(@NotNull Collection<DeclarationDescriptor> descriptors) {
+        Set<String> result = new HashSet<String>();
+        for (DeclarationDescriptor descriptor : descriptors) {
+            result.add(descriptor.getName().asString());
+        }
+        return result;
+    }
+}
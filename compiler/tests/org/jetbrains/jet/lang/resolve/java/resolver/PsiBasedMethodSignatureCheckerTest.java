@@ -0,0 +1,171 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.lang.resolve.java.resolver;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.search.GlobalSearchScope;
+import org.jetbrains.jet.ConfigurationKind;
+import org.jetbrains.jet.JetTestUtils;
+import org.jetbrains.jet.TestJdkKind;
+import org.jetbrains.jet.cli.jvm.JVMConfigurationKeys;
+import org.jetbrains.jet.cli.jvm.compiler.JetCoreEnvironment;
+import org.jetbrains.jet.config.CompilerConfiguration;
+import org.jetbrains.jet.lang.resolve.java.structure.JavaMethod;
+import org.jetbrains.jet.lang.resolve.java.structure.impl.JavaMethodImpl;
+import org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles.BinaryJavaClass;
+import org.jetbrains.jet.lang.resolve.java.structure.impl.classFiles.BinaryJavaClassFinder;
+import org.jetbrains.jet.lang.resolve.name.FqName;
+import org.jetbrains.jet.test.TestCaseWithTmpdir;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Checks that methods read from class files are checked against the hierarchy of their classes in the same way as PSI methods
+ */
+public class PsiBasedMethodSignatureCheckerTest extends TestCaseWithTmpdir {
+    private static final String[] CLASSES = {
+            "class Generic<T> {\n" +
+            "    public T get() { return null; }\n" +
+            "    public void set(T t) {}\n" +
+            "    public java.util.List<T> list() { return null; }\n" +
+            "    public Object covariant() { return null; }\n" +
+            "    public <E> E generic() { return null; }\n" +
+            "}\n",
+            "class GenericSubclass extends Generic<String> {\n" +
+            "    public String get() { return null; }\n" +
+            "    public void set(String s) {}\n" +
+            "    public java.util.ArrayList<String> list() { return null; }\n" +
+            "    public String covariant() { return null; }\n" +
+            "    public <F> F generic() { return null; }\n" +
+            "}\n",
+            "class RawSubclass extends Generic {\n" +
+            "    public Object get() { return null; }\n" +
+            "    public void set(Object o) {}\n" +
+            "    public String covariant() { return null; }\n" +
+            "}\n",
+            "class ErasedTypeParameter extends Generic<String> {\n" +
+            "    public Object generic() { return null; }\n" +
+            "}\n",
+            "class Comparables implements Comparable<Comparables> {\n" +
+            "    public int compareTo(Comparables other) { return 0; }\n" +
+            "}\n",
+            "class RawComparable implements Comparable {\n" +
+            "    public int compareTo(Object other) { return 0; }\n" +
+            "}\n",
+            "class RawParameter {\n" +
+            "    public void take(java.util.List list) {}\n" +
+            "    public static void takeStatic(java.util.List list) {}\n" +
+            "}\n"
+    };
+
+    private Disposable disposable;
+    private JetCoreEnvironment environment;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        disposable = Disposer.newDisposable();
+
+        File sources = new File(tmpdir, "src");
+        List<File> files = new ArrayList<File>();
+        for (String classSource : CLASSES) {
+            String className = classSource.split("\\W")[1];
+            File file = new File(sources, "test/" + className + ".java");
+            FileUtil.writeToFile(file, "package test;\n\n" + classSource);
+            files.add(file);
+        }
+
+        File classes = new File(tmpdir, "classes");
+        assertTrue(classes.mkdirs());
+        JetTestUtils.compileJavaFiles(files, Arrays.asList("-d", classes.getPath()));
+
+        CompilerConfiguration configuration =
+                JetTestUtils.compilerConfigurationForTests(ConfigurationKind.JDK_ONLY, TestJdkKind.MOCK_JDK, classes);
+        configuration.put(JVMConfigurationKeys.READ_JAVA_CLASS_FILES, true);
+        environment = JetCoreEnvironment.createForTests(disposable, configuration);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        Disposer.dispose(disposable);
+        environment = null;
+        super.tearDown();
+    }
+
+    public void testGenericHierarchy() {
+        doTest("GenericSubclass", "get", false);
+        doTest("GenericSubclass", "set", false);
+        doTest("GenericSubclass", "list", false);
+        doTest("GenericSubclass", "covariant", false);
+        doTest("GenericSubclass", "generic", false);
+        doTest("Comparables", "compareTo", false);
+    }
+
+    public void testRawHierarchy() {
+        doTest("RawSubclass", "get", true);
+        doTest("RawSubclass", "set", true);
+        doTest("RawSubclass", "covariant", true);
+        doTest("RawComparable", "compareTo", true);
+    }
+
+    public void testErasedTypeParameter() {
+        doTest("ErasedTypeParameter", "generic", true);
+    }
+
+    public void testRawTypesInSignature() {
+        doTest("RawParameter", "take", true);
+        // Static methods override nothing
+        doTest("RawParameter", "takeStatic", false);
+    }
+
+    private void doTest(String className, String methodName, boolean expected) {
+        FqName fqName = new FqName("test." + className);
+
+        BinaryJavaClassFinder finder = BinaryJavaClassFinder.getInstance(environment.getProject());
+        assertNotNull(finder);
+        BinaryJavaClass binaryClass = finder.findBinaryClass(fqName);
+        assertNotNull("Class not read from class files: " + fqName, binaryClass);
+        JavaMethod binaryMethod = null;
+        for (JavaMethod method : binaryClass.getMethods()) {
+            if (method.getName().asString().equals(methodName)) {
+                binaryMethod = method;
+            }
+        }
+        assertNotNull("Method not found: " + methodName, binaryMethod);
+
+        PsiClass psiClass = JavaPsiFacade.getInstance(environment.getProject())
+                .findClass(fqName.asString(), GlobalSearchScope.allScope(environment.getProject()));
+        assertNotNull("Class not found in PSI: " + fqName, psiClass);
+        PsiMethod[] psiMethods = psiClass.findMethodsByName(methodName, false);
+        assertEquals(1, psiMethods.length);
+
+        String message = className + "." + methodName;
+        assertEquals(message + " (PSI)", expected,
+                     PsiBasedMethodSignatureChecker.hasRawTypesOrIncompatibleReturnType(new JavaMethodImpl(psiMethods[0])));
+        assertEquals(message + " (class file)", expected,
+                     PsiBasedMethodSignatureChecker.hasRawTypesOrIncompatibleReturnType(binaryMethod));
+    }
+}
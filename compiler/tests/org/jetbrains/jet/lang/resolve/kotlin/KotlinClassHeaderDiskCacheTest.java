@@ -0,0 +1,269 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.lang.resolve.kotlin;
+
+import com.intellij.ide.highlighter.JavaClassFileType;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.testFramework.LightVirtualFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.jet.ConfigurationKind;
+import org.jetbrains.jet.JetTestUtils;
+import org.jetbrains.jet.cli.jvm.compiler.JetCoreEnvironment;
+import org.jetbrains.jet.codegen.forTestCompile.ForTestCompileRuntime;
+import org.jetbrains.jet.lang.resolve.java.JvmClassName;
+import org.jetbrains.jet.lang.resolve.kotlin.header.KotlinClassHeader;
+import org.jetbrains.jet.lang.resolve.lazy.KotlinTestWithEnvironment;
+import org.jetbrains.jet.lang.resolve.name.Name;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+public class KotlinClassHeaderDiskCacheTest extends KotlinTestWithEnvironment {
+    // A class file from a jar which counts how many times it was read
+    private static class CountingClassFile extends LightVirtualFile {
+        private final String path;
+        private final byte[] contents;
+        private int readCount = 0;
+
+        public CountingClassFile(@NotNull String jarPath, @NotNull String entryName, @NotNull byte[] contents) {
+            super(entryName.substring(entryName.lastIndexOf('/') + 1), JavaClassFileType.INSTANCE, "");
+            this.path = jarPath + "!/" + entryName;
+            this.contents = contents;
+        }
+
+        @NotNull
+        @Override
+        public String getPath() {
+            return path;
+        }
+
+        @NotNull
+        @Override
+        public byte[] contentsToByteArray() {
+            readCount++;
+            return contents;
+        }
+    }
+
+    private File tmpDir;
+    private File cacheDir;
+    private File jar;
+    private List<CountingClassFile> files;
+
+    @Override
+    protected JetCoreEnvironment createEnvironment() {
+        return createEnvironmentWithMockJdk(ConfigurationKind.JDK_ONLY);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        tmpDir = JetTestUtils.tmpDirForTest(this);
+        cacheDir = new File(tmpDir, "cache");
+
+        // A copy of the runtime, so that its time stamp can be changed
+        jar = new File(tmpDir, "runtime.jar");
+        FileUtil.copy(ForTestCompileRuntime.runtimeJarForTests(), jar);
+
+        files = new ArrayList<CountingClassFile>();
+        String jarPath = FileUtil.toSystemIndependentName(jar.getPath());
+        JarFile jarFile = new JarFile(jar);
+        try {
+            for (Enumeration<JarEntry> entries = jarFile.entries(); entries.hasMoreElements(); ) {
+                JarEntry entry = entries.nextElement();
+                if (entry.getName().endsWith(".class")) {
+                    files.add(new CountingClassFile(jarPath, entry.getName(), FileUtil.loadBytes(jarFile.getInputStream(entry))));
+                }
+            }
+        }
+        finally {
+            jarFile.close();
+        }
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        FileUtil.delete(tmpDir);
+        tmpDir = null;
+        cacheDir = null;
+        jar = null;
+        files = null;
+        super.tearDown();
+    }
+
+    public void testRoundTrip() {
+        List<String> expected = readAllClasses(1);
+        assertTrue("No Kotlin classes in the runtime", expected.size() > Collections.frequency(expected, "null"));
+        assertTrue("No Java classes in the runtime", expected.contains("null"));
+
+        // Neither headers, nor annotations and members are read from the jar if it's not changed
+        assertEquals(expected, readAllClasses(0));
+        assertEquals(expected, readAllClasses(0));
+    }
+
+    public void testJarChangeInvalidatesCache() {
+        List<String> expected = readAllClasses(1);
+
+        assertTrue(jar.setLastModified(jar.lastModified() + 10000));
+        assertEquals(expected, readAllClasses(1));
+        assertEquals(expected, readAllClasses(0));
+    }
+
+    public void testTruncatedCacheIsRewritten() throws IOException {
+        List<String> expected = readAllClasses(1);
+
+        File cacheFile = getCacheFile();
+        byte[] data = FileUtil.loadFileBytes(cacheFile);
+        FileUtil.writeToFile(cacheFile, Arrays.copyOf(data, data.length / 2));
+
+        assertEquals(expected, readAllClasses(1));
+        assertEquals(expected, readAllClasses(0));
+    }
+
+    public void testCorruptedCacheIsRewritten() throws IOException {
+        List<String> expected = readAllClasses(1);
+
+        File cacheFile = getCacheFile();
+        byte[] data = FileUtil.loadFileBytes(cacheFile);
+        for (int i = data.length / 3; i < data.length; i += 97) {
+            data[i] ^= 0x55;
+        }
+        FileUtil.writeToFile(cacheFile, data);
+
+        assertEquals(expected, readAllClasses(1));
+        assertEquals(expected, readAllClasses(0));
+    }
+
+    @NotNull
+    private File getCacheFile() {
+        File[] cacheFiles = cacheDir.listFiles();
+        assertNotNull(cacheFiles);
+        assertEquals(1, cacheFiles.length);
+        return cacheFiles[0];
+    }
+
+    // Reads all classes with a new cache, as a new compiler run would, and checks how many times each file was read
+    @NotNull
+    private List<String> readAllClasses(int expectedReadCount) {
+        KotlinClassHeaderDiskCache cache = new KotlinClassHeaderDiskCache(cacheDir);
+        List<String> result = new ArrayList<String>(files.size());
+        for (CountingClassFile file : files) {
+            file.readCount = 0;
+            result.add(dump(cache.createKotlinClass(file)));
+            assertEquals("Wrong number of reads of " + file.getPath(), expectedReadCount, file.readCount);
+        }
+        cache.save();
+        return result;
+    }
+
+    @NotNull
+    private static String dump(@Nullable KotlinJvmBinaryClass kotlinClass) {
+        if (kotlinClass == null) return "null";
+
+        StringBuilder builder = new StringBuilder();
+        KotlinClassHeader header = kotlinClass.getClassHeader();
+        builder.append(kotlinClass.getClassName().getInternalName()).append(" ").append(header.getKind()).append(" ")
+                .append(header.getVersion()).append(" ").append(header.getSyntheticClassKind()).append(" ")
+                .append(Arrays.toString(header.getAnnotationData())).append("\n");
+
+        DumpingVisitor visitor = new DumpingVisitor(builder);
+        kotlinClass.loadClassAnnotations(visitor);
+        kotlinClass.visitMembers(visitor);
+        return builder.toString();
+    }
+
+    private static class DumpingVisitor
+            implements KotlinJvmBinaryClass.MemberVisitor, KotlinJvmBinaryClass.MethodAnnotationVisitor,
+                       KotlinJvmBinaryClass.AnnotationArgumentVisitor, KotlinJvmBinaryClass.AnnotationArrayArgumentVisitor {
+        private final StringBuilder builder;
+
+        public DumpingVisitor(@NotNull StringBuilder builder) {
+            this.builder = builder;
+        }
+
+        @Nullable
+        @Override
+        public KotlinJvmBinaryClass.MethodAnnotationVisitor visitMethod(@NotNull Name name, @NotNull String desc) {
+            builder.append("method ").append(name).append(desc).append("\n");
+            return this;
+        }
+
+        @Nullable
+        @Override
+        public KotlinJvmBinaryClass.AnnotationVisitor visitField(@NotNull Name name, @NotNull String desc, @Nullable Object initializer) {
+            builder.append("field ").append(name).append(" ").append(desc).append(" = ").append(render(initializer)).append("\n");
+            return this;
+        }
+
+        @Nullable
+        @Override
+        public KotlinJvmBinaryClass.AnnotationArgumentVisitor visitAnnotation(@NotNull JvmClassName className) {
+            builder.append("@").append(className.getInternalName()).append("\n");
+            return this;
+        }
+
+        @Nullable
+        @Override
+        public KotlinJvmBinaryClass.AnnotationArgumentVisitor visitParameterAnnotation(int index, @NotNull JvmClassName className) {
+            builder.append("parameter ").append(index).append(" @").append(className.getInternalName()).append("\n");
+            return this;
+        }
+
+        @Override
+        public void visit(@Nullable Name name, @Nullable Object value) {
+            builder.append("  ").append(name).append(" = ").append(render(value)).append("\n");
+        }
+
+        @Override
+        public void visitEnum(@NotNull Name name, @NotNull JvmClassName enumClassName, @NotNull Name enumEntryName) {
+            builder.append("  ").append(name).append(" = ").append(enumClassName.getInternalName()).append(".").append(enumEntryName)
+                    .append("\n");
+        }
+
+        @Nullable
+        @Override
+        public KotlinJvmBinaryClass.AnnotationArrayArgumentVisitor visitArray(@NotNull Name name) {
+            builder.append("  ").append(name).append(" = [\n");
+            return this;
+        }
+
+        @Override
+        public void visit(@Nullable Object value) {
+            builder.append("    ").append(render(value)).append("\n");
+        }
+
+        @Override
+        public void visitEnum(@NotNull JvmClassName enumClassName, @NotNull Name enumEntryName) {
+            builder.append("    ").append(enumClassName.getInternalName()).append(".").append(enumEntryName).append("\n");
+        }
+
+        @Override
+        public void visitEnd() {
+            builder.append("end\n");
+        }
+
+        @NotNull
+        private static String render(@Nullable Object value) {
+            // Arrays of primitives are rendered by their elements
+            return Arrays.deepToString(new Object[] {value});
+        }
+    }
+}
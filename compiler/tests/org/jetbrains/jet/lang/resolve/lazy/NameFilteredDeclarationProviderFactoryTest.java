@@ -0,0 +1,131 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.lang.resolve.lazy;
+
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.psi.PsiFileFactory;
+import com.intellij.psi.impl.source.PsiFileImpl;
+import kotlin.Function1;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.ConfigurationKind;
+import org.jetbrains.jet.JetLiteFixture;
+import org.jetbrains.jet.cli.jvm.compiler.DeclarationNamesDiskCache;
+import org.jetbrains.jet.cli.jvm.compiler.JetCoreEnvironment;
+import org.jetbrains.jet.lang.parsing.JetScriptDefinition;
+import org.jetbrains.jet.lang.psi.JetFile;
+import org.jetbrains.jet.lang.resolve.lazy.declarations.FileDeclarationNames;
+import org.jetbrains.jet.lang.resolve.lazy.declarations.PackageMemberDeclarationProvider;
+import org.jetbrains.jet.lang.resolve.lazy.declarations.NameFilteredDeclarationProviderFactory;
+import org.jetbrains.jet.lang.resolve.name.FqName;
+import org.jetbrains.jet.lang.resolve.name.Name;
+import org.jetbrains.jet.plugin.JetLanguage;
+import org.jetbrains.jet.storage.LockBasedStorageManager;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class NameFilteredDeclarationProviderFactoryTest extends JetLiteFixture {
+    @Override
+    protected JetCoreEnvironment createEnvironment() {
+        return createEnvironmentWithMockJdk(ConfigurationKind.JDK_ONLY);
+    }
+
+    public void testDeclarationNames() throws IOException {
+        JetFile file = createFile("package a.b\n\nfun f() { class Local }\nval p = 1\nclass C\nobject O\n");
+        FileDeclarationNames names = writeAndRead(FileDeclarationNames.build(file));
+
+        assertEquals(new FqName("a.b"), names.getPackageFqName());
+        assertFalse(names.isScript());
+        assertTrue(names.declaresFunction(Name.identifier("f")));
+        assertTrue(names.declaresProperty(Name.identifier("p")));
+        assertTrue(names.declaresClassOrObject(Name.identifier("C")));
+        assertTrue(names.declaresClassOrObject(Name.identifier("O")));
+        assertFalse(names.declaresClassOrObject(Name.identifier("Local")));
+        assertFalse(names.declaresFunction(Name.identifier("p")));
+    }
+
+    public void testOnlyFilesDeclaringNameAreLoaded() throws IOException {
+        String[] texts = {"package a\nfun f() {}\nclass C", "package a\nfun f(x: Int) {}", "package a.b\nval p = 1"};
+
+        // Names are computed from other instances of the files, as if they were read from a cache
+        final Map<JetFile, FileDeclarationNames> names = new HashMap<JetFile, FileDeclarationNames>();
+        List<JetFile> files = new ArrayList<JetFile>();
+        for (String text : texts) {
+            JetFile file = createFile(text);
+            names.put(file, writeAndRead(FileDeclarationNames.build(createFile(text))));
+            files.add(file);
+        }
+
+        NameFilteredDeclarationProviderFactory factory = new NameFilteredDeclarationProviderFactory(
+                new LockBasedStorageManager(), files, new Function1<JetFile, FileDeclarationNames>() {
+                    @Override
+                    public FileDeclarationNames invoke(JetFile file) {
+                        return names.get(file);
+                    }
+                });
+
+        PackageMemberDeclarationProvider provider = factory.getPackageMemberDeclarationProvider(new FqName("a"));
+        assertNotNull(provider);
+        assertEquals(1, provider.getAllDeclaredSubPackages().size());
+        assertNull(factory.getPackageMemberDeclarationProvider(new FqName("c")));
+
+        Name c = Name.identifier("C");
+        assertEquals(1, provider.getClassOrObjectDeclarations(c).size());
+        assertSame(provider.getClassOrObjectDeclarations(c), provider.getClassOrObjectDeclarations(c));
+        assertNull(((PsiFileImpl) files.get(1)).getTreeElement());
+
+        assertEquals(2, provider.getFunctionDeclarations(Name.identifier("f")).size());
+        assertTrue(provider.getPropertyDeclarations(Name.identifier("p")).isEmpty());
+        assertNull(((PsiFileImpl) files.get(2)).getTreeElement());
+    }
+
+    public void testDiskCacheIsKeyedByContent() throws IOException {
+        File directory = FileUtil.createTempDirectory("declarationNames", null);
+        try {
+            DeclarationNamesDiskCache cache = new DeclarationNamesDiskCache(directory, Collections.<JetScriptDefinition>emptyList());
+            assertTrue(cache.getDeclarationNames(createFile("package a\nfun f() {}")).declaresFunction(Name.identifier("f")));
+            cache.save();
+
+            // Same name and length as before, so only the text tells the files apart
+            cache = new DeclarationNamesDiskCache(directory, Collections.<JetScriptDefinition>emptyList());
+            FileDeclarationNames names = cache.getDeclarationNames(createFile("package a\nfun g() {}"));
+            assertTrue(names.declaresFunction(Name.identifier("g")));
+            assertFalse(names.declaresFunction(Name.identifier("f")));
+            assertTrue(cache.getDeclarationNames(createFile("package a\nfun f() {}")).declaresFunction(Name.identifier("f")));
+        }
+        finally {
+            FileUtil.delete(directory);
+        }
+    }
+
+    @NotNull
+    private JetFile createFile(@NotNull String text) {
+        return (JetFile) PsiFileFactory.getInstance(getProject()).createFileFromText("dummy.kt", JetLanguage.INSTANCE, text, false, false);
+    }
+
+    @NotNull
+    private static FileDeclarationNames writeAndRead(@NotNull FileDeclarationNames names) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        names.write(new DataOutputStream(bytes));
+        return FileDeclarationNames.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.lang.resolve.lazy;
+
+import com.intellij.psi.util.PsiTreeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.jet.ConfigurationKind;
+import org.jetbrains.jet.JetTestUtils;
+import org.jetbrains.jet.TestJdkKind;
+import org.jetbrains.jet.analyzer.AnalyzeExhaust;
+import org.jetbrains.jet.cli.jvm.compiler.JetCoreEnvironment;
+import org.jetbrains.jet.lang.descriptors.DeclarationDescriptor;
+import org.jetbrains.jet.lang.descriptors.PackageViewDescriptor;
+import org.jetbrains.jet.lang.descriptors.SimpleFunctionDescriptor;
+import org.jetbrains.jet.lang.descriptors.ValueParameterDescriptor;
+import org.jetbrains.jet.lang.psi.*;
+import org.jetbrains.jet.lang.resolve.BindingContext;
+import org.jetbrains.jet.lang.resolve.DescriptorUtils;
+import org.jetbrains.jet.lang.resolve.name.FqName;
+import org.jetbrains.jet.lang.resolve.name.Name;
+import org.jetbrains.jet.lang.resolve.scopes.JetScope;
+import org.jetbrains.jet.lang.resolve.scopes.JetScopeSelectorUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class StarImportsResolveTest extends KotlinTestWithEnvironment {
+    private static final String[] PACKAGES = {
+            "java.applet", "java.awt", "java.awt.color", "java.awt.datatransfer", "java.awt.dnd",
+            "java.awt.event", "java.awt.font", "java.awt.geom", "java.awt.im", "java.awt.image",
+            "java.awt.print", "java.beans", "java.io", "java.lang.annotation", "java.lang.instrument",
+            "java.lang.management", "java.lang.ref", "java.lang.reflect", "java.math", "java.net",
+            "java.nio", "java.nio.channels", "java.nio.charset", "java.rmi", "java.security",
+            "java.security.cert", "java.sql", "java.text", "java.util", "java.util.concurrent",
+            "java.util.concurrent.atomic", "java.util.concurrent.locks", "java.util.jar", "java.util.logging", "java.util.prefs",
+            "java.util.regex", "java.util.zip", "javax.crypto", "javax.imageio", "javax.management",
+            "javax.naming", "javax.net", "javax.print", "javax.script", "javax.security.auth",
+            "javax.sound.midi", "javax.sql", "javax.swing", "javax.swing.event", "javax.xml.parsers"
+    };
+
+    private static final String BODY =
+            "fun test(list: ArrayList<String>, file: File, url: URL, number: BigDecimal, pattern: Pattern,\n" +
+            "         map: ConcurrentHashMap<String, Int>, counter: AtomicInteger, lock: ReentrantLock) {\n" +
+            "    list.add(file.getName() + url.getHost() + number.scale() + pattern.pattern())\n" +
+            "    map.put(\"\", counter.incrementAndGet())\n" +
+            "    lock.lock()\n" +
+            "    System.out.println(list.size())\n" +
+            "}\n";
+
+    @Override
+    protected JetCoreEnvironment createEnvironment() {
+        return createEnvironmentWithJdk(ConfigurationKind.JDK_ONLY, TestJdkKind.FULL_JDK);
+    }
+
+    public void testManyStarImports() throws Exception {
+        StringBuilder text = new StringBuilder();
+        for (String aPackage : PACKAGES) {
+            text.append("import ").append(aPackage).append(".*\n");
+        }
+        text.append("\n");
+        for (int i = 0; i < 20; i++) {
+            text.append(BODY.replace("fun test(", "fun test" + i + "("));
+        }
+
+        JetFile file = JetTestUtils.createFile("starImports.kt", text.toString(), getProject());
+
+        AnalyzeExhaust exhaust = JvmResolveUtil.analyzeOneFileWithJavaIntegrationAndCheckForErrors(file);
+        BindingContext context = exhaust.getBindingContext();
+
+        for (JetDeclaration declaration : file.getDeclarations()) {
+            SimpleFunctionDescriptor function = context.get(BindingContext.FUNCTION, declaration);
+            assertNotNull(function);
+
+            List<String> parameterClasses = new ArrayList<String>();
+            for (ValueParameterDescriptor parameter : function.getValueParameters()) {
+                parameterClasses.add(getFqName(parameter.getType().getConstructor().getDeclarationDescriptor()));
+            }
+            assertEquals(Arrays.asList("java.util.ArrayList", "java.io.File", "java.net.URL", "java.math.BigDecimal", "java.util.regex.Pattern",
+                                       "java.util.concurrent.ConcurrentHashMap", "java.util.concurrent.atomic.AtomicInteger",
+                                       "java.util.concurrent.locks.ReentrantLock"),
+                         parameterClasses);
+
+            List<String> calls = new ArrayList<String>();
+            for (JetCallExpression call : PsiTreeUtil.findChildrenOfType(declaration, JetCallExpression.class)) {
+                JetExpression callee = call.getCalleeExpression();
+                assertNotNull(callee);
+                DeclarationDescriptor target = context.get(BindingContext.REFERENCE_TARGET, (JetReferenceExpression) callee);
+                assertNotNull("Unresolved call " + call.getText(), target);
+                calls.add(getFqName(target));
+            }
+            Collections.sort(calls);
+            assertEquals(Arrays.asList("java.io.File.getName", "java.io.PrintStream.println", "java.math.BigDecimal.scale",
+                                       "java.net.URL.getHost", "java.util.ArrayList.add", "java.util.ArrayList.size",
+                                       "java.util.concurrent.ConcurrentHashMap.put", "java.util.concurrent.atomic.AtomicInteger.incrementAndGet",
+                                       "java.util.concurrent.locks.ReentrantLock.lock", "java.util.regex.Pattern.pattern"),
+                         calls);
+        }
+
+        JetScope javaUtil = getPackageScope(exhaust, "java.util");
+        assertTrue(JetScopeSelectorUtil.mayContainName(javaUtil, Name.identifier("ArrayList")));
+        assertFalse(JetScopeSelectorUtil.mayContainName(javaUtil, Name.identifier("File")));
+        assertFalse(JetScopeSelectorUtil.mayContainName(getPackageScope(exhaust, "java.io"), Name.identifier("ArrayList")));
+    }
+
+    @NotNull
+    private static String getFqName(@Nullable DeclarationDescriptor descriptor) {
+        assertNotNull(descriptor);
+        return DescriptorUtils.getFqName(descriptor).asString();
+    }
+
+    private static JetScope getPackageScope(AnalyzeExhaust exhaust, String fqName) {
+        PackageViewDescriptor packageView = exhaust.getModuleDescriptor().getPackage(new FqName(fqName));
+        assertNotNull("Package " + fqName + " not found", packageView);
+        return packageView.getMemberScope();
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jetbrains.jet.parsing;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.lang.PsiBuilderFactory;
+import com.intellij.psi.PsiErrorElement;
+import com.intellij.psi.impl.DebugUtil;
+import com.intellij.psi.impl.source.tree.LazyParseableElement;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.jet.ConfigurationKind;
+import org.jetbrains.jet.JetLiteFixture;
+import org.jetbrains.jet.JetNodeTypes;
+import org.jetbrains.jet.cli.jvm.compiler.JetCoreEnvironment;
+import org.jetbrains.jet.lang.parsing.JetParser;
+import org.jetbrains.jet.lang.parsing.JetParserDefinition;
+import org.jetbrains.jet.lang.psi.*;
+import org.jetbrains.jet.lang.psi.stubs.elements.JetFileStubBuilder;
+import org.jetbrains.jet.lexer.JetLexer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.jetbrains.jet.lang.psi.PsiPackage.JetPsiFactory;
+
+public class LazyFunctionBodyParsingTest extends JetLiteFixture {
+    private static final String BODY = "{\n" +
+                                       "    val x = \"${1}\".length\n" +
+                                       "    fun local() { if (x > 0) { x } }\n" +
+                                       "    return x\n" +
+                                       "}";
+
+    @Override
+    protected JetCoreEnvironment createEnvironment() {
+        return createEnvironmentWithMockJdk(ConfigurationKind.JDK_ONLY);
+    }
+
+    public void testFunctionBodyIsParsedOnDemand() {
+        JetNamedFunction function = (JetNamedFunction) createFile("fun foo(): Int " + BODY).getDeclarations().get(0);
+
+        LazyParseableElement body = getLazyBody(function);
+        assertFalse(body.isParsed());
+        assertEquals(BODY, body.getText());
+
+        JetBlockExpression block = (JetBlockExpression) function.getBodyExpression();
+        assertNotNull(block);
+        assertEquals(3, block.getStatements().size());
+        assertTrue(body.isParsed());
+    }
+
+    public void testAccessorBodyIsParsedOnDemand() {
+        JetProperty property = (JetProperty) createFile("val foo: Int\n    get() " + BODY).getDeclarations().get(0);
+        JetPropertyAccessor getter = property.getGetter();
+        assertNotNull(getter);
+
+        assertFalse(getLazyBody(getter).isParsed());
+        assertEquals(3, ((JetBlockExpression) getter.getBodyExpression()).getStatements().size());
+    }
+
+    public void testSameTreeAsBlockParsedInPlace() {
+        JetClass klass = (JetClass) createFile("class A {\n" + BODY + "\n    fun foo(): Int " + BODY + "\n}").getDeclarations().get(0);
+
+        JetExpression initializer = klass.getAnonymousInitializers().get(0).getBody();
+        JetNamedFunction function = PsiTreeUtil.getChildOfType(klass.getBody(), JetNamedFunction.class);
+        assertNotNull(function);
+        JetExpression functionBody = function.getBodyExpression();
+        assertNotNull(initializer);
+        assertNotNull(functionBody);
+        assertFalse(initializer.getNode() instanceof LazyParseableElement);
+
+        assertEquals(DebugUtil.psiToString(initializer, false, false), DebugUtil.psiToString(functionBody, false, false));
+    }
+
+    public void testUnmatchedBraceIsParsedInPlace() {
+        JetNamedFunction function = (JetNamedFunction) createFile("fun foo() { if (true) {\n").getDeclarations().get(0);
+
+        ASTNode body = function.getNode().findChildByType(JetNodeTypes.BLOCK);
+        assertNotNull(body);
+        assertFalse(body instanceof LazyParseableElement);
+    }
+
+    public void testStubBuilderSkipsBodiesWithoutClasses() {
+        JetFile file = createFile("fun foo(): Int " + BODY + "\nfun bar() { class Local }\n");
+        new JetFileStubBuilder().buildStubTree(file);
+
+        List<JetDeclaration> declarations = file.getDeclarations();
+        assertFalse(getLazyBody((JetNamedFunction) declarations.get(0)).isParsed());
+        assertTrue(getLazyBody((JetNamedFunction) declarations.get(1)).isParsed());
+    }
+
+    public void testSameFileTreeAsEager() {
+        doTestSameTreeAsEager("class A {\n    fun f() " + BODY + "\n    val p: Int get() = 1\n}\nfun g(): Int " + BODY + "\n");
+    }
+
+    public void testInvalidCodeInBody() {
+        doTestErrorsStayInBodies("fun f() { a b }\nfun g() { c }\n", "f", "g");
+    }
+
+    public void testErrorRecoveryStopsAtClosingBrace() {
+        doTestErrorsStayInBodies("fun f() { val x = }\nfun g() {}\n", "f", "g");
+    }
+
+    public void testExtraClosingBrace() {
+        doTestSameTreeAsEager("fun f() { } }\nfun g() = 1\n");
+    }
+
+    public void testUnfinishedDeclarationsInBody() {
+        doTestErrorsStayInBodies("class A {\n    fun f() { fun }\n    val p: Int get() { if ( }\n}\nfun g() { 1 }\n", "A", "g");
+    }
+
+    public void testUnclosedBody() {
+        doTestErrorsStayInBodies("fun f() { foo(\n}\nfun g() {\n", "f", "g");
+    }
+
+    public void testStatementsAfterErrorOnSameLine() {
+        doTestErrorsStayInBodies("fun f() { x y; z } fun g() { w }\n", "f", "g");
+    }
+
+    // The whole tree with lazy bodies expanded is the same as the tree of the file parsed with all bodies in place
+    private void doTestSameTreeAsEager(@NotNull String text) {
+        JetFile file = createFile(text);
+        ASTNode eager = JetParser.parseFileEagerly(
+                PsiBuilderFactory.getInstance().createBuilder(new JetParserDefinition(), new JetLexer(), text));
+
+        assertEquals(dump(eager.getFirstChildNode()), dump(file.getNode().getFirstChildNode()));
+        assertEquals(text, file.getText());
+    }
+
+    // Bodies are skipped up to the matching brace, so errors in them never affect the declarations which follow
+    private void doTestErrorsStayInBodies(@NotNull String text, @NotNull String... declarationNames) {
+        JetFile file = createFile(text);
+        assertEquals(text, file.getText());
+
+        List<String> names = new ArrayList<String>();
+        for (JetDeclaration declaration : file.getDeclarations()) {
+            names.add(((JetNamedDeclaration) declaration).getName());
+        }
+        assertEquals(Arrays.asList(declarationNames), names);
+
+        Collection<PsiErrorElement> errors = PsiTreeUtil.collectElementsOfType(file, PsiErrorElement.class);
+        assertFalse("No errors in " + text, errors.isEmpty());
+        for (PsiErrorElement error : errors) {
+            JetBlockExpression block = PsiTreeUtil.getParentOfType(error, JetBlockExpression.class);
+            while (block != null && !(block.getParent() instanceof JetDeclarationWithBody)) {
+                block = PsiTreeUtil.getParentOfType(block, JetBlockExpression.class);
+            }
+            assertNotNull("Error outside of a body: " + error.getErrorDescription(), block);
+            assertTrue(block.getText(), block.getText().startsWith("{"));
+        }
+    }
+
+    @NotNull
+    private static String dump(@Nullable ASTNode firstChild) {
+        StringBuilder result = new StringBuilder();
+        for (ASTNode node = firstChild; node != null; node = node.getTreeNext()) {
+            dump(node, 0, result);
+        }
+        return result.toString();
+    }
+
+    private static void dump(@NotNull ASTNode node, int indent, @NotNull StringBuilder result) {
+        for (int i = 0; i < indent; i++) {
+            result.append("  ");
+        }
+        result.append(node.getElementType());
+        if (node instanceof PsiErrorElement) {
+            result.append(" ").append(((PsiErrorElement) node).getErrorDescription());
+        }
+        ASTNode child = node.getFirstChildNode();
+        if (child == null) {
+            result.append(" '").append(node.getText()).append("'");
+        }
+        result.append("\n");
+        for (; child != null; child = child.getTreeNext()) {
+            dump(child, indent + 1, result);
+        }
+    }
+
+    @NotNull
+    private static LazyParseableElement getLazyBody(@NotNull JetDeclarationWithBody declaration) {
+        return assertInstanceOf(declaration.getNode().findChildByType(JetNodeTypes.BLOCK), LazyParseableElement.class);
+    }
+
+    @NotNull
+    private JetFile createFile(@NotNull String text) {
+        return JetPsiFactory(getProject()).createFile(text);
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.storage;
+
+import kotlin.Function0;
+import kotlin.Function1;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrentStorageManagerTest extends StorageManagerTest {
+    private static final int THREADS = 16;
+    private static final long TIMEOUT_SECONDS = 60;
+
+    @NotNull
+    @Override
+    protected StorageManager createStorageManager() {
+        return new ConcurrentStorageManager();
+    }
+
+    public void testLazyValueComputedOnceByManyThreads() throws Exception {
+        final AtomicInteger counter = new AtomicInteger();
+        final NotNullLazyValue<Integer> value = createStorageManager().createLazyValue(new Function0<Integer>() {
+            @Override
+            public Integer invoke() {
+                return counter.incrementAndGet();
+            }
+        });
+
+        runConcurrently(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(1, value.invoke().intValue());
+            }
+        });
+
+        assertEquals(1, counter.get());
+    }
+
+    public void testCrossThreadRecursionDoesNotDeadlock() throws Exception {
+        final StorageManager m = createStorageManager();
+        final CyclicBarrier bothStarted = new CyclicBarrier(2);
+
+        class C {
+            final NotNullLazyValue<String> a = createValue("a", "recursion in a");
+            final NotNullLazyValue<String> b = createValue("b", "recursion in b");
+
+            private NotNullLazyValue<String> createValue(final String name, String onRecursiveCall) {
+                return m.createRecursionTolerantLazyValue(new Function0<String>() {
+                    @Override
+                    public String invoke() {
+                        awaitBarrier(bothStarted);
+                        return name + "(" + (name.equals("a") ? b : a).invoke() + ")";
+                    }
+                }, onRecursiveCall);
+            }
+        }
+
+        final C c = new C();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> a = executor.submit(new Callable<String>() {
+                @Override
+                public String call() {
+                    return c.a.invoke();
+                }
+            });
+            Future<String> b = executor.submit(new Callable<String>() {
+                @Override
+                public String call() {
+                    return c.b.invoke();
+                }
+            });
+
+            String resultA = a.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            String resultB = b.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertTrue("Exactly one of the values should observe the recursion: " + resultA + ", " + resultB,
+                       resultA.equals("a(b(recursion in a))") ^ resultB.equals("b(a(recursion in b))"));
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public void testCrossThreadRecursionThroughComputeDoesNotDeadlock() throws Exception {
+        final StorageManager m = createStorageManager();
+        final CyclicBarrier bothStarted = new CyclicBarrier(2);
+
+        final NotNullLazyValue<String> value = m.createRecursionTolerantLazyValue(new Function0<String>() {
+            @Override
+            public String invoke() {
+                awaitBarrier(bothStarted);
+                return m.compute(new Function0<String>() {
+                    @Override
+                    public String invoke() {
+                        return "value";
+                    }
+                });
+            }
+        }, "recursion");
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> inValue = executor.submit(new Callable<String>() {
+                @Override
+                public String call() {
+                    return value.invoke();
+                }
+            });
+            Future<String> inCompute = executor.submit(new Callable<String>() {
+                @Override
+                public String call() {
+                    return m.compute(new Function0<String>() {
+                        @Override
+                        public String invoke() {
+                            awaitBarrier(bothStarted);
+                            return value.invoke();
+                        }
+                    });
+                }
+            });
+
+            // On one thread this would be a legal nesting of compute() blocks, so no one observes a recursion
+            assertEquals("value", inValue.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertEquals("value", inCompute.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public void testNestedComputeWaitingForNonTolerantValue() throws Exception {
+        final StorageManager m = createStorageManager();
+        final CyclicBarrier bothStarted = new CyclicBarrier(2);
+        final List<String> order = new CopyOnWriteArrayList<String>();
+
+        final NotNullLazyValue<String> value = m.createLazyValue(new Function0<String>() {
+            @Override
+            public String invoke() {
+                awaitBarrier(bothStarted);
+                return m.compute(new Function0<String>() {
+                    @Override
+                    public String invoke() {
+                        order.add("value");
+                        return "value";
+                    }
+                });
+            }
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> inValue = executor.submit(new Callable<String>() {
+                @Override
+                public String call() {
+                    return value.invoke();
+                }
+            });
+            Future<String> inCompute = executor.submit(new Callable<String>() {
+                @Override
+                public String call() {
+                    return m.compute(new Function0<String>() {
+                        @Override
+                        public String invoke() {
+                            final String result = m.compute(new Function0<String>() {
+                                @Override
+                                public String invoke() {
+                                    awaitBarrier(bothStarted);
+                                    return value.invoke();
+                                }
+                            });
+                            // The lock is back with its owner, held once more
+                            order.add("outer");
+                            return m.compute(new Function0<String>() {
+                                @Override
+                                public String invoke() {
+                                    return result;
+                                }
+                            });
+                        }
+                    });
+                }
+            });
+
+            assertEquals("value", inValue.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertEquals("value", inCompute.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertEquals(Arrays.asList("value", "outer"), order);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public void testLazyResolveStorageManagerStress() throws Exception {
+        final int keys = 1000;
+        final AtomicInteger computations = new AtomicInteger();
+        LazyResolveStorageManager m = new LockBasedLazyResolveStorageManager(new ConcurrentStorageManager());
+
+        class Fib {
+            final MemoizedFunctionToNotNull<Integer, Long> fib;
+
+            Fib(LazyResolveStorageManager m) {
+                fib = m.createMemoizedFunction(new Function1<Integer, Long>() {
+                    @Override
+                    public Long invoke(Integer n) {
+                        computations.incrementAndGet();
+                        if (n < 2) return (long) n;
+                        return fib.invoke(n - 1) + fib.invoke(n - 2);
+                    }
+                });
+            }
+        }
+
+        final Fib f = new Fib(m);
+        final long expected = fibonacci(keys);
+        runConcurrently(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < keys; i += 100) {
+                    f.fib.invoke(i);
+                }
+                assertEquals(expected, f.fib.invoke(keys).longValue());
+            }
+        });
+
+        assertEquals(keys + 1, computations.get());
+    }
+
+    private static void runConcurrently(@NotNull final Runnable runnable) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        start.await();
+                        runnable.run();
+                        return null;
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitBarrier(@NotNull CyclicBarrier barrier) {
+        try {
+            barrier.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long fibonacci(int n) {
+        long previous = 0;
+        long current = 1;
+        for (int i = 1; i < n; i++) {
+            long next = previous + current;
+            previous = current;
+            current = next;
+        }
+        return n == 0 ? 0 : current;
+    }
+}
@@ -36,7 +36,12 @@ public class StorageManagerTest extends TestCase {
     @Override
     public void setUp() throws Exception {
         super.setUp();
-        m = new LockBasedStorageManager();
+        m = createStorageManager();
+    }
+
+    @NotNull
+    protected StorageManager createStorageManager() {
+        return new LockBasedStorageManager();
     }
 
     public static <T> void doTestComputesOnce(Function0<T> v, T expected, Counter counter) throws Exception {
@@ -501,8 +506,8 @@ public class StorageManagerTest extends TestCase {
     // toString()
 
     public void testToString() throws Exception {
-        assertTrue("Should mention the setUp() method of this class: " + m.toString(),
-                   m.toString().contains(getClass().getSimpleName() + ".setUp("));
+        assertTrue("Should mention the createStorageManager() method of this class: " + m.toString(),
+                   m.toString().contains(getClass().getSimpleName() + ".createStorageManager("));
     }
 
     // Utilities
@@ -45,6 +45,7 @@ import org.jetbrains.jet.lang.types.CommonSupertypes;
 import org.jetbrains.jet.lang.types.JetType;
 import org.jetbrains.jet.lang.types.TypeUtils;
 import org.jetbrains.jet.lang.types.checker.JetTypeChecker;
+import org.jetbrains.jet.lang.types.checker.SubtypeCache;
 import org.jetbrains.jet.lang.types.expressions.ExpressionTypingServices;
 import org.jetbrains.jet.lang.types.lang.KotlinBuiltIns;
 
@@ -480,6 +481,38 @@ public class JetTypeCheckerTest extends JetLiteFixture {
         assertSubtype("Base_inT<out Any?>", "Base_inT<out Int>");
     }
 
+    public void testSubtypeCache() throws Exception {
+        SubtypeCache cache = new SubtypeCache();
+
+        assertNull(cache.get(makeType("Int"), makeType("Comparable<Int>")));
+        cache.put(makeType("Int"), makeType("Comparable<Int>"), true);
+        cache.put(makeType("Int"), makeType("Comparable<String>"), false);
+        assertEquals(Boolean.TRUE, cache.get(makeType("Int"), makeType("Comparable<Int>")));
+        assertEquals(Boolean.FALSE, cache.get(makeType("Int"), makeType("Comparable<String>")));
+        assertNull(cache.get(makeType("Int"), makeType("Comparable<Int>?")));
+        assertEquals(3, cache.getHits() + cache.getMisses());
+        assertEquals(2, cache.getHits());
+
+        cache.put(makeType("Int"), makeType("Comparable<Foo>"), true);
+        assertNull(cache.get(makeType("Int"), makeType("Comparable<Foo>")));
+        assertEquals(3, cache.getHits() + cache.getMisses());
+    }
+
+    public void testCheckerWithCache() throws Exception {
+        assertNull(JetTypeChecker.DEFAULT.getSubtypeCache());
+
+        SubtypeCache cache = new SubtypeCache();
+        JetTypeChecker checker = JetTypeChecker.withCache(cache);
+        assertTrue(checker.isSubtypeOf(makeType("Int"), makeType("Comparable<Int>")));
+        assertTrue(checker.isSubtypeOf(makeType("Int"), makeType("Comparable<Int>")));
+        assertFalse(checker.isSubtypeOf(makeType("Int"), makeType("Comparable<String>")));
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+
+        assertTrue(JetTypeChecker.DEFAULT.isSubtypeOf(makeType("Int"), makeType("Comparable<Int>")));
+        assertEquals(1, cache.getHits());
+    }
+
 ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
     private void assertSupertypes(String typeStr, String... supertypeStrs) {
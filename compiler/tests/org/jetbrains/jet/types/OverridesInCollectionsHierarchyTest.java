@@ -0,0 +1,374 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.types;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.ConfigurationKind;
+import org.jetbrains.jet.JetLiteFixture;
+import org.jetbrains.jet.analyzer.AnalyzeExhaust;
+import org.jetbrains.jet.cli.jvm.compiler.JetCoreEnvironment;
+import org.jetbrains.jet.lang.descriptors.CallableMemberDescriptor;
+import org.jetbrains.jet.lang.descriptors.ClassDescriptor;
+import org.jetbrains.jet.lang.descriptors.FunctionDescriptor;
+import org.jetbrains.jet.lang.descriptors.Visibilities;
+import org.jetbrains.jet.lang.psi.JetFile;
+import org.jetbrains.jet.lang.resolve.OverridingUtil;
+import org.jetbrains.jet.lang.resolve.ResolvePackage;
+import org.jetbrains.jet.lang.resolve.VisibilityUtil;
+import org.jetbrains.jet.lang.resolve.lazy.JvmResolveUtil;
+import org.jetbrains.jet.lang.resolve.name.FqName;
+import org.jetbrains.jet.lang.resolve.name.Name;
+import org.jetbrains.jet.lang.resolve.scopes.JetScope;
+import org.jetbrains.jet.lang.types.JetType;
+
+import java.util.*;
+
+/**
+ * Checks overrides in a hierarchy which mirrors the Java collections framework, where every collection also has many overloads
+ * of one name, and checks that grouping members by erased signature in {@link OverridingUtil} binds the same overrides and reports
+ * the same conflicts as comparing every member from supertypes with every other member
+ */
+public class OverridesInCollectionsHierarchyTest extends JetLiteFixture {
+    private static final int OVERLOAD_COUNT = 100;
+
+    private static final String[] ITERABLE = {"fun iterator(): Iterator<E>"};
+
+    private static final String[] COLLECTION = {
+            "fun size(): Int", "fun isEmpty(): Boolean", "fun contains(o: Any?): Boolean", "fun toArray(): Array<Any?>",
+            "fun <T> toArray(a: Array<T>): Array<T>", "fun add(e: E): Boolean", "fun remove(o: Any?): Boolean",
+            "fun containsAll(c: KCollection<*>): Boolean", "fun addAll(c: KCollection<out E>): Boolean",
+            "fun removeAll(c: KCollection<*>): Boolean", "fun retainAll(c: KCollection<*>): Boolean", "fun clear()"
+    };
+
+    private static final String[] LIST = {
+            "fun addAll(index: Int, c: KCollection<out E>): Boolean", "fun get(index: Int): E", "fun set(index: Int, element: E): E",
+            "fun add(index: Int, element: E)", "fun remove(index: Int): E", "fun indexOf(o: Any?): Int", "fun lastIndexOf(o: Any?): Int",
+            "fun listIterator(): ListIterator<E>", "fun listIterator(index: Int): ListIterator<E>",
+            "fun subList(fromIndex: Int, toIndex: Int): KList<E>"
+    };
+
+    private static final String[] QUEUE = {"fun offer(e: E): Boolean", "fun remove(): E", "fun poll(): E?", "fun element(): E", "fun peek(): E?"};
+
+    private static final String[] DEQUE = {
+            "fun addFirst(e: E)", "fun addLast(e: E)", "fun offerFirst(e: E): Boolean", "fun offerLast(e: E): Boolean",
+            "fun removeFirst(): E", "fun removeLast(): E", "fun pollFirst(): E?", "fun pollLast(): E?", "fun getFirst(): E",
+            "fun getLast(): E", "fun peekFirst(): E?", "fun peekLast(): E?", "fun push(e: E)", "fun pop(): E",
+            "fun descendingIterator(): Iterator<E>"
+    };
+
+    @Override
+    protected JetCoreEnvironment createEnvironment() {
+        return createEnvironmentWithMockJdk(ConfigurationKind.JDK_ONLY);
+    }
+
+    public void testCollectionsHierarchy() {
+        JetFile file = createPsiFile(null, "collections.kt", generateHierarchy());
+
+        AnalyzeExhaust exhaust = JvmResolveUtil.analyzeOneFileWithJavaIntegrationAndCheckForErrors(file);
+
+        ClassDescriptor linkedList = ResolvePackage.resolveTopLevelClass(exhaust.getModuleDescriptor(), new FqName("test.KLinkedList"));
+        assertNotNull(linkedList);
+        JetScope memberScope = linkedList.getDefaultType().getMemberScope();
+
+        // add(E) overrides the ones from KAbstractList, KList and KDeque, add(Int, E) the ones from KAbstractList and KList
+        Collection<FunctionDescriptor> add = memberScope.getFunctions(Name.identifier("add"));
+        assertEquals(2, add.size());
+        for (FunctionDescriptor function : add) {
+            assertEquals(CallableMemberDescriptor.Kind.DECLARATION, function.getKind());
+            assertEquals(function.getValueParameters().size() == 1 ? 3 : 2, function.getOverriddenDescriptors().size());
+        }
+
+        // Each overload of accept() is inherited from KAbstractList, KList and KDeque
+        Collection<FunctionDescriptor> accept = memberScope.getFunctions(Name.identifier("accept"));
+        assertEquals(OVERLOAD_COUNT, accept.size());
+        for (FunctionDescriptor function : accept) {
+            assertEquals(CallableMemberDescriptor.Kind.FAKE_OVERRIDE, function.getKind());
+            assertEquals(3, function.getOverriddenDescriptors().size());
+        }
+
+        assertSameAsComparingAllMembers(linkedList, "add", "remove", "accept", "toArray", "iterator");
+    }
+
+    public void testGenericMethodsWithDifferentBounds() {
+        ClassDescriptor c = analyzeAndGetClass(
+                "package test\n" +
+                "trait A {\n" +
+                "    fun <T : Number> f(t: T)\n" +
+                "    fun <T : CharSequence> f(t: T)\n" +
+                "    fun <T> f(t: T)\n" +
+                "    fun <T> g(t: T) where T : Number, T : Comparable<T>\n" +
+                "    fun <T, R : T> h(t: T, r: R)\n" +
+                "    fun k(x: Any?)\n" +
+                "}\n" +
+                "trait B {\n" +
+                "    fun <T : Number> f(t: T)\n" +
+                "    fun <T : Int> f(t: T)\n" +
+                "    fun f(t: Number)\n" +
+                "    fun <T> g(t: T) where T : Number, T : Comparable<T>\n" +
+                "    fun <T> g(t: T) where T : CharSequence, T : Comparable<T>\n" +
+                "    fun <T, R : T> h(t: T, r: R)\n" +
+                "    fun <T> k(x: T)\n" +
+                "}\n" +
+                "abstract class C : A, B {\n" +
+                "    override fun <T : Number> f(t: T) {}\n" +
+                "    override fun <T, R : T> h(t: T, r: R) {}\n" +
+                "}\n",
+                "test.C");
+        String overrides = assertSameAsComparingAllMembers(c, "f", "g", "h", "k");
+        assertTrue(overrides, overrides.contains("conflict"));
+    }
+
+    public void testErrorTypes() {
+        ClassDescriptor d = analyzeAndGetClass(
+                "package test\n" +
+                "trait E {\n" +
+                "    fun e(x: Unresolved)\n" +
+                "    fun e(x: Int)\n" +
+                "    fun <T : Unresolved> e(x: T, y: Int)\n" +
+                "}\n" +
+                "trait F {\n" +
+                "    fun e(x: AlsoUnresolved)\n" +
+                "    fun e(x: Unresolved)\n" +
+                "    fun <T : Unresolved> e(x: T, y: Int)\n" +
+                "}\n" +
+                "abstract class D : E, F {\n" +
+                "    override fun e(x: Unresolved) {}\n" +
+                "}\n",
+                "test.D");
+        assertSameAsComparingAllMembers(d, "e");
+    }
+
+    @NotNull
+    private ClassDescriptor analyzeAndGetClass(@NotNull String text, @NotNull String classFqName) {
+        AnalyzeExhaust exhaust = JvmResolveUtil.analyzeOneFileWithJavaIntegration(createPsiFile(null, "overrides.kt", text));
+        ClassDescriptor descriptor = ResolvePackage.resolveTopLevelClass(exhaust.getModuleDescriptor(), new FqName(classFqName));
+        assertNotNull(descriptor);
+        return descriptor;
+    }
+
+    // Runs OverridingUtil and the comparison of all members on the same functions, returns the description of the result
+    @NotNull
+    private static String assertSameAsComparingAllMembers(@NotNull ClassDescriptor current, @NotNull String... names) {
+        StringBuilder result = new StringBuilder();
+        for (String name : names) {
+            List<CallableMemberDescriptor> fromSupertypes = new ArrayList<CallableMemberDescriptor>();
+            for (JetType supertype : current.getTypeConstructor().getSupertypes()) {
+                fromSupertypes.addAll(supertype.getMemberScope().getFunctions(Name.identifier(name)));
+            }
+            List<FunctionDescriptor> declared = new ArrayList<FunctionDescriptor>();
+            for (FunctionDescriptor function : current.getDefaultType().getMemberScope().getFunctions(Name.identifier(name))) {
+                if (function.getKind() == CallableMemberDescriptor.Kind.DECLARATION) {
+                    declared.add(function);
+                }
+            }
+
+            OverridesRecorder grouped = new OverridesRecorder(fromSupertypes, copyDeclared(declared, current));
+            OverridingUtil.generateOverridesInFunctionGroup(
+                    Name.identifier(name), fromSupertypes, grouped.fromCurrent, current, grouped);
+
+            OverridesRecorder allMembers = new OverridesRecorder(fromSupertypes, copyDeclared(declared, current));
+            generateOverridesComparingAllMembers(fromSupertypes, allMembers.fromCurrent, current, allMembers);
+
+            assertEquals(name, allMembers.describe(), grouped.describe());
+            result.append(grouped.describe());
+        }
+        return result.toString();
+    }
+
+    @NotNull
+    private static List<CallableMemberDescriptor> copyDeclared(@NotNull List<FunctionDescriptor> declared, @NotNull ClassDescriptor current) {
+        List<CallableMemberDescriptor> result = new ArrayList<CallableMemberDescriptor>();
+        for (FunctionDescriptor function : declared) {
+            result.add(function.copy(current, function.getModality(), function.getVisibility(), CallableMemberDescriptor.Kind.DECLARATION, false));
+        }
+        return result;
+    }
+
+    // How overrides were generated before members were grouped by erased signature
+    private static void generateOverridesComparingAllMembers(
+            @NotNull List<CallableMemberDescriptor> fromSupertypes,
+            @NotNull List<CallableMemberDescriptor> fromCurrent,
+            @NotNull ClassDescriptor current,
+            @NotNull OverridesRecorder recorder
+    ) {
+        Collection<CallableMemberDescriptor> notOverridden = new LinkedHashSet<CallableMemberDescriptor>(fromSupertypes);
+        for (CallableMemberDescriptor member : fromCurrent) {
+            for (CallableMemberDescriptor fromSuper : fromSupertypes) {
+                OverridingUtil.OverrideCompatibilityInfo.Result result = OverridingUtil.DEFAULT.isOverridableBy(fromSuper, member).getResult();
+                boolean isVisible = Visibilities.isVisible(fromSuper, current);
+                if (result == OverridingUtil.OverrideCompatibilityInfo.Result.OVERRIDABLE) {
+                    if (isVisible) {
+                        OverridingUtil.bindOverride(member, fromSuper);
+                    }
+                    notOverridden.remove(fromSuper);
+                }
+                else if (result == OverridingUtil.OverrideCompatibilityInfo.Result.CONFLICT) {
+                    if (isVisible) {
+                        recorder.conflict(fromSuper, member);
+                    }
+                    notOverridden.remove(fromSuper);
+                }
+            }
+        }
+
+        Queue<CallableMemberDescriptor> queue = new LinkedList<CallableMemberDescriptor>(notOverridden);
+        while (!queue.isEmpty()) {
+            CallableMemberDescriptor overrider = VisibilityUtil.findMemberWithMaxVisibility(queue);
+            List<CallableMemberDescriptor> overridables = new ArrayList<CallableMemberDescriptor>();
+            overridables.add(overrider);
+            for (Iterator<CallableMemberDescriptor> iterator = queue.iterator(); iterator.hasNext(); ) {
+                CallableMemberDescriptor candidate = iterator.next();
+                if (candidate == overrider) {
+                    iterator.remove();
+                    continue;
+                }
+                OverridingUtil.OverrideCompatibilityInfo.Result result1 = OverridingUtil.DEFAULT.isOverridableBy(candidate, overrider).getResult();
+                OverridingUtil.OverrideCompatibilityInfo.Result result2 = OverridingUtil.DEFAULT.isOverridableBy(overrider, candidate).getResult();
+                if (result1 == OverridingUtil.OverrideCompatibilityInfo.Result.OVERRIDABLE &&
+                    result2 == OverridingUtil.OverrideCompatibilityInfo.Result.OVERRIDABLE) {
+                    overridables.add(candidate);
+                    iterator.remove();
+                }
+                else if (result1 == OverridingUtil.OverrideCompatibilityInfo.Result.CONFLICT ||
+                         result2 == OverridingUtil.OverrideCompatibilityInfo.Result.CONFLICT) {
+                    recorder.conflict(overrider, candidate);
+                    iterator.remove();
+                }
+            }
+
+            List<CallableMemberDescriptor> visible = new ArrayList<CallableMemberDescriptor>();
+            for (CallableMemberDescriptor overridable : overridables) {
+                if (overridable.getVisibility() != Visibilities.PRIVATE && Visibilities.isVisible(overridable, current)) {
+                    visible.add(overridable);
+                }
+            }
+            recorder.fakeOverride(visible.isEmpty() ? overridables : visible);
+        }
+    }
+
+    // Describes overrides and conflicts by indices of members, independently of the order in which they were generated
+    private static class OverridesRecorder implements OverridingUtil.DescriptorSink {
+        private final List<CallableMemberDescriptor> fromSupertypes;
+        private final List<CallableMemberDescriptor> fromCurrent;
+        private final List<String> lines = new ArrayList<String>();
+
+        private OverridesRecorder(@NotNull List<CallableMemberDescriptor> fromSupertypes, @NotNull List<CallableMemberDescriptor> fromCurrent) {
+            this.fromSupertypes = fromSupertypes;
+            this.fromCurrent = fromCurrent;
+        }
+
+        @Override
+        public void addToScope(@NotNull CallableMemberDescriptor fakeOverride) {
+            fakeOverride(fakeOverride.getOverriddenDescriptors());
+        }
+
+        private void fakeOverride(@NotNull Collection<? extends CallableMemberDescriptor> overridden) {
+            lines.add("fake override of " + indices(overridden));
+        }
+
+        @Override
+        public void conflict(@NotNull CallableMemberDescriptor fromSuper, @NotNull CallableMemberDescriptor fromCurrent) {
+            List<CallableMemberDescriptor> pair = Arrays.asList(fromSuper, fromCurrent);
+            lines.add("conflict " + indices(pair));
+        }
+
+        @NotNull
+        private String indices(@NotNull Collection<? extends CallableMemberDescriptor> members) {
+            List<String> result = new ArrayList<String>();
+            for (CallableMemberDescriptor member : members) {
+                int index = fromSupertypes.indexOf(member);
+                result.add(index >= 0 ? "super " + index : "current " + fromCurrent.indexOf(member));
+            }
+            Collections.sort(result);
+            return result.toString();
+        }
+
+        @NotNull
+        private String describe() {
+            List<String> result = new ArrayList<String>(lines);
+            for (int i = 0; i < fromCurrent.size(); i++) {
+                result.add("current " + i + " overrides " + indices(fromCurrent.get(i).getOverriddenDescriptors()));
+            }
+            Collections.sort(result);
+            StringBuilder text = new StringBuilder();
+            for (String line : result) {
+                text.append(line).append("\n");
+            }
+            return text.toString();
+        }
+    }
+
+    @NotNull
+    private static String generateHierarchy() {
+        StringBuilder text = new StringBuilder("package test\n\n");
+        for (int i = 0; i < OVERLOAD_COUNT; i++) {
+            text.append("class V").append(i).append("\n");
+        }
+
+        text.append("\ntrait KVisitable {\n");
+        appendAccept(text, "");
+        text.append("}\n\n");
+
+        appendTrait(text, "KIterable<E>", ITERABLE);
+        appendTrait(text, "KCollection<E> : KIterable<E>, KVisitable", COLLECTION);
+        appendTrait(text, "KList<E> : KCollection<E>", LIST);
+        appendTrait(text, "KQueue<E> : KCollection<E>", QUEUE);
+        appendTrait(text, "KDeque<E> : KQueue<E>", DEQUE);
+        text.append("trait KRandomAccess\n\n");
+
+        text.append("abstract class KAbstractCollection<E> : KCollection<E> {\n");
+        text.append("    override fun isEmpty(): Boolean = size() == 0\n");
+        text.append("    override fun contains(o: Any?): Boolean = false\n");
+        appendAccept(text, "override ");
+        text.append("}\n\n");
+
+        text.append("abstract class KAbstractList<E> : KAbstractCollection<E>(), KList<E> {\n");
+        text.append("    override fun add(e: E): Boolean { throw UnsupportedOperationException() }\n");
+        text.append("    override fun add(index: Int, element: E) { throw UnsupportedOperationException() }\n");
+        text.append("    override fun iterator(): Iterator<E> { throw UnsupportedOperationException() }\n");
+        text.append("}\n\n");
+
+        appendClass(text, "KArrayList<E> : KAbstractList<E>(), KList<E>, KRandomAccess", ITERABLE, COLLECTION, LIST);
+        appendClass(text, "KLinkedList<E> : KAbstractList<E>(), KList<E>, KDeque<E>", ITERABLE, COLLECTION, LIST, QUEUE, DEQUE);
+        return text.toString();
+    }
+
+    private static void appendAccept(@NotNull StringBuilder text, @NotNull String modifiers) {
+        for (int i = 0; i < OVERLOAD_COUNT; i++) {
+            text.append("    ").append(modifiers).append("fun accept(v: V").append(i).append("): Boolean");
+            text.append(modifiers.isEmpty() ? "\n" : " = false\n");
+        }
+    }
+
+    private static void appendTrait(@NotNull StringBuilder text, @NotNull String header, @NotNull String[] members) {
+        text.append("trait ").append(header).append(" {\n");
+        for (String member : members) {
+            text.append("    ").append(member).append("\n");
+        }
+        text.append("}\n\n");
+    }
+
+    private static void appendClass(@NotNull StringBuilder text, @NotNull String header, @NotNull String[]... memberGroups) {
+        text.append("class ").append(header).append(" {\n");
+        for (String[] members : memberGroups) {
+            for (String member : members) {
+                text.append("    override ").append(member).append(" { throw UnsupportedOperationException() }\n");
+            }
+        }
+        text.append("}\n\n");
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.types;
+
+import org.jetbrains.jet.ConfigurationKind;
+import org.jetbrains.jet.JetLiteFixture;
+import org.jetbrains.jet.cli.jvm.compiler.JetCoreEnvironment;
+import org.jetbrains.jet.lang.descriptors.ClassDescriptor;
+import org.jetbrains.jet.lang.types.*;
+import org.jetbrains.jet.lang.types.checker.JetTypeChecker;
+import org.jetbrains.jet.lang.types.lang.KotlinBuiltIns;
+
+import java.util.Collections;
+import java.util.List;
+
+public class TypeInternerTest extends JetLiteFixture {
+    private KotlinBuiltIns builtIns;
+    private TypeInterner interner;
+
+    @Override
+    protected JetCoreEnvironment createEnvironment() {
+        return createEnvironmentWithMockJdk(ConfigurationKind.JDK_ONLY);
+    }
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        builtIns = KotlinBuiltIns.getInstance();
+        interner = new TypeInterner();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        builtIns = null;
+        interner = null;
+        super.tearDown();
+    }
+
+    public void testSameTypeIsShared() throws Exception {
+        JetType string = interner.internClassType(builtIns.getString(), false, Collections.<TypeProjection>emptyList());
+        assertSame(string, interner.internClassType(builtIns.getString(), false, Collections.<TypeProjection>emptyList()));
+
+        ClassDescriptor list = builtIns.getList();
+        JetType listOfString = interner.internClassType(list, false, arguments(Variance.INVARIANT, string));
+        assertSame(listOfString, interner.internClassType(list, false, arguments(Variance.INVARIANT, string)));
+    }
+
+    public void testDifferentTypesAreNotShared() throws Exception {
+        JetType string = interner.internClassType(builtIns.getString(), false, Collections.<TypeProjection>emptyList());
+        JetType nullableString = interner.internClassType(builtIns.getString(), true, Collections.<TypeProjection>emptyList());
+        assertNotSame(string, nullableString);
+        assertFalse(JetTypeChecker.DEFAULT.equalTypes(string, nullableString));
+
+        ClassDescriptor list = builtIns.getList();
+        JetType listOfString = interner.internClassType(list, false, arguments(Variance.INVARIANT, string));
+        assertNotSame(listOfString, interner.internClassType(list, false, arguments(Variance.OUT_VARIANCE, string)));
+        assertNotSame(listOfString, interner.internClassType(list, false, arguments(Variance.INVARIANT, nullableString)));
+    }
+
+    public void testStructurallyEqualArgumentsAreComparedByIdentity() throws Exception {
+        JetType string = interner.internClassType(builtIns.getString(), false, Collections.<TypeProjection>emptyList());
+        JetType anotherString = TypeUtils.makeNullableAsSpecified(
+                interner.internClassType(builtIns.getString(), true, Collections.<TypeProjection>emptyList()), false);
+        assertNotSame(string, anotherString);
+
+        ClassDescriptor list = builtIns.getList();
+        JetType listOfString = interner.internClassType(list, false, arguments(Variance.INVARIANT, string));
+        JetType listOfAnotherString = interner.internClassType(list, false, arguments(Variance.INVARIANT, anotherString));
+
+        assertNotSame(listOfString, listOfAnotherString);
+        assertEquals(listOfString, listOfAnotherString);
+        assertEquals(listOfString.hashCode(), listOfAnotherString.hashCode());
+    }
+
+    private static List<TypeProjection> arguments(Variance projectionKind, JetType type) {
+        return Collections.<TypeProjection>singletonList(new TypeProjectionImpl(projectionKind, type));
+    }
+}
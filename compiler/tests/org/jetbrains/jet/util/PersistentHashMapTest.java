@@ -0,0 +1,183 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.util;
+
+import junit.framework.TestCase;
+import org.jetbrains.jet.utils.PersistentHashMap;
+
+import java.util.*;
+
+public class PersistentHashMapTest extends TestCase {
+    // Keys with equal hash codes
+    private static class Key {
+        private final int id;
+        private final int hash;
+
+        private Key(int id, int hash) {
+            this.id = id;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && ((Key) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    public void testPlusAndGet() {
+        PersistentHashMap<String, Integer> empty = PersistentHashMap.empty();
+        PersistentHashMap<String, Integer> one = empty.plus("one", 1);
+        PersistentHashMap<String, Integer> two = one.plus("two", 2);
+
+        assertTrue(empty.isEmpty());
+        assertNull(empty.get("one"));
+
+        assertEquals(1, one.size());
+        assertEquals(1, (int) one.get("one"));
+        assertNull(one.get("two"));
+
+        assertEquals(2, two.size());
+        assertEquals(1, (int) two.get("one"));
+        assertEquals(2, (int) two.get("two"));
+    }
+
+    public void testReplaceValue() {
+        Integer value = 1;
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().plus("one", value);
+        assertSame(map, map.plus("one", value));
+
+        PersistentHashMap<String, Integer> replaced = map.plus("one", 10);
+        assertEquals(1, replaced.size());
+        assertEquals(10, (int) replaced.get("one"));
+        assertEquals(1, (int) map.get("one"));
+    }
+
+    public void testManyEntries() {
+        Map<Integer, Integer> expected = new HashMap<Integer, Integer>();
+        PersistentHashMap<Integer, Integer> map = PersistentHashMap.empty();
+        for (int i = 0; i < 10000; i++) {
+            int key = i * 7919;
+            map = map.plus(key, i);
+            expected.put(key, i);
+        }
+
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected, map.toMap());
+        for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        assertNull(map.get(-1));
+    }
+
+    public void testHashCollisions() {
+        PersistentHashMap<Key, String> map = PersistentHashMap.empty();
+        for (int i = 0; i < 10; i++) {
+            map = map.plus(new Key(i, 42), "value" + i);
+        }
+        map = map.plus(new Key(100, 43), "other");
+        map = map.plus(new Key(3, 42), "replaced");
+
+        assertEquals(11, map.size());
+        assertEquals("value0", map.get(new Key(0, 42)));
+        assertEquals("replaced", map.get(new Key(3, 42)));
+        assertEquals("other", map.get(new Key(100, 43)));
+        assertNull(map.get(new Key(11, 42)));
+    }
+
+    public void testMinus() {
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().plus("one", 1).plus("two", 2);
+
+        assertSame(map, map.minus("three"));
+        PersistentHashMap<String, Integer> withoutOne = map.minus("one");
+        assertEquals(1, withoutOne.size());
+        assertNull(withoutOne.get("one"));
+        assertEquals(2, (int) withoutOne.get("two"));
+        assertEquals(1, (int) map.get("one"));
+
+        PersistentHashMap<String, Integer> empty = withoutOne.minus("two");
+        assertTrue(empty.isEmpty());
+        assertFalse(empty.iterator().hasNext());
+        assertSame(PersistentHashMap.empty(), empty);
+    }
+
+    public void testMinusWithHashCollisions() {
+        PersistentHashMap<Key, String> map = PersistentHashMap.empty();
+        for (int i = 0; i < 3; i++) {
+            map = map.plus(new Key(i, 42), "value" + i);
+        }
+        map = map.plus(new Key(100, 42 + (1 << 5)), "other");
+
+        assertSame(map, map.minus(new Key(3, 42)));
+        PersistentHashMap<Key, String> removed = map.minus(new Key(1, 42));
+        assertEquals(3, removed.size());
+        assertNull(removed.get(new Key(1, 42)));
+        assertEquals("value0", removed.get(new Key(0, 42)));
+        assertEquals("value2", removed.get(new Key(2, 42)));
+        assertEquals("other", removed.get(new Key(100, 42 + (1 << 5))));
+
+        removed = removed.minus(new Key(0, 42)).minus(new Key(2, 42));
+        assertEquals(1, removed.size());
+        assertEquals("other", removed.get(new Key(100, 42 + (1 << 5))));
+
+        removed = removed.plus(new Key(0, 42), "again");
+        assertEquals("again", removed.get(new Key(0, 42)));
+        assertEquals(2, removed.size());
+    }
+
+    // Old versions of the map should stay intact after any updates
+    public void testRandomUpdatesAgainstHashMap() {
+        Random random = new Random(42);
+        List<PersistentHashMap<Key, Integer>> versions = new ArrayList<PersistentHashMap<Key, Integer>>();
+        List<Map<Key, Integer>> expectedVersions = new ArrayList<Map<Key, Integer>>();
+
+        PersistentHashMap<Key, Integer> map = PersistentHashMap.empty();
+        Map<Key, Integer> expected = new HashMap<Key, Integer>();
+        for (int i = 0; i < 5000; i++) {
+            // Few distinct hash codes, so that there are both deep tries and collisions
+            int id = random.nextInt(500);
+            Key key = new Key(id, id % 50 * 0x01010101);
+            if (random.nextInt(3) == 0) {
+                map = map.minus(key);
+                expected.remove(key);
+            }
+            else {
+                int value = random.nextInt(10);
+                map = map.plus(key, value);
+                expected.put(key, value);
+            }
+
+            if (i % 100 == 0) {
+                versions.add(map);
+                expectedVersions.add(new HashMap<Key, Integer>(expected));
+            }
+        }
+
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i).size(), versions.get(i).size());
+            assertEquals(expectedVersions.get(i), versions.get(i).toMap());
+        }
+        for (int id = 0; id < 500; id++) {
+            Key key = new Key(id, id % 50 * 0x01010101);
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+}
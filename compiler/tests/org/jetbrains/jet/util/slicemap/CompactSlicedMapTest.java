@@ -0,0 +1,294 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.util.slicemap;
+
+import junit.framework.TestCase;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.util.slicedmap.*;
+
+import java.util.*;
+
+public class CompactSlicedMapTest extends TestCase {
+    private static final RewritePolicy KEEP_OLD_VALUE = new RewritePolicy() {
+        @Override
+        public <K> boolean rewriteProcessingNeeded(K key) {
+            return true;
+        }
+
+        @Override
+        public <K, V> boolean processRewrite(WritableSlice<K, V> slice, K key, V oldValue, V newValue) {
+            return false;
+        }
+    };
+
+    private static final WritableSlice<String, Integer> NAME_TO_NUMBER = new BasicWritableSlice<String, Integer>(RewritePolicy.DO_NOTHING);
+    private static final WritableSlice<String, Integer> OTHER_NAME_TO_NUMBER = new BasicWritableSlice<String, Integer>(RewritePolicy.DO_NOTHING);
+    private static final WritableSlice<String, Integer> KEEP_FIRST = new BasicWritableSlice<String, Integer>(KEEP_OLD_VALUE);
+    private static final WritableSlice<String, Integer> COLLECTIVE = new BasicWritableSlice<String, Integer>(RewritePolicy.DO_NOTHING, true);
+    private static final RemovableSlice<String, Boolean> REMOVABLE_SET = Slices.createRemovableSetSlice();
+    private static final RemovableSlice<Integer, String> NUMBER_TO_NAME = Slices.<Integer, String>sliceBuilder().build();
+    private static final WritableSlice<String, Integer> NAME_TO_NUMBER_WITH_OPPOSITE =
+            Slices.<String, Integer>sliceBuilder().setOpposite(NUMBER_TO_NAME).build();
+    private static final WritableSlice<String, Integer> CASE_INSENSITIVE = Slices.<String, Integer>sliceBuilder().setKeyNormalizer(
+            new Slices.KeyNormalizer<String>() {
+                @Override
+                public String normalize(String key) {
+                    return key.toLowerCase();
+                }
+            }).build();
+
+    public void testPutAndGet() {
+        CompactSlicedMap map = CompactSlicedMap.create();
+        map.put(NAME_TO_NUMBER, "one", 1);
+        map.put(NAME_TO_NUMBER, "two", 2);
+        map.put(OTHER_NAME_TO_NUMBER, "one", 10);
+
+        assertEquals(1, (int) map.get(NAME_TO_NUMBER, "one"));
+        assertEquals(2, (int) map.get(NAME_TO_NUMBER, "two"));
+        assertEquals(10, (int) map.get(OTHER_NAME_TO_NUMBER, "one"));
+        assertNull(map.get(NAME_TO_NUMBER, "three"));
+        assertNull(map.get(OTHER_NAME_TO_NUMBER, "two"));
+    }
+
+    public void testRewritePolicy() {
+        CompactSlicedMap map = CompactSlicedMap.create();
+        map.put(KEEP_FIRST, "one", 1);
+        map.put(KEEP_FIRST, "one", 2);
+        assertEquals(1, (int) map.get(KEEP_FIRST, "one"));
+
+        map.put(NAME_TO_NUMBER, "one", 1);
+        map.put(NAME_TO_NUMBER, "one", 2);
+        assertEquals(2, (int) map.get(NAME_TO_NUMBER, "one"));
+    }
+
+    public void testCollectiveSlice() {
+        CompactSlicedMap map = CompactSlicedMap.create();
+        assertTrue(map.getKeys(COLLECTIVE).isEmpty());
+
+        map.put(COLLECTIVE, "one", 1);
+        map.put(COLLECTIVE, "two", 2);
+        assertEquals(Arrays.asList("one", "two"), new ArrayList<String>(map.getKeys(COLLECTIVE)));
+    }
+
+    public void testOppositeSliceAndKeyNormalizer() {
+        CompactSlicedMap map = CompactSlicedMap.create();
+        map.put(NAME_TO_NUMBER_WITH_OPPOSITE, "one", 1);
+        assertEquals("one", map.get(NUMBER_TO_NAME, 1));
+
+        map.put(CASE_INSENSITIVE, "One", 1);
+        assertEquals(1, (int) map.get(CASE_INSENSITIVE, "ONE"));
+        assertEquals(1, (int) map.get(CASE_INSENSITIVE.makeRawValueVersion(), "one"));
+    }
+
+    public void testRemoveAndReinsert() {
+        CompactSlicedMap map = CompactSlicedMap.create();
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 100; i++) {
+                map.put(REMOVABLE_SET, "key" + i, true);
+            }
+            for (int i = 0; i < 100; i += 2) {
+                assertEquals(Boolean.TRUE, map.remove(REMOVABLE_SET, "key" + i));
+                assertNull(map.remove(REMOVABLE_SET, "key" + i));
+            }
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i % 2 != 0, (boolean) map.get(REMOVABLE_SET, "key" + i));
+            }
+            assertEquals(50, map.getSliceContents(REMOVABLE_SET).size());
+        }
+    }
+
+    public void testSameContentsAsSlicedMapImpl() {
+        Random random = new Random(42);
+        CompactSlicedMap compact = CompactSlicedMap.create();
+        SlicedMapImpl reference = SlicedMapImpl.create();
+
+        for (int i = 0; i < 10000; i++) {
+            String key = "key" + random.nextInt(1000);
+            WritableSlice<String, Integer> slice = random.nextBoolean() ? NAME_TO_NUMBER : OTHER_NAME_TO_NUMBER;
+            int value = random.nextInt();
+            compact.put(slice, key, value);
+            reference.put(slice, key, value);
+
+            String removedKey = "key" + random.nextInt(1000);
+            compact.remove(REMOVABLE_SET, removedKey);
+            reference.remove(REMOVABLE_SET, removedKey);
+            String addedKey = "key" + random.nextInt(1000);
+            compact.put(REMOVABLE_SET, addedKey, true);
+            reference.put(REMOVABLE_SET, addedKey, true);
+        }
+
+        assertEquals(toMap(reference), toMap(compact));
+        assertEquals(reference.getSliceContents(NAME_TO_NUMBER), compact.getSliceContents(NAME_TO_NUMBER));
+        assertEquals(reference.getSliceContents(REMOVABLE_SET), compact.getSliceContents(REMOVABLE_SET));
+    }
+
+    public void testDelegatingSliceSameAsSlicedMapImpl() {
+        WritableSlice<String, Integer> delegating = new DelegatingSlice<String, Integer>(COLLECTIVE);
+        for (MutableSlicedMap map : new MutableSlicedMap[] {CompactSlicedMap.create(), SlicedMapImpl.create()}) {
+            map.put(COLLECTIVE, "one", 1);
+            map.put(delegating, "two", 2);
+
+            assertEquals(2, (int) map.get(COLLECTIVE, "two"));
+            assertEquals(1, (int) map.get(delegating, "one"));
+            assertEquals(Arrays.asList("one"), new ArrayList<String>(map.getKeys(COLLECTIVE)));
+            assertEquals(Arrays.asList("two"), new ArrayList<String>(map.getKeys(delegating)));
+            assertEquals(2, map.getSliceContents(COLLECTIVE).size());
+            assertTrue(map.getSliceContents(delegating).isEmpty());
+            assertTrue(map.getSliceContents(COLLECTIVE.makeRawValueVersion()).isEmpty());
+        }
+    }
+
+    public void testCollectiveKeysAreKeptAfterClearAsInSlicedMapImpl() {
+        for (MutableSlicedMap map : new MutableSlicedMap[] {CompactSlicedMap.create(), SlicedMapImpl.create()}) {
+            map.put(COLLECTIVE, "one", 1);
+            map.clear();
+
+            assertNull(map.get(COLLECTIVE, "one"));
+            assertFalse(map.iterator().hasNext());
+            assertEquals(Arrays.asList("one"), new ArrayList<String>(map.getKeys(COLLECTIVE)));
+        }
+    }
+
+    // The only difference from SlicedMapImpl: entries are grouped by slice
+    public void testIterationOrder() {
+        CompactSlicedMap compact = CompactSlicedMap.create();
+        SlicedMapImpl reference = SlicedMapImpl.create();
+        for (MutableSlicedMap map : new MutableSlicedMap[] {compact, reference}) {
+            map.put(NAME_TO_NUMBER, "one", 1);
+            map.put(OTHER_NAME_TO_NUMBER, "two", 2);
+            map.put(NAME_TO_NUMBER, "three", 3);
+            map.put(NAME_TO_NUMBER, "one", 4);
+            map.put(REMOVABLE_SET, "four", true);
+            map.put(REMOVABLE_SET, "five", true);
+            map.remove(REMOVABLE_SET, "four");
+            map.put(REMOVABLE_SET, "four", true);
+        }
+
+        assertEquals(Arrays.asList("NAME_TO_NUMBER one=4", "NAME_TO_NUMBER three=3", "OTHER_NAME_TO_NUMBER two=2",
+                                   "REMOVABLE_SET five=true", "REMOVABLE_SET four=true"),
+                     renderEntries(compact));
+        assertEquals(Arrays.asList("NAME_TO_NUMBER one=4", "OTHER_NAME_TO_NUMBER two=2", "NAME_TO_NUMBER three=3",
+                                   "REMOVABLE_SET five=true", "REMOVABLE_SET four=true"),
+                     renderEntries(reference));
+        assertEquals(Arrays.asList("one", "three"), new ArrayList<String>(compact.getSliceContents(NAME_TO_NUMBER).keySet()));
+        assertEquals(reference.getSliceContents(NAME_TO_NUMBER), compact.getSliceContents(NAME_TO_NUMBER));
+    }
+
+    @NotNull
+    private static List<String> renderEntries(@NotNull SlicedMap map) {
+        Map<WritableSlice<?, ?>, String> names = new HashMap<WritableSlice<?, ?>, String>();
+        names.put(NAME_TO_NUMBER, "NAME_TO_NUMBER");
+        names.put(OTHER_NAME_TO_NUMBER, "OTHER_NAME_TO_NUMBER");
+        names.put(REMOVABLE_SET, "REMOVABLE_SET");
+
+        List<String> result = new ArrayList<String>();
+        for (Map.Entry<SlicedMapKey<?, ?>, ?> entry : map) {
+            result.add(names.get(entry.getKey().getSlice()) + " " + entry.getKey().getKey() + "=" + entry.getValue());
+        }
+        return result;
+    }
+
+    public void testMoveAllTo() {
+        CompactSlicedMap target = CompactSlicedMap.create();
+        target.put(NAME_TO_NUMBER, "one", 1);
+        target.put(KEEP_FIRST, "one", 1);
+        target.put(COLLECTIVE, "one", 1);
+
+        CompactSlicedMap source = CompactSlicedMap.create();
+        source.put(NAME_TO_NUMBER, "two", 2);
+        source.put(KEEP_FIRST, "one", 2);
+        source.put(COLLECTIVE, "two", 2);
+        source.put(OTHER_NAME_TO_NUMBER, "three", 3);
+        source.put(NAME_TO_NUMBER_WITH_OPPOSITE, "four", 4);
+
+        source.moveAllTo(target);
+
+        assertFalse(source.iterator().hasNext());
+        assertEquals(1, (int) target.get(NAME_TO_NUMBER, "one"));
+        assertEquals(2, (int) target.get(NAME_TO_NUMBER, "two"));
+        assertEquals(1, (int) target.get(KEEP_FIRST, "one"));
+        assertEquals(Arrays.asList("one", "two"), new ArrayList<String>(target.getKeys(COLLECTIVE)));
+        assertEquals(3, (int) target.get(OTHER_NAME_TO_NUMBER, "three"));
+        assertEquals("four", target.get(NUMBER_TO_NAME, 4));
+
+        source.put(OTHER_NAME_TO_NUMBER, "five", 5);
+        assertNull(target.get(OTHER_NAME_TO_NUMBER, "five"));
+    }
+
+    public void testMoveAllToSameAsPuttingEntries() {
+        Random random = new Random(42);
+        for (int iteration = 0; iteration < 100; iteration++) {
+            long seed = random.nextLong();
+
+            CompactSlicedMap movedTarget = fill(CompactSlicedMap.create(), new Random(seed));
+            CompactSlicedMap movedSource = fill(CompactSlicedMap.create(), new Random(seed + 1));
+            movedSource.moveAllTo(movedTarget);
+
+            CompactSlicedMap putTarget = fill(CompactSlicedMap.create(), new Random(seed));
+            CompactSlicedMap putSource = fill(CompactSlicedMap.create(), new Random(seed + 1));
+            for (Map.Entry<SlicedMapKey<?, ?>, ?> entry : putSource) {
+                //noinspection unchecked
+                putTarget.put((WritableSlice) entry.getKey().getSlice(), entry.getKey().getKey(), entry.getValue());
+            }
+            putSource.clear();
+
+            assertEquals(toEntryList(putTarget), toEntryList(movedTarget));
+            assertEquals(toEntryList(putSource), toEntryList(movedSource));
+            assertEquals(new ArrayList<String>(putTarget.getKeys(COLLECTIVE)), new ArrayList<String>(movedTarget.getKeys(COLLECTIVE)));
+            assertEquals(new ArrayList<String>(putSource.getKeys(COLLECTIVE)), new ArrayList<String>(movedSource.getKeys(COLLECTIVE)));
+        }
+    }
+
+    // Writes to a random subset of slices, so some of them are present only in one of the maps
+    @NotNull
+    private static CompactSlicedMap fill(@NotNull CompactSlicedMap map, @NotNull Random random) {
+        for (int i = 0; i < 20; i++) {
+            String key = "key" + random.nextInt(10);
+            int value = random.nextInt(10);
+            switch (random.nextInt(7)) {
+                case 0: map.put(NAME_TO_NUMBER, key, value); break;
+                case 1: map.put(OTHER_NAME_TO_NUMBER, key, value); break;
+                case 2: map.put(KEEP_FIRST, key, value); break;
+                case 3: map.put(COLLECTIVE, key, value); break;
+                case 4: map.put(NAME_TO_NUMBER_WITH_OPPOSITE, key, value); break;
+                case 5: map.put(REMOVABLE_SET, key, true); break;
+                default:
+                    map.remove(REMOVABLE_SET, key);
+                    map.remove(NUMBER_TO_NAME, value);
+            }
+        }
+        return map;
+    }
+
+    @NotNull
+    private static List<List<Object>> toEntryList(@NotNull SlicedMap map) {
+        List<List<Object>> result = new ArrayList<List<Object>>();
+        for (Map.Entry<SlicedMapKey<?, ?>, ?> entry : map) {
+            result.add(Arrays.<Object>asList(entry.getKey().getSlice(), entry.getKey().getKey(), entry.getValue()));
+        }
+        return result;
+    }
+
+    @NotNull
+    private static Map<SlicedMapKey<?, ?>, Object> toMap(@NotNull SlicedMap map) {
+        Map<SlicedMapKey<?, ?>, Object> result = new HashMap<SlicedMapKey<?, ?>, Object>();
+        for (Map.Entry<SlicedMapKey<?, ?>, ?> entry : map) {
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.utils;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Immutable hash map (a hash array mapped trie): {@link #plus} and {@link #minus} return a new map sharing all but O(log n) nodes
+ * with this one, lookups and updates take O(log n) time with a small base (32). Null keys and values are not supported.
+ */
+public final class PersistentHashMap<K, V> implements Iterable<Map.Entry<K, V>> {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    @SuppressWarnings("unchecked")
+    private static final PersistentHashMap EMPTY = new PersistentHashMap(0, null);
+
+    @SuppressWarnings("unchecked")
+    @NotNull
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return EMPTY;
+    }
+
+    private final int size;
+    @Nullable
+    private final Node root;
+
+    private PersistentHashMap(int size, @Nullable Node root) {
+        this.size = size;
+        this.root = root;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public V get(@NotNull Object key) {
+        return root == null ? null : (V) root.find(0, key.hashCode(), key);
+    }
+
+    public boolean containsKey(@NotNull Object key) {
+        return get(key) != null;
+    }
+
+    /**
+     * @return a map with the given value for the key, this map if it already has exactly the same value
+     */
+    @NotNull
+    public PersistentHashMap<K, V> plus(@NotNull K key, @NotNull V value) {
+        boolean[] addedLeaf = new boolean[1];
+        Node newRoot = (root == null ? BitmapIndexedNode.EMPTY : root).put(0, key.hashCode(), key, value, addedLeaf);
+        if (newRoot == root) return this;
+        return new PersistentHashMap<K, V>(addedLeaf[0] ? size + 1 : size, newRoot);
+    }
+
+    /**
+     * @return a map without the given key, this map if there's no such key
+     */
+    @NotNull
+    public PersistentHashMap<K, V> minus(@NotNull Object key) {
+        if (root == null) return this;
+        Node newRoot = root.remove(0, key.hashCode(), key);
+        if (newRoot == root) return this;
+        if (newRoot == null) return empty();
+        return new PersistentHashMap<K, V>(size - 1, newRoot);
+    }
+
+    @NotNull
+    public Map<K, V> toMap() {
+        Map<K, V> result = new HashMap<K, V>(size * 4 / 3 + 1);
+        for (Map.Entry<K, V> entry : this) {
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    @NotNull
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<Map.Entry<K, V>> iterator() {
+        if (root == null) return Collections.<Map.Entry<K, V>>emptyList().iterator();
+
+        List<Map.Entry<K, V>> entries = new ArrayList<Map.Entry<K, V>>(size);
+        root.collectEntries((List) entries);
+        return Collections.unmodifiableList(entries).iterator();
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+
+    private static abstract class Node {
+        @Nullable
+        abstract Object find(int shift, int hash, @NotNull Object key);
+
+        @NotNull
+        abstract Node put(int shift, int hash, @NotNull Object key, @NotNull Object value, @NotNull boolean[] addedLeaf);
+
+        // Returns this node if there's no such key, null if the node becomes empty
+        @Nullable
+        abstract Node remove(int shift, int hash, @NotNull Object key);
+
+        abstract void collectEntries(@NotNull List<Map.Entry<Object, Object>> entries);
+    }
+
+    // For each set bit of the bitmap, the array contains a key and a value, or null and a child node
+    private static final class BitmapIndexedNode extends Node {
+        private static final BitmapIndexedNode EMPTY = new BitmapIndexedNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] array;
+
+        private BitmapIndexedNode(int bitmap, @NotNull Object[] array) {
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Nullable
+        @Override
+        Object find(int shift, int hash, @NotNull Object key) {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((bitmap & bit) == 0) return null;
+
+            int index = index(bit);
+            Object keyOrNull = array[2 * index];
+            Object valueOrNode = array[2 * index + 1];
+            if (keyOrNull == null) return ((Node) valueOrNode).find(shift + BITS, hash, key);
+            return key.equals(keyOrNull) ? valueOrNode : null;
+        }
+
+        @NotNull
+        @Override
+        Node put(int shift, int hash, @NotNull Object key, @NotNull Object value, @NotNull boolean[] addedLeaf) {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            int index = index(bit);
+
+            if ((bitmap & bit) == 0) {
+                Object[] newArray = new Object[array.length + 2];
+                System.arraycopy(array, 0, newArray, 0, 2 * index);
+                newArray[2 * index] = key;
+                newArray[2 * index + 1] = value;
+                System.arraycopy(array, 2 * index, newArray, 2 * index + 2, array.length - 2 * index);
+                addedLeaf[0] = true;
+                return new BitmapIndexedNode(bitmap | bit, newArray);
+            }
+
+            Object keyOrNull = array[2 * index];
+            Object valueOrNode = array[2 * index + 1];
+            Object newValueOrNode;
+            if (keyOrNull == null) {
+                Node node = (Node) valueOrNode;
+                newValueOrNode = node.put(shift + BITS, hash, key, value, addedLeaf);
+                if (newValueOrNode == node) return this;
+            }
+            else if (key.equals(keyOrNull)) {
+                if (value == valueOrNode) return this;
+                newValueOrNode = value;
+            }
+            else {
+                addedLeaf[0] = true;
+                newValueOrNode = createNode(shift + BITS, keyOrNull, valueOrNode, hash, key, value);
+                keyOrNull = null;
+            }
+
+            Object[] newArray = array.clone();
+            newArray[2 * index] = keyOrNull;
+            newArray[2 * index + 1] = newValueOrNode;
+            return new BitmapIndexedNode(bitmap, newArray);
+        }
+
+        @Nullable
+        @Override
+        Node remove(int shift, int hash, @NotNull Object key) {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((bitmap & bit) == 0) return this;
+
+            int index = index(bit);
+            Object keyOrNull = array[2 * index];
+            Object valueOrNode = array[2 * index + 1];
+            if (keyOrNull == null) {
+                Node node = (Node) valueOrNode;
+                Node newNode = node.remove(shift + BITS, hash, key);
+                if (newNode == node) return this;
+                if (newNode != null) {
+                    Object[] newArray = array.clone();
+                    newArray[2 * index + 1] = newNode;
+                    return new BitmapIndexedNode(bitmap, newArray);
+                }
+            }
+            else if (!key.equals(keyOrNull)) {
+                return this;
+            }
+
+            if (bitmap == bit) return null;
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, 2 * index);
+            System.arraycopy(array, 2 * index + 2, newArray, 2 * index, array.length - 2 * index - 2);
+            return new BitmapIndexedNode(bitmap ^ bit, newArray);
+        }
+
+        @NotNull
+        private static Node createNode(int shift, @NotNull Object key1, @NotNull Object value1, int hash2, @NotNull Object key2, @NotNull Object value2) {
+            int hash1 = key1.hashCode();
+            if (hash1 == hash2) {
+                return new HashCollisionNode(hash1, new Object[] {key1, value1, key2, value2});
+            }
+            boolean[] addedLeaf = new boolean[1];
+            return EMPTY.put(shift, hash1, key1, value1, addedLeaf).put(shift, hash2, key2, value2, addedLeaf);
+        }
+
+        @Override
+        void collectEntries(@NotNull List<Map.Entry<Object, Object>> entries) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (array[i] == null) {
+                    ((Node) array[i + 1]).collectEntries(entries);
+                }
+                else {
+                    entries.add(new AbstractMap.SimpleImmutableEntry<Object, Object>(array[i], array[i + 1]));
+                }
+            }
+        }
+    }
+
+    // Keys with the same hash code, the array contains keys and values
+    private static final class HashCollisionNode extends Node {
+        private final int hash;
+        private final Object[] array;
+
+        private HashCollisionNode(int hash, @NotNull Object[] array) {
+            this.hash = hash;
+            this.array = array;
+        }
+
+        private int indexOf(@NotNull Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) return i;
+            }
+            return -1;
+        }
+
+        @Nullable
+        @Override
+        Object find(int shift, int hash, @NotNull Object key) {
+            if (hash != this.hash) return null;
+            int index = indexOf(key);
+            return index >= 0 ? array[index + 1] : null;
+        }
+
+        @NotNull
+        @Override
+        Node put(int shift, int hash, @NotNull Object key, @NotNull Object value, @NotNull boolean[] addedLeaf) {
+            if (hash != this.hash) {
+                // Nest this node into a bitmap node and put the new key there
+                BitmapIndexedNode node = new BitmapIndexedNode(1 << ((this.hash >>> shift) & MASK), new Object[] {null, this});
+                return node.put(shift, hash, key, value, addedLeaf);
+            }
+
+            int index = indexOf(key);
+            if (index >= 0) {
+                if (array[index + 1] == value) return this;
+                Object[] newArray = array.clone();
+                newArray[index + 1] = value;
+                return new HashCollisionNode(hash, newArray);
+            }
+
+            Object[] newArray = new Object[array.length + 2];
+            System.arraycopy(array, 0, newArray, 0, array.length);
+            newArray[array.length] = key;
+            newArray[array.length + 1] = value;
+            addedLeaf[0] = true;
+            return new HashCollisionNode(hash, newArray);
+        }
+
+        @Nullable
+        @Override
+        Node remove(int shift, int hash, @NotNull Object key) {
+            if (hash != this.hash) return this;
+            int index = indexOf(key);
+            if (index < 0) return this;
+            if (array.length == 2) return null;
+
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, index);
+            System.arraycopy(array, index + 2, newArray, index, array.length - index - 2);
+            return new HashCollisionNode(hash, newArray);
+        }
+
+        @Override
+        void collectEntries(@NotNull List<Map.Entry<Object, Object>> entries) {
+            for (int i = 0; i < array.length; i += 2) {
+                entries.add(new AbstractMap.SimpleImmutableEntry<Object, Object>(array[i], array[i + 1]));
+            }
+        }
+    }
+}
@@ -76,7 +76,10 @@ class LazyJavaClassDescriptor(
     private val _typeConstructor = c.storageManager.createLazyValue { LazyJavaClassTypeConstructor() }
     override fun getTypeConstructor(): TypeConstructor = _typeConstructor()
 
-    private val _scopeForMemberLookup = LazyJavaClassMemberScope(c, this, jClass)
+    // Members grouped by name, shared by the member scope and the static scope
+    internal val members = c.storageManager.createLazyValue { JavaClassMembers(jClass, c.storageManager) }
+
+    private val _scopeForMemberLookup = LazyJavaClassMemberScope(c, this, jClass, members)
     override fun getScopeForMemberLookup() = _scopeForMemberLookup
 
     private val _innerClassesScope = InnerClassesScopeWrapper(getScopeForMemberLookup())
@@ -39,17 +39,20 @@ import org.jetbrains.jet.lang.resolve.java.descriptor.JavaConstructorDescriptor
 import org.jetbrains.jet.lang.resolve.java.resolver.DescriptorResolverUtils
 import org.jetbrains.jet.lang.types.JetType
 import org.jetbrains.jet.lang.resolve.java.lazy.descriptors.LazyJavaMemberScope.MethodSignatureData
+import org.jetbrains.jet.storage.NotNullLazyValue
 
 public class LazyJavaClassMemberScope(
         c: LazyJavaResolverContextWithTypes,
         containingDeclaration: ClassDescriptor,
-        private val jClass: JavaClass
+        private val jClass: JavaClass,
+        private val members: NotNullLazyValue<JavaClassMembers>
 ) : LazyJavaMemberScope(c, containingDeclaration) {
 
     override fun computeMemberIndex(): MemberIndex {
-        return object : ClassMemberIndex(jClass, { !it.isStatic() }) {
+        val delegate = members().nonStaticMembers
+        return object : MemberIndex by delegate {
             // For SAM-constructors
-            override fun getAllMethodNames(): Collection<Name> = super.getAllMethodNames() + getAllClassNames()
+            override fun getAllMethodNames(): Collection<Name> = delegate.getAllMethodNames() + getAllClassNames()
         }
     }
 
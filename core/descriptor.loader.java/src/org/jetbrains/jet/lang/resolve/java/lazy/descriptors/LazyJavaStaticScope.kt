@@ -37,6 +37,9 @@ import org.jetbrains.jet.lang.resolve.java.descriptor.SamConstructorDescriptor
 import org.jetbrains.jet.lang.resolve.name.SpecialNames
 import org.jetbrains.jet.lang.resolve.kotlin.KotlinJvmBinaryClass
 import org.jetbrains.jet.lang.resolve.DescriptorFactory.*
+import org.jetbrains.jet.lang.resolve.scopes.ScopeWithNameSummary
+import org.jetbrains.jet.descriptors.serialization.descriptors.DeserializedMemberScope
+import java.util.HashSet
 
 public abstract class LazyJavaStaticScope(
         c: LazyJavaResolverContext,
@@ -90,7 +93,7 @@ public class LazyPackageFragmentScopeForJavaPackage(
         c: LazyJavaResolverContext,
         private val jPackage: JavaPackage,
         packageFragment: LazyJavaPackageFragment
-) : LazyJavaStaticScope(c, packageFragment) {
+) : LazyJavaStaticScope(c, packageFragment), ScopeWithNameSummary {
 
     // TODO: Storing references is a temporary hack until modules infrastructure is implemented.
     // See JetTypeMapperWithOutDirectories for details
@@ -121,6 +124,27 @@ public class LazyPackageFragmentScopeForJavaPackage(
         }
     }
 
+    // Classes (and their SAM constructors) plus members of the package facade, null if the latter can't be listed
+    private val nameSummary = c.storageManager.createRecursionTolerantNullableLazyValue<Set<Name>>(
+            {
+                val packageScope = deserializedPackageScope()
+                if (packageScope != JetScope.EMPTY && packageScope !is DeserializedMemberScope) {
+                    null
+                }
+                else {
+                    val names = HashSet(getAllClassNames())
+                    if (packageScope is DeserializedMemberScope) {
+                        names.addAll(packageScope.getDeclaredMemberNames())
+                    }
+                    names
+                }
+            },
+            // Classes can't be listed while light classes are being built, lookups are not filtered then
+            onRecursiveCall = null
+    )
+
+    override fun mayContainName(name: Name): Boolean = nameSummary()?.contains(name) ?: true
+
     override fun getClassifier(name: Name): ClassifierDescriptor? = classes(name)
 
     override fun getProperties(name: Name) = deserializedPackageScope().getProperties(name)
@@ -166,7 +190,7 @@ public class LazyJavaStaticClassScope(
         descriptor: LazyJavaClassDescriptor
 ) : LazyJavaStaticScope(c, descriptor) {
 
-    override fun computeMemberIndex(): MemberIndex = computeMemberIndexForSamConstructors(ClassMemberIndex(jClass, { m -> m.isStatic() }))
+    override fun computeMemberIndex(): MemberIndex = computeMemberIndexForSamConstructors(getContainingDeclaration().members().staticMembers)
 
     override fun getAllFunctionNames(): Collection<Name> {
         if (jClass.isEnum()) {
@@ -20,10 +20,11 @@ import org.jetbrains.jet.lang.resolve.name.Name
 import org.jetbrains.jet.lang.resolve.java.structure.JavaMethod
 import org.jetbrains.jet.lang.resolve.java.structure.JavaClass
 import org.jetbrains.jet.lang.resolve.java.resolver.DescriptorResolverUtils
-import org.jetbrains.jet.lang.descriptors.Visibilities
 import org.jetbrains.jet.lang.resolve.java.structure.JavaField
-import org.jetbrains.jet.lang.resolve.java.structure.JavaMember
-import org.jetbrains.jet.utils.valuesToMap
+import org.jetbrains.jet.storage.StorageManager
+import java.util.ArrayList
+import java.util.HashMap
+import java.util.LinkedHashSet
 
 trait MemberIndex {
     fun findMethodsByName(name: Name): Collection<JavaMethod>
@@ -41,23 +42,69 @@ object EMPTY_MEMBER_INDEX : MemberIndex {
     override fun getAllFieldNames() = listOf<Name>()
 }
 
-open class ClassMemberIndex(val jClass: JavaClass, val memberFilter: (JavaMember) -> Boolean) : MemberIndex {
-    private val methodFilter = {
-        (m: JavaMethod) ->
-        memberFilter(m) &&
-        !m.isConstructor() &&
-        !DescriptorResolverUtils.isObjectMethodInInterface(m)
+/**
+ * Declared members of a Java class grouped by name in one pass over the class, shared by the member scope (non-static members)
+ * and the static scope of the class. Names of all members including inherited ones are collected in one pass on the first request
+ */
+class JavaClassMembers(private val jClass: JavaClass, storageManager: StorageManager) {
+    private val methods = HashMap<Name, MutableList<JavaMethod>>()
+    private val staticMethods = HashMap<Name, MutableList<JavaMethod>>()
+    private val fields = HashMap<Name, JavaField>()
+    private val staticFields = HashMap<Name, JavaField>();
+
+    {
+        for (method in jClass.getMethods()) {
+            if (isIndexedMethod(method)) {
+                val map = if (method.isStatic()) staticMethods else methods
+                map.getOrPut(method.getName()) { ArrayList<JavaMethod>(1) }.add(method)
+            }
+        }
+        for (field in jClass.getFields()) {
+            val map = if (field.isStatic()) staticFields else fields
+            map.put(field.getName(), field)
+        }
+    }
+
+    private val allNames = storageManager.createLazyValue {
+        val methodNames = LinkedHashSet<Name>()
+        val staticMethodNames = LinkedHashSet<Name>()
+        for (method in jClass.getAllMethods()) {
+            if (isIndexedMethod(method)) {
+                (if (method.isStatic()) staticMethodNames else methodNames).add(method.getName())
+            }
+        }
+
+        val fieldNames = LinkedHashSet<Name>()
+        val staticFieldNames = LinkedHashSet<Name>()
+        for (field in jClass.getAllFields()) {
+            (if (field.isStatic()) staticFieldNames else fieldNames).add(field.getName())
+        }
+
+        AllNames(methodNames, staticMethodNames, fieldNames, staticFieldNames)
     }
 
-    private val methods = jClass.getMethods().stream().filter(methodFilter).groupBy { m -> m.getName() }
-    private val fields = jClass.getFields().stream().filter(memberFilter).valuesToMap { m -> m.getName() }
+    private class AllNames(
+            val methodNames: Collection<Name>,
+            val staticMethodNames: Collection<Name>,
+            val fieldNames: Collection<Name>,
+            val staticFieldNames: Collection<Name>
+    )
+
+    private fun isIndexedMethod(method: JavaMethod) = !method.isConstructor() && !DescriptorResolverUtils.isObjectMethodInInterface(method)
+
+    val nonStaticMembers: MemberIndex = object : MemberIndex {
+        override fun findMethodsByName(name: Name): Collection<JavaMethod> = methods[name] ?: listOf()
+        override fun getAllMethodNames() = allNames().methodNames
 
-    override fun findMethodsByName(name: Name): Collection<JavaMethod> {
-        return methods[name] ?: listOf()
+        override fun findFieldByName(name: Name) = fields[name]
+        override fun getAllFieldNames() = allNames().fieldNames
     }
 
-    override fun getAllMethodNames(): Collection<Name> = jClass.getAllMethods().iterator().filter(methodFilter).map { m -> m.getName() }.toList()
+    val staticMembers: MemberIndex = object : MemberIndex {
+        override fun findMethodsByName(name: Name): Collection<JavaMethod> = staticMethods[name] ?: listOf()
+        override fun getAllMethodNames() = allNames().staticMethodNames
 
-    override fun findFieldByName(name: Name): JavaField? = fields[name]
-    override fun getAllFieldNames() = jClass.getAllFields().stream().filter(memberFilter).map { m -> m.getName() }.toList()
-}
\ No newline at end of file
+        override fun findFieldByName(name: Name) = staticFields[name]
+        override fun getAllFieldNames() = allNames().staticFieldNames
+    }
+}
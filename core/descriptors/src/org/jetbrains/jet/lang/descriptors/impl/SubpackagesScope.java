@@ -23,6 +23,7 @@ import org.jetbrains.jet.lang.descriptors.PackageViewDescriptor;
 import org.jetbrains.jet.lang.resolve.name.FqName;
 import org.jetbrains.jet.lang.resolve.name.Name;
 import org.jetbrains.jet.lang.resolve.scopes.JetScopeImpl;
+import org.jetbrains.jet.lang.resolve.scopes.ScopeWithNameSummary;
 import org.jetbrains.jet.utils.Printer;
 import org.jetbrains.jet.utils.UtilsPackage;
 
@@ -30,7 +31,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
-public class SubpackagesScope extends JetScopeImpl {
+public class SubpackagesScope extends JetScopeImpl implements ScopeWithNameSummary {
     private final PackageViewDescriptor packageView;
 
     public SubpackagesScope(PackageViewDescriptor packageView) {
@@ -50,6 +51,12 @@ public class SubpackagesScope extends JetScopeImpl {
         return name.isSpecial() ? null : packageView.getModule().getPackage(packageView.getFqName().child(name));
     }
 
+    @Override
+    public boolean mayContainName(@NotNull Name name) {
+        // Only packages are contained here
+        return false;
+    }
+
     @NotNull
     @Override
     public Collection<DeclarationDescriptor> getAllDescriptors() {
@@ -248,17 +248,45 @@ public class OverridingUtil {
             @NotNull ClassDescriptor current,
             @NotNull DescriptorSink sink
     ) {
+        if (membersFromSupertypes.isEmpty()) return;
+
         Collection<CallableMemberDescriptor> notOverridden = new LinkedHashSet<CallableMemberDescriptor>(membersFromSupertypes);
+        Map<ErasedSignature, Collection<CallableMemberDescriptor>> membersFromSupertypesBySignature =
+                groupByErasedSignature(membersFromSupertypes);
 
         for (CallableMemberDescriptor fromCurrent : membersFromCurrent) {
-            Collection<CallableMemberDescriptor> bound =
-                    extractAndBindOverridesForMember(fromCurrent, membersFromSupertypes, current, sink);
+            Collection<CallableMemberDescriptor> sameSignature = membersFromSupertypesBySignature.get(ErasedSignature.create(fromCurrent));
+            if (sameSignature == null) continue;
+
+            Collection<CallableMemberDescriptor> bound = extractAndBindOverridesForMember(fromCurrent, sameSignature, current, sink);
             notOverridden.removeAll(bound);
         }
 
         createAndBindFakeOverrides(current, notOverridden, sink);
     }
 
+    /**
+     * Members can override each other or conflict only if their erased signatures are equal (see {@link ErasedSignature}),
+     * so the precise check is only done within the groups returned by this method
+     */
+    @NotNull
+    private static Map<ErasedSignature, Collection<CallableMemberDescriptor>> groupByErasedSignature(
+            @NotNull Collection<? extends CallableMemberDescriptor> members
+    ) {
+        Map<ErasedSignature, Collection<CallableMemberDescriptor>> result =
+                new HashMap<ErasedSignature, Collection<CallableMemberDescriptor>>();
+        for (CallableMemberDescriptor member : members) {
+            ErasedSignature signature = ErasedSignature.create(member);
+            Collection<CallableMemberDescriptor> group = result.get(signature);
+            if (group == null) {
+                group = new LinkedHashSet<CallableMemberDescriptor>();
+                result.put(signature, group);
+            }
+            group.add(member);
+        }
+        return result;
+    }
+
     private static Collection<CallableMemberDescriptor> extractAndBindOverridesForMember(
             @NotNull CallableMemberDescriptor fromCurrent,
             @NotNull Collection<? extends CallableMemberDescriptor> descriptorsFromSuper,
@@ -295,15 +323,35 @@ public class OverridingUtil {
             @NotNull Collection<CallableMemberDescriptor> notOverridden,
             @NotNull DescriptorSink sink
     ) {
-        Queue<CallableMemberDescriptor> fromSuperQueue = new LinkedList<CallableMemberDescriptor>(notOverridden);
+        Map<ErasedSignature, Collection<CallableMemberDescriptor>> notOverriddenBySignature = groupByErasedSignature(notOverridden);
+        // Ordered as a queue, but members extracted from the middle of it are removed in constant time
+        Set<CallableMemberDescriptor> fromSuperQueue = new LinkedHashSet<CallableMemberDescriptor>(notOverridden);
+        // The member with max visibility is always the head of the queue when all members have the same visibility
+        boolean sameVisibility = haveSameVisibility(notOverridden);
         while (!fromSuperQueue.isEmpty()) {
-            CallableMemberDescriptor notOverriddenFromSuper = VisibilityUtil.findMemberWithMaxVisibility(fromSuperQueue);
+            CallableMemberDescriptor notOverriddenFromSuper = sameVisibility
+                                                              ? fromSuperQueue.iterator().next()
+                                                              : VisibilityUtil.findMemberWithMaxVisibility(fromSuperQueue);
+            Collection<CallableMemberDescriptor> sameSignature = notOverriddenBySignature.get(ErasedSignature.create(notOverriddenFromSuper));
             Collection<CallableMemberDescriptor> overridables =
-                    extractMembersOverridableInBothWays(notOverriddenFromSuper, fromSuperQueue, sink);
+                    extractMembersOverridableInBothWays(notOverriddenFromSuper, sameSignature, fromSuperQueue, sink);
             createAndBindFakeOverride(overridables, current, sink);
         }
     }
 
+    private static boolean haveSameVisibility(@NotNull Collection<CallableMemberDescriptor> members) {
+        Visibility visibility = null;
+        for (CallableMemberDescriptor member : members) {
+            if (visibility == null) {
+                visibility = member.getVisibility();
+            }
+            else if (visibility != member.getVisibility()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static boolean isMoreSpecific(@NotNull CallableMemberDescriptor a, @NotNull CallableMemberDescriptor b) {
         if (a instanceof SimpleFunctionDescriptor) {
             assert b instanceof SimpleFunctionDescriptor : "b is " + b.getClass();
@@ -386,15 +434,19 @@ public class OverridingUtil {
     @NotNull
     private static Collection<CallableMemberDescriptor> extractMembersOverridableInBothWays(
             @NotNull CallableMemberDescriptor overrider,
-            @NotNull Queue<CallableMemberDescriptor> extractFrom,
+            @NotNull Collection<CallableMemberDescriptor> sameSignature,
+            @NotNull Set<CallableMemberDescriptor> extractFrom,
             @NotNull DescriptorSink sink
     ) {
+        // Members with other erased signatures are incompatible with the overrider, so only its group is checked,
+        // and everything extracted from the group is removed from the queue as well
         Collection<CallableMemberDescriptor> overridable = new ArrayList<CallableMemberDescriptor>();
         overridable.add(overrider);
-        for (Iterator<CallableMemberDescriptor> iterator = extractFrom.iterator(); iterator.hasNext(); ) {
+        for (Iterator<CallableMemberDescriptor> iterator = sameSignature.iterator(); iterator.hasNext(); ) {
             CallableMemberDescriptor candidate = iterator.next();
             if (overrider == candidate) {
                 iterator.remove();
+                extractFrom.remove(candidate);
                 continue;
             }
 
@@ -403,10 +455,12 @@ public class OverridingUtil {
             if (result1 == OVERRIDABLE && result2 == OVERRIDABLE) {
                 overridable.add(candidate);
                 iterator.remove();
+                extractFrom.remove(candidate);
             }
             else if (result1 == CONFLICT || result2 == CONFLICT) {
                 sink.conflict(overrider, candidate);
                 iterator.remove();
+                extractFrom.remove(candidate);
             }
         }
         return overridable;
@@ -572,6 +626,83 @@ public class OverridingUtil {
         void conflict(@NotNull CallableMemberDescriptor fromSuper, @NotNull CallableMemberDescriptor fromCurrent);
     }
 
+    /**
+     * The name, kind, receiver presence, number of value parameters and erased types of the receiver and value parameters of a member.
+     * A type is erased to the type constructor of its class. A type parameter is erased as its upper bound,
+     * and error types and intersections of bounds are all erased to the same {@link #NO_CLASSIFIER}.
+     *
+     * If isOverridableBy() returns OVERRIDABLE or CONFLICT for two members, their erased signatures are equal:
+     * types in their signatures must be equal, or be mapped type parameters with equal bounds, or be equal to each other's bounds
+     */
+    private static final class ErasedSignature {
+        private static final Object NO_CLASSIFIER = new Object();
+
+        private final Name name;
+        private final boolean isProperty;
+        private final boolean hasReceiver;
+        private final List<Object> erasedParameterTypes;
+
+        private ErasedSignature(@NotNull Name name, boolean isProperty, boolean hasReceiver, @NotNull List<Object> erasedParameterTypes) {
+            this.name = name;
+            this.isProperty = isProperty;
+            this.hasReceiver = hasReceiver;
+            this.erasedParameterTypes = erasedParameterTypes;
+        }
+
+        @NotNull
+        public static ErasedSignature create(@NotNull CallableMemberDescriptor descriptor) {
+            List<JetType> parameterTypes = compiledValueParameters(descriptor);
+            List<Object> erasedParameterTypes = new ArrayList<Object>(parameterTypes.size());
+            for (JetType type : parameterTypes) {
+                erasedParameterTypes.add(erase(type));
+            }
+            return new ErasedSignature(descriptor.getName(), descriptor instanceof PropertyDescriptor,
+                                       descriptor.getReceiverParameter() != null, erasedParameterTypes);
+        }
+
+        @NotNull
+        private static Object erase(@NotNull JetType type) {
+            Set<ClassifierDescriptor> visited = null;
+            while (!type.isError()) {
+                ClassifierDescriptor classifier = type.getConstructor().getDeclarationDescriptor();
+                if (classifier instanceof ClassDescriptor) {
+                    return type.getConstructor();
+                }
+                if (!(classifier instanceof TypeParameterDescriptor)) break;
+
+                if (visited == null) {
+                    visited = new HashSet<ClassifierDescriptor>();
+                }
+                // Cyclic bounds are reported elsewhere
+                if (!visited.add(classifier)) break;
+
+                type = ((TypeParameterDescriptor) classifier).getUpperBoundsAsType();
+            }
+            return NO_CLASSIFIER;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ErasedSignature)) return false;
+
+            ErasedSignature other = (ErasedSignature) o;
+            return isProperty == other.isProperty &&
+                   hasReceiver == other.hasReceiver &&
+                   name.equals(other.name) &&
+                   erasedParameterTypes.equals(other.erasedParameterTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = name.hashCode();
+            result = 31 * result + (isProperty ? 1 : 0);
+            result = 31 * result + (hasReceiver ? 1 : 0);
+            result = 31 * result + erasedParameterTypes.hashCode();
+            return result;
+        }
+    }
+
     public static class OverrideCompatibilityInfo {
 
         public enum Result {
@@ -20,12 +20,12 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.jet.lang.descriptors.CallableMemberDescriptor;
 import org.jetbrains.jet.lang.descriptors.Visibilities;
 
-import java.util.Queue;
+import java.util.Collection;
 
 public class VisibilityUtil {
     @NotNull
-    public static CallableMemberDescriptor findMemberWithMaxVisibility(@NotNull Queue<CallableMemberDescriptor> descriptors) {
-        CallableMemberDescriptor descriptor = descriptors.element();
+    public static CallableMemberDescriptor findMemberWithMaxVisibility(@NotNull Collection<CallableMemberDescriptor> descriptors) {
+        CallableMemberDescriptor descriptor = descriptors.iterator().next();
         for (CallableMemberDescriptor candidate : descriptors) {
             Integer result = Visibilities.compare(descriptor.getVisibility(), candidate.getVisibility());
             if (result != null && result < 0) {
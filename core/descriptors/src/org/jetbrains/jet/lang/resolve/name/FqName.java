@@ -23,6 +23,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 public final class FqName extends FqNameBase {
+    // Names obtained by navigating from other names (child, parent, top level) are interned,
+    // those created by constructors are not: equality of fq names is still checked by their strings
+    private static final WeakInterner<FqName> INTERNED = new WeakInterner<FqName>();
 
     @NotNull
     public static FqName fromSegments(@NotNull List<String> names) {
@@ -93,14 +96,18 @@ public final class FqName extends FqNameBase {
             throw new IllegalStateException("root");
         }
 
-        parent = new FqName(fqName.parent());
+        FqNameUnsafe unsafeParent = fqName.parent();
+        FqName existing = INTERNED.get(unsafeParent.asString());
+        parent = existing != null ? existing : INTERNED.intern(unsafeParent.asString(), new FqName(unsafeParent));
 
         return parent;
     }
 
     @NotNull
     public FqName child(@NotNull Name name) {
-        return new FqName(fqName.child(name), this);
+        String childFqName = isRoot() ? name.asString() : asString() + "." + name.asString();
+        FqName existing = INTERNED.get(childFqName);
+        return existing != null ? existing : INTERNED.intern(childFqName, new FqName(fqName.child(name), this));
     }
 
     @NotNull
@@ -150,7 +157,7 @@ public final class FqName extends FqNameBase {
 
     @NotNull
     public static FqName topLevel(@NotNull Name shortName) {
-        return new FqName(FqNameUnsafe.topLevel(shortName));
+        return ROOT.child(shortName);
     }
 
 
@@ -18,7 +18,13 @@ package org.jetbrains.jet.lang.resolve.name;
 
 import org.jetbrains.annotations.NotNull;
 
+/**
+ * Names are interned: there's at most one reachable instance for each name, so names are compared by reference
+ */
 public final class Name implements Comparable<Name> {
+    private static final WeakInterner<Name> IDENTIFIERS = new WeakInterner<Name>();
+    private static final WeakInterner<Name> SPECIAL_NAMES = new WeakInterner<Name>();
+
     @NotNull
     private final String name;
     private final boolean special;
@@ -28,6 +34,13 @@ public final class Name implements Comparable<Name> {
         this.special = special;
     }
 
+    @NotNull
+    private static Name create(@NotNull String name, boolean special) {
+        WeakInterner<Name> interner = special ? SPECIAL_NAMES : IDENTIFIERS;
+        Name existing = interner.get(name);
+        return existing != null ? existing : interner.intern(name, new Name(name, special));
+    }
+
     @NotNull
     public String asString() {
         return name;
@@ -55,7 +68,7 @@ public final class Name implements Comparable<Name> {
         if (!isValidIdentifier(name)) {
             throw new IllegalArgumentException("invalid identifier: " + name);
         }
-        return new Name(name, false);
+        return create(name, false);
     }
 
     public static boolean isValidIdentifier(@NotNull String name) {
@@ -65,7 +78,7 @@ public final class Name implements Comparable<Name> {
     /** Must be validated by caller */
     @NotNull
     public static Name identifierNoValidate(@NotNull String name) {
-        return new Name(name, false);
+        return create(name, false);
     }
 
     @NotNull
@@ -73,7 +86,7 @@ public final class Name implements Comparable<Name> {
         if (!name.startsWith("<")) {
             throw new IllegalArgumentException("special name must start with '<': " + name);
         }
-        return new Name(name, true);
+        return create(name, true);
     }
 
     // TODO: wrong
@@ -94,15 +107,7 @@ public final class Name implements Comparable<Name> {
 
     @Override
     public boolean equals(Object o) {
-        if (this == o) return true;
-        if (!(o instanceof Name)) return false;
-
-        Name name1 = (Name) o;
-
-        if (special != name1.special) return false;
-        if (!name.equals(name1.name)) return false;
-
-        return true;
+        return this == o;
     }
 
     @Override
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.lang.resolve.name;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A concurrent table of canonical instances keyed by their string representation, which doesn't keep the instances alive:
+ * an entry is removed from the table after its instance is collected.
+ *
+ * While an instance for a key is reachable, {@link #intern} returns it for this key to all threads
+ */
+/* package */ final class WeakInterner<T> {
+    private final ConcurrentMap<String, Entry<T>> table = new ConcurrentHashMap<String, Entry<T>>();
+    private final ReferenceQueue<T> queue = new ReferenceQueue<T>();
+
+    private static class Entry<T> extends WeakReference<T> {
+        private final String key;
+
+        public Entry(@NotNull String key, @NotNull T value, @NotNull ReferenceQueue<T> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+
+    @Nullable
+    public T get(@NotNull String key) {
+        Entry<T> entry = table.get(key);
+        return entry == null ? null : entry.get();
+    }
+
+    /**
+     * @return the canonical instance for the key: the one already in the table, or the given value which becomes canonical
+     */
+    @NotNull
+    public T intern(@NotNull String key, @NotNull T value) {
+        removeCollectedEntries();
+
+        Entry<T> newEntry = new Entry<T>(key, value, queue);
+        while (true) {
+            Entry<T> entry = table.putIfAbsent(key, newEntry);
+            if (entry == null) return value;
+
+            T existing = entry.get();
+            if (existing != null) return existing;
+
+            // The instance was collected but its entry is not removed yet
+            if (table.replace(key, entry, newEntry)) return value;
+        }
+    }
+
+    private void removeCollectedEntries() {
+        Reference<? extends T> reference;
+        while ((reference = queue.poll()) != null) {
+            Entry<?> entry = (Entry<?>) reference;
+            table.remove(entry.key, entry);
+        }
+    }
+}
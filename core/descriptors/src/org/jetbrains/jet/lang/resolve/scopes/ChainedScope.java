@@ -25,7 +25,7 @@ import java.util.*;
 
 import static org.jetbrains.jet.lang.resolve.scopes.JetScopeSelectorUtil.*;
 
-public class ChainedScope implements JetScope {
+public class ChainedScope implements JetScope, ScopeWithNameSummary {
     private final DeclarationDescriptor containingDeclaration;
     private final String debugName;
     private final JetScope[] scopeChain;
@@ -66,6 +66,14 @@ public class ChainedScope implements JetScope {
         return getFromAllScopes(scopeChain, name, NAMED_FUNCTION_SCOPE_SELECTOR);
     }
 
+    @Override
+    public boolean mayContainName(@NotNull Name name) {
+        for (JetScope scope : scopeChain) {
+            if (JetScopeSelectorUtil.mayContainName(scope, name)) return true;
+        }
+        return false;
+    }
+
     @NotNull
     @Override
     public List<ReceiverParameterDescriptor> getImplicitReceiversHierarchy() {
@@ -27,7 +27,7 @@ import org.jetbrains.jet.utils.Printer;
 import java.util.Collection;
 import java.util.List;
 
-public class FilteringScope implements JetScope {
+public class FilteringScope implements JetScope, ScopeWithNameSummary {
     private final JetScope workerScope;
     private final Function1<DeclarationDescriptor, Boolean> predicate;
 
@@ -75,6 +75,11 @@ public class FilteringScope implements JetScope {
         return filterDescriptor(workerScope.getLocalVariable(name));
     }
 
+    @Override
+    public boolean mayContainName(@NotNull Name name) {
+        return JetScopeSelectorUtil.mayContainName(workerScope, name);
+    }
+
     @NotNull
     @Override
     public Collection<DeclarationDescriptor> getAllDescriptors() {
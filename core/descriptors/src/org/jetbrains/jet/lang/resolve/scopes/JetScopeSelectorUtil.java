@@ -124,7 +124,11 @@ public class JetScopeSelectorUtil {
             @NotNull Name name,
             @NotNull ScopeByNameSelector<D> descriptorSelector
     ) {
+        // Name summaries don't cover packages
+        boolean useNameSummaries = descriptorSelector != PACKAGE_SCOPE_SELECTOR;
         for (JetScope scope : scopes) {
+            if (useNameSummaries && !mayContainName(scope, name)) continue;
+
             D descriptor = descriptorSelector.get(scope, name);
 
             if (descriptor != null) {
@@ -145,9 +149,18 @@ public class JetScopeSelectorUtil {
 
         Set<D> descriptors = new LinkedHashSet<D>();
         for (JetScope jetScope : scopes) {
+            if (!mayContainName(jetScope, name)) continue;
+
             descriptors.addAll(descriptorsSelector.get(jetScope, name));
         }
 
         return descriptors;
     }
+
+    /**
+     * @return false if the scope definitely has no classifiers, functions or variables with this name
+     */
+    public static boolean mayContainName(@NotNull JetScope scope, @NotNull Name name) {
+        return !(scope instanceof ScopeWithNameSummary) || ((ScopeWithNameSummary) scope).mayContainName(name);
+    }
 }
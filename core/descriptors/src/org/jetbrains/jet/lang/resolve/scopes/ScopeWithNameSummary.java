@@ -0,0 +1,33 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.lang.resolve.scopes;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.jet.lang.resolve.name.Name;
+
+/**
+ * A scope which can cheaply tell that it has no declarations with a given name, so that lookups in it can be skipped.
+ * Packages are not covered by the summary.
+ *
+ * @see JetScopeSelectorUtil#mayContainName(JetScope, Name)
+ */
+public interface ScopeWithNameSummary {
+    /**
+     * @return false if the scope definitely has no classifiers, functions or variables with this name
+     */
+    boolean mayContainName(@NotNull Name name);
+}
@@ -23,7 +23,7 @@ import java.util.List;
 
 public abstract class AbstractJetType implements JetType {
     @Override
-    public final int hashCode() {
+    public int hashCode() {
         int result = getConstructor().hashCode();
         result = 31 * result + getArguments().hashCode();
         result = 31 * result + (isNullable() ? 1 : 0);
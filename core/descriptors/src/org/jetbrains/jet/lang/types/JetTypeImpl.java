@@ -30,6 +30,9 @@ public final class JetTypeImpl extends AbstractJetType {
     private final JetScope memberScope;
     private final Annotations annotations;
 
+    // Types are used as keys in many maps and sets, while computing the hash code requires visiting all the type arguments
+    private int hashCode = 0;
+
     public JetTypeImpl(
             @NotNull Annotations annotations,
             @NotNull TypeConstructor constructor,
@@ -83,4 +86,14 @@ public final class JetTypeImpl extends AbstractJetType {
     public boolean isError() {
         return false;
     }
+
+    @Override
+    public int hashCode() {
+        int result = hashCode;
+        if (result == 0) {
+            result = super.hashCode();
+            hashCode = result;
+        }
+        return result;
+    }
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.lang.types;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.jet.lang.descriptors.ClassDescriptor;
+import org.jetbrains.jet.lang.descriptors.annotations.Annotations;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.List;
+
+/**
+ * Hash-consing table for class types without annotations: a class type with the same type arguments and nullability
+ * is created only once and then shared, so that such types are mostly compared by reference.
+ *
+ * Type arguments are compared by identity (their types are not computed, which is important for lazy types),
+ * so nested types are shared only if they were interned as well. The member scope of an interned type is
+ * {@link ClassDescriptor#getMemberScope(List)} for its arguments.
+ *
+ * Types are referenced weakly and are removed from the table when they are no longer used.
+ */
+public class TypeInterner {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final ReferenceQueue<JetTypeImpl> queue = new ReferenceQueue<JetTypeImpl>();
+    private Entry[] table = new Entry[INITIAL_CAPACITY];
+    private int size = 0;
+
+    @NotNull
+    public JetTypeImpl internClassType(
+            @NotNull ClassDescriptor classDescriptor,
+            boolean nullable,
+            @NotNull List<TypeProjection> arguments
+    ) {
+        for (TypeProjection argument : arguments) {
+            if (!(argument instanceof TypeProjectionImpl)) {
+                // Other projections may compute their types lazily, which shouldn't happen under the lock of this table
+                return createClassType(classDescriptor, nullable, arguments);
+            }
+        }
+
+        TypeConstructor constructor = classDescriptor.getTypeConstructor();
+        int hash = hash(constructor, nullable, arguments);
+
+        JetTypeImpl interned = find(hash, constructor, nullable, arguments);
+        if (interned != null) return interned;
+
+        // The member scope is created outside of the lock, since it may involve lazy computations
+        return putIfAbsent(hash, createClassType(classDescriptor, nullable, arguments));
+    }
+
+    @NotNull
+    private static JetTypeImpl createClassType(
+            @NotNull ClassDescriptor classDescriptor,
+            boolean nullable,
+            @NotNull List<TypeProjection> arguments
+    ) {
+        return new JetTypeImpl(Annotations.EMPTY, classDescriptor.getTypeConstructor(), nullable, arguments,
+                               classDescriptor.getMemberScope(arguments));
+    }
+
+    @Nullable
+    private synchronized JetTypeImpl find(
+            int hash,
+            @NotNull TypeConstructor constructor,
+            boolean nullable,
+            @NotNull List<TypeProjection> arguments
+    ) {
+        expungeCollectedEntries();
+
+        for (Entry entry = table[indexFor(hash, table.length)]; entry != null; entry = entry.next) {
+            if (entry.hash != hash) continue;
+
+            JetTypeImpl type = entry.get();
+            if (type != null && sameType(type, constructor, nullable, arguments)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    @NotNull
+    private synchronized JetTypeImpl putIfAbsent(int hash, @NotNull JetTypeImpl type) {
+        JetTypeImpl interned = find(hash, type.getConstructor(), type.isNullable(), type.getArguments());
+        if (interned != null) return interned;
+
+        int index = indexFor(hash, table.length);
+        table[index] = new Entry(type, hash, table[index], queue);
+        if (++size > table.length * 3 / 4) {
+            resize();
+        }
+        return type;
+    }
+
+    private static int hash(@NotNull TypeConstructor constructor, boolean nullable, @NotNull List<TypeProjection> arguments) {
+        int result = System.identityHashCode(constructor);
+        for (TypeProjection argument : arguments) {
+            result = 31 * result + argument.getProjectionKind().ordinal();
+            result = 31 * result + System.identityHashCode(argument.getType());
+        }
+        return 31 * result + (nullable ? 1 : 0);
+    }
+
+    private static boolean sameType(
+            @NotNull JetTypeImpl type,
+            @NotNull TypeConstructor constructor,
+            boolean nullable,
+            @NotNull List<TypeProjection> arguments
+    ) {
+        if (type.getConstructor() != constructor || type.isNullable() != nullable) return false;
+
+        List<TypeProjection> typeArguments = type.getArguments();
+        if (typeArguments.size() != arguments.size()) return false;
+
+        for (int i = 0; i < arguments.size(); i++) {
+            TypeProjection typeArgument = typeArguments.get(i);
+            TypeProjection argument = arguments.get(i);
+            if (typeArgument.getProjectionKind() != argument.getProjectionKind() || typeArgument.getType() != argument.getType()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexFor(int hash, int length) {
+        return (hash ^ (hash >>> 16)) & (length - 1);
+    }
+
+    private void expungeCollectedEntries() {
+        for (Object collected = queue.poll(); collected != null; collected = queue.poll()) {
+            Entry entry = (Entry) collected;
+            int index = indexFor(entry.hash, table.length);
+
+            Entry previous = null;
+            for (Entry current = table[index]; current != null; previous = current, current = current.next) {
+                if (current != entry) continue;
+
+                if (previous == null) {
+                    table[index] = current.next;
+                }
+                else {
+                    previous.next = current.next;
+                }
+                size--;
+                break;
+            }
+        }
+    }
+
+    private void resize() {
+        Entry[] newTable = new Entry[table.length * 2];
+        for (Entry head : table) {
+            Entry entry = head;
+            while (entry != null) {
+                Entry next = entry.next;
+                int index = indexFor(entry.hash, newTable.length);
+                entry.next = newTable[index];
+                newTable[index] = entry;
+                entry = next;
+            }
+        }
+        table = newTable;
+    }
+
+    private static class Entry extends WeakReference<JetTypeImpl> {
+        private final int hash;
+        @Nullable
+        private Entry next;
+
+        private Entry(@NotNull JetTypeImpl type, int hash, @Nullable Entry next, @NotNull ReferenceQueue<JetTypeImpl> queue) {
+            super(type, queue);
+            this.hash = hash;
+            this.next = next;
+        }
+    }
+}
@@ -22,6 +22,8 @@ public class TypeProjectionImpl extends TypeProjectionBase {
     private final Variance projection;
     private final JetType type;
 
+    private int hashCode = 0;
+
     public TypeProjectionImpl(@NotNull Variance projection, @NotNull JetType type) {
         this.projection = projection;
         this.type = type;
@@ -42,4 +44,14 @@ public class TypeProjectionImpl extends TypeProjectionBase {
     public JetType getType() {
         return type;
     }
+
+    @Override
+    public int hashCode() {
+        int result = hashCode;
+        if (result == 0) {
+            result = super.hashCode();
+            hashCode = result;
+        }
+        return result;
+    }
 }
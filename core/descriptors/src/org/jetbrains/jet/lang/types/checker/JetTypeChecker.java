@@ -17,6 +17,7 @@
 package org.jetbrains.jet.lang.types.checker;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.jet.lang.types.JetType;
 import org.jetbrains.jet.lang.types.TypeConstructor;
 
@@ -26,7 +27,13 @@ public class JetTypeChecker {
         boolean equals(@NotNull TypeConstructor a, @NotNull TypeConstructor b);
     }
 
-    public static final JetTypeChecker DEFAULT = new JetTypeChecker(new TypeCheckingProcedure(new TypeCheckerTypingConstraints()));
+    public static final JetTypeChecker DEFAULT = new JetTypeChecker(new TypeCheckingProcedure(new TypeCheckerTypingConstraints()), null);
+
+    // The cache should live no longer than a resolve session, so that types of other modules aren't kept and compared
+    @NotNull
+    public static JetTypeChecker withCache(@NotNull SubtypeCache subtypeCache) {
+        return new JetTypeChecker(DEFAULT.procedure, subtypeCache);
+    }
 
     @NotNull
     public static JetTypeChecker withAxioms(@NotNull final TypeConstructorEquality equalityAxioms) {
@@ -35,20 +42,38 @@ public class JetTypeChecker {
             public boolean assertEqualTypeConstructors(@NotNull TypeConstructor constructor1, @NotNull TypeConstructor constructor2) {
                 return constructor1.equals(constructor2) || equalityAxioms.equals(constructor1, constructor2);
             }
-        }));
+        }), null);
     }
 
     private final TypeCheckingProcedure procedure;
+    // Results depending on equality axioms can't be shared, so checkers with axioms have no cache
+    @Nullable
+    private final SubtypeCache subtypeCache;
 
-    private JetTypeChecker(@NotNull TypeCheckingProcedure procedure) {
+    private JetTypeChecker(@NotNull TypeCheckingProcedure procedure, @Nullable SubtypeCache subtypeCache) {
         this.procedure = procedure;
+        this.subtypeCache = subtypeCache;
     }
 
     public boolean isSubtypeOf(@NotNull JetType subtype, @NotNull JetType supertype) {
-        return procedure.isSubtypeOf(subtype, supertype);
+        if (subtypeCache == null || subtype == supertype) {
+            return procedure.isSubtypeOf(subtype, supertype);
+        }
+
+        Boolean cached = subtypeCache.get(subtype, supertype);
+        if (cached != null) return cached;
+
+        boolean result = procedure.isSubtypeOf(subtype, supertype);
+        subtypeCache.put(subtype, supertype, result);
+        return result;
     }
 
     public boolean equalTypes(@NotNull JetType a, @NotNull JetType b) {
-        return procedure.equalTypes(a, b);
+        return a == b || procedure.equalTypes(a, b);
+    }
+
+    @Nullable
+    public SubtypeCache getSubtypeCache() {
+        return subtypeCache;
     }
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.lang.types.checker;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.jet.lang.types.JetType;
+import org.jetbrains.jet.lang.types.TypeProjection;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded thread-safe cache of subtyping results, keyed on (subtype, supertype) compared structurally.
+ * See {@link JetTypeChecker#withCache(SubtypeCache)}: a cache is created for each resolve session (it's a component of injectors),
+ * so results and counters are never shared between sessions, and the cache goes away together with the session.
+ *
+ * Both types are referenced weakly, so entries don't keep types which are no longer used by the session.
+ * Types containing error types (this includes uninferred type parameters and other special types) are never cached.
+ * Types containing type variables of a call which is still being inferred must not be passed here: their subtyping depends
+ * on the values the variables get, not on the types themselves (see CandidateResolver, which bypasses the cache for them).
+ * Other type parameters are cached as any other types, since their bounds are fixed before bodies are resolved.
+ */
+public class SubtypeCache {
+    private static final int SEGMENT_COUNT = 16;
+    // When a segment overflows, it is simply cleared
+    private static final int MAX_SEGMENT_SIZE = 4096;
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public SubtypeCache() {
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * @return the cached result, or null if it is not known or the types can't be cached
+     */
+    @Nullable
+    public Boolean get(@NotNull JetType subtype, @NotNull JetType supertype) {
+        if (!isCacheable(subtype) || !isCacheable(supertype)) return null;
+
+        Boolean result = segmentFor(subtype).get(subtype, supertype);
+        if (result != null) {
+            hits.incrementAndGet();
+        }
+        else {
+            misses.incrementAndGet();
+        }
+        return result;
+    }
+
+    public void put(@NotNull JetType subtype, @NotNull JetType supertype, boolean result) {
+        if (!isCacheable(subtype) || !isCacheable(supertype)) return;
+
+        segmentFor(subtype).put(subtype, supertype, result);
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+        hits.set(0);
+        misses.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "Subtype cache: " + getHits() + " hits, " + getMisses() + " misses";
+    }
+
+    @NotNull
+    private Segment segmentFor(@NotNull JetType subtype) {
+        int hash = subtype.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1)];
+    }
+
+    // Also computes everything equals() and hashCode() of the type need, so that no lazy computations happen under segment locks
+    private static boolean isCacheable(@NotNull JetType type) {
+        if (type.isError()) return false;
+
+        type.getConstructor().getParameters();
+        for (TypeProjection projection : type.getArguments()) {
+            if (!isCacheable(projection.getType())) return false;
+        }
+        type.hashCode();
+        return true;
+    }
+
+    private static class Segment {
+        private final Map<JetType, Map<JetType, Boolean>> results = new WeakHashMap<JetType, Map<JetType, Boolean>>();
+        private int size = 0;
+
+        @Nullable
+        private synchronized Boolean get(@NotNull JetType subtype, @NotNull JetType supertype) {
+            Map<JetType, Boolean> resultsForSubtype = results.get(subtype);
+            return resultsForSubtype == null ? null : resultsForSubtype.get(supertype);
+        }
+
+        private synchronized void put(@NotNull JetType subtype, @NotNull JetType supertype, boolean result) {
+            if (size >= MAX_SEGMENT_SIZE) {
+                clear();
+            }
+
+            Map<JetType, Boolean> resultsForSubtype = results.get(subtype);
+            if (resultsForSubtype == null) {
+                resultsForSubtype = new WeakHashMap<JetType, Boolean>(4);
+                results.put(subtype, resultsForSubtype);
+            }
+            if (resultsForSubtype.put(supertype, result) == null) {
+                size++;
+            }
+        }
+
+        private synchronized void clear() {
+            results.clear();
+            size = 0;
+        }
+    }
+}
@@ -23,7 +23,8 @@ import org.jetbrains.jet.lang.types.TypeConstructor;
 class TypeCheckerTypingConstraints implements TypingConstraints {
     @Override
     public boolean assertEqualTypes(@NotNull JetType a, @NotNull JetType b, @NotNull TypeCheckingProcedure typeCheckingProcedure) {
-        return typeCheckingProcedure.equalTypes(a, b);
+        // Types are often shared (see TypeInterner), so the identity check saves a structural comparison
+        return a == b || typeCheckingProcedure.equalTypes(a, b);
     }
 
     @Override
@@ -115,6 +115,15 @@ public abstract class DeserializedMemberScope implements JetScope {
         return map;
     }
 
+    /**
+     * @return names of the functions and properties present in the serialized data, non-declared members are not included
+     */
+    @NotNull
+    @ReadOnly
+    public Set<Name> getDeclaredMemberNames() {
+        return membersProtos.invoke().keySet();
+    }
+
     @NotNull
     private <D extends CallableMemberDescriptor> Collection<D> computeMembersByName(Name name, Filter<ProtoBuf.Callable.CallableKind> callableKind) {
         List<ProtoBuf.Callable> memberProtos = membersProtos.invoke().get(name);
@@ -0,0 +1,592 @@
+/*
+ * Copyright 2010-2014 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.jet.storage;
+
+import kotlin.Function0;
+import kotlin.Function1;
+import kotlin.Unit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.jet.utils.WrappedValues;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A storage manager which does not serialize all the computations under one lock.
+ *
+ * A lazy value (or a key of a memoized function) is claimed with a CAS by the thread that starts computing it,
+ * other threads only wait for the values they actually need. Every wait is registered in a wait-for graph,
+ * and a wait that would close a cycle in it is treated exactly like a recursive call on a single thread,
+ * so independent values are computed in parallel and dependent ones can not deadlock.
+ *
+ * Blocks passed to {@link #compute(Function0)} are still executed under a (reentrant) lock which takes part in the same graph.
+ * When the owner of this lock waits (maybe through other threads) for a value computed by a thread which needs the lock,
+ * the lock is lent to that thread: on one thread this would be a legal nesting of compute() blocks, and the owner can't
+ * continue before the value is computed anyway. The lock is returned to the owner when the borrower releases it.
+ */
+public class ConcurrentStorageManager extends LockBasedStorageManager {
+
+    private static final Object NOT_COMPUTED = new Object() {
+        @Override
+        public String toString() {
+            return "NOT_COMPUTED";
+        }
+    };
+
+    private static final Object RECURSION_WAS_DETECTED = new Object() {
+        @Override
+        public String toString() {
+            return "RECURSION_WAS_DETECTED";
+        }
+    };
+
+    private static final Object COMPUTE_LOCK = new Object() {
+        @Override
+        public String toString() {
+            return "COMPUTE_LOCK";
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    private static final AtomicReferenceFieldUpdater<ConcurrentLazyValue, Object> VALUE_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(ConcurrentLazyValue.class, Object.class, "value");
+
+    // Everything below is guarded by waitLock, which is never held while user code is running
+    private final ReentrantLock waitLock = new ReentrantLock();
+    private final Condition stateChanged = waitLock.newCondition();
+    // Values are either Computations or COMPUTE_LOCK
+    private final Map<Thread, Object> waitingFor = new HashMap<Thread, Object>();
+    private Thread computeLockOwner = null;
+    private int computeLockHoldCount = 0;
+    // Owners of the compute lock which have lent it, the last one is the first to get it back
+    private final Deque<LentComputeLock> lentComputeLocks = new ArrayDeque<LentComputeLock>();
+
+    public ConcurrentStorageManager() {
+        super(getPointOfConstruction(), ExceptionHandlingStrategy.THROW, new ReentrantLock());
+    }
+
+    public ConcurrentStorageManager(@NotNull ExceptionHandlingStrategy exceptionHandlingStrategy) {
+        super(getPointOfConstruction(), exceptionHandlingStrategy, new ReentrantLock());
+    }
+
+    @NotNull
+    @Override
+    protected <K, V> MemoizedFunctionToNotNull<K, V> createMemoizedFunction(
+            @NotNull Function1<? super K, ? extends V> compute,
+            @NotNull ConcurrentMap<K, Object> map
+    ) {
+        return new ConcurrentMemoizedFunctionToNotNull<K, V>(map, compute);
+    }
+
+    @NotNull
+    @Override
+    protected <K, V> MemoizedFunctionToNullable<K, V> createMemoizedFunctionWithNullableValues(
+            @NotNull Function1<? super K, ? extends V> compute,
+            @NotNull ConcurrentMap<K, Object> map
+    ) {
+        return new ConcurrentMemoizedFunction<K, V>(map, compute);
+    }
+
+    @NotNull
+    @Override
+    public <K, V> MemoizedFunctionToNotNull<K, V> createMemoizedFunction(@NotNull Function1<? super K, ? extends V> compute) {
+        return createMemoizedFunction(compute, new ConcurrentHashMap<K, Object>());
+    }
+
+    @NotNull
+    @Override
+    public <K, V> MemoizedFunctionToNullable<K, V> createMemoizedFunctionWithNullableValues(@NotNull Function1<? super K, ? extends V> compute) {
+        return createMemoizedFunctionWithNullableValues(compute, new ConcurrentHashMap<K, Object>());
+    }
+
+    @NotNull
+    @Override
+    public <T> NotNullLazyValue<T> createLazyValue(@NotNull Function0<? extends T> computable) {
+        return new ConcurrentNotNullLazyValue<T>(computable);
+    }
+
+    @NotNull
+    @Override
+    public <T> NotNullLazyValue<T> createRecursionTolerantLazyValue(
+            @NotNull Function0<? extends T> computable, @NotNull final T onRecursiveCall
+    ) {
+        return new ConcurrentNotNullLazyValue<T>(computable) {
+            @NotNull
+            @Override
+            protected RecursionDetectedResult<T> recursionDetected(boolean firstTime) {
+                return RecursionDetectedResult.value(onRecursiveCall);
+            }
+        };
+    }
+
+    @NotNull
+    @Override
+    public <T> NotNullLazyValue<T> createLazyValueWithPostCompute(
+            @NotNull Function0<? extends T> computable,
+            final Function1<? super Boolean, ? extends T> onRecursiveCall,
+            @NotNull final Function1<? super T, ? extends Unit> postCompute
+    ) {
+        return new ConcurrentNotNullLazyValue<T>(computable) {
+            @NotNull
+            @Override
+            protected RecursionDetectedResult<T> recursionDetected(boolean firstTime) {
+                if (onRecursiveCall == null) {
+                    return super.recursionDetected(firstTime);
+                }
+                return RecursionDetectedResult.value(onRecursiveCall.invoke(firstTime));
+            }
+
+            @Override
+            protected void postCompute(@NotNull T value) {
+                postCompute.invoke(value);
+            }
+        };
+    }
+
+    @NotNull
+    @Override
+    public <T> NullableLazyValue<T> createNullableLazyValue(@NotNull Function0<? extends T> computable) {
+        return new ConcurrentLazyValue<T>(computable);
+    }
+
+    @NotNull
+    @Override
+    public <T> NullableLazyValue<T> createRecursionTolerantNullableLazyValue(@NotNull Function0<? extends T> computable, final T onRecursiveCall) {
+        return new ConcurrentLazyValue<T>(computable) {
+            @NotNull
+            @Override
+            protected RecursionDetectedResult<T> recursionDetected(boolean firstTime) {
+                return RecursionDetectedResult.value(onRecursiveCall);
+            }
+        };
+    }
+
+    @NotNull
+    @Override
+    public <T> NullableLazyValue<T> createNullableLazyValueWithPostCompute(
+            @NotNull Function0<? extends T> computable, @NotNull final Function1<? super T, ? extends Unit> postCompute
+    ) {
+        return new ConcurrentLazyValue<T>(computable) {
+            @Override
+            protected void postCompute(@Nullable T value) {
+                postCompute.invoke(value);
+            }
+        };
+    }
+
+    @Override
+    public <T> T compute(@NotNull Function0<? extends T> computable) {
+        lockCompute();
+        try {
+            return computable.invoke();
+        }
+        finally {
+            unlockCompute();
+        }
+    }
+
+    private static class Computation {
+        private final Thread owner;
+        private final AtomicBoolean recursionWasDetected = new AtomicBoolean(false);
+
+        // Only accessed by the owner thread
+        private boolean hasPendingValue = false;
+        private Object pendingValue = null;
+
+        private volatile boolean hasWaiters = false;
+        private volatile boolean finished = false;
+
+        private Computation(@NotNull Thread owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public String toString() {
+            return "COMPUTING in " + owner.getName();
+        }
+    }
+
+    private static class LentComputeLock {
+        private final Thread owner;
+        private final int holdCount;
+
+        private LentComputeLock(@NotNull Thread owner, int holdCount) {
+            this.owner = owner;
+            this.holdCount = holdCount;
+        }
+    }
+
+    private void finishComputation(@NotNull Computation computation) {
+        computation.finished = true;
+        // Waiters set hasWaiters under waitLock before checking whether the computation is finished, so no wake-up can be lost
+        if (computation.hasWaiters) {
+            waitLock.lock();
+            try {
+                stateChanged.signalAll();
+            }
+            finally {
+                waitLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if the computation is finished,
+     *         {@code false} if waiting for it would result in a deadlock, i.e. the call should be treated as a recursive one
+     */
+    private boolean awaitComputation(@NotNull Computation computation) {
+        Thread currentThread = Thread.currentThread();
+        waitLock.lock();
+        try {
+            computation.hasWaiters = true;
+            while (!computation.finished) {
+                List<Thread> cycle = findWaitCycle(computation, currentThread);
+                if (cycle != null) {
+                    Thread computeLockWaiter = findComputeLockWaiter(cycle);
+                    // Without the compute lock in the cycle this is the same as a recursive call on one thread
+                    if (computeLockWaiter == null) return false;
+                    lendComputeLock(computeLockWaiter);
+                }
+
+                waitingFor.put(currentThread, computation);
+                try {
+                    stateChanged.awaitUninterruptibly();
+                }
+                finally {
+                    waitingFor.remove(currentThread);
+                }
+            }
+            // The borrower has finished the computation, so it has already released the lock, but let's not rely on it
+            while (isComputeLockLentBy(currentThread)) {
+                stateChanged.awaitUninterruptibly();
+            }
+            return true;
+        }
+        finally {
+            waitLock.unlock();
+        }
+    }
+
+    private void lockCompute() {
+        Thread currentThread = Thread.currentThread();
+        waitLock.lock();
+        try {
+            while (computeLockOwner != null && computeLockOwner != currentThread) {
+                // The owner of the lock waits for a value which can only be computed after the current thread gets the lock
+                if (findWaitCycle(COMPUTE_LOCK, currentThread) != null) {
+                    lendComputeLock(currentThread);
+                    break;
+                }
+
+                waitingFor.put(currentThread, COMPUTE_LOCK);
+                try {
+                    stateChanged.awaitUninterruptibly();
+                }
+                finally {
+                    waitingFor.remove(currentThread);
+                }
+            }
+            computeLockOwner = currentThread;
+            computeLockHoldCount++;
+        }
+        finally {
+            waitLock.unlock();
+        }
+    }
+
+    private void unlockCompute() {
+        waitLock.lock();
+        try {
+            assert computeLockOwner == Thread.currentThread() : "Compute lock is owned by " + computeLockOwner + " under " + this;
+            if (--computeLockHoldCount == 0) {
+                // A borrower never owned the lock before borrowing it, so releasing it completely ends the loan
+                LentComputeLock lent = lentComputeLocks.pollLast();
+                if (lent != null) {
+                    computeLockOwner = lent.owner;
+                    computeLockHoldCount = lent.holdCount;
+                    stateChanged.signalAll();
+                }
+                else {
+                    computeLockOwner = null;
+                    if (!waitingFor.isEmpty()) {
+                        stateChanged.signalAll();
+                    }
+                }
+            }
+        }
+        finally {
+            waitLock.unlock();
+        }
+    }
+
+    /**
+     * Should be called under waitLock, the current owner of the lock must be blocked in the wait-for graph
+     */
+    private void lendComputeLock(@NotNull Thread borrower) {
+        assert computeLockOwner != null : "Compute lock is not owned under " + this;
+        lentComputeLocks.addLast(new LentComputeLock(computeLockOwner, computeLockHoldCount));
+        computeLockOwner = borrower;
+        computeLockHoldCount = 0;
+        stateChanged.signalAll();
+    }
+
+    /**
+     * Should be called under waitLock
+     */
+    private boolean isComputeLockLentBy(@NotNull Thread thread) {
+        for (LentComputeLock lent : lentComputeLocks) {
+            if (lent.owner == thread) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Should be called under waitLock
+     * @return a thread of the cycle waiting for the compute lock, if its owner is in the cycle
+     */
+    @Nullable
+    private Thread findComputeLockWaiter(@NotNull List<Thread> cycle) {
+        for (Thread thread : cycle) {
+            if (waitingFor.get(thread) == COMPUTE_LOCK) return thread;
+        }
+        return null;
+    }
+
+    /**
+     * Should be called under waitLock
+     * @return threads on the path from the owner of the resource back to the current thread, or {@code null} if there's no such path
+     */
+    @Nullable
+    private List<Thread> findWaitCycle(@NotNull Object resource, @NotNull Thread currentThread) {
+        List<Thread> path = new ArrayList<Thread>();
+        Thread owner = getOwner(resource);
+        while (owner != null) {
+            if (owner == currentThread) return path;
+            // A cycle not including the current thread has already been broken by someone, it's only a matter of time
+            if (path.contains(owner)) return null;
+            path.add(owner);
+
+            Object next = waitingFor.get(owner);
+            if (next == null) return null;
+            owner = getOwner(next);
+        }
+        return null;
+    }
+
+    @Nullable
+    private Thread getOwner(@NotNull Object resource) {
+        if (resource == COMPUTE_LOCK) return computeLockOwner;
+        return ((Computation) resource).owner;
+    }
+
+    private class ConcurrentLazyValue<T> implements NullableLazyValue<T> {
+
+        private final Function0<? extends T> computable;
+
+        // Not private to be accessible for VALUE_UPDATER
+        @Nullable
+        volatile Object value = NOT_COMPUTED;
+
+        public ConcurrentLazyValue(@NotNull Function0<? extends T> computable) {
+            this.computable = computable;
+        }
+
+        @Override
+        public boolean isComputed() {
+            Object _value = value;
+            return _value != NOT_COMPUTED && !(_value instanceof Computation);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T invoke() {
+            while (true) {
+                Object _value = value;
+
+                if (_value == NOT_COMPUTED) {
+                    Computation computation = new Computation(Thread.currentThread());
+                    if (VALUE_UPDATER.compareAndSet(this, NOT_COMPUTED, computation)) {
+                        return computeValue(computation);
+                    }
+                    continue;
+                }
+
+                if (_value == RECURSION_WAS_DETECTED) {
+                    RecursionDetectedResult<T> result = recursionDetected(/*firstTime = */ false);
+                    if (!result.isFallThrough()) {
+                        return result.getValue();
+                    }
+
+                    Computation computation = new Computation(Thread.currentThread());
+                    if (VALUE_UPDATER.compareAndSet(this, RECURSION_WAS_DETECTED, computation)) {
+                        return computeValue(computation);
+                    }
+                    continue;
+                }
+
+                if (!(_value instanceof Computation)) return WrappedValues.unescapeThrowable(_value);
+
+                Computation computation = (Computation) _value;
+                if (computation.owner == Thread.currentThread()) {
+                    if (computation.hasPendingValue) return (T) computation.pendingValue;
+                }
+                else if (awaitComputation(computation)) {
+                    continue;
+                }
+
+                boolean firstTime = computation.recursionWasDetected.compareAndSet(false, true);
+                RecursionDetectedResult<T> result = recursionDetected(firstTime);
+                if (!result.isFallThrough()) {
+                    return result.getValue();
+                }
+
+                // The value is owned by another computation, so we can't publish anything here
+                return computable.invoke();
+            }
+        }
+
+        private T computeValue(@NotNull Computation computation) {
+            try {
+                T typedValue = computable.invoke();
+                computation.pendingValue = typedValue;
+                computation.hasPendingValue = true;
+                postCompute(typedValue);
+                value = typedValue;
+                return typedValue;
+            }
+            catch (Throwable throwable) {
+                if (computation.hasPendingValue) {
+                    // The value is computed, postCompute() has failed
+                    value = computation.pendingValue;
+                }
+                else if (computation.recursionWasDetected.get()) {
+                    // Store only genuine results, not something thrown through recursionDetected()
+                    value = RECURSION_WAS_DETECTED;
+                }
+                else {
+                    value = WrappedValues.escapeThrowable(throwable);
+                }
+                throw exceptionHandlingStrategy.handleException(throwable);
+            }
+            finally {
+                computation.pendingValue = null;
+                finishComputation(computation);
+            }
+        }
+
+        /**
+         * @param firstTime {@code true} when recursion has been just detected, {@code false} otherwise
+         * @return a value to be returned on a recursive call or subsequent calls
+         */
+        @NotNull
+        protected RecursionDetectedResult<T> recursionDetected(boolean firstTime) {
+            return recursionDetectedDefault();
+        }
+
+        protected void postCompute(T value) {
+            // Doing something in post-compute helps prevent infinite recursion
+        }
+    }
+
+    private class ConcurrentNotNullLazyValue<T> extends ConcurrentLazyValue<T> implements NotNullLazyValue<T> {
+
+        public ConcurrentNotNullLazyValue(@NotNull Function0<? extends T> computable) {
+            super(computable);
+        }
+
+        @Override
+        @NotNull
+        public T invoke() {
+            T result = super.invoke();
+            assert result != null : "compute() returned null";
+            return result;
+        }
+    }
+
+    private class ConcurrentMemoizedFunction<K, V> implements MemoizedFunctionToNullable<K, V> {
+        private final ConcurrentMap<K, Object> cache;
+        private final Function1<? super K, ? extends V> compute;
+
+        public ConcurrentMemoizedFunction(@NotNull ConcurrentMap<K, Object> map, @NotNull Function1<? super K, ? extends V> compute) {
+            this.cache = map;
+            this.compute = compute;
+        }
+
+        @Override
+        @Nullable
+        public V invoke(K input) {
+            while (true) {
+                Object value = cache.get(input);
+
+                if (value instanceof Computation) {
+                    Computation computation = (Computation) value;
+                    if (computation.owner != Thread.currentThread() && awaitComputation(computation)) continue;
+
+                    throw new AssertionError("Recursion detected on input: " + input + " under " + ConcurrentStorageManager.this);
+                }
+
+                if (value != null) return WrappedValues.unescapeExceptionOrNull(value);
+
+                Computation computation = new Computation(Thread.currentThread());
+                if (cache.putIfAbsent(input, computation) != null) continue;
+
+                try {
+                    V typedValue;
+                    try {
+                        typedValue = compute.invoke(input);
+                    }
+                    catch (Throwable throwable) {
+                        cache.replace(input, computation, WrappedValues.escapeThrowable(throwable));
+                        throw exceptionHandlingStrategy.handleException(throwable);
+                    }
+
+                    boolean replaced = cache.replace(input, computation, WrappedValues.escapeNull(typedValue));
+                    assert replaced : "Race condition detected on input " + input + ". Old value is " + cache.get(input) +
+                                      " under " + ConcurrentStorageManager.this;
+                    return typedValue;
+                }
+                finally {
+                    finishComputation(computation);
+                }
+            }
+        }
+    }
+
+    private class ConcurrentMemoizedFunctionToNotNull<K, V> extends ConcurrentMemoizedFunction<K, V> implements MemoizedFunctionToNotNull<K, V> {
+
+        public ConcurrentMemoizedFunctionToNotNull(
+                @NotNull ConcurrentMap<K, Object> map,
+                @NotNull Function1<? super K, ? extends V> compute
+        ) {
+            super(map, compute);
+        }
+
+        @NotNull
+        @Override
+        public V invoke(K input) {
+            V result = super.invoke(input);
+            assert result != null : "compute() returned null under " + ConcurrentStorageManager.this;
+            return result;
+        }
+    }
+}
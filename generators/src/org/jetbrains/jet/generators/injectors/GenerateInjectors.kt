@@ -32,6 +32,7 @@ import org.jetbrains.jet.lang.types.expressions.ExpressionTypingServices
 import org.jetbrains.jet.di.*
 import org.jetbrains.jet.lang.types.expressions.ExpressionTypingComponents
 import org.jetbrains.jet.lang.types.expressions.ExpressionTypingUtils
+import org.jetbrains.jet.lang.types.checker.SubtypeCache
 import org.jetbrains.jet.lang.resolve.calls.CallResolver
 import org.jetbrains.jet.lang.resolve.java.structure.impl.JavaPropertyInitializerEvaluatorImpl
 import com.intellij.psi.search.GlobalSearchScope
@@ -99,6 +100,7 @@ private fun generatorForTopDownAnalyzerForJvm() =
 
             publicField(javaClass<JavaDescriptorResolver>())
             publicField(javaClass<DeserializationGlobalContextForJava>())
+            publicField(javaClass<SubtypeCache>())
 
             field(javaClass <GlobalSearchScope>(),
                   init = GivenExpression(javaClass<GlobalSearchScope>().getName() + ".allScope(project)"))
@@ -37,6 +37,7 @@ import org.jetbrains.jet.jvm.compiler.AbstractCompileKotlinAgainstKotlinTest
 import org.jetbrains.jet.lang.resolve.lazy.AbstractLazyResolveDescriptorRendererTest
 import org.jetbrains.jet.lang.resolve.lazy.AbstractLazyResolveTest
 import org.jetbrains.jet.lang.resolve.lazy.AbstractLazyResolveRecursiveComparingTest
+import org.jetbrains.jet.lang.resolve.AbstractParallelBodyResolveTest
 import org.jetbrains.jet.modules.xml.AbstractModuleXmlParserTest
 import org.jetbrains.jet.jvm.compiler.AbstractWriteSignatureTest
 import org.jetbrains.jet.cli.AbstractKotlincExecutableTest
@@ -136,6 +137,10 @@ fun main(args: Array<String>) {
             model("diagnostics/testsWithStdLib")
         }
 
+        testClass(javaClass<AbstractParallelBodyResolveTest>()) {
+            model("diagnostics/tests")
+        }
+
         testClass(javaClass<AbstractResolveTest>()) {
             model("resolve", extension = "resolve")
         }